@@ -47,6 +47,11 @@ public enum AbilityKey {
      */
     SERVER_DISTRIBUTED_LOCK("lock", "Server whether support distributed lock", AbilityMode.SERVER),
     
+    /**
+     * Server can decode request body encoded by binary payload codec.
+     */
+    SERVER_BINARY_PAYLOAD("binaryPayload", "Server whether support binary payload codec", AbilityMode.SERVER),
+    
     /**
      * For Test temporarily.
      */
@@ -57,6 +62,23 @@ public enum AbilityKey {
      */
     SDK_CLIENT_DISTRIBUTED_LOCK("lock", "Client whether support distributed lock", AbilityMode.SDK_CLIENT),
     
+    /**
+     * Client can apply instance diffs pushed by server instead of the full service info.
+     */
+    SDK_CLIENT_NAMING_DELTA_PUSH("namingDeltaPush", "Client whether support delta naming push",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Client can decode request body pushed by server with binary payload codec.
+     */
+    SDK_CLIENT_BINARY_PAYLOAD("binaryPayload", "Client whether support binary payload codec", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Cluster client can decode request body sent by other server with binary payload codec.
+     */
+    CLUSTER_CLIENT_BINARY_PAYLOAD("binaryPayload", "Cluster client whether support binary payload codec",
+            AbilityMode.CLUSTER_CLIENT),
+    
     /**
      * For Test temporarily.
      */
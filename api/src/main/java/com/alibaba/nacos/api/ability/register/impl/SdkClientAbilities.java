@@ -47,6 +47,8 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
         // put ability here, which you want current client supports
         supportedAbilities.put(AbilityKey.SDK_CLIENT_FUZZY_WATCH, true);
         supportedAbilities.put(AbilityKey.SDK_CLIENT_DISTRIBUTED_LOCK, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD, true);
     }
     
     /**.
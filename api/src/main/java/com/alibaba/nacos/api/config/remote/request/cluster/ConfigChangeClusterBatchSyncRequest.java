@@ -0,0 +1,122 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request of syncing a batch of config changes between servers of cluster.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterBatchSyncRequest extends AbstractConfigRequest {
+    
+    private List<ConfigChangeItem> configChangeItems = new ArrayList<>();
+    
+    /**
+     * add changed config.
+     *
+     * @param dataId       dataId.
+     * @param group        group.
+     * @param tenant       tenant.
+     * @param grayName     grayName, null for formal config.
+     * @param lastModified lastModified.
+     */
+    public void addConfigChangeItem(String dataId, String group, String tenant, String grayName, long lastModified) {
+        ConfigChangeItem configChangeItem = new ConfigChangeItem();
+        configChangeItem.dataId = dataId;
+        configChangeItem.group = group;
+        configChangeItem.tenant = tenant;
+        configChangeItem.grayName = grayName;
+        configChangeItem.lastModified = lastModified;
+        configChangeItems.add(configChangeItem);
+    }
+    
+    public List<ConfigChangeItem> getConfigChangeItems() {
+        return configChangeItems;
+    }
+    
+    public void setConfigChangeItems(List<ConfigChangeItem> configChangeItems) {
+        this.configChangeItems = configChangeItems;
+    }
+    
+    public static class ConfigChangeItem {
+        
+        String dataId;
+        
+        String group;
+        
+        String tenant;
+        
+        String grayName;
+        
+        long lastModified;
+        
+        public ConfigChangeItem() {
+        
+        }
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public String getGrayName() {
+            return grayName;
+        }
+        
+        public void setGrayName(String grayName) {
+            this.grayName = grayName;
+        }
+        
+        public long getLastModified() {
+            return lastModified;
+        }
+        
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+        
+        @Override
+        public String toString() {
+            return "ConfigChangeItem{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", tenant='"
+                    + tenant + '\'' + ", grayName='" + grayName + '\'' + ", lastModified=" + lastModified + '}';
+        }
+    }
+}
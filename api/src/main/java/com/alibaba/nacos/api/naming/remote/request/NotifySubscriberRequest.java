@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
@@ -36,6 +39,24 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of the pushed service data, {@code 0} means the server does not track revision for this push.
+     */
+    private long revision;
+    
+    /**
+     * Whether this push only carries instance diffs based on {@link #baseRevision}.
+     */
+    private boolean delta;
+    
+    private long baseRevision;
+    
+    private List<Instance> addedInstances;
+    
+    private List<Instance> removedInstances;
+    
+    private List<Instance> modifiedInstances;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +73,43 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build full notify request with revision, client can apply following delta push based on this revision.
+     *
+     * @param serviceInfo service info with full host list
+     * @param revision    revision of service info
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Build delta notify request. The host list of {@code serviceInfo} is ignored by client, only the instance diffs
+     * are applied to the service info of {@code baseRevision}.
+     *
+     * @param serviceInfo       service info without host list
+     * @param baseRevision      revision which the diffs are based on
+     * @param revision          revision after diffs applied
+     * @param addedInstances    added instances
+     * @param removedInstances  removed instances
+     * @param modifiedInstances modified instances
+     * @return notify subscriber request
+     */
+    public static NotifySubscriberRequest buildDeltaNotifySubscriberRequest(ServiceInfo serviceInfo,
+            long baseRevision, long revision, List<Instance> addedInstances, List<Instance> removedInstances,
+            List<Instance> modifiedInstances) {
+        NotifySubscriberRequest result = buildNotifySubscriberRequest(serviceInfo, revision);
+        result.setDelta(true);
+        result.setBaseRevision(baseRevision);
+        result.setAddedInstances(addedInstances);
+        result.setRemovedInstances(removedInstances);
+        result.setModifiedInstances(modifiedInstances);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +142,52 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isDelta() {
+        return delta;
+    }
+    
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public void setAddedInstances(List<Instance> addedInstances) {
+        this.addedInstances = addedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public void setRemovedInstances(List<Instance> removedInstances) {
+        this.removedInstances = removedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public void setModifiedInstances(List<Instance> modifiedInstances) {
+        this.modifiedInstances = modifiedInstances;
+    }
+    
 }
@@ -75,6 +75,17 @@ public class NamingUtils {
         return namespace + Constants.SERVICE_INFO_SPLITER + group + Constants.SERVICE_INFO_SPLITER + serviceName;
     }
     
+    /**
+     * Get the identity key of instance in a service, which is used to match instances between two versions of host
+     * list, such as delta push.
+     *
+     * @param instance instance
+     * @return 'ip:port:clusterName'
+     */
+    public static String getInstanceKey(Instance instance) {
+        return instance.getIp() + Constants.COLON + instance.getPort() + Constants.COLON + instance.getClusterName();
+    }
+    
     /**
      * parse service key items for serviceKey. item[0] for namespace item[1] for group item[2] for service name
      *
@@ -29,5 +29,7 @@ class SdkClientAbilitiesTest {
         assertFalse(SdkClientAbilities.getStaticAbilities().isEmpty());
         assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_FUZZY_WATCH));
         assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_DISTRIBUTED_LOCK));
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH));
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD));
     }
 }
\ No newline at end of file
@@ -81,7 +81,7 @@ import org.slf4j.Logger;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -93,6 +93,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -102,7 +103,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.APP_CONN_PREFIX;
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
@@ -131,7 +131,17 @@ public class ClientWorker implements Closeable {
     /**
      * groupKey -> cacheData.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final ConcurrentHashMap<String, CacheData> cacheMap = new ConcurrentHashMap<>(16);
+    
+    /**
+     * taskId -> (groupKey -> cacheData), index of cacheMap grouped by task id.
+     */
+    private final ConcurrentHashMap<Integer, Map<String, CacheData>> taskIdCacheMap = new ConcurrentHashMap<>(4);
+    
+    /**
+     * groupKey -> cacheData, caches whose listen state changed and should be checked in next listen loop.
+     */
+    private final ConcurrentHashMap<String, CacheData> dirtyCacheMap = new ConcurrentHashMap<>(16);
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -177,8 +187,11 @@ public class ClientWorker implements Closeable {
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
             // make sure cache exists in cacheMap
+            String groupKey = GroupKey.getKey(dataId, group);
             if (getCache(dataId, group) != cache) {
-                putCache(GroupKey.getKey(dataId, group), cache);
+                putCache(groupKey, cache);
+            } else {
+                markCacheDirty(groupKey, cache);
             }
             agent.notifyListenConfig();
         }
@@ -204,8 +217,11 @@ public class ClientWorker implements Closeable {
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
             // ensure cache present in cacheMap
+            String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
             if (getCache(dataId, group, tenant) != cache) {
-                putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
+                putCache(groupKey, cache);
+            } else {
+                markCacheDirty(groupKey, cache);
             }
             agent.notifyListenConfig();
         }
@@ -236,8 +252,11 @@ public class ClientWorker implements Closeable {
             cache.setDiscard(false);
             cache.setConsistentWithServer(false);
             // make sure cache exists in cacheMap
+            String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
             if (getCache(dataId, group, tenant) != cache) {
-                putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
+                putCache(groupKey, cache);
+            } else {
+                markCacheDirty(groupKey, cache);
             }
             agent.notifyListenConfig();
         }
@@ -260,6 +279,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markCacheDirty(GroupKey.getKeyTenant(dataId, group, TenantUtil.getUserTenantForAcm()), cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -284,6 +304,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markCacheDirty(GroupKey.getKeyTenant(dataId, group, tenant), cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -318,18 +339,17 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.remove(groupKey);
             if (remove != null) {
+                removeTaskIdIndex(groupKey, remove);
                 decreaseTaskIdCount(remove.getTaskId());
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
         if (enableClientMetrics) {
             try {
-                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
             } catch (Throwable t) {
                 LOGGER.error("Failed to update metrics for listen config count", t);
             }
@@ -401,16 +421,14 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            putCache(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
         if (enableClientMetrics) {
             try {
-                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
             } catch (Throwable t) {
                 LOGGER.error("Failed to update metrics for listen config count", t);
             }
@@ -455,15 +473,13 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            putCache(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
         if (enableClientMetrics) {
             try {
-                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
             } catch (Throwable t) {
                 LOGGER.error("Failed to update metrics for listen config count", t);
             }
@@ -480,9 +496,45 @@ public class ClientWorker implements Closeable {
      */
     private void putCache(String key, CacheData cache) {
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            CacheData old = cacheMap.put(key, cache);
+            if (old != null && old != cache) {
+                removeTaskIdIndex(key, old);
+            }
+            taskIdCacheMap.computeIfAbsent(cache.getTaskId(), k -> new ConcurrentHashMap<>(16)).put(key, cache);
+        }
+        markCacheDirty(key, cache);
+    }
+    
+    /**
+     * Mark the cache to be checked in next listen loop.
+     *
+     * @param key   groupKey
+     * @param cache cache
+     */
+    private void markCacheDirty(String key, CacheData cache) {
+        dirtyCacheMap.put(key, cache);
+    }
+    
+    /**
+     * Take out the dirty caches which are still in cacheMap, grouped by task id.
+     *
+     * @return taskId -> groupKey -> dirty cache
+     */
+    private Map<Integer, Map<String, CacheData>> drainDirtyCaches() {
+        Map<Integer, Map<String, CacheData>> result = new HashMap<>(4);
+        for (String key : dirtyCacheMap.keySet()) {
+            CacheData cache = dirtyCacheMap.remove(key);
+            if (cache != null && cacheMap.get(key) == cache) {
+                result.computeIfAbsent(cache.getTaskId(), k -> new HashMap<>(16)).put(key, cache);
+            }
+        }
+        return result;
+    }
+    
+    private void removeTaskIdIndex(String key, CacheData cache) {
+        Map<String, CacheData> taskCaches = taskIdCacheMap.get(cache.getTaskId());
+        if (taskCaches != null) {
+            taskCaches.remove(key, cache);
         }
     }
     
@@ -513,7 +565,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -574,7 +626,7 @@ public class ClientWorker implements Closeable {
     
     Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         metric.put("addressUrl", agent.serverListManager.getAddressSource());
@@ -596,7 +648,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -641,6 +693,8 @@ public class ClientWorker implements Closeable {
         
         private long lastAllSyncTime = System.currentTimeMillis();
         
+        private long lastLocalCheckTime = System.currentTimeMillis();
+        
         Subscriber subscriber = null;
         
         /**
@@ -648,6 +702,11 @@ public class ClientWorker implements Closeable {
          */
         private static final long ALL_SYNC_INTERNAL = 3 * 60 * 1000L;
         
+        /**
+         * 5 seconds to check failover files of all caches.
+         */
+        private static final long LOCAL_CHECK_INTERNAL = 5 * 1000L;
+        
         public ConfigRpcTransportClient(NacosClientProperties properties, ConfigServerListManager serverListManager) {
             super(properties, serverListManager);
         }
@@ -680,9 +739,8 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", agent.getExecutor());
                 agent.getExecutor().shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
-                    entry.getValue().setConsistentWithServer(false);
+                for (CacheData cacheData : cacheMap.values()) {
+                    cacheData.setConsistentWithServer(false);
                 }
                 if (subscriber != null) {
                     NotifyCenter.deregisterSubscriber(subscriber);
@@ -719,11 +777,12 @@ public class ClientWorker implements Closeable {
             String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
                     configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
             
-            CacheData cacheData = cacheMap.get().get(groupKey);
+            CacheData cacheData = cacheMap.get(groupKey);
             if (cacheData != null) {
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
                     cacheData.setConsistentWithServer(false);
+                    markCacheDirty(groupKey, cacheData);
                     notifyListenConfig();
                 }
                 
@@ -776,16 +835,15 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,reset listen context", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Map<String, CacheData> caches = cacheMap;
+                    if (StringUtils.isNotBlank(taskId)) {
+                        Map<String, CacheData> taskCaches = taskIdCacheMap.get(Integer.valueOf(taskId));
+                        caches = null == taskCaches ? Collections.emptyMap() : taskCaches;
+                    }
                     
-                    for (CacheData cacheData : values) {
-                        if (StringUtils.isNotBlank(taskId)) {
-                            if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
-                                cacheData.setConsistentWithServer(false);
-                            }
-                        } else {
-                            cacheData.setConsistentWithServer(false);
-                        }
+                    for (Map.Entry<String, CacheData> entry : caches.entrySet()) {
+                        entry.getValue().setConsistentWithServer(false);
+                        markCacheDirty(entry.getKey(), entry.getValue());
                     }
                     
                     LOGGER.info("[{}] DisConnected,reset  fuzzy watch consistence status", rpcClientInner.getName());
@@ -834,10 +892,16 @@ public class ClientWorker implements Closeable {
             executor.schedule(() -> {
                 while (!executor.isShutdown() && !executor.isTerminated()) {
                     try {
-                        listenExecutebell.poll(5L, TimeUnit.SECONDS);
+                        boolean idle = null == listenExecutebell.poll(5L, TimeUnit.SECONDS);
                         if (executor.isShutdown() || executor.isTerminated()) {
                             continue;
                         }
+                        // scan failover files on idle tick, or by interval if bell keeps ringing.
+                        long now = System.currentTimeMillis();
+                        if (idle || now - lastLocalCheckTime >= LOCAL_CHECK_INTERNAL) {
+                            lastLocalCheckTime = now;
+                            checkLocalConfigs();
+                        }
                         executeConfigListen();
                     } catch (Throwable e) {
                         LOGGER.error("[rpc listen execute] [rpc listen] exception", e);
@@ -870,15 +934,56 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
-                
+            if (needAllSync) {
+                // check all caches as a safety net for the changes not marked dirty.
+                dirtyCacheMap.clear();
+                for (Map.Entry<Integer, Map<String, CacheData>> entry : taskIdCacheMap.entrySet()) {
+                    classifyCaches(String.valueOf(entry.getKey()), entry.getValue(), true, listenCachesMap,
+                            removeListenCachesMap);
+                }
+            } else {
+                for (Map.Entry<Integer, Map<String, CacheData>> entry : drainDirtyCaches().entrySet()) {
+                    classifyCaches(String.valueOf(entry.getKey()), entry.getValue(), false, listenCachesMap,
+                            removeListenCachesMap);
+                }
+            }
+            
+            //execute check listen ,return true if has change keys.
+            boolean hasChangedKeys = checkListenCache(listenCachesMap);
+            
+            //execute check remove listen.
+            checkRemoveListenCache(removeListenCachesMap);
+            
+            if (needAllSync) {
+                lastAllSyncTime = now;
+            }
+            //If has changed keys,notify re sync md5.
+            if (hasChangedKeys) {
+                notifyListenConfig();
+            }
+            
+        }
+        
+        private void classifyCaches(String taskId, Map<String, CacheData> caches, boolean needAllSync,
+                Map<String, List<CacheData>> listenCachesMap, Map<String, List<CacheData>> removeListenCachesMap) {
+            List<CacheData> listenCaches = new LinkedList<>();
+            List<CacheData> removeListenCaches = new LinkedList<>();
+            for (Map.Entry<String, CacheData> entry : caches.entrySet()) {
+                CacheData cache = entry.getValue();
                 synchronized (cache) {
                     
-                    checkLocalConfig(cache);
+                    // failover files are scanned by checkLocalConfigs, only new caches and full sync check here.
+                    if (needAllSync || cache.isInitializing()) {
+                        checkLocalConfig(cache);
+                    }
                     
                     // check local listeners consistent.
                     if (cache.isConsistentWithServer()) {
                         cache.checkListenerMd5();
+                        if (!cache.checkListenersMd5Consistent()) {
+                            // the listener failed or is still notifying, check it again in next listen loop.
+                            markCacheDirty(entry.getKey(), cache);
+                        }
                         if (!needAllSync) {
                             continue;
                         }
@@ -890,32 +995,38 @@ public class ClientWorker implements Closeable {
                     }
                     
                     if (!cache.isDiscard()) {
-                        List<CacheData> cacheDatas = listenCachesMap.computeIfAbsent(String.valueOf(cache.getTaskId()),
-                                k -> new LinkedList<>());
-                        cacheDatas.add(cache);
+                        listenCaches.add(cache);
                     } else {
-                        List<CacheData> cacheDatas = removeListenCachesMap.computeIfAbsent(
-                                String.valueOf(cache.getTaskId()), k -> new LinkedList<>());
-                        cacheDatas.add(cache);
+                        removeListenCaches.add(cache);
                     }
                 }
                 
             }
-            
-            //execute check listen ,return true if has change keys.
-            boolean hasChangedKeys = checkListenCache(listenCachesMap);
-            
-            //execute check remove listen.
-            checkRemoveListenCache(removeListenCachesMap);
-            
-            if (needAllSync) {
-                lastAllSyncTime = now;
+            if (!listenCaches.isEmpty()) {
+                listenCachesMap.put(taskId, listenCaches);
             }
-            //If has changed keys,notify re sync md5.
-            if (hasChangedKeys) {
-                notifyListenConfig();
+            if (!removeListenCaches.isEmpty()) {
+                removeListenCachesMap.put(taskId, removeListenCaches);
+            }
+        }
+        
+        /**
+         * Check failover files of all caches, the caches whose local config info changed will be checked in next
+         * listen loop.
+         */
+        void checkLocalConfigs() {
+            for (Map.Entry<String, CacheData> entry : cacheMap.entrySet()) {
+                CacheData cache = entry.getValue();
+                synchronized (cache) {
+                    boolean useLocalConfigInfo = cache.isUseLocalConfigInfo();
+                    long localConfigInfoVersion = cache.getLocalConfigInfoVersion();
+                    checkLocalConfig(cache);
+                    if (useLocalConfigInfo != cache.isUseLocalConfigInfo()
+                            || localConfigInfoVersion != cache.getLocalConfigInfoVersion()) {
+                        markCacheDirty(entry.getKey(), cache);
+                    }
+                }
             }
-            
         }
         
         /**
@@ -966,6 +1077,15 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        private void markCachesDirty(List<CacheData> caches) {
+            for (CacheData cacheData : caches) {
+                String groupKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.getTenant());
+                if (!cacheData.isConsistentWithServer() && cacheMap.get(groupKey) == cacheData) {
+                    markCacheDirty(groupKey, cacheData);
+                }
+            }
+        }
+        
         private ExecutorService ensureSyncExecutor(String taskId) {
             if (!multiTaskExecutor.containsKey(taskId)) {
                 multiTaskExecutor.put(taskId,
@@ -979,8 +1099,8 @@ public class ClientWorker implements Closeable {
         }
         
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
-            if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-                CacheData cache = cacheMap.get().get(groupKey);
+            CacheData cache = cacheMap.get(groupKey);
+            if (cache != null) {
                 refreshContentAndCheck(rpcClient, cache, notify);
             }
         }
@@ -1042,6 +1162,8 @@ public class ClientWorker implements Closeable {
                             }
                             notifyListenConfig();
                         }
+                        // retry the caches which are not removed in next listen loop.
+                        markCachesDirty(removeListenCaches);
                     });
                     listenFutures.add(future);
                     
@@ -1090,7 +1212,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
@@ -1101,7 +1223,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                         }
                                     }
@@ -1131,6 +1253,8 @@ public class ClientWorker implements Closeable {
                             }
                             notifyListenConfig();
                         }
+                        // retry the caches which are still not consistent with server in next listen loop.
+                        markCachesDirty(listenCaches);
                     });
                     listenFutures.add(future);
                     
@@ -1207,7 +1331,7 @@ public class ClientWorker implements Closeable {
                 throws NacosException {
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
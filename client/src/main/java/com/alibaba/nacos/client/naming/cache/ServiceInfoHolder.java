@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
@@ -32,6 +33,9 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,6 +51,11 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Revision of service info which is pushed by server, used to apply delta push.
+     */
+    private final ConcurrentMap<String, Long> serviceRevisionMap;
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
@@ -67,6 +76,7 @@ public class ServiceInfoHolder implements Closeable {
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
+        this.serviceRevisionMap = new ConcurrentHashMap<>(16);
         this.failoverReactor = new FailoverReactor(this, notifierEventScope);
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
@@ -136,6 +146,8 @@ public class ServiceInfoHolder implements Closeable {
             return oldService;
         }
         serviceInfoMap.put(serviceKey, serviceInfo);
+        // the revision of old service info is invalid now, processServiceInfo with revision will set the new one.
+        serviceRevisionMap.remove(serviceKey);
         InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
@@ -163,6 +175,70 @@ public class ServiceInfoHolder implements Closeable {
         return serviceInfo;
     }
     
+    /**
+     * Process full service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of new service info
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        updateRevision(serviceInfo, result, revision);
+        return result;
+    }
+    
+    /**
+     * Process delta service info pushed by server.
+     *
+     * @param serviceInfo       service info without hosts
+     * @param baseRevision      revision which the delta is based on
+     * @param revision          revision after delta applied
+     * @param addedInstances    added instances
+     * @param removedInstances  removed instances
+     * @param modifiedInstances modified instances
+     * @return service info after delta applied, or {@code null} if the local service info is not the base revision
+     */
+    public ServiceInfo processDeltaServiceInfo(ServiceInfo serviceInfo, long baseRevision, long revision,
+            List<Instance> addedInstances, List<Instance> removedInstances, List<Instance> modifiedInstances) {
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        ServiceInfo oldService = null == serviceKey ? null : serviceInfoMap.get(serviceKey);
+        Long localRevision = null == serviceKey ? null : serviceRevisionMap.get(serviceKey);
+        if (null == oldService || null == localRevision || localRevision != baseRevision) {
+            NAMING_LOGGER.warn("process delta service info but revision gap found, serviceKey: {}, local: {}, base: {}",
+                    serviceKey, localRevision, baseRevision);
+            return null;
+        }
+        Map<String, Instance> hosts = new LinkedHashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            hosts.put(NamingUtils.getInstanceKey(each), each);
+        }
+        if (null != removedInstances) {
+            removedInstances.forEach(each -> hosts.remove(NamingUtils.getInstanceKey(each)));
+        }
+        if (null != addedInstances) {
+            addedInstances.forEach(each -> hosts.put(NamingUtils.getInstanceKey(each), each));
+        }
+        if (null != modifiedInstances) {
+            modifiedInstances.forEach(each -> hosts.put(NamingUtils.getInstanceKey(each), each));
+        }
+        serviceInfo.setHosts(new ArrayList<>(hosts.values()));
+        return processServiceInfo(serviceInfo, revision);
+    }
+    
+    private void updateRevision(ServiceInfo serviceInfo, ServiceInfo result, long revision) {
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        if (null == serviceKey) {
+            return;
+        }
+        // If the pushed service info is ignored, such as empty protection, next push should be full data.
+        if (serviceInfo == result && revision > 0) {
+            serviceRevisionMap.put(serviceKey, revision);
+        } else {
+            serviceRevisionMap.remove(serviceKey);
+        }
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -18,8 +18,10 @@ package com.alibaba.nacos.client.naming.remote.gprc;
 
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
@@ -41,9 +43,28 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            if (notifyRequest.isDelta()) {
+                return handleDeltaPush(notifyRequest);
+            }
+            if (notifyRequest.getRevision() > 0) {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+            } else {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            }
             return new NotifySubscriberResponse();
         }
         return null;
     }
+    
+    private Response handleDeltaPush(NotifySubscriberRequest notifyRequest) {
+        ServiceInfo result = serviceInfoHolder.processDeltaServiceInfo(notifyRequest.getServiceInfo(),
+                notifyRequest.getBaseRevision(), notifyRequest.getRevision(), notifyRequest.getAddedInstances(),
+                notifyRequest.getRemovedInstances(), notifyRequest.getModifiedInstances());
+        NotifySubscriberResponse response = new NotifySubscriberResponse();
+        if (null == result) {
+            // Fail this push so that server will retry it with full service info.
+            response.setErrorInfo(ResponseCode.FAIL.getCode(), "Revision gap, require full push.");
+        }
+        return response;
+    }
 }
@@ -37,6 +37,7 @@ import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
 import com.alibaba.nacos.client.config.filter.impl.ConfigResponse;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
+import com.alibaba.nacos.client.utils.ParamUtil;
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
@@ -49,6 +50,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -65,6 +67,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.annotation.NacosProperties.NAMESPACE;
@@ -363,18 +366,12 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
-        cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
         Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
         String dataId = "a";
         String group = "b";
-        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataId, group, tenant))).thenReturn(cacheDataMocked);
+        putCache(clientWorker, GroupKey.getKeyTenant(dataId, group, tenant), cacheDataMocked);
         ConfigChangeNotifyRequest configChangeNotifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
         ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeNotifyRequest(
                 configChangeNotifyRequest, "testname");
@@ -391,14 +388,8 @@ class ClientWorkerTest {
         prop.put(NAMESPACE, tenant);
         ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
-        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        final ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
-        cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         String content = "content1324567";
         String md5 = MD5Utils.md5Hex(content, "UTF-8");
@@ -409,7 +400,7 @@ class ClientWorkerTest {
         String uuid = (String) uuid1.get(clientWorker);
         String dataId = "a23456789";
         String group = "b";
-        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataId, group, tenant))).thenReturn(cacheDataMocked);
+        putCache(clientWorker, GroupKey.getKeyTenant(dataId, group, tenant), cacheDataMocked);
         ClientConfigMetricRequest configMetricsRequest = new ClientConfigMetricRequest();
         
         configMetricsRequest.setMetricsKeys(Arrays.asList(
@@ -539,18 +530,9 @@ class ClientWorkerTest {
         });
         cacheDatas.add(cacheNormal);
         cacheNormal.setInitializing(false);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(cacheNormal);
-        Mockito.when(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(true);
-        
-        Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
-        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
-        cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        for (CacheData each : cacheDatas) {
+            putCache(clientWorker, GroupKey.getKeyTenant(each.dataId, each.group, each.tenant), each);
+        }
         
         //mock request
         ConfigChangeBatchListenResponse.ConfigContext configContext = new ConfigChangeBatchListenResponse.ConfigContext();
@@ -571,17 +553,106 @@ class ClientWorkerTest {
         configQueryResponse.setContent("content" + System.currentTimeMillis());
         configQueryResponse.setContentType(ConfigType.JSON.getType());
         Mockito.when(rpcClientInner.request(any(ConfigQueryRequest.class))).thenReturn(configQueryResponse);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).checkLocalConfigs();
         (clientWorker.getAgent()).executeConfigListen();
         //assert
         //use local cache.
         assertTrue(cacheUseLocalCache.isUseLocalConfigInfo());
         //discard cache to be deleted.
-        assertFalse(cacheMapMocked.get().containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
+        assertNull(clientWorker.getCache(dataIdDiscard, group, tenant));
         //normal cache listener be notified.
         assertEquals(configQueryResponse.getContent(), normalContent.get());
         
     }
     
+    @Test
+    void testExecuteConfigListenOnlyDirtyCaches() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        
+        String group = "group";
+        String tenant = "tenant";
+        CacheData cacheData1 = normalNotConsistentCache(filter, agent.getName(), "dataId1", group, tenant);
+        CacheData cacheData2 = normalNotConsistentCache(filter, agent.getName(), "dataId2", group, tenant);
+        putCache(clientWorker, GroupKey.getKeyTenant("dataId1", group, tenant), cacheData1);
+        putCache(clientWorker, GroupKey.getKeyTenant("dataId2", group, tenant), cacheData2);
+        
+        Mockito.when(rpcClient.request(any(ConfigBatchListenRequest.class)))
+                .thenReturn(new ConfigChangeBatchListenResponse());
+        ArgumentCaptor<ConfigBatchListenRequest> captor = ArgumentCaptor.forClass(ConfigBatchListenRequest.class);
+        
+        // all new caches are dirty.
+        clientWorker.getAgent().executeConfigListen();
+        verify(rpcClient, times(1)).request(captor.capture());
+        assertEquals(2, captor.getValue().getConfigListenContexts().size());
+        assertTrue(cacheData1.isConsistentWithServer());
+        assertTrue(cacheData2.isConsistentWithServer());
+        
+        // no cache changed, skip listen.
+        clientWorker.getAgent().executeConfigListen();
+        verify(rpcClient, times(1)).request(any(ConfigBatchListenRequest.class));
+        
+        // only the notified cache is listened again.
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeNotifyRequest(
+                ConfigChangeNotifyRequest.build("dataId1", group, tenant), "testname");
+        clientWorker.getAgent().executeConfigListen();
+        verify(rpcClient, times(2)).request(captor.capture());
+        assertEquals(1, captor.getValue().getConfigListenContexts().size());
+        assertEquals("dataId1", captor.getValue().getConfigListenContexts().get(0).getDataId());
+    }
+    
+    @Test
+    void testExecuteConfigListenRetryFailedListener() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        
+        String dataId = "dataIdRetry";
+        String group = "group";
+        String tenant = "tenant";
+        CacheData cacheData = normalNotConsistentCache(filter, agent.getName(), dataId, group, tenant);
+        cacheData.setConsistentWithServer(true);
+        final AtomicInteger notifyCount = new AtomicInteger();
+        final AtomicReference<String> received = new AtomicReference<>();
+        cacheData.addListener(new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+                if (notifyCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("fail on first notification");
+                }
+                received.set(configInfo);
+            }
+        });
+        cacheData.setContent("newContent");
+        putCache(clientWorker, GroupKey.getKeyTenant(dataId, group, tenant), cacheData);
+        
+        // the listener fails, the cache keeps dirty.
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(1, notifyCount.get());
+        assertFalse(cacheData.checkListenersMd5Consistent());
+        
+        // the listener is notified again in next loop without any change event.
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(2, notifyCount.get());
+        assertEquals("newContent", received.get());
+        assertTrue(cacheData.checkListenersMd5Consistent());
+    }
+    
+    private void putCache(ClientWorker clientWorker, String key, CacheData cacheData) throws Exception {
+        Method putCacheMethod = ClientWorker.class.getDeclaredMethod("putCache", String.class, CacheData.class);
+        putCacheMethod.setAccessible(true);
+        putCacheMethod.invoke(clientWorker, key, cacheData);
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -655,16 +726,50 @@ class ClientWorkerTest {
         putCacheMethod.invoke(clientWorker, key, cacheData);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         // 检查cacheMap是否包含特定的key
-        assertNotNull(cacheMapRef.get().get(key));
-        assertEquals(cacheData, cacheMapRef.get().get(key));
+        assertNotNull(cacheMap.get(key));
+        assertEquals(cacheData, cacheMap.get(key));
         // 测试再次插入相同的key将覆盖原始的值
         CacheData newCacheData = new CacheData(filter, "newEnv", "newDataId", "newGroup");
         putCacheMethod.invoke(clientWorker, key, newCacheData);
         // 检查key对应的value是否改变为newCacheData
-        assertEquals(newCacheData, cacheMapRef.get().get(key));
+        assertEquals(newCacheData, cacheMap.get(key));
+    }
+    
+    @Test
+    void testCacheGroupByTaskId() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        double perTaskConfigSize = ParamUtil.getPerTaskConfigSize();
+        ParamUtil.setPerTaskConfigSize(2);
+        try {
+            for (int i = 0; i < 5; i++) {
+                clientWorker.addCacheDataIfAbsent("dataId" + i, "group");
+            }
+            Field taskIdCacheMapField = ClientWorker.class.getDeclaredField("taskIdCacheMap");
+            taskIdCacheMapField.setAccessible(true);
+            Map<Integer, Map<String, CacheData>> taskIdCacheMap = (Map<Integer, Map<String, CacheData>>) taskIdCacheMapField
+                    .get(clientWorker);
+            assertEquals(3, taskIdCacheMap.size());
+            assertEquals(2, taskIdCacheMap.get(0).size());
+            assertEquals(2, taskIdCacheMap.get(1).size());
+            assertEquals(1, taskIdCacheMap.get(2).size());
+            
+            CacheData cacheData = clientWorker.getCache("dataId4", "group");
+            assertEquals(2, cacheData.getTaskId());
+            clientWorker.removeCache("dataId4", "group", cacheData.tenant);
+            assertNull(clientWorker.getCache("dataId4", "group"));
+            assertTrue(taskIdCacheMap.get(2).isEmpty());
+            // new cache reuses the task with free slot.
+            assertEquals(2, clientWorker.addCacheDataIfAbsent("dataId5", "group").getTaskId());
+        } finally {
+            ParamUtil.setPerTaskConfigSize(perTaskConfigSize);
+            clientWorker.shutdown();
+        }
     }
     
     @Test
@@ -675,10 +780,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKey(dataId, group);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMap.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy).addCacheDataIfAbsent(anyString(), anyString());
@@ -707,10 +811,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMap.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -740,10 +843,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMap = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMap.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
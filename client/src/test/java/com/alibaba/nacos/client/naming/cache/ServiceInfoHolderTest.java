@@ -101,6 +101,43 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessDeltaServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        List<Instance> added = new ArrayList<>();
+        added.add(createInstance("1.1.1.3", 3));
+        List<Instance> removed = new ArrayList<>();
+        removed.add(createInstance("1.1.1.2", 2));
+        List<Instance> modifiedList = new ArrayList<>();
+        modifiedList.add(modified);
+        ServiceInfo actual = holder.processDeltaServiceInfo(new ServiceInfo("a@@b@@c"), 1L, 2L, added, removed,
+                modifiedList);
+        assertEquals(2, actual.ipCount());
+        assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        assertEquals(actual, holder.getServiceInfoMap().get("a@@b"));
+        
+        // revision gap, need full push
+        assertNull(holder.processDeltaServiceInfo(new ServiceInfo("a@@b@@c"), 1L, 3L, added, removed,
+                modifiedList));
+        assertEquals(2, holder.processDeltaServiceInfo(new ServiceInfo("a@@b@@c"), 2L, 3L, null, null,
+                modifiedList).ipCount());
+        // query result without revision resets the revision, need full push
+        holder.processServiceInfo(actual);
+        assertNull(holder.processDeltaServiceInfo(new ServiceInfo("a@@b@@c"), 3L, 4L, null, null, modifiedList));
+        holder.processServiceInfo(actual, 4L);
+        assertEquals(2, holder.processDeltaServiceInfo(new ServiceInfo("a@@b@@c"), 4L, 5L, null, null,
+                modifiedList).ipCount());
+    }
+    
     @Test
     void testProcessServiceInfoEnableClientMetricsTrue() {
         ServiceInfoHolder holder = createServiceInfoHolder(true);
@@ -30,11 +30,15 @@ import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -52,6 +56,41 @@ class NamingPushRequestHandlerTest {
         verify(holder, times(1)).processServiceInfo(info);
     }
     
+    @Test
+    void testRequestReplyWithRevision() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildNotifySubscriberRequest(info, 1L);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        verify(holder, times(1)).processServiceInfo(info, 1L);
+    }
+    
+    @Test
+    void testRequestReplyDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(info, 1L, 2L,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        when(holder.processDeltaServiceInfo(info, 1L, 2L, Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList())).thenReturn(info);
+        assertTrue(handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo())).isSuccess());
+    }
+    
+    @Test
+    void testRequestReplyDeltaWithRevisionGap() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(info, 1L, 2L,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response instanceof NotifySubscriberResponse);
+        assertFalse(response.isSuccess());
+    }
+    
     @Test
     void testRequestReplyOtherType() {
         ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
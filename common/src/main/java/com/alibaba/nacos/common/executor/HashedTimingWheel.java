@@ -0,0 +1,376 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timing wheel scheduler.
+ *
+ * <p>Timeouts are hashed into the buckets of a wheel by their deadline, and one worker thread ticks the wheel and
+ * dispatches the expired timeouts to the task executor. Both schedule and cancel are O(1), which fits lots of
+ * low-precision timeouts such as health checks better than the heap of
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}. The precision of deadline is one tick.
+ *
+ * @author Nacos
+ */
+public class HashedTimingWheel {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+    
+    private static final int MAX_TRANSFER_PER_TICK = 100000;
+    
+    private static final int MAX_TICKS_PER_WHEEL = 1 << 30;
+    
+    private final long tickDuration;
+    
+    private final Bucket[] wheel;
+    
+    private final int mask;
+    
+    private final Executor taskExecutor;
+    
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicLong pendingCount = new AtomicLong();
+    
+    private final long startTime;
+    
+    private final Thread workerThread;
+    
+    private volatile boolean shutdown;
+    
+    private long tick;
+    
+    /**
+     * Create a timing wheel and start its worker thread.
+     *
+     * @param name          name of worker thread
+     * @param tickDuration  duration of one tick
+     * @param unit          time unit of tick duration
+     * @param ticksPerWheel bucket count of wheel, which is rounded up to power of two
+     * @param taskExecutor  executor to run expired tasks
+     */
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, Executor taskExecutor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > MAX_TICKS_PER_WHEEL) {
+            throw new IllegalArgumentException("ticksPerWheel must be in (0, 2^30]: " + ticksPerWheel);
+        }
+        this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        int capacity = 1;
+        while (capacity < ticksPerWheel) {
+            capacity <<= 1;
+        }
+        this.wheel = new Bucket[capacity];
+        for (int i = 0; i < capacity; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = capacity - 1;
+        this.taskExecutor = taskExecutor;
+        this.startTime = System.nanoTime();
+        this.workerThread = new NameThreadFactory(name).newThread(new Worker());
+        this.workerThread.start();
+    }
+    
+    /**
+     * Schedule a one-shot task.
+     *
+     * @param task  task
+     * @param delay delay to run task
+     * @param unit  time unit of delay
+     * @return timeout handle of task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return newTimeout(task, delay, 0L, unit);
+    }
+    
+    /**
+     * Schedule a periodic task, the next run is scheduled after the completion of current run.
+     *
+     * @param task         task
+     * @param initialDelay delay to run task at first time
+     * @param delay        delay between the completion of one run and the start of next run
+     * @param unit         time unit of delays
+     * @return timeout handle of task, cancel it to stop the periodic task
+     */
+    public Timeout scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be greater than 0: " + delay);
+        }
+        return newTimeout(task, initialDelay, delay, unit);
+    }
+    
+    private Timeout newTimeout(Runnable task, long delay, long period, TimeUnit unit) {
+        if (null == task) {
+            throw new NullPointerException("task");
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("Timing wheel " + workerThread.getName() + " is shutdown");
+        }
+        Timeout timeout = new Timeout(task, unit.toNanos(period));
+        pendingCount.incrementAndGet();
+        enqueue(timeout, unit.toNanos(Math.max(delay, 0L)));
+        return timeout;
+    }
+    
+    private void enqueue(Timeout timeout, long delayNanos) {
+        timeout.deadline = System.nanoTime() - startTime + delayNanos;
+        pendingTimeouts.add(timeout);
+    }
+    
+    /**
+     * Get the count of timeouts which are not expired or cancelled, periodic ones are always counted until cancelled.
+     *
+     * @return count of pending timeouts
+     */
+    public long pendingTimeouts() {
+        return pendingCount.get();
+    }
+    
+    public boolean isShutdown() {
+        return shutdown;
+    }
+    
+    /**
+     * Stop the worker thread, pending timeouts will never run.
+     */
+    public void shutdown() {
+        shutdown = true;
+        workerThread.interrupt();
+    }
+    
+    private class Worker implements Runnable {
+        
+        @Override
+        public void run() {
+            while (!shutdown) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    break;
+                }
+                removeCancelledTimeouts();
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts();
+                tick++;
+            }
+        }
+        
+        private long waitForNextTick() {
+            long deadline = tickDuration * (tick + 1);
+            for (; ; ) {
+                long current = System.nanoTime() - startTime;
+                long sleepMillis = TimeUnit.NANOSECONDS.toMillis(deadline - current + 999999L);
+                if (sleepMillis <= 0) {
+                    return current;
+                }
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (shutdown) {
+                        return -1L;
+                    }
+                }
+            }
+        }
+        
+        private void removeCancelledTimeouts() {
+            for (Timeout each = cancelledTimeouts.poll(); null != each; each = cancelledTimeouts.poll()) {
+                if (null != each.bucket) {
+                    each.bucket.remove(each);
+                }
+            }
+        }
+        
+        private void transferPendingTimeouts() {
+            for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+                Timeout timeout = pendingTimeouts.poll();
+                if (null == timeout) {
+                    break;
+                }
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+                long calculated = timeout.deadline / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+    
+    private final class Bucket {
+        
+        private Timeout head;
+        
+        private Timeout tail;
+        
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (null == head) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+        
+        private void expireTimeouts() {
+            Timeout timeout = head;
+            while (null != timeout) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+        
+        private void remove(Timeout timeout) {
+            if (null != timeout.prev) {
+                timeout.prev.next = timeout.next;
+            }
+            if (null != timeout.next) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+    
+    /**
+     * Handle of a task scheduled in timing wheel.
+     */
+    public final class Timeout implements Runnable {
+        
+        private static final int STATE_WAITING = 0;
+        
+        private static final int STATE_RUNNING = 1;
+        
+        private static final int STATE_EXPIRED = 2;
+        
+        private static final int STATE_CANCELLED = 3;
+        
+        private final Runnable task;
+        
+        private final long periodNanos;
+        
+        private final AtomicInteger state = new AtomicInteger(STATE_WAITING);
+        
+        private long deadline;
+        
+        private long remainingRounds;
+        
+        private Timeout next;
+        
+        private Timeout prev;
+        
+        private Bucket bucket;
+        
+        private Timeout(Runnable task, long periodNanos) {
+            this.task = task;
+            this.periodNanos = periodNanos;
+        }
+        
+        /**
+         * Cancel the task. The running task will not be interrupted, but periodic task will not run again.
+         *
+         * @return {@code true} if the task is cancelled by this call
+         */
+        public boolean cancel() {
+            for (; ; ) {
+                int current = state.get();
+                if (STATE_CANCELLED == current || STATE_EXPIRED == current) {
+                    return false;
+                }
+                if (state.compareAndSet(current, STATE_CANCELLED)) {
+                    pendingCount.decrementAndGet();
+                    if (STATE_WAITING == current) {
+                        cancelledTimeouts.add(this);
+                    }
+                    return true;
+                }
+            }
+        }
+        
+        public boolean isCancelled() {
+            return STATE_CANCELLED == state.get();
+        }
+        
+        public boolean isExpired() {
+            return STATE_EXPIRED == state.get();
+        }
+        
+        private void expire() {
+            if (!state.compareAndSet(STATE_WAITING, STATE_RUNNING)) {
+                return;
+            }
+            try {
+                taskExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Timing wheel {} reject task {}", workerThread.getName(), task, e);
+                finish();
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOGGER.error("Timing wheel {} run task {} failed", workerThread.getName(), task, e);
+            } finally {
+                finish();
+            }
+        }
+        
+        private void finish() {
+            if (periodNanos > 0 && !shutdown) {
+                if (state.compareAndSet(STATE_RUNNING, STATE_WAITING)) {
+                    enqueue(this, periodNanos);
+                }
+            } else if (state.compareAndSet(STATE_RUNNING, STATE_EXPIRED)) {
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -46,7 +46,7 @@ public class DefaultPublisher extends Thread implements EventPublisher {
     
     private volatile boolean shutdown = false;
     
-    private Class<? extends Event> eventType;
+    protected Class<? extends Event> eventType;
     
     protected final ConcurrentHashSet<Subscriber> subscribers = new ConcurrentHashSet<>();
     
@@ -0,0 +1,343 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Sharded event publisher with multiple threads.
+ *
+ * <p>Events are partitioned by {@link Event#shardKey()} into several shards, each shard has its own queue and thread,
+ * so the events with same key are handled in order, and a slow subscriber only blocks the events in the same shard.
+ * When the queue of shard is full, the publisher is blocked until the shard takes events, events are never handled by
+ * the publishing thread so that the order of same key is kept. The events published by subscribers running in the shard
+ * thread itself are staged in an overflow queue of the shard instead, because waiting for itself never succeeds.
+ *
+ * @author Nacos
+ */
+public class DefaultShardedPublisher implements ShardedEventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final long PUBLISH_WAIT_MILLIS = 1000L;
+    
+    private static final int DEFAULT_WAIT_TIMES = 60;
+    
+    private final Map<Class<? extends Event>, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    
+    private final int shardCount;
+    
+    private Shard[] shards;
+    
+    private String publisherName;
+    
+    private int queueMaxSize = -1;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    public DefaultShardedPublisher(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+    
+    @Override
+    public synchronized void init(Class<? extends Event> type, int bufferSize) {
+        if (initialized) {
+            return;
+        }
+        this.publisherName = type.getSimpleName();
+        this.queueMaxSize = bufferSize == -1 ? ringBufferSize : bufferSize;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard("nacos.publisher-" + type.getName() + "-" + i, queueMaxSize);
+            shards[i].start();
+        }
+        initialized = true;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0L;
+        for (Shard each : shards) {
+            result += each.queue.size();
+        }
+        return result;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfPresent(subscribeType, (inputType, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        return shards[shardIndex(event.shardKey())].offer(event);
+    }
+    
+    int shardIndex(Object shardKey) {
+        if (null == shardKey) {
+            return 0;
+        }
+        int hash = shardKey.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shardCount;
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        if (null == shards) {
+            return;
+        }
+        for (Shard each : shards) {
+            each.queue.clear();
+            each.interrupt();
+        }
+    }
+    
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    public int getShardCount() {
+        return shardCount;
+    }
+    
+    /**
+     * Get the number of staged events in shard.
+     *
+     * @param shard index of shard
+     * @return queue size of shard
+     */
+    public int getQueueSize(int shard) {
+        return shards[shard].queue.size();
+    }
+    
+    /**
+     * Get how long the event handled by shard now has been waiting since published, 0 if shard is idle.
+     *
+     * @param shard index of shard
+     * @return lag in milliseconds
+     */
+    public long getLagMillis(int shard) {
+        long publishNanos = shards[shard].handlingPublishNanos;
+        return publishNanos == 0L ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - publishNanos);
+    }
+    
+    public String getPublisherName() {
+        return publisherName;
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d, shards=%d", publisherName, shutdown,
+                currentEventSize(), queueMaxSize, shardCount);
+    }
+    
+    private boolean hasSubscriber() {
+        return !subscribers.isEmpty();
+    }
+    
+    private static class PendingEvent {
+        
+        private final Event event;
+        
+        private final long publishNanos;
+        
+        private PendingEvent(Event event, long publishNanos) {
+            this.event = event;
+            this.publishNanos = publishNanos;
+        }
+    }
+    
+    private class Shard extends Thread {
+        
+        private final BlockingQueue<PendingEvent> queue;
+        
+        /**
+         * Events published by the shard thread itself when queue is full, only accessed by the shard thread.
+         */
+        private final Queue<PendingEvent> overflow = new ArrayDeque<>();
+        
+        private volatile long lastEventSequence = -1L;
+        
+        private volatile long handlingPublishNanos = 0L;
+        
+        private Shard(String name, int queueMaxSize) {
+            super(name);
+            setDaemon(true);
+            this.queue = new ArrayBlockingQueue<>(queueMaxSize);
+        }
+        
+        private boolean offer(Event event) {
+            PendingEvent pendingEvent = new PendingEvent(event, System.nanoTime());
+            if (Thread.currentThread() == this) {
+                // Subscriber of this shard publishes again, waiting for itself will never succeed.
+                if (!overflow.isEmpty() || !queue.offer(pendingEvent)) {
+                    overflow.add(pendingEvent);
+                }
+                return true;
+            }
+            if (queue.offer(pendingEvent)) {
+                return true;
+            }
+            boolean interrupted = false;
+            try {
+                while (!shutdown) {
+                    try {
+                        if (queue.offer(pendingEvent, PUBLISH_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                            return true;
+                        }
+                        LOGGER.warn("Publisher {} queue is full, waiting for shard to take event : {}", getName(),
+                                event);
+                    } catch (InterruptedException e) {
+                        // keep waiting, dropping or handling the event here both break the order of same key.
+                        interrupted = true;
+                    }
+                }
+                LOGGER.warn("Publisher {} is shutdown, event is dropped : {}", getName(), event);
+                return false;
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        
+        /**
+         * Move the events published by shard thread itself to queue, they are after the events already in queue.
+         */
+        private void drainOverflow() {
+            while (!overflow.isEmpty() && queue.offer(overflow.peek())) {
+                overflow.poll();
+            }
+        }
+        
+        @Override
+        public void run() {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            for (int waitTimes = DEFAULT_WAIT_TIMES; waitTimes > 0; waitTimes--) {
+                if (shutdown || hasSubscriber()) {
+                    break;
+                }
+                ThreadUtils.sleep(1000L);
+            }
+            while (!shutdown) {
+                try {
+                    drainOverflow();
+                    PendingEvent pendingEvent = queue.take();
+                    handlingPublishNanos = pendingEvent.publishNanos;
+                    try {
+                        receiveEvent(pendingEvent.event);
+                    } finally {
+                        handlingPublishNanos = 0L;
+                    }
+                } catch (InterruptedException e) {
+                    if (!shutdown) {
+                        LOGGER.warn("Publisher {} take event from queue failed:", getName(), e);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable ex) {
+                    LOGGER.error("Event listener exception : ", ex);
+                }
+            }
+        }
+        
+        private void receiveEvent(Event event) {
+            final long currentEventSequence = event.sequence();
+            Set<Subscriber> eventSubscribers = subscribers.get(event.getClass());
+            if (null == eventSubscribers) {
+                LOGGER.debug("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+                return;
+            }
+            for (Subscriber subscriber : eventSubscribers) {
+                if (!subscriber.scopeMatches(event)) {
+                    continue;
+                }
+                // Whether to ignore expiration events of same shard.
+                if (subscriber.ignoreExpireEvent() && lastEventSequence > currentEventSequence) {
+                    LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                            event.getClass());
+                    continue;
+                }
+                notifySubscriber(subscriber, event);
+            }
+            lastEventSequence = Math.max(lastEventSequence, currentEventSequence);
+        }
+    }
+}
@@ -52,6 +52,15 @@ public abstract class Event implements Serializable {
         return null;
     }
     
+    /**
+     * Shard key of event, events with the same key are handled in order by {@link DefaultShardedPublisher}.
+     *
+     * @return shard key, return null if no key, all events without key are handled in one shard
+     */
+    public Object shardKey() {
+        return null;
+    }
+    
     /**
      * Whether is plugin event. If so, the event can be dropped when no publish and subscriber without any hint. Default
      * false
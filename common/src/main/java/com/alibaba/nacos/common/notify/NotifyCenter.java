@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.spi.NacosServiceLoader;
 import com.alibaba.nacos.common.utils.ClassUtils;
 import com.alibaba.nacos.common.utils.MapUtil;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +53,8 @@ public class NotifyCenter {
     
     private static final AtomicBoolean CLOSED = new AtomicBoolean(false);
     
+    static final String RING_BUFFER_EVENT_TYPES_PROPERTY = "nacos.core.notify.ring-buffer.event-types";
+    
     private static final EventPublisherFactory DEFAULT_PUBLISHER_FACTORY;
     
     private static final NotifyCenter INSTANCE = new NotifyCenter();
@@ -85,6 +88,9 @@ public class NotifyCenter {
         }
         
         DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
+            if (isRingBufferEventType(cls)) {
+                return RingBufferPublisherFactory.getInstance().apply(cls, buffer);
+            }
             try {
                 EventPublisher publisher = clazz.newInstance();
                 publisher.init(cls, buffer);
@@ -108,6 +114,28 @@ public class NotifyCenter {
         ThreadUtils.addShutdownHook(NotifyCenter::shutdown);
     }
     
+    /**
+     * Whether the event type is published by {@link RingBufferPublisher}. The event types are set by system property
+     * {@code nacos.core.notify.ring-buffer.event-types} split by comma, both canonical name and simple name of event
+     * type are supported.
+     *
+     * @param eventType class Instances type of the event type.
+     * @return {@code true} if the event type is configured to use ring buffer publisher
+     */
+    static boolean isRingBufferEventType(Class<? extends Event> eventType) {
+        String eventTypes = System.getProperty(RING_BUFFER_EVENT_TYPES_PROPERTY);
+        if (StringUtils.isBlank(eventTypes)) {
+            return false;
+        }
+        for (String each : eventTypes.split(StringUtils.COMMA)) {
+            String name = each.trim();
+            if (name.equals(eventType.getCanonicalName()) || name.equals(eventType.getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @JustForTest
     public static Map<String, EventPublisher> getPublisherMap() {
         return INSTANCE.publisherMap;
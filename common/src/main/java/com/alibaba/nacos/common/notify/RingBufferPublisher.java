@@ -0,0 +1,217 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher based on a pre-allocated ring buffer.
+ *
+ * <p>Producers claim a slot by CAS on the producer sequence without lock, and the only consumer thread takes all
+ * available events as a batch, releases their slots by one update of the consumer sequence, and then handles them.
+ * How the consumer waits for new events is decided by {@link RingBufferWaitStrategy}. When the ring buffer is full,
+ * the event is handled synchronously like {@link DefaultPublisher}.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisher extends DefaultPublisher {
+    
+    private static final int MAX_BATCH_SIZE = 1024;
+    
+    private static final int MAX_CAPACITY = 1 << 30;
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final int YIELD_TRIES = 200;
+    
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    /**
+     * The next sequence to be consumed, slots before it can be reused by producers.
+     */
+    private volatile long consumerSequence = 0L;
+    
+    private volatile boolean consumerWaiting = false;
+    
+    private volatile boolean closed = false;
+    
+    private AtomicReferenceArray<Event> buffer;
+    
+    private int capacity;
+    
+    private int mask;
+    
+    public RingBufferPublisher() {
+        this(RingBufferWaitStrategy.BLOCKING);
+    }
+    
+    public RingBufferPublisher(RingBufferWaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        setDaemon(true);
+        setName("nacos.ring-publisher-" + type.getName());
+        this.eventType = type;
+        this.capacity = ceilingPowerOfTwo(bufferSize == -1 ? ringBufferSize : bufferSize);
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        start();
+    }
+    
+    private static int ceilingPowerOfTwo(int size) {
+        int result = 1;
+        while (result < size && result < MAX_CAPACITY) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return Math.max(0L, producerSequence.get() - consumerSequence);
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        if (!tryPublish(event)) {
+            LOGGER.warn("Unable to plug in due to ring buffer full, synchronize sending time, event : {}", event);
+            receiveEvent(event);
+        }
+        return true;
+    }
+    
+    private boolean tryPublish(Event event) {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence >= capacity) {
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        // Volatile write of slot before reading waiting flag, so the parked consumer will never be missed.
+        buffer.set(index(sequence), event);
+        if (consumerWaiting) {
+            LockSupport.unpark(this);
+        }
+        return true;
+    }
+    
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+    
+    @Override
+    public void run() {
+        // To ensure that messages are not lost, enable EventHandler when
+        // waiting for the first Subscriber to register
+        for (int waitTimes = 60; waitTimes > 0 && !closed && subscribers.isEmpty(); waitTimes--) {
+            LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+        }
+        final Event[] batch = new Event[Math.min(capacity, MAX_BATCH_SIZE)];
+        long next = consumerSequence;
+        int idleTimes = 0;
+        while (!closed) {
+            int batchSize = 0;
+            Event event;
+            while (batchSize < batch.length && null != (event = buffer.get(index(next)))) {
+                buffer.lazySet(index(next), null);
+                batch[batchSize++] = event;
+                next++;
+            }
+            if (batchSize == 0) {
+                idleTimes = waitForEvent(idleTimes, next);
+                continue;
+            }
+            idleTimes = 0;
+            // Release the slots before handling, so producers are not blocked by slow subscribers.
+            consumerSequence = next;
+            for (int i = 0; i < batchSize; i++) {
+                handleEvent(batch[i]);
+                batch[i] = null;
+            }
+        }
+    }
+    
+    private void handleEvent(Event event) {
+        try {
+            receiveEvent(event);
+            lastEventSequence = Math.max(lastEventSequence, event.sequence());
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    private int waitForEvent(int idleTimes, long next) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                return idleTimes;
+            case YIELDING:
+                if (idleTimes < SPIN_TRIES) {
+                    return idleTimes + 1;
+                }
+                Thread.yield();
+                return idleTimes;
+            case SLEEPING:
+                if (idleTimes < SPIN_TRIES) {
+                    return idleTimes + 1;
+                }
+                if (idleTimes < YIELD_TRIES) {
+                    Thread.yield();
+                    return idleTimes + 1;
+                }
+                LockSupport.parkNanos(SLEEP_NANOS);
+                return idleTimes;
+            case BLOCKING:
+            default:
+                consumerWaiting = true;
+                // Check again after setting waiting flag, the event may be published before.
+                if (!closed && null == buffer.get(index(next))) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                consumerWaiting = false;
+                return 0;
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.closed = true;
+        LockSupport.unpark(this);
+    }
+    
+    public RingBufferWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+}
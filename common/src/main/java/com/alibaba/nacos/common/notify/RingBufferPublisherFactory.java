@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory of {@link RingBufferPublisher}.
+ *
+ * <p>The event types listed in system property {@code nacos.core.notify.ring-buffer.event-types} are published by this
+ * factory when they are registered with the default factory of {@link NotifyCenter}.
+ *
+ * <p>The wait strategy can be set for each event type by system property
+ * {@code nacos.core.notify.ring-buffer.wait-strategy.${eventSimpleName}}, or for all event types by
+ * {@code nacos.core.notify.ring-buffer.wait-strategy}, see {@link RingBufferWaitStrategy}.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisherFactory implements EventPublisherFactory {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    static final String WAIT_STRATEGY_PROPERTY = "nacos.core.notify.ring-buffer.wait-strategy";
+    
+    private static final RingBufferPublisherFactory INSTANCE = new RingBufferPublisherFactory(
+            RingBufferWaitStrategy.BLOCKING);
+    
+    private final RingBufferWaitStrategy defaultWaitStrategy;
+    
+    public RingBufferPublisherFactory(RingBufferWaitStrategy defaultWaitStrategy) {
+        this.defaultWaitStrategy = defaultWaitStrategy;
+    }
+    
+    public static RingBufferPublisherFactory getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public EventPublisher apply(Class<? extends Event> eventType, Integer maxQueueSize) {
+        RingBufferPublisher publisher = new RingBufferPublisher(getWaitStrategy(eventType));
+        publisher.init(eventType, maxQueueSize);
+        return publisher;
+    }
+    
+    RingBufferWaitStrategy getWaitStrategy(Class<? extends Event> eventType) {
+        String value = System.getProperty(WAIT_STRATEGY_PROPERTY + "." + eventType.getSimpleName(),
+                System.getProperty(WAIT_STRATEGY_PROPERTY));
+        if (null == value) {
+            return defaultWaitStrategy;
+        }
+        try {
+            return RingBufferWaitStrategy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown ring buffer wait strategy {} for {}, use {}", value, eventType.getName(),
+                    defaultWaitStrategy);
+            return defaultWaitStrategy;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+/**
+ * Wait strategy of the consumer thread of {@link RingBufferPublisher} when there is no event in ring buffer.
+ *
+ * @author Nacos
+ */
+public enum RingBufferWaitStrategy {
+    
+    /**
+     * Park the consumer until an event is published, lowest cpu usage but highest latency.
+     */
+    BLOCKING,
+    
+    /**
+     * Spin, then yield, then sleep a short while, a balance between cpu usage and latency.
+     */
+    SLEEPING,
+    
+    /**
+     * Spin, then yield the cpu, low latency but the consumer thread keeps running.
+     */
+    YIELDING,
+    
+    /**
+     * Keep spinning, lowest latency but takes a whole cpu core.
+     */
+    BUSY_SPIN
+}
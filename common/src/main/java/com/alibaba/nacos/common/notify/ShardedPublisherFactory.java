@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+/**
+ * Factory of {@link DefaultShardedPublisher}, each event type has its own publisher.
+ *
+ * <p>Shard count is set by system property {@code nacos.core.notify.shard-count}, default is the suitable thread
+ * count of cpu and no more than {@link #MAX_DEFAULT_SHARD_COUNT}.
+ *
+ * @author Nacos
+ */
+public class ShardedPublisherFactory implements EventPublisherFactory {
+    
+    static final int MAX_DEFAULT_SHARD_COUNT = 8;
+    
+    private static final String SHARD_COUNT_PROPERTY = "nacos.core.notify.shard-count";
+    
+    private static final ShardedPublisherFactory INSTANCE = new ShardedPublisherFactory(Integer.getInteger(
+            SHARD_COUNT_PROPERTY, Math.min(ThreadUtils.getSuitableThreadCount(1), MAX_DEFAULT_SHARD_COUNT)));
+    
+    private final int shardCount;
+    
+    public ShardedPublisherFactory(int shardCount) {
+        this.shardCount = shardCount;
+    }
+    
+    public static ShardedPublisherFactory getInstance() {
+        return INSTANCE;
+    }
+    
+    public int getShardCount() {
+        return shardCount;
+    }
+    
+    @Override
+    public EventPublisher apply(Class<? extends Event> eventType, Integer maxQueueSize) {
+        DefaultShardedPublisher publisher = new DefaultShardedPublisher(shardCount);
+        publisher.init(eventType, maxQueueSize);
+        return publisher;
+    }
+}
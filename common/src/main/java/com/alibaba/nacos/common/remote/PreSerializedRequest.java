@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote;
+
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server request whose body has been serialized in advance.
+ *
+ * <p>When the same request is pushed to lots of connections, the body can be serialized only once by
+ * {@link #serialize(Request)}, and each connection uses its own copy from {@link #duplicate()}, which shares the
+ * serialized body but has its own request id and headers. The request id is added into the body when sending.
+ *
+ * @author Nacos
+ */
+public class PreSerializedRequest extends ServerRequest {
+    
+    private static final byte[] REQUEST_ID_PREFIX = "{\"requestId\":".getBytes(StandardCharsets.UTF_8);
+    
+    private final String type;
+    
+    private final String module;
+    
+    private final byte[] body;
+    
+    private PreSerializedRequest(String type, String module, byte[] body) {
+        this.type = type;
+        this.module = module;
+        this.body = body;
+    }
+    
+    /**
+     * Serialize the request body without request id and headers.
+     *
+     * @param request request to serialize, should not be sent at the same time
+     * @return pre-serialized request
+     */
+    public static PreSerializedRequest serialize(Request request) {
+        String requestId = request.getRequestId();
+        Map<String, String> requestHeaders = request.getHeaders().isEmpty() ? null : new HashMap<>(request.getHeaders());
+        request.setRequestId(null);
+        request.clearHeaders();
+        try {
+            return new PreSerializedRequest(request.getClass().getSimpleName(), request.getModule(),
+                    JacksonUtils.toJsonBytes(request));
+        } finally {
+            request.setRequestId(requestId);
+            request.putAllHeader(requestHeaders);
+        }
+    }
+    
+    /**
+     * Create a new request sharing the serialized body, which can be sent to another connection.
+     *
+     * @return new pre-serialized request
+     */
+    public PreSerializedRequest duplicate() {
+        return new PreSerializedRequest(type, module, body);
+    }
+    
+    /**
+     * Get the type of original request, which is used as payload type.
+     *
+     * @return type of original request
+     */
+    public String getType() {
+        return type;
+    }
+    
+    @Override
+    public String getModule() {
+        return module;
+    }
+    
+    /**
+     * Get the serialized body with request id of current request.
+     *
+     * @return json bytes of body
+     */
+    public byte[] toJsonBytes() {
+        String requestId = getRequestId();
+        if (null == requestId) {
+            return body;
+        }
+        byte[] requestIdBytes = JacksonUtils.toJsonBytes(requestId);
+        // body is an object `{...}`, insert request id as the first field.
+        boolean emptyBody = body.length <= 2;
+        byte[] result = new byte[REQUEST_ID_PREFIX.length + requestIdBytes.length + body.length - (emptyBody ? 1 : 0)];
+        int pos = 0;
+        System.arraycopy(REQUEST_ID_PREFIX, 0, result, pos, REQUEST_ID_PREFIX.length);
+        pos += REQUEST_ID_PREFIX.length;
+        System.arraycopy(requestIdBytes, 0, result, pos, requestIdBytes.length);
+        pos += requestIdBytes.length;
+        if (emptyBody) {
+            result[pos] = '}';
+            return result;
+        }
+        result[pos++] = ',';
+        System.arraycopy(body, 1, result, pos, body.length - 1);
+        return result;
+    }
+    
+    @Override
+    public String toString() {
+        return "PreSerializedRequest{" + "type='" + type + '\'' + ", requestId='" + getRequestId() + '\'' + '}';
+    }
+}
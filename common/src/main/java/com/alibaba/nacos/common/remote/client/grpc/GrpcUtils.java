@@ -24,9 +24,11 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
@@ -34,6 +36,7 @@ import com.google.protobuf.UnsafeByteOperations;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * gRPC utils, use to parse request and response.
@@ -55,7 +58,7 @@ public class GrpcUtils {
         Payload.Builder payloadBuilder = Payload.newBuilder();
         Metadata.Builder metaBuilder = Metadata.newBuilder();
         if (meta != null) {
-            metaBuilder.putAllHeaders(request.getHeaders()).setType(request.getClass().getSimpleName());
+            metaBuilder.putAllHeaders(request.getHeaders()).setType(getRequestType(request));
         }
         metaBuilder.setClientIp(NetUtils.localIp());
         payloadBuilder.setMetadata(metaBuilder.build());
@@ -73,16 +76,35 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, false);
+    }
+    
+    /**
+     * convert request to payload, use binary payload codec if possible.
+     *
+     * @param request      request.
+     * @param binaryPayload whether the receiver supports binary payload codec.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binaryPayload) {
         
-        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+        Metadata newMeta = Metadata.newBuilder().setType(getRequestType(request))
                 .setClientIp(NetUtils.localIp()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        Any.Builder bodyBuilder = Any.newBuilder();
+        Optional<PayloadCodec> binaryCodec = binaryPayload && !(request instanceof PreSerializedRequest)
+                ? PayloadCodecManager.getInstance().getBinaryCodec(request.getClass()) : Optional.empty();
+        if (binaryCodec.isPresent()) {
+            // Headers are carried in metadata, so binary codec doesn't encode them.
+            bodyBuilder.setTypeUrl(binaryCodec.get().getName())
+                    .setValue(UnsafeByteOperations.unsafeWrap(binaryCodec.get().encode(request)));
+        } else {
+            bodyBuilder.setValue(UnsafeByteOperations.unsafeWrap(convertRequestToByte(request)));
+        }
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(bodyBuilder).setMetadata(newMeta).build();
         
     }
     
@@ -100,7 +122,20 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    private static String getRequestType(Request request) {
+        if (request instanceof PreSerializedRequest) {
+            return ((PreSerializedRequest) request).getType();
+        }
+        return request.getClass().getSimpleName();
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
+        if (request instanceof PreSerializedRequest) {
+            return ((PreSerializedRequest) request).toJsonBytes();
+        }
+        if (request.getHeaders().isEmpty()) {
+            return JacksonUtils.toJsonBytes(request);
+        }
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
         byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
@@ -117,9 +152,15 @@ public class GrpcUtils {
     public static Object parse(Payload payload) {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
+            // Type url of body is the name of codec, empty means default json codec.
+            PayloadCodec codec = PayloadCodecManager.getInstance().getCodec(payload.getBody().getTypeUrl());
+            if (codec == null) {
+                throw new RemoteException(NacosException.SERVER_ERROR,
+                        "Unknown payload codec:" + payload.getBody().getTypeUrl());
+            }
             ByteString byteString = payload.getBody().getValue();
             ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj = codec.decode(byteBuffer, classType);
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
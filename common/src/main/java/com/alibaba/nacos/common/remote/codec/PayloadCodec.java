@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec of gRPC payload body.
+ *
+ * <p>The default codec is JSON. Other codecs are loaded by SPI and only used when the remote endpoint declares it
+ * supports binary payload by ability negotiation, so the codecs should be deployed on both client and server. The name
+ * of codec is carried in each payload, so that the receiver can choose the same codec to decode.
+ *
+ * @author Nacos
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Name of this codec, which is carried in payload and should be unique.
+     *
+     * @return name of codec
+     */
+    String getName();
+    
+    /**
+     * Whether this codec supports to encode and decode the type.
+     *
+     * @param type class of payload body
+     * @return {@code true} if supported
+     */
+    boolean isSupport(Class<?> type);
+    
+    /**
+     * Encode the payload body.
+     *
+     * @param obj payload body
+     * @return encoded bytes
+     */
+    byte[] encode(Object obj);
+    
+    /**
+     * Decode the payload body.
+     *
+     * @param bytes encoded bytes
+     * @param type  class of payload body
+     * @param <T>   type of payload body
+     * @return payload body
+     */
+    <T> T decode(ByteBuffer bytes, Class<T> type);
+}
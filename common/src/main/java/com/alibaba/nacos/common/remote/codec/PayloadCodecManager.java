@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manager of {@link PayloadCodec}.
+ *
+ * @author Nacos
+ */
+public class PayloadCodecManager {
+    
+    private static final PayloadCodecManager INSTANCE = new PayloadCodecManager();
+    
+    private final PayloadCodec defaultCodec;
+    
+    private final Map<String, PayloadCodec> codecs;
+    
+    private final List<PayloadCodec> binaryCodecs;
+    
+    private final Map<Class<?>, Optional<PayloadCodec>> binaryCodecCache;
+    
+    private PayloadCodecManager() {
+        defaultCodec = new JsonPayloadCodec();
+        codecs = new HashMap<>(4);
+        binaryCodecs = new ArrayList<>(2);
+        binaryCodecCache = new ConcurrentHashMap<>(16);
+        codecs.put(defaultCodec.getName(), defaultCodec);
+        Collection<PayloadCodec> load = NacosServiceLoader.load(PayloadCodec.class);
+        for (PayloadCodec each : load) {
+            if (codecs.containsKey(each.getName())) {
+                continue;
+            }
+            codecs.put(each.getName(), each);
+            binaryCodecs.add(each);
+        }
+    }
+    
+    public static PayloadCodecManager getInstance() {
+        return INSTANCE;
+    }
+    
+    public PayloadCodec getDefaultCodec() {
+        return defaultCodec;
+    }
+    
+    /**
+     * Get codec by name, empty name means the default codec.
+     *
+     * @param name name of codec
+     * @return codec, or {@code null} if no such codec
+     */
+    public PayloadCodec getCodec(String name) {
+        if (StringUtils.isEmpty(name)) {
+            return defaultCodec;
+        }
+        return codecs.get(name);
+    }
+    
+    /**
+     * Get the binary codec which supports the type.
+     *
+     * @param type class of payload body
+     * @return binary codec, or empty if no binary codec supports this type
+     */
+    public Optional<PayloadCodec> getBinaryCodec(Class<?> type) {
+        return binaryCodecCache.computeIfAbsent(type,
+                key -> binaryCodecs.stream().filter(codec -> codec.isSupport(key)).findFirst());
+    }
+}
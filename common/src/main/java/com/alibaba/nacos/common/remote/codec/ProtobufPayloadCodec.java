@@ -0,0 +1,632 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.AbstractNamingRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Binary payload codec in protobuf wire format for the hot request types.
+ *
+ * <p>The messages are written by hand without generated classes, so that the existing request models can be used
+ * directly. Request headers are carried by payload metadata and not encoded. A {@code null} string, list or map is
+ * absent from the message, and unknown fields are skipped, so new fields can be appended compatibly.
+ *
+ * @author Nacos
+ */
+public class ProtobufPayloadCodec implements PayloadCodec {
+    
+    public static final String NAME = "nacos-protobuf";
+    
+    private static final int ELEMENT_FIELD = 1;
+    
+    private static final MessageSchema<Instance> INSTANCE_SCHEMA = new MessageSchema<>(Instance::new,
+            ProtobufPayloadCodec::writeInstance, ProtobufPayloadCodec::readInstanceField);
+    
+    private static final MessageSchema<ServiceInfo> SERVICE_INFO_SCHEMA = new MessageSchema<>(ServiceInfo::new,
+            ProtobufPayloadCodec::writeServiceInfo, ProtobufPayloadCodec::readServiceInfoField);
+    
+    private static final MessageSchema<ConfigBatchListenRequest.ConfigListenContext> LISTEN_CONTEXT_SCHEMA = new MessageSchema<>(
+            ConfigBatchListenRequest.ConfigListenContext::new, ProtobufPayloadCodec::writeListenContext,
+            ProtobufPayloadCodec::readListenContextField);
+    
+    private static final MessageSchema<MapEntry> MAP_ENTRY_SCHEMA = new MessageSchema<>(MapEntry::new,
+            ProtobufPayloadCodec::writeMapEntry, ProtobufPayloadCodec::readMapEntryField);
+    
+    private final Map<Class<?>, MessageSchema<?>> schemas = new HashMap<>(8);
+    
+    public ProtobufPayloadCodec() {
+        schemas.put(ConfigQueryRequest.class, new MessageSchema<>(ConfigQueryRequest::new,
+                ProtobufPayloadCodec::writeConfigQueryRequest, ProtobufPayloadCodec::readConfigQueryRequestField));
+        schemas.put(ConfigBatchListenRequest.class, new MessageSchema<>(ConfigBatchListenRequest::new,
+                ProtobufPayloadCodec::writeConfigBatchListenRequest,
+                ProtobufPayloadCodec::readConfigBatchListenRequestField));
+        schemas.put(ConfigChangeNotifyRequest.class, new MessageSchema<>(ConfigChangeNotifyRequest::new,
+                ProtobufPayloadCodec::writeConfigChangeNotifyRequest,
+                ProtobufPayloadCodec::readConfigChangeNotifyRequestField));
+        schemas.put(InstanceRequest.class, new MessageSchema<>(InstanceRequest::new,
+                ProtobufPayloadCodec::writeInstanceRequest, ProtobufPayloadCodec::readInstanceRequestField));
+        schemas.put(BatchInstanceRequest.class, new MessageSchema<>(BatchInstanceRequest::new,
+                ProtobufPayloadCodec::writeBatchInstanceRequest, ProtobufPayloadCodec::readBatchInstanceRequestField));
+        schemas.put(NotifySubscriberRequest.class, new MessageSchema<>(NotifySubscriberRequest::new,
+                ProtobufPayloadCodec::writeNotifySubscriberRequest,
+                ProtobufPayloadCodec::readNotifySubscriberRequestField));
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public boolean isSupport(Class<?> type) {
+        return schemas.containsKey(type);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object obj) {
+        MessageSchema<Object> schema = (MessageSchema<Object>) schemas.get(obj.getClass());
+        if (null == schema) {
+            throw new NacosSerializationException(obj.getClass());
+        }
+        try {
+            return toBytes(obj, schema.writer);
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(ByteBuffer bytes, Class<T> type) {
+        MessageSchema<T> schema = (MessageSchema<T>) schemas.get(type);
+        if (null == schema) {
+            throw new NacosDeserializationException(type);
+        }
+        try {
+            return readMessage(CodedInputStream.newInstance(bytes), schema);
+        } catch (IOException e) {
+            throw new NacosDeserializationException(type, e);
+        }
+    }
+    
+    private static void writeConfigRequest(AbstractConfigRequest request, CodedOutputStream out) throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeString(out, 2, request.getDataId());
+        writeString(out, 3, request.getGroup());
+        writeString(out, 4, request.getTenant());
+    }
+    
+    private static boolean readConfigRequestField(AbstractConfigRequest request, int field, CodedInputStream in)
+            throws IOException {
+        switch (field) {
+            case 1:
+                request.setRequestId(in.readString());
+                return true;
+            case 2:
+                request.setDataId(in.readString());
+                return true;
+            case 3:
+                request.setGroup(in.readString());
+                return true;
+            case 4:
+                request.setTenant(in.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeConfigQueryRequest(ConfigQueryRequest request, CodedOutputStream out)
+            throws IOException {
+        writeConfigRequest(request, out);
+        writeString(out, 5, request.getTag());
+    }
+    
+    private static boolean readConfigQueryRequestField(ConfigQueryRequest request, int field, CodedInputStream in)
+            throws IOException {
+        switch (field) {
+            case 5:
+                request.setTag(in.readString());
+                return true;
+            default:
+                return readConfigRequestField(request, field, in);
+        }
+    }
+    
+    private static void writeConfigBatchListenRequest(ConfigBatchListenRequest request, CodedOutputStream out)
+            throws IOException {
+        writeConfigRequest(request, out);
+        out.writeBool(5, request.isListen());
+        writeList(out, 6, request.getConfigListenContexts(), LISTEN_CONTEXT_SCHEMA);
+    }
+    
+    private static boolean readConfigBatchListenRequestField(ConfigBatchListenRequest request, int field,
+            CodedInputStream in) throws IOException {
+        switch (field) {
+            case 5:
+                request.setListen(in.readBool());
+                return true;
+            case 6:
+                request.setConfigListenContexts(readList(in, LISTEN_CONTEXT_SCHEMA));
+                return true;
+            default:
+                return readConfigRequestField(request, field, in);
+        }
+    }
+    
+    private static void writeListenContext(ConfigBatchListenRequest.ConfigListenContext context,
+            CodedOutputStream out) throws IOException {
+        writeString(out, 1, context.getGroup());
+        writeString(out, 2, context.getMd5());
+        writeString(out, 3, context.getDataId());
+        writeString(out, 4, context.getTenant());
+    }
+    
+    private static boolean readListenContextField(ConfigBatchListenRequest.ConfigListenContext context, int field,
+            CodedInputStream in) throws IOException {
+        switch (field) {
+            case 1:
+                context.setGroup(in.readString());
+                return true;
+            case 2:
+                context.setMd5(in.readString());
+                return true;
+            case 3:
+                context.setDataId(in.readString());
+                return true;
+            case 4:
+                context.setTenant(in.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeConfigChangeNotifyRequest(ConfigChangeNotifyRequest request, CodedOutputStream out)
+            throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeString(out, 2, request.getDataId());
+        writeString(out, 3, request.getGroup());
+        writeString(out, 4, request.getTenant());
+    }
+    
+    private static boolean readConfigChangeNotifyRequestField(ConfigChangeNotifyRequest request, int field,
+            CodedInputStream in) throws IOException {
+        switch (field) {
+            case 1:
+                request.setRequestId(in.readString());
+                return true;
+            case 2:
+                request.setDataId(in.readString());
+                return true;
+            case 3:
+                request.setGroup(in.readString());
+                return true;
+            case 4:
+                request.setTenant(in.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeNamingRequest(AbstractNamingRequest request, CodedOutputStream out) throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeString(out, 2, request.getNamespace());
+        writeString(out, 3, request.getServiceName());
+        writeString(out, 4, request.getGroupName());
+    }
+    
+    private static boolean readNamingRequestField(AbstractNamingRequest request, int field, CodedInputStream in)
+            throws IOException {
+        switch (field) {
+            case 1:
+                request.setRequestId(in.readString());
+                return true;
+            case 2:
+                request.setNamespace(in.readString());
+                return true;
+            case 3:
+                request.setServiceName(in.readString());
+                return true;
+            case 4:
+                request.setGroupName(in.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeInstanceRequest(InstanceRequest request, CodedOutputStream out) throws IOException {
+        writeNamingRequest(request, out);
+        writeString(out, 5, request.getType());
+        writeMessage(out, 6, request.getInstance(), INSTANCE_SCHEMA);
+    }
+    
+    private static boolean readInstanceRequestField(InstanceRequest request, int field, CodedInputStream in)
+            throws IOException {
+        switch (field) {
+            case 5:
+                request.setType(in.readString());
+                return true;
+            case 6:
+                request.setInstance(readNestedMessage(in, INSTANCE_SCHEMA));
+                return true;
+            default:
+                return readNamingRequestField(request, field, in);
+        }
+    }
+    
+    private static void writeBatchInstanceRequest(BatchInstanceRequest request, CodedOutputStream out)
+            throws IOException {
+        writeNamingRequest(request, out);
+        writeString(out, 5, request.getType());
+        writeList(out, 6, request.getInstances(), INSTANCE_SCHEMA);
+    }
+    
+    private static boolean readBatchInstanceRequestField(BatchInstanceRequest request, int field,
+            CodedInputStream in) throws IOException {
+        switch (field) {
+            case 5:
+                request.setType(in.readString());
+                return true;
+            case 6:
+                request.setInstances(readList(in, INSTANCE_SCHEMA));
+                return true;
+            default:
+                return readNamingRequestField(request, field, in);
+        }
+    }
+    
+    private static void writeNotifySubscriberRequest(NotifySubscriberRequest request, CodedOutputStream out)
+            throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeString(out, 2, request.getNamespace());
+        writeString(out, 3, request.getServiceName());
+        writeString(out, 4, request.getGroupName());
+        writeMessage(out, 5, request.getServiceInfo(), SERVICE_INFO_SCHEMA);
+        out.writeInt64(6, request.getRevision());
+        out.writeBool(7, request.isDelta());
+        out.writeInt64(8, request.getBaseRevision());
+        writeList(out, 9, request.getAddedInstances(), INSTANCE_SCHEMA);
+        writeList(out, 10, request.getRemovedInstances(), INSTANCE_SCHEMA);
+        writeList(out, 11, request.getModifiedInstances(), INSTANCE_SCHEMA);
+    }
+    
+    private static boolean readNotifySubscriberRequestField(NotifySubscriberRequest request, int field,
+            CodedInputStream in) throws IOException {
+        switch (field) {
+            case 1:
+                request.setRequestId(in.readString());
+                return true;
+            case 2:
+                request.setNamespace(in.readString());
+                return true;
+            case 3:
+                request.setServiceName(in.readString());
+                return true;
+            case 4:
+                request.setGroupName(in.readString());
+                return true;
+            case 5:
+                request.setServiceInfo(readNestedMessage(in, SERVICE_INFO_SCHEMA));
+                return true;
+            case 6:
+                request.setRevision(in.readInt64());
+                return true;
+            case 7:
+                request.setDelta(in.readBool());
+                return true;
+            case 8:
+                request.setBaseRevision(in.readInt64());
+                return true;
+            case 9:
+                request.setAddedInstances(readList(in, INSTANCE_SCHEMA));
+                return true;
+            case 10:
+                request.setRemovedInstances(readList(in, INSTANCE_SCHEMA));
+                return true;
+            case 11:
+                request.setModifiedInstances(readList(in, INSTANCE_SCHEMA));
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeServiceInfo(ServiceInfo serviceInfo, CodedOutputStream out) throws IOException {
+        writeString(out, 1, serviceInfo.getName());
+        writeString(out, 2, serviceInfo.getGroupName());
+        writeString(out, 3, serviceInfo.getClusters());
+        out.writeInt64(4, serviceInfo.getCacheMillis());
+        writeList(out, 5, serviceInfo.getHosts(), INSTANCE_SCHEMA);
+        out.writeInt64(6, serviceInfo.getLastRefTime());
+        writeString(out, 7, serviceInfo.getChecksum());
+        out.writeBool(8, serviceInfo.isAllIps());
+        out.writeBool(9, serviceInfo.isReachProtectionThreshold());
+    }
+    
+    private static boolean readServiceInfoField(ServiceInfo serviceInfo, int field, CodedInputStream in)
+            throws IOException {
+        switch (field) {
+            case 1:
+                serviceInfo.setName(in.readString());
+                return true;
+            case 2:
+                serviceInfo.setGroupName(in.readString());
+                return true;
+            case 3:
+                serviceInfo.setClusters(in.readString());
+                return true;
+            case 4:
+                serviceInfo.setCacheMillis(in.readInt64());
+                return true;
+            case 5:
+                serviceInfo.setHosts(readList(in, INSTANCE_SCHEMA));
+                return true;
+            case 6:
+                serviceInfo.setLastRefTime(in.readInt64());
+                return true;
+            case 7:
+                serviceInfo.setChecksum(in.readString());
+                return true;
+            case 8:
+                serviceInfo.setAllIps(in.readBool());
+                return true;
+            case 9:
+                serviceInfo.setReachProtectionThreshold(in.readBool());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeInstance(Instance instance, CodedOutputStream out) throws IOException {
+        writeString(out, 1, instance.getInstanceId());
+        writeString(out, 2, instance.getIp());
+        out.writeInt32(3, instance.getPort());
+        out.writeDouble(4, instance.getWeight());
+        out.writeBool(5, instance.isHealthy());
+        out.writeBool(6, instance.isEnabled());
+        out.writeBool(7, instance.isEphemeral());
+        writeString(out, 8, instance.getClusterName());
+        writeString(out, 9, instance.getServiceName());
+        writeMap(out, 10, instance.getMetadata());
+    }
+    
+    private static boolean readInstanceField(Instance instance, int field, CodedInputStream in) throws IOException {
+        switch (field) {
+            case 1:
+                instance.setInstanceId(in.readString());
+                return true;
+            case 2:
+                instance.setIp(in.readString());
+                return true;
+            case 3:
+                instance.setPort(in.readInt32());
+                return true;
+            case 4:
+                instance.setWeight(in.readDouble());
+                return true;
+            case 5:
+                instance.setHealthy(in.readBool());
+                return true;
+            case 6:
+                instance.setEnabled(in.readBool());
+                return true;
+            case 7:
+                instance.setEphemeral(in.readBool());
+                return true;
+            case 8:
+                instance.setClusterName(in.readString());
+                return true;
+            case 9:
+                instance.setServiceName(in.readString());
+                return true;
+            case 10:
+                instance.setMetadata(readMap(in));
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeMapEntry(MapEntry entry, CodedOutputStream out) throws IOException {
+        writeString(out, 1, entry.key);
+        writeString(out, 2, entry.value);
+    }
+    
+    private static boolean readMapEntryField(MapEntry entry, int field, CodedInputStream in) throws IOException {
+        switch (field) {
+            case 1:
+                entry.key = in.readString();
+                return true;
+            case 2:
+                entry.value = in.readString();
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (null != value) {
+            out.writeString(field, value);
+        }
+    }
+    
+    private static <T> void writeMessage(CodedOutputStream out, int field, T message, MessageSchema<T> schema)
+            throws IOException {
+        if (null != message) {
+            out.writeByteArray(field, toBytes(message, schema.writer));
+        }
+    }
+    
+    private static <T> void writeList(CodedOutputStream out, int field, List<T> list, MessageSchema<T> schema)
+            throws IOException {
+        if (null == list) {
+            return;
+        }
+        out.writeByteArray(field, toBytes(list, (elements, elementOut) -> {
+            for (T each : elements) {
+                writeMessage(elementOut, ELEMENT_FIELD, each, schema);
+            }
+        }));
+    }
+    
+    private static void writeMap(CodedOutputStream out, int field, Map<String, String> map) throws IOException {
+        if (null == map) {
+            return;
+        }
+        out.writeByteArray(field, toBytes(map, (entries, entryOut) -> {
+            for (Map.Entry<String, String> each : entries.entrySet()) {
+                writeMessage(entryOut, ELEMENT_FIELD, new MapEntry(each.getKey(), each.getValue()), MAP_ENTRY_SCHEMA);
+            }
+        }));
+    }
+    
+    private static <T> byte[] toBytes(T message, MessageWriter<T> writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        writer.write(message, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+    
+    private static <T> T readMessage(CodedInputStream in, MessageSchema<T> schema) throws IOException {
+        T result = schema.constructor.get();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (!schema.reader.read(result, WireFormat.getTagFieldNumber(tag), in)) {
+                in.skipField(tag);
+            }
+        }
+        return result;
+    }
+    
+    private static <T> T readNestedMessage(CodedInputStream in, MessageSchema<T> schema) throws IOException {
+        int oldLimit = in.pushLimit(in.readRawVarint32());
+        T result = readMessage(in, schema);
+        in.popLimit(oldLimit);
+        return result;
+    }
+    
+    private static <T> List<T> readList(CodedInputStream in, MessageSchema<T> schema) throws IOException {
+        List<T> result = new ArrayList<>();
+        int oldLimit = in.pushLimit(in.readRawVarint32());
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (ELEMENT_FIELD == WireFormat.getTagFieldNumber(tag)) {
+                result.add(readNestedMessage(in, schema));
+            } else {
+                in.skipField(tag);
+            }
+        }
+        in.popLimit(oldLimit);
+        return result;
+    }
+    
+    private static Map<String, String> readMap(CodedInputStream in) throws IOException {
+        Map<String, String> result = new HashMap<>(8);
+        for (MapEntry each : readList(in, MAP_ENTRY_SCHEMA)) {
+            result.put(each.key, each.value);
+        }
+        return result;
+    }
+    
+    @FunctionalInterface
+    private interface MessageWriter<T> {
+        
+        /**
+         * Write all fields of message.
+         *
+         * @param message message
+         * @param out     output stream
+         * @throws IOException if write failed
+         */
+        void write(T message, CodedOutputStream out) throws IOException;
+    }
+    
+    @FunctionalInterface
+    private interface FieldReader<T> {
+        
+        /**
+         * Read a field into message.
+         *
+         * @param message message
+         * @param field   field number
+         * @param in      input stream
+         * @return {@code false} if the field is unknown and should be skipped
+         * @throws IOException if read failed
+         */
+        boolean read(T message, int field, CodedInputStream in) throws IOException;
+    }
+    
+    private static class MapEntry {
+        
+        private String key;
+        
+        private String value;
+        
+        private MapEntry() {
+        }
+        
+        private MapEntry(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    
+    private static class MessageSchema<T> {
+        
+        private final Supplier<T> constructor;
+        
+        private final MessageWriter<T> writer;
+        
+        private final FieldReader<T> reader;
+        
+        private MessageSchema(Supplier<T> constructor, MessageWriter<T> writer, FieldReader<T> reader) {
+            this.constructor = constructor;
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+}
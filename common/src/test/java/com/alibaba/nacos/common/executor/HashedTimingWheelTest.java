@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+    
+    private ExecutorService executor;
+    
+    private HashedTimingWheel timingWheel;
+    
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        timingWheel = new HashedTimingWheel("test.timing.wheel", 10, TimeUnit.MILLISECONDS, 64, executor);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timingWheel.shutdown();
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel("test", 0, TimeUnit.MILLISECONDS, 64, executor));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel("test", 10, TimeUnit.MILLISECONDS, 0, executor));
+        assertThrows(IllegalArgumentException.class,
+                () -> timingWheel.scheduleWithFixedDelay(() -> { }, 0, 0, TimeUnit.MILLISECONDS));
+        assertThrows(NullPointerException.class, () -> timingWheel.schedule(null, 0, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void testSchedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final HashedTimingWheel.Timeout timeout = timingWheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        assertEquals(1, timingWheel.pendingTimeouts());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40);
+        waitPendingTimeouts(0);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+    
+    @Test
+    void testScheduleBeyondOneRound() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        // 64 buckets * 10ms is one round, so the timeout should wait for more than one round.
+        final long start = System.nanoTime();
+        timingWheel.schedule(latch::countDown, 1000, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 990);
+    }
+    
+    @Test
+    void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, timingWheel.pendingTimeouts());
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(0, count.get());
+    }
+    
+    @Test
+    void testScheduleWithFixedDelay() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+        HashedTimingWheel.Timeout timeout = timingWheel.scheduleWithFixedDelay(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+            throw new IllegalStateException("test exception should not stop periodic task");
+        }, 0, 20, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, timingWheel.pendingTimeouts());
+        assertTrue(timeout.cancel());
+        assertEquals(0, timingWheel.pendingTimeouts());
+        TimeUnit.MILLISECONDS.sleep(100);
+        int stopped = count.get();
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(stopped, count.get());
+    }
+    
+    @Test
+    void testLotsOfScheduleAndCancel() throws InterruptedException {
+        int size = 200000;
+        AtomicInteger count = new AtomicInteger();
+        List<HashedTimingWheel.Timeout> timeouts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            timeouts.add(timingWheel.scheduleWithFixedDelay(count::incrementAndGet, 5000, 5000, TimeUnit.MILLISECONDS));
+        }
+        assertEquals(size, timingWheel.pendingTimeouts());
+        for (HashedTimingWheel.Timeout each : timeouts) {
+            assertTrue(each.cancel());
+        }
+        assertEquals(0, timingWheel.pendingTimeouts());
+        CountDownLatch latch = new CountDownLatch(1);
+        timingWheel.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, count.get());
+    }
+    
+    @Test
+    void testShutdown() {
+        timingWheel.shutdown();
+        assertTrue(timingWheel.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> timingWheel.schedule(() -> { }, 0, TimeUnit.MILLISECONDS));
+    }
+    
+    private void waitPendingTimeouts(long expected) throws InterruptedException {
+        for (int i = 0; i < 100 && expected != timingWheel.pendingTimeouts(); i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(expected, timingWheel.pendingTimeouts());
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultShardedPublisherTest {
+    
+    private static final int SHARD_COUNT = 4;
+    
+    private DefaultShardedPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        publisher = new DefaultShardedPublisher(SHARD_COUNT);
+        publisher.init(KeyedEvent.class, 1024);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void testIllegalShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultShardedPublisher(0));
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        assertThrows(IllegalStateException.class, () -> new DefaultShardedPublisher(1).publish(new KeyedEvent("a", 0)));
+    }
+    
+    @Test
+    void testShardIndex() {
+        assertEquals(0, publisher.shardIndex(null));
+        for (int i = 0; i < 100; i++) {
+            String key = "key" + i;
+            int index = publisher.shardIndex(key);
+            assertTrue(index >= 0 && index < SHARD_COUNT);
+            assertEquals(index, publisher.shardIndex(key));
+        }
+    }
+    
+    @Test
+    void testOrderOfSameKey() throws InterruptedException {
+        final int keyCount = 16;
+        final int eventCount = 100;
+        Map<Object, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(keyCount * eventCount);
+        publisher.addSubscriber(new KeyedSubscriber(event -> {
+            received.computeIfAbsent(event.shardKey(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.index);
+            latch.countDown();
+        }));
+        for (int i = 0; i < eventCount; i++) {
+            for (int j = 0; j < keyCount; j++) {
+                publisher.publish(new KeyedEvent("key" + j, i));
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(keyCount, received.size());
+        for (List<Integer> each : received.values()) {
+            assertEquals(eventCount, each.size());
+            for (int i = 0; i < eventCount; i++) {
+                assertEquals(i, each.get(i));
+            }
+        }
+    }
+    
+    @Test
+    void testSlowSubscriberOnlyBlocksSameShard() throws InterruptedException {
+        final String slowKey = "slow";
+        String fastKey = "fast";
+        for (int i = 0; publisher.shardIndex(fastKey) == publisher.shardIndex(slowKey); i++) {
+            fastKey = "fast" + i;
+        }
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch slowReceived = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(1);
+        publisher.addSubscriber(new KeyedSubscriber(event -> {
+            if (slowKey.equals(event.shardKey())) {
+                slowReceived.countDown();
+                try {
+                    blocking.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                fastReceived.countDown();
+            }
+        }));
+        final int slowShard = publisher.shardIndex(slowKey);
+        publisher.publish(new KeyedEvent(slowKey, 0));
+        publisher.publish(new KeyedEvent(slowKey, 1));
+        publisher.publish(new KeyedEvent(fastKey, 0));
+        try {
+            assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+            assertTrue(slowReceived.await(5, TimeUnit.SECONDS));
+            assertEquals(1, publisher.getQueueSize(slowShard));
+            assertEquals(1, publisher.currentEventSize());
+            TimeUnit.MILLISECONDS.sleep(20);
+            assertTrue(publisher.getLagMillis(slowShard) > 0);
+            assertEquals(0L, publisher.getLagMillis(publisher.shardIndex(fastKey)));
+        } finally {
+            blocking.countDown();
+        }
+    }
+    
+    @Test
+    void testPublishWhenQueueFull() {
+        publisher.shutdown();
+        publisher = new DefaultShardedPublisher(1);
+        publisher.init(KeyedEvent.class, 1);
+        List<Integer> received = new ArrayList<>();
+        publisher.addSubscriber(new KeyedSubscriber(event -> received.add(event.index)));
+        // Stop the shard thread to mock queue full.
+        publisher.shutdown();
+        assertTrue(publisher.publish(new KeyedEvent("key", 0)));
+        // the event is never handled by publishing thread, which may overtake the events in queue.
+        assertFalse(publisher.publish(new KeyedEvent("key", 1)));
+        assertTrue(received.isEmpty());
+    }
+    
+    @Test
+    void testOrderOfSameKeyWhenQueueFull() throws InterruptedException {
+        publisher.shutdown();
+        publisher = new DefaultShardedPublisher(1);
+        publisher.init(KeyedEvent.class, 2);
+        final int eventCount = 50;
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(eventCount);
+        publisher.addSubscriber(new KeyedSubscriber(event -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(2);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event.index);
+            latch.countDown();
+        }));
+        for (int i = 0; i < eventCount; i++) {
+            assertTrue(publisher.publish(new KeyedEvent("key", i)));
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < eventCount; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+    
+    @Test
+    void testPublishInShardWhenQueueFull() throws InterruptedException {
+        publisher.shutdown();
+        publisher = new DefaultShardedPublisher(1);
+        publisher.init(KeyedEvent.class, 1);
+        final int eventCount = 10;
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(eventCount);
+        publisher.addSubscriber(new KeyedSubscriber(event -> {
+            received.add(event.index);
+            if (event.index == 0) {
+                // publish more events than the queue size in shard thread.
+                for (int i = 1; i < eventCount; i++) {
+                    publisher.publish(new KeyedEvent("key", i));
+                }
+            }
+            latch.countDown();
+        }));
+        publisher.publish(new KeyedEvent("key", 0));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < eventCount; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+    
+    @Test
+    void testRemoveSubscriber() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        KeyedSubscriber subscriber = new KeyedSubscriber(event -> latch.countDown());
+        publisher.addSubscriber(subscriber);
+        publisher.removeSubscriber(subscriber);
+        publisher.publish(new KeyedEvent("key", 0));
+        assertFalse(latch.await(1500, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void testStatus() {
+        assertEquals(SHARD_COUNT, publisher.getShardCount());
+        assertEquals("KeyedEvent", publisher.getPublisherName());
+        assertTrue(publisher.getStatus().contains("shards=" + SHARD_COUNT));
+    }
+    
+    @Test
+    void testFactory() throws NacosException {
+        ShardedPublisherFactory factory = new ShardedPublisherFactory(2);
+        EventPublisher eventPublisher = factory.apply(KeyedEvent.class, 16);
+        try {
+            assertTrue(eventPublisher instanceof DefaultShardedPublisher);
+            assertTrue(((DefaultShardedPublisher) eventPublisher).isInitialized());
+            assertEquals(2, ((DefaultShardedPublisher) eventPublisher).getShardCount());
+            assertNotEquals(eventPublisher, factory.apply(KeyedEvent.class, 16));
+        } finally {
+            eventPublisher.shutdown();
+        }
+        assertTrue(ShardedPublisherFactory.getInstance().getShardCount() > 0);
+    }
+    
+    private static class KeyedEvent extends Event {
+        
+        private static final long serialVersionUID = 2547183418564553412L;
+        
+        private final String key;
+        
+        private final int index;
+        
+        private KeyedEvent(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+        
+        @Override
+        public Object shardKey() {
+            return key;
+        }
+    }
+    
+    private static class KeyedSubscriber extends Subscriber<KeyedEvent> {
+        
+        private final Consumer<KeyedEvent> consumer;
+        
+        private KeyedSubscriber(Consumer<KeyedEvent> consumer) {
+            this.consumer = consumer;
+        }
+        
+        @Override
+        public void onEvent(KeyedEvent event) {
+            consumer.accept(event);
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return KeyedEvent.class;
+        }
+    }
+}
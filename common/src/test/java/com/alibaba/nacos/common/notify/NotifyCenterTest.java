@@ -212,6 +212,21 @@ class NotifyCenterTest {
         verify(shardedEventPublisher).removeSubscriber(subscriber, SharedEvent.class);
     }
     
+    @Test
+    void testRegisterRingBufferPublisherByProperty() {
+        System.setProperty(NotifyCenter.RING_BUFFER_EVENT_TYPES_PROPERTY, " OtherEvent , RingBufferEvent");
+        try {
+            EventPublisher publisher = NotifyCenter.registerToPublisher(RingBufferEvent.class, 16);
+            assertTrue(publisher instanceof RingBufferPublisher);
+            assertEquals(RingBufferEvent.class, ((RingBufferPublisher) publisher).eventType);
+            assertFalse(NotifyCenter.isRingBufferEventType(NoPublisherEvent.class));
+        } finally {
+            System.clearProperty(NotifyCenter.RING_BUFFER_EVENT_TYPES_PROPERTY);
+            NotifyCenter.deregisterPublisher(RingBufferEvent.class);
+        }
+        assertFalse(NotifyCenter.isRingBufferEventType(RingBufferEvent.class));
+    }
+    
     @Test
     void testDeregisterNonExistSubscriber() {
         assertThrows(NoSuchElementException.class, () -> {
@@ -315,6 +330,11 @@ class NotifyCenterTest {
         private static final long serialVersionUID = 6532409163269714916L;
     }
     
+    private static class RingBufferEvent extends Event {
+        
+        private static final long serialVersionUID = -2354098826745325091L;
+    }
+    
     private static class SharedEvent extends Event {
         
         private static final long serialVersionUID = 7648766983252000074L;
@@ -0,0 +1,219 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testInit() {
+        publisher = new RingBufferPublisher();
+        publisher.init(OtherEvent.class, 1000);
+        assertTrue(publisher.isInitialized());
+        assertEquals(OtherEvent.class, publisher.eventType);
+        assertEquals(1024, publisher.getCapacity());
+        assertEquals(RingBufferWaitStrategy.BLOCKING, publisher.getWaitStrategy());
+        assertEquals(0, publisher.currentEventSize());
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        assertThrows(IllegalStateException.class, () -> new RingBufferPublisher().publish(new OtherEvent()));
+    }
+    
+    @Test
+    void testPublishWithBlocking() throws InterruptedException {
+        assertPublishInOrder(RingBufferWaitStrategy.BLOCKING);
+    }
+    
+    @Test
+    void testPublishWithSleeping() throws InterruptedException {
+        assertPublishInOrder(RingBufferWaitStrategy.SLEEPING);
+    }
+    
+    @Test
+    void testPublishWithYielding() throws InterruptedException {
+        assertPublishInOrder(RingBufferWaitStrategy.YIELDING);
+    }
+    
+    @Test
+    void testPublishWithBusySpin() throws InterruptedException {
+        assertPublishInOrder(RingBufferWaitStrategy.BUSY_SPIN);
+    }
+    
+    private void assertPublishInOrder(RingBufferWaitStrategy waitStrategy) throws InterruptedException {
+        final int producerCount = 4;
+        final int eventCount = 2000;
+        publisher = new RingBufferPublisher(waitStrategy);
+        publisher.init(IndexedEvent.class, 64);
+        List<IndexedEvent> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(producerCount * eventCount);
+        publisher.addSubscriber(new IndexedSubscriber(event -> {
+            received.add(event);
+            latch.countDown();
+        }));
+        ExecutorService executorService = Executors.newFixedThreadPool(producerCount);
+        try {
+            for (int i = 0; i < producerCount; i++) {
+                final int producer = i;
+                executorService.execute(() -> {
+                    for (int j = 0; j < eventCount; j++) {
+                        publisher.publish(new IndexedEvent(producer, j));
+                    }
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(producerCount * eventCount, received.size());
+        int[] lastIndex = new int[producerCount];
+        for (int i = 0; i < producerCount; i++) {
+            lastIndex[i] = -1;
+        }
+        synchronized (received) {
+            for (IndexedEvent each : received) {
+                // Events from the same producer thread keep order, unless the ring buffer is full and handled sync.
+                lastIndex[each.producer] = Math.max(lastIndex[each.producer], each.index);
+            }
+        }
+        for (int i = 0; i < producerCount; i++) {
+            assertEquals(eventCount - 1, lastIndex[i]);
+        }
+    }
+    
+    @Test
+    void testPublishInOrderWithSingleProducer() throws InterruptedException {
+        final int eventCount = 1000;
+        publisher = new RingBufferPublisher();
+        publisher.init(IndexedEvent.class, 2048);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(eventCount);
+        publisher.addSubscriber(new IndexedSubscriber(event -> {
+            received.add(event.index);
+            latch.countDown();
+        }));
+        for (int i = 0; i < eventCount; i++) {
+            publisher.publish(new IndexedEvent(0, i));
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < eventCount; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+    
+    @Test
+    void testPublishWhenRingBufferFull() {
+        publisher = new RingBufferPublisher();
+        publisher.init(IndexedEvent.class, 2);
+        List<Integer> received = new ArrayList<>();
+        publisher.addSubscriber(new IndexedSubscriber(event -> received.add(event.index)));
+        // Stop the consumer thread to mock ring buffer full.
+        publisher.shutdown();
+        publisher.publish(new IndexedEvent(0, 0));
+        publisher.publish(new IndexedEvent(0, 1));
+        assertEquals(2, publisher.currentEventSize());
+        assertTrue(publisher.publish(new IndexedEvent(0, 2)));
+        assertEquals(Collections.singletonList(2), received);
+    }
+    
+    @Test
+    void testFactoryWaitStrategy() {
+        RingBufferPublisherFactory factory = new RingBufferPublisherFactory(RingBufferWaitStrategy.SLEEPING);
+        assertEquals(RingBufferWaitStrategy.SLEEPING, factory.getWaitStrategy(IndexedEvent.class));
+        String property = RingBufferPublisherFactory.WAIT_STRATEGY_PROPERTY + "." + IndexedEvent.class.getSimpleName();
+        try {
+            System.setProperty(RingBufferPublisherFactory.WAIT_STRATEGY_PROPERTY, "yielding");
+            assertEquals(RingBufferWaitStrategy.YIELDING, factory.getWaitStrategy(IndexedEvent.class));
+            System.setProperty(property, "busy_spin");
+            assertEquals(RingBufferWaitStrategy.BUSY_SPIN, factory.getWaitStrategy(IndexedEvent.class));
+            assertEquals(RingBufferWaitStrategy.YIELDING, factory.getWaitStrategy(OtherEvent.class));
+            System.setProperty(property, "unknown");
+            assertEquals(RingBufferWaitStrategy.SLEEPING, factory.getWaitStrategy(IndexedEvent.class));
+        } finally {
+            System.clearProperty(RingBufferPublisherFactory.WAIT_STRATEGY_PROPERTY);
+            System.clearProperty(property);
+        }
+        publisher = (RingBufferPublisher) factory.apply(IndexedEvent.class, 16);
+        assertTrue(publisher.isInitialized());
+        assertEquals(RingBufferWaitStrategy.SLEEPING, publisher.getWaitStrategy());
+        assertEquals(16, publisher.getCapacity());
+    }
+    
+    private static class IndexedEvent extends Event {
+        
+        private static final long serialVersionUID = -2393847623084522118L;
+        
+        private final int producer;
+        
+        private final int index;
+        
+        private IndexedEvent(int producer, int index) {
+            this.producer = producer;
+            this.index = index;
+        }
+    }
+    
+    private static class OtherEvent extends Event {
+        
+        private static final long serialVersionUID = 4715271049638291374L;
+    }
+    
+    private static class IndexedSubscriber extends Subscriber<IndexedEvent> {
+        
+        private final Consumer<IndexedEvent> consumer;
+        
+        private IndexedSubscriber(Consumer<IndexedEvent> consumer) {
+            this.consumer = consumer;
+        }
+        
+        @Override
+        public void onEvent(IndexedEvent event) {
+            consumer.accept(event);
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return IndexedEvent.class;
+        }
+    }
+}
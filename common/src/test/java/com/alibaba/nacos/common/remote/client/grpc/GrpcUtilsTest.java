@@ -21,9 +21,15 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
+import com.alibaba.nacos.common.remote.codec.ProtobufPayloadCodec;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +38,7 @@ import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -73,6 +80,57 @@ class GrpcUtilsTest {
         return request;
     }
     
+    @Test
+    void testConvertRequestWithBinaryPayload() {
+        InstanceRequest instanceRequest = new InstanceRequest("namespace", "service", "group", "registerInstance",
+                new Instance());
+        instanceRequest.setRequestId("1");
+        instanceRequest.putHeader("h1", "v1");
+        Payload binaryPayload = GrpcUtils.convert(instanceRequest, true);
+        assertEquals(ProtobufPayloadCodec.NAME, binaryPayload.getBody().getTypeUrl());
+        assertEquals("v1", binaryPayload.getMetadata().getHeadersMap().get("h1"));
+        InstanceRequest actual = (InstanceRequest) GrpcUtils.parse(binaryPayload);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("v1", actual.getHeader("h1"));
+        assertEquals("registerInstance", actual.getType());
+        assertEquals("service", actual.getServiceName());
+        
+        // request without binary codec and receiver without binary ability use json.
+        assertEquals("", GrpcUtils.convert(request, true).getBody().getTypeUrl());
+        assertEquals("", GrpcUtils.convert(instanceRequest, false).getBody().getTypeUrl());
+    }
+    
+    @Test
+    void testParseUnknownCodec() {
+        Payload payload = GrpcUtils.convert(request);
+        Payload unknownCodecPayload = payload.toBuilder()
+                .setBody(payload.getBody().toBuilder().setTypeUrl("unknown")).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(unknownCodecPayload));
+    }
+    
+    @Test
+    void testConvertPreSerializedRequest() {
+        NotifySubscriberRequest notifyRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(
+                new ServiceInfo("group@@service"), 2L);
+        PreSerializedRequest preSerializedRequest = PreSerializedRequest.serialize(notifyRequest);
+        PreSerializedRequest first = preSerializedRequest.duplicate();
+        first.setRequestId("1");
+        first.putHeader("h1", "v1");
+        PreSerializedRequest second = preSerializedRequest.duplicate();
+        second.setRequestId("2");
+        
+        Payload firstPayload = GrpcUtils.convert(first);
+        assertEquals(NotifySubscriberRequest.class.getSimpleName(), firstPayload.getMetadata().getType());
+        assertEquals("v1", firstPayload.getMetadata().getHeadersMap().get("h1"));
+        NotifySubscriberRequest firstParsed = (NotifySubscriberRequest) GrpcUtils.parse(firstPayload);
+        assertEquals("1", firstParsed.getRequestId());
+        assertEquals(2L, firstParsed.getRevision());
+        assertEquals("service", firstParsed.getServiceInfo().getName());
+        NotifySubscriberRequest secondParsed = (NotifySubscriberRequest) GrpcUtils.parse(GrpcUtils.convert(second));
+        assertEquals("2", secondParsed.getRequestId());
+        assertTrue(secondParsed.getHeaders().isEmpty());
+    }
+    
     @Test
     void testConvertRequest() {
         Payload convert = GrpcUtils.convert(request);
@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProtobufPayloadCodecTest {
+    
+    private final ProtobufPayloadCodec codec = new ProtobufPayloadCodec();
+    
+    @Test
+    void testIsSupport() {
+        assertTrue(codec.isSupport(InstanceRequest.class));
+        assertTrue(codec.isSupport(NotifySubscriberRequest.class));
+        assertFalse(codec.isSupport(ServiceQueryRequest.class));
+        assertThrows(NacosSerializationException.class, () -> codec.encode(new ServiceQueryRequest()));
+    }
+    
+    @Test
+    void testConfigRequests() {
+        ConfigQueryRequest queryRequest = ConfigQueryRequest.build("dataId", "group", "tenant");
+        queryRequest.setTag("tag");
+        queryRequest.setRequestId("1");
+        assertSameJson(queryRequest, roundTrip(queryRequest, ConfigQueryRequest.class));
+        
+        ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setListen(false);
+        listenRequest.addConfigListenContext("group", "dataId", null, "md5");
+        listenRequest.addConfigListenContext("group", "dataId2", "", "md5");
+        ConfigBatchListenRequest actualListenRequest = roundTrip(listenRequest, ConfigBatchListenRequest.class);
+        assertSameJson(listenRequest, actualListenRequest);
+        assertNull(actualListenRequest.getConfigListenContexts().get(0).getTenant());
+        assertEquals("", actualListenRequest.getConfigListenContexts().get(1).getTenant());
+        
+        ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build("dataId", "group", null);
+        assertSameJson(notifyRequest, roundTrip(notifyRequest, ConfigChangeNotifyRequest.class));
+    }
+    
+    @Test
+    void testInstanceRequests() {
+        InstanceRequest instanceRequest = new InstanceRequest("namespace", "service", "group", "registerInstance",
+                buildInstance("1.1.1.1"));
+        assertSameJson(instanceRequest, roundTrip(instanceRequest, InstanceRequest.class));
+        
+        BatchInstanceRequest batchRequest = new BatchInstanceRequest("namespace", "service", "group",
+                "batchRegisterInstance", Arrays.asList(buildInstance("1.1.1.1"), buildInstance("1.1.1.2")));
+        assertSameJson(batchRequest, roundTrip(batchRequest, BatchInstanceRequest.class));
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service@@cluster");
+        serviceInfo.setHosts(Collections.singletonList(buildInstance("1.1.1.1")));
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        serviceInfo.setReachProtectionThreshold(true);
+        NotifySubscriberRequest fullRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo, 10L);
+        NotifySubscriberRequest actualFullRequest = roundTrip(fullRequest, NotifySubscriberRequest.class);
+        assertSameJson(fullRequest, actualFullRequest);
+        assertNull(actualFullRequest.getAddedInstances());
+        
+        NotifySubscriberRequest deltaRequest = NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(
+                new ServiceInfo("group@@service"), 9L, 10L, Collections.singletonList(buildInstance("1.1.1.2")),
+                Collections.emptyList(), Collections.singletonList(buildInstance("1.1.1.3")));
+        NotifySubscriberRequest actualDeltaRequest = roundTrip(deltaRequest, NotifySubscriberRequest.class);
+        assertSameJson(deltaRequest, actualDeltaRequest);
+        assertTrue(actualDeltaRequest.getRemovedInstances().isEmpty());
+    }
+    
+    private Instance buildInstance(String ip) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setWeight(2.5D);
+        result.setHealthy(false);
+        result.setEphemeral(false);
+        result.setClusterName("cluster");
+        result.setServiceName("group@@service");
+        result.addMetadata("key", "value");
+        return result;
+    }
+    
+    private <T> T roundTrip(Object obj, Class<T> type) {
+        return codec.decode(ByteBuffer.wrap(codec.encode(obj)), type);
+    }
+    
+    private void assertSameJson(Object expected, Object actual) {
+        assertEquals(JacksonUtils.toJson(expected), JacksonUtils.toJson(actual));
+    }
+}
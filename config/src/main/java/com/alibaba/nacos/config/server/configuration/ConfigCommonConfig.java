@@ -43,6 +43,12 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private int maxMatchedConfigCount = 500;
     
+    private long contentCacheMaxBytes = 64 * 1024 * 1024L;
+    
+    private long clusterSyncBatchWindow = 50L;
+    
+    private int clusterSyncBatchMaxSize = 500;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -84,6 +90,38 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         return maxMatchedConfigCount;
     }
     
+    /**
+     * Max estimated bytes of config contents cached in memory for config query, 0 to disable the cache. The cache is
+     * recreated empty when it is changed.
+     *
+     * @return max bytes of cached contents
+     */
+    public long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        this.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+    
+    /**
+     * Milliseconds to coalesce config changes into one batch sync request to each server of cluster, 0 to sync each
+     * change by its own request.
+     *
+     * @return coalescing window in milliseconds
+     */
+    public long getClusterSyncBatchWindow() {
+        return clusterSyncBatchWindow;
+    }
+    
+    public void setClusterSyncBatchWindow(long clusterSyncBatchWindow) {
+        this.clusterSyncBatchWindow = clusterSyncBatchWindow;
+    }
+    
+    public int getClusterSyncBatchMaxSize() {
+        return clusterSyncBatchMaxSize;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
@@ -94,6 +132,10 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         maxPatternCount = EnvUtil.getProperty("nacos.config.fuzzy.watch.max.pattern.count", Integer.class, 20);
         maxMatchedConfigCount = EnvUtil.getProperty("nacos.config.fuzzy.watch.max.pattern.match.config.count",
                 Integer.class, 500);
+        contentCacheMaxBytes = EnvUtil.getProperty("nacos.config.content.cache.maxBytes", Long.class,
+                64 * 1024 * 1024L);
+        clusterSyncBatchWindow = EnvUtil.getProperty("nacos.config.cluster.sync.batch.window", Long.class, 50L);
+        clusterSyncBatchMaxSize = EnvUtil.getProperty("nacos.config.cluster.sync.batch.maxSize", Integer.class, 500);
     }
     
     @Override
@@ -26,6 +26,8 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.monitor.ConfigCacheMemoryReport;
+import com.alibaba.nacos.config.server.monitor.MemoryMonitor;
 import com.alibaba.nacos.config.server.paramcheck.ConfigDefaultHttpParamExtractor;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.utils.LogUtil;
@@ -106,6 +108,16 @@ public class ConfigOpsControllerV3 {
         }
     }
     
+    /**
+     * Get the estimated heap usage of config cache, including bytes per entry with compact md5 and with legacy md5.
+     */
+    @GetMapping(value = "/memory")
+    @Secured(resource = Constants.OPS_CONTROLLER_V3_ADMIN_PATH, action = ActionTypes.READ,
+            signType = SignType.CONFIG, apiType = ApiType.ADMIN_API)
+    public Result<ConfigCacheMemoryReport> getCacheMemory() {
+        return Result.success(MemoryMonitor.reportConfigCacheMemory());
+    }
+    
     /**
      * Can only run select statements and is a direct query to the native Derby database without any additional logic.
      *
@@ -68,7 +68,8 @@ public class CacheItem {
     }
 
     public void setType(String type) {
-        this.type = type;
+        // types are few, share the same instance among cache items.
+        this.type = StringPool.get(type);
     }
 
     public String getGroupKey() {
@@ -92,7 +93,9 @@ public class CacheItem {
     public void initConfigGrayIfEmpty(String grayName) {
         initConfigGrayIfEmpty();
         if (!this.configCacheGray.containsKey(grayName)) {
-            this.configCacheGray.put(grayName, ConfigCacheFactoryDelegate.getInstance().createConfigCacheGray(grayName));
+            String pooledGrayName = StringPool.get(grayName);
+            this.configCacheGray.put(pooledGrayName,
+                    ConfigCacheFactoryDelegate.getInstance().createConfigCacheGray(pooledGrayName));
         }
     }
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import java.io.Serializable;
+
+/**
+ * Compact md5 holder of config cache.
+ *
+ * <p>A standard md5 in lower case hex is kept as two longs instead of a 32 chars string, which takes 32 bytes instead
+ * of 72 bytes in heap. Other values, such as empty string or upper case hex, are kept as the raw string so that
+ * {@link #toString()} always returns the same value as the origin one.
+ *
+ * @author Nacos
+ */
+public final class CompactMd5 implements Serializable {
+    
+    private static final long serialVersionUID = -4381283419457226396L;
+    
+    static final int MD5_HEX_LENGTH = 32;
+    
+    private static final String HEX_DIGIT_STRING = "0123456789abcdef";
+    
+    private static final char[] HEX_DIGITS = HEX_DIGIT_STRING.toCharArray();
+    
+    private final long high;
+    
+    private final long low;
+    
+    private final String raw;
+    
+    private CompactMd5(long high, long low, String raw) {
+        this.high = high;
+        this.low = low;
+        this.raw = raw;
+    }
+    
+    /**
+     * Build compact md5 from md5 string.
+     *
+     * @param md5 md5 string
+     * @return compact md5, null if md5 is null
+     */
+    public static CompactMd5 valueOf(String md5) {
+        if (md5 == null) {
+            return null;
+        }
+        if (md5.length() != MD5_HEX_LENGTH) {
+            return new CompactMd5(0L, 0L, md5);
+        }
+        long high = 0L;
+        long low = 0L;
+        for (int i = 0; i < MD5_HEX_LENGTH; i++) {
+            int digit = lowerHexDigit(md5.charAt(i));
+            if (digit < 0) {
+                return new CompactMd5(0L, 0L, md5);
+            }
+            if (i < MD5_HEX_LENGTH / 2) {
+                high = (high << 4) | digit;
+            } else {
+                low = (low << 4) | digit;
+            }
+        }
+        return new CompactMd5(high, low, null);
+    }
+    
+    private static int lowerHexDigit(char c) {
+        return HEX_DIGIT_STRING.indexOf(c);
+    }
+    
+    /**
+     * Whether the md5 is stored as two longs.
+     *
+     * @return true if compact, false if stored as raw string
+     */
+    public boolean isCompact() {
+        return raw == null;
+    }
+    
+    /**
+     * Compare with md5 string without building the hex string.
+     *
+     * @param md5 md5 string
+     * @return true if same as md5
+     */
+    public boolean matches(String md5) {
+        if (md5 == null) {
+            return false;
+        }
+        if (raw != null) {
+            return raw.equals(md5);
+        }
+        if (md5.length() != MD5_HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MD5_HEX_LENGTH; i++) {
+            if (md5.charAt(i) != hexCharAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private char hexCharAt(int index) {
+        long value = index < MD5_HEX_LENGTH / 2 ? high : low;
+        int shift = (MD5_HEX_LENGTH / 2 - 1 - index % (MD5_HEX_LENGTH / 2)) * 4;
+        return HEX_DIGITS[(int) (value >>> shift) & 0xF];
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactMd5)) {
+            return false;
+        }
+        CompactMd5 that = (CompactMd5) o;
+        if (raw != null) {
+            return raw.equals(that.raw);
+        }
+        return that.raw == null && high == that.high && low == that.low;
+    }
+    
+    @Override
+    public int hashCode() {
+        if (raw != null) {
+            return raw.hashCode();
+        }
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+    
+    @Override
+    public String toString() {
+        if (raw != null) {
+            return raw;
+        }
+        char[] chars = new char[MD5_HEX_LENGTH];
+        for (int i = 0; i < MD5_HEX_LENGTH; i++) {
+            chars[i] = hexCharAt(i);
+        }
+        return new String(chars);
+    }
+}
@@ -17,7 +17,6 @@
 package com.alibaba.nacos.config.server.model;
 
 import com.alibaba.nacos.config.server.constant.Constants;
-import com.alibaba.nacos.core.utils.StringPool;
 
 import java.io.Serializable;
 
@@ -28,7 +27,12 @@ import java.io.Serializable;
  */
 public class ConfigCache implements Serializable {
     
-    volatile String md5 = Constants.NULL;
+    private static final CompactMd5 EMPTY_MD5 = CompactMd5.valueOf(Constants.NULL);
+    
+    /**
+     * md5 kept as two longs, see {@link CompactMd5}, it is replaced as a whole so reads are never torn.
+     */
+    volatile CompactMd5 md5 = EMPTY_MD5;
     
     volatile String encryptedDataKey;
     
@@ -38,7 +42,7 @@ public class ConfigCache implements Serializable {
      * clear cache.
      */
     public void clear() {
-        this.md5 = Constants.NULL;
+        this.md5 = EMPTY_MD5;
         this.encryptedDataKey = null;
         this.lastModifiedTs = -1L;
     }
@@ -47,11 +51,27 @@ public class ConfigCache implements Serializable {
     }
     
     public ConfigCache(String md5, long lastModifiedTs) {
-        this.md5 = StringPool.get(md5);
+        this.md5 = toCompactMd5(md5);
         this.lastModifiedTs = lastModifiedTs;
     }
     
     public String getMd5() {
+        CompactMd5 current = md5;
+        return current == null ? null : current.toString();
+    }
+    
+    /**
+     * Compare md5 of cache with the given md5 without building the md5 string.
+     *
+     * @param md5 md5 to compare.
+     * @return true if same.
+     */
+    public boolean isMd5Equals(String md5) {
+        CompactMd5 current = this.md5;
+        return current == null ? md5 == null : current.matches(md5);
+    }
+    
+    public CompactMd5 getCompactMd5() {
         return md5;
     }
     
@@ -64,7 +84,11 @@ public class ConfigCache implements Serializable {
     }
     
     public void setMd5(String md5) {
-        this.md5 = StringPool.get(md5);
+        this.md5 = toCompactMd5(md5);
+    }
+    
+    private static CompactMd5 toCompactMd5(String md5) {
+        return Constants.NULL.equals(md5) ? EMPTY_MD5 : CompactMd5.valueOf(md5);
     }
     
     public long getLastModifiedTs() {
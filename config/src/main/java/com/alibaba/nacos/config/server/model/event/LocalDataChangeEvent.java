@@ -30,5 +30,10 @@ public class LocalDataChangeEvent extends Event {
     public LocalDataChangeEvent(String groupKey) {
         this.groupKey = groupKey;
     }
+    
+    @Override
+    public Object shardKey() {
+        return groupKey;
+    }
 
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.monitor;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+
+import java.util.Map;
+
+/**
+ * Estimated heap usage of config cache items in {@link ConfigCacheService}.
+ *
+ * <p>The sizes are estimated by the object layout of 64-bit JVM with compressed oops and compact strings, the legacy
+ * size is the same cache with md5 kept as 32 chars string, so that the saving of compact md5 can be observed.
+ *
+ * @author Nacos
+ */
+public class ConfigCacheMemoryReport {
+    
+    static final long MAP_ENTRY_BYTES = 40L;
+    
+    static final long CACHE_ITEM_BYTES = 40L;
+    
+    static final long LOCK_BYTES = 24L;
+    
+    static final long CONFIG_CACHE_BYTES = 32L;
+    
+    static final long CONFIG_CACHE_GRAY_BYTES = 40L;
+    
+    static final long COMPACT_MD5_BYTES = 32L;
+    
+    static final long GRAY_MAP_BYTES = 64L;
+    
+    static final long GRAY_MAP_ENTRY_BYTES = 32L;
+    
+    private static final long STRING_BYTES = 24L;
+    
+    private static final long ARRAY_HEADER_BYTES = 16L;
+    
+    private long entryCount;
+    
+    private long grayCount;
+    
+    private long compactMd5Count;
+    
+    private long estimatedBytes;
+    
+    private long legacyEstimatedBytes;
+    
+    /**
+     * Collect the report from current config cache.
+     *
+     * @return memory report
+     */
+    public static ConfigCacheMemoryReport collect() {
+        ConfigCacheMemoryReport report = new ConfigCacheMemoryReport();
+        ConfigCacheService.forEachCacheItem(report::add);
+        return report;
+    }
+    
+    void add(CacheItem item) {
+        entryCount++;
+        long shared = MAP_ENTRY_BYTES + CACHE_ITEM_BYTES + LOCK_BYTES + stringBytes(item.getGroupKey());
+        long bytes = shared + CONFIG_CACHE_BYTES + md5Bytes(item.getConfigCache());
+        long legacyBytes = shared + CONFIG_CACHE_BYTES + legacyMd5Bytes(item.getConfigCache());
+        Map<String, ConfigCacheGray> grays = item.getConfigCacheGray();
+        if (grays != null) {
+            bytes += GRAY_MAP_BYTES;
+            legacyBytes += GRAY_MAP_BYTES;
+            for (ConfigCacheGray gray : grays.values()) {
+                grayCount++;
+                long grayShared = GRAY_MAP_ENTRY_BYTES + CONFIG_CACHE_GRAY_BYTES + stringBytes(gray.getGrayName());
+                bytes += grayShared + md5Bytes(gray);
+                legacyBytes += grayShared + legacyMd5Bytes(gray);
+            }
+        }
+        estimatedBytes += bytes;
+        legacyEstimatedBytes += legacyBytes;
+    }
+    
+    private long md5Bytes(ConfigCache configCache) {
+        if (configCache == null || configCache.getCompactMd5() == null) {
+            return 0L;
+        }
+        if (configCache.getCompactMd5().isCompact()) {
+            compactMd5Count++;
+            return COMPACT_MD5_BYTES;
+        }
+        return COMPACT_MD5_BYTES + stringBytes(configCache.getCompactMd5().toString());
+    }
+    
+    private static long legacyMd5Bytes(ConfigCache configCache) {
+        return configCache == null || configCache.getCompactMd5() == null ? 0L : stringBytes(configCache.getCompactMd5().toString());
+    }
+    
+    static long stringBytes(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        return STRING_BYTES + align(ARRAY_HEADER_BYTES + value.length());
+    }
+    
+    private static long align(long bytes) {
+        return (bytes + 7L) & ~7L;
+    }
+    
+    public long getEntryCount() {
+        return entryCount;
+    }
+    
+    public long getGrayCount() {
+        return grayCount;
+    }
+    
+    public long getCompactMd5Count() {
+        return compactMd5Count;
+    }
+    
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+    
+    public long getLegacyEstimatedBytes() {
+        return legacyEstimatedBytes;
+    }
+    
+    public long getBytesPerEntry() {
+        return entryCount == 0 ? 0L : estimatedBytes / entryCount;
+    }
+    
+    public long getLegacyBytesPerEntry() {
+        return entryCount == 0 ? 0L : legacyEstimatedBytes / entryCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "ConfigCacheMemoryReport{" + "entryCount=" + entryCount + ", grayCount=" + grayCount
+                + ", compactMd5Count=" + compactMd5Count + ", estimatedBytes=" + estimatedBytes
+                + ", legacyEstimatedBytes=" + legacyEstimatedBytes + ", bytesPerEntry=" + getBytesPerEntry()
+                + ", legacyBytesPerEntry=" + getLegacyBytesPerEntry() + '}';
+    }
+}
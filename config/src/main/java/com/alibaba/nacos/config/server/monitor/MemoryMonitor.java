@@ -24,6 +24,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
 
+import static com.alibaba.nacos.config.server.utils.LogUtil.MEMORY_LOG;
+
 /**
  * Memory monitor.
  *
@@ -48,6 +50,17 @@ public class MemoryMonitor {
     
     private static final long DELAY_SECONDS = 10;
     
+    /**
+     * Collect the estimated heap usage of config cache, it visits all cache items so should be called on demand.
+     *
+     * @return memory report of config cache
+     */
+    public static ConfigCacheMemoryReport reportConfigCacheMemory() {
+        ConfigCacheMemoryReport report = ConfigCacheMemoryReport.collect();
+        MEMORY_LOG.info("config cache memory: {}", report);
+        return report;
+    }
+    
     /**
      * reset some metrics to 0 every day.
      */
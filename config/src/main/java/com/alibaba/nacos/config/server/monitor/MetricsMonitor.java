@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -65,6 +66,16 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * count of config change notify payloads reused from the serialized ones.
+     */
+    private static AtomicLong pushPayloadCacheHit = new AtomicLong();
+    
+    /**
+     * count of config change notify payloads serialized.
+     */
+    private static AtomicLong pushPayloadCacheMiss = new AtomicLong();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -118,6 +129,16 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushPayloadCacheHit"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushPayloadCacheHit);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushPayloadCacheMiss"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushPayloadCacheMiss);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -162,6 +183,22 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static AtomicLong getPushPayloadCacheHit() {
+        return pushPayloadCacheHit;
+    }
+    
+    public static AtomicLong getPushPayloadCacheMiss() {
+        return pushPayloadCacheMiss;
+    }
+    
+    public static void incrementPushPayloadCacheHit() {
+        pushPayloadCacheHit.incrementAndGet();
+    }
+    
+    public static void incrementPushPayloadCacheMiss() {
+        pushPayloadCacheMiss.incrementAndGet();
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
@@ -207,6 +244,21 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "unhealth");
     }
     
+    public static Counter getContentCacheHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getContentCacheMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getContentCacheEvictionCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "eviction");
+    }
+    
     public static void incrementConfigChangeCount(String tenant, String group, String dataId) {
         configChangeCount.increment(tenant + "@" + group + "@" + dataId);
     }
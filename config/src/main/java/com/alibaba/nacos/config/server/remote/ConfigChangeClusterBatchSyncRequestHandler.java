@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigChangeClusterBatchSyncRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import com.alibaba.nacos.plugin.auth.constant.ApiType;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler to handle a batch of config changes from other servers.
+ *
+ * @author Nacos
+ */
+@Component
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+public class ConfigChangeClusterBatchSyncRequestHandler
+        extends RequestHandler<ConfigChangeClusterBatchSyncRequest, ConfigChangeClusterBatchSyncResponse> {
+    
+    private final DumpService dumpService;
+    
+    public ConfigChangeClusterBatchSyncRequestHandler(DumpService dumpService) {
+        this.dumpService = dumpService;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigChangeNotify")
+    @Override
+    @ExtractorManager.Extractor(rpcExtractor = ConfigChangeClusterBatchSyncRequestParamExtractor.class)
+    @Secured(signType = SignType.CONFIG, apiType = ApiType.INNER_API)
+    public ConfigChangeClusterBatchSyncResponse handle(ConfigChangeClusterBatchSyncRequest request,
+            RequestMeta meta) throws NacosException {
+        List<ConfigChangeClusterBatchSyncRequest.ConfigChangeItem> configChangeItems = request.getConfigChangeItems();
+        if (CollectionUtils.isEmpty(configChangeItems)) {
+            return new ConfigChangeClusterBatchSyncResponse();
+        }
+        List<DumpRequest> dumpRequests = new ArrayList<>(configChangeItems.size());
+        for (ConfigChangeClusterBatchSyncRequest.ConfigChangeItem configChangeItem : configChangeItems) {
+            DumpRequest dumpRequest = DumpRequest.create(configChangeItem.getDataId(), configChangeItem.getGroup(),
+                    configChangeItem.getTenant(), configChangeItem.getLastModified(), meta.getClientIp());
+            dumpRequest.setGrayName(configChangeItem.getGrayName());
+            dumpRequests.add(dumpRequest);
+        }
+        dumpService.dumpBatch(dumpRequests);
+        return new ConfigChangeClusterBatchSyncResponse();
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.remote;
 import com.alibaba.nacos.api.config.remote.request.ConfigFuzzyWatchChangeNotifyRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardedPublisherFactory;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
@@ -60,7 +61,7 @@ public class ConfigFuzzyWatchChangeNotifier extends Subscriber<LocalDataChangeEv
         this.rpcPushService = rpcPushService;
         this.connectionManager = connectionManager;
         this.configFuzzyWatchContextService = configFuzzyWatchContextService;
-        NotifyCenter.registerSubscriber(this);
+        NotifyCenter.registerSubscriber(this, ShardedPublisherFactory.getInstance());
     }
     
     @Override
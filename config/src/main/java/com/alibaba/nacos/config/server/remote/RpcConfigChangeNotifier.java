@@ -18,12 +18,17 @@ package com.alibaba.nacos.config.server.remote;
 
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardedPublisherFactory;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.ConfigListenState;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.core.remote.Connection;
@@ -59,7 +64,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     TpsControlManager tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
     
     public RpcConfigChangeNotifier() {
-        NotifyCenter.registerSubscriber(this);
+        NotifyCenter.registerSubscriber(this, ShardedPublisherFactory.getInstance());
     }
     
     @PostConstruct
@@ -91,21 +96,34 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return;
         }
         int notifyClientCount = 0;
+        // The notify request is same for all listeners except namespace transferred ones, serialize them only once.
+        PreSerializedRequest[] pushPayloads = new PreSerializedRequest[2];
+        final String originalTenant = tenant;
         for (final String client : listeners) {
             Connection connection = connectionManager.getConnection(client);
             if (connection == null) {
                 continue;
             }
-            boolean ifNamespaceTransfer = configChangeListenContext.getConfigListenState(client, groupKey).isNamespaceTransfer();
-            if (ifNamespaceTransfer) {
-                tenant = null;
+            ConfigListenState listenState = configChangeListenContext.getConfigListenState(client, groupKey);
+            if (listenState == null) {
+                // the listener is removed concurrently.
+                continue;
             }
+            boolean ifNamespaceTransfer = listenState.isNamespaceTransfer();
+            String actualTenant = ifNamespaceTransfer ? null : originalTenant;
             ConnectionMeta metaInfo = connection.getMetaInfo();
             String clientIp = metaInfo.getClientIp();
             
-            ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+            ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, actualTenant);
+            int payloadIndex = ifNamespaceTransfer ? 1 : 0;
+            if (null == pushPayloads[payloadIndex]) {
+                MetricsMonitor.incrementPushPayloadCacheMiss();
+                pushPayloads[payloadIndex] = PreSerializedRequest.serialize(notifyRequest);
+            } else {
+                MetricsMonitor.incrementPushPayloadCacheHit();
+            }
             
-            RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
+            RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest, pushPayloads[payloadIndex].duplicate(),
                     ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, clientIp, metaInfo.getAppName());
             push(rpcPushRetryTask, connectionManager);
             notifyClientCount++;
@@ -135,6 +153,8 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         ConfigChangeNotifyRequest notifyRequest;
         
+        ServerRequest pushRequest;
+        
         int maxRetryTimes = -1;
         
         int tryTimes = 0;
@@ -147,7 +167,13 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
+            this(notifyRequest, notifyRequest, maxRetryTimes, connectionId, clientIp, appName);
+        }
+        
+        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, ServerRequest pushRequest, int maxRetryTimes,
+                String connectionId, String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
+            this.pushRequest = pushRequest;
             this.maxRetryTimes = maxRetryTimes;
             this.connectionId = connectionId;
             this.clientIp = clientIp;
@@ -191,7 +217,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             if (!tpsControlManager.check(tpsCheckRequest).isSuccess()) {
                 push(this, connectionManager);
             } else {
-                rpcPushService.pushWithCallback(connectionId, notifyRequest,
+                rpcPushService.pushWithCallback(connectionId, pushRequest,
                         new RpcPushCallback(this, tpsControlManager, connectionManager),
                         ConfigExecutor.getClientConfigNotifierServiceExecutor());
             }
@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import static com.alibaba.nacos.api.common.Constants.CLIENT_IP;
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
@@ -65,10 +66,24 @@ public class ConfigCacheService {
      */
     static final ConcurrentHashMap<String, CacheItem> CACHE = new ConcurrentHashMap<>();
     
+    /**
+     * index of group keys in {@link #CACHE}, updated atomically with it.
+     */
+    static final GroupKeyIndex GROUP_KEY_INDEX = new GroupKeyIndex();
+    
     public static int groupCount() {
         return CACHE.size();
     }
     
+    /**
+     * Visit all cache items, the items may be changed concurrently during visiting.
+     *
+     * @param action action for each cache item.
+     */
+    public static void forEachCacheItem(Consumer<CacheItem> action) {
+        CACHE.values().forEach(action);
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -230,8 +245,9 @@ public class ConfigCacheService {
                         "[dump-gray] md5 changed, update local jvm cache& local disk cache, groupKey={},grayName={}, "
                                 + "newMd5={},oldMd5={}, newGrayRule={}, oldGrayRule={},lastModifiedTs={}", groupKey,
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
-                updateGrayMd5(groupKey, grayName, grayRule, md5, content, lastModifiedTs, encryptedDataKey);
+                // save to disk before md5 changes, so the content read with new md5 is not stale.
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                updateGrayMd5(groupKey, grayName, grayRule, md5, content, lastModifiedTs, encryptedDataKey);
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -287,6 +303,7 @@ public class ConfigCacheService {
             DUMP_LOG.info("[remove-gray-ok] remove gray in local disk cache,grayName={},groupKey={} ", grayName,
                     groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo4Gray(dataId, group, tenant, grayName);
+            ConfigContentCache.remove(groupKey, grayName);
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
@@ -336,7 +353,11 @@ public class ConfigCacheService {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
             
-            CACHE.remove(groupKey);
+            CACHE.computeIfPresent(groupKey, (key, item) -> {
+                ConfigContentCache.remove(item);
+                GROUP_KEY_INDEX.remove(key);
+                return null;
+            });
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
             
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
@@ -359,7 +380,8 @@ public class ConfigCacheService {
     public static void updateMd5(String groupKey, String md5, String content, long lastModifiedTs, String encryptedDataKey) {
         CacheItem cache = makeSure(groupKey, encryptedDataKey);
         ConfigCache configCache = cache.getConfigCache();
-        if (configCache.getMd5() == null || !configCache.getMd5().equals(md5)) {
+        if (!configCache.isMd5Equals(md5)) {
+            ConfigContentCache.put(groupKey, null, md5, content);
             configCache.setMd5(md5);
             configCache.setLastModifiedTs(lastModifiedTs);
             configCache.setEncryptedDataKey(encryptedDataKey);
@@ -384,6 +406,7 @@ public class ConfigCacheService {
         CacheItem cache = makeSure(groupKey, null);
         cache.initConfigGrayIfEmpty(grayName);
         ConfigCacheGray configCache = cache.getConfigCacheGray().get(grayName);
+        ConfigContentCache.put(groupKey, grayName, md5, content);
         configCache.setMd5(md5);
         configCache.setLastModifiedTs(lastModifiedTs);
         configCache.setEncryptedDataKey(encryptedDataKey);
@@ -405,9 +428,19 @@ public class ConfigCacheService {
     }
     
     public static String getContentMd5(String groupKey, String ip, String tag, Map<String, String> connLabels) {
+        ConfigCache configCache = getMatchedConfigCache(groupKey, ip, tag, connLabels);
+        String md5 = configCache == null ? null : configCache.getMd5();
+        return md5 == null ? NULL : md5;
+    }
+    
+    /**
+     * Get the gray config cache matching the labels, or the formal config cache if no gray matches.
+     */
+    private static ConfigCache getMatchedConfigCache(String groupKey, String ip, String tag,
+            Map<String, String> connLabels) {
         CacheItem item = CACHE.get(groupKey);
         if (item == null) {
-            return NULL;
+            return null;
         }
         if (connLabels == null && StringUtils.isNotBlank(ip)) {
             connLabels = new HashMap<>(4);
@@ -425,12 +458,11 @@ public class ConfigCacheService {
         if (item.getSortConfigGrays() != null && connLabels != null && !connLabels.isEmpty()) {
             for (ConfigCacheGray entry : item.getSortConfigGrays()) {
                 if (entry.match(connLabels)) {
-                    return entry.getMd5();
+                    return entry;
                 }
             }
         }
-        String md5 = item.getConfigCache().getMd5();
-        return md5 == null ? NULL : md5;
+        return item.getConfigCache();
     }
     
     private static void updateGrayRule(String groupKey, String grayName, String grayRule, long lastModifiedTs,
@@ -514,10 +546,24 @@ public class ConfigCacheService {
         return isUptodate(groupKey, md5, ip, tag, null);
     }
     
+    /**
+     * Check whether the md5 of client is the same as the md5 of config matching the labels.
+     *
+     * @param groupKey  group key
+     * @param md5       md5 of client
+     * @param ip        client ip
+     * @param tag       client tag
+     * @param appLabels client labels
+     * @return true if up to date
+     */
     public static boolean isUptodate(String groupKey, String md5, String ip, String tag,
             Map<String, String> appLabels) {
-        String serverMd5 = ConfigCacheService.getContentMd5(groupKey, ip, tag, appLabels);
-        return StringUtils.equals(md5, serverMd5);
+        // compare with the compact md5 directly, avoid building the md5 string on every listen check.
+        ConfigCache configCache = getMatchedConfigCache(groupKey, ip, tag, appLabels);
+        if (configCache == null || configCache.getCompactMd5() == null) {
+            return StringUtils.equals(md5, NULL);
+        }
+        return configCache.isMd5Equals(md5);
     }
     
     /**
@@ -548,6 +594,28 @@ public class ConfigCacheService {
         }
     }
     
+    /**
+     * Try to read config optimistically without lock. The read is consistent only if {@link
+     * #validateOptimisticRead(CacheItem, long)} returns true after reading.
+     *
+     * @param cacheItem cache item of config.
+     * @return stamp to validate, 0 if config is being written.
+     */
+    public static long tryOptimisticRead(CacheItem cacheItem) {
+        return cacheItem.getRwLock().tryOptimisticRead();
+    }
+    
+    /**
+     * Validate the optimistic read of config.
+     *
+     * @param cacheItem cache item of config.
+     * @param stamp     stamp from {@link #tryOptimisticRead(CacheItem)}.
+     * @return true if the config is not written during the read.
+     */
+    public static boolean validateOptimisticRead(CacheItem cacheItem, long stamp) {
+        return cacheItem.getRwLock().validate(stamp);
+    }
+    
     /**
      * Try to add write lock. If it succeeded, then it can call {@link #releaseWriteLock(String)}.And it won't call if
      * failed.
@@ -576,9 +644,10 @@ public class ConfigCacheService {
         if (null != item) {
             return item;
         }
-        CacheItem tmp = new CacheItem(groupKey, encryptedDataKey);
-        item = CACHE.putIfAbsent(groupKey, tmp);
-        return (null == item) ? tmp : item;
+        return CACHE.computeIfAbsent(groupKey, key -> {
+            GROUP_KEY_INDEX.add(key);
+            return new CacheItem(key, encryptedDataKey);
+        });
     }
     
     /**
@@ -0,0 +1,214 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Size bounded cache of config contents in front of the disk cache, which is used by config query.
+ *
+ * <p>Each entry is bound to the md5 of content, a lookup with another md5 is a miss. The entries are replaced when the
+ * md5 of {@link CacheItem} is updated and invalidated when the config or gray is removed. Entries are evicted by LRU
+ * when the estimated bytes of contents exceed {@link ConfigCommonConfig#getContentCacheMaxBytes()}, and the cache is
+ * recreated empty once the max bytes is refreshed.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    /**
+     * Estimated bytes of an entry besides content.
+     */
+    private static final int ENTRY_OVERHEAD = 128;
+    
+    private static final Counter HIT_COUNTER = MetricsMonitor.getContentCacheHitCounter();
+    
+    private static final Counter MISS_COUNTER = MetricsMonitor.getContentCacheMissCounter();
+    
+    private static final Counter EVICTION_COUNTER = MetricsMonitor.getContentCacheEvictionCounter();
+    
+    private static volatile BoundedCache boundedCache = new BoundedCache(
+            ConfigCommonConfig.getInstance().getContentCacheMaxBytes());
+    
+    /**
+     * Get the cached content of formal or gray config.
+     *
+     * @param groupKey group key
+     * @param grayName gray name, null for formal config
+     * @param md5      current md5 in jvm cache
+     * @return content with the md5, or null if absent
+     */
+    public static String get(String groupKey, String grayName, String md5) {
+        BoundedCache current = currentCache();
+        if (!current.isEnabled()) {
+            return null;
+        }
+        ContentEntry entry = current.cache.getIfPresent(new ContentKey(groupKey, grayName));
+        if (entry != null && entry.md5.equals(md5)) {
+            HIT_COUNTER.increment();
+            return entry.content;
+        }
+        MISS_COUNTER.increment();
+        return null;
+    }
+    
+    /**
+     * Cache the content of formal or gray config. The previous content is invalidated if the new one is not cached.
+     *
+     * @param groupKey group key
+     * @param grayName gray name, null for formal config
+     * @param md5      md5 of content
+     * @param content  content
+     */
+    public static void put(String groupKey, String grayName, String md5, String content) {
+        BoundedCache current = currentCache();
+        if (!current.isEnabled()) {
+            return;
+        }
+        ContentKey key = new ContentKey(groupKey, grayName);
+        if (md5 == null || StringUtils.isBlank(content)) {
+            current.cache.invalidate(key);
+            return;
+        }
+        current.cache.put(key, new ContentEntry(md5, content));
+    }
+    
+    /**
+     * Remove the cached content of formal or gray config.
+     *
+     * @param groupKey group key
+     * @param grayName gray name, null for formal config
+     */
+    public static void remove(String groupKey, String grayName) {
+        currentCache().cache.invalidate(new ContentKey(groupKey, grayName));
+    }
+    
+    /**
+     * Remove the cached contents of formal config and all gray configs of the cache item.
+     *
+     * @param cacheItem cache item
+     */
+    public static void remove(CacheItem cacheItem) {
+        Cache<ContentKey, ContentEntry> cache = currentCache().cache;
+        cache.invalidate(new ContentKey(cacheItem.getGroupKey(), null));
+        Map<String, ConfigCacheGray> configCacheGray = cacheItem.getConfigCacheGray();
+        if (configCacheGray != null) {
+            for (String each : configCacheGray.keySet()) {
+                cache.invalidate(new ContentKey(cacheItem.getGroupKey(), each));
+            }
+        }
+    }
+    
+    /**
+     * Remove all cached contents.
+     */
+    public static void clear() {
+        currentCache().cache.invalidateAll();
+    }
+    
+    public static long size() {
+        return currentCache().cache.size();
+    }
+    
+    private static BoundedCache currentCache() {
+        BoundedCache current = boundedCache;
+        long maxBytes = ConfigCommonConfig.getInstance().getContentCacheMaxBytes();
+        if (current.maxBytes == maxBytes) {
+            return current;
+        }
+        synchronized (ConfigContentCache.class) {
+            if (boundedCache.maxBytes != maxBytes) {
+                boundedCache.cache.invalidateAll();
+                boundedCache = new BoundedCache(maxBytes);
+            }
+            return boundedCache;
+        }
+    }
+    
+    private static class BoundedCache {
+        
+        private final long maxBytes;
+        
+        private final Cache<ContentKey, ContentEntry> cache;
+        
+        private BoundedCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+            this.cache = CacheBuilder.newBuilder().maximumWeight(Math.max(maxBytes, 0L))
+                    .weigher((ContentKey key, ContentEntry entry) -> ENTRY_OVERHEAD + 2 * entry.content.length())
+                    .removalListener(notification -> {
+                        if (notification.wasEvicted()) {
+                            EVICTION_COUNTER.increment();
+                        }
+                    }).build();
+        }
+        
+        private boolean isEnabled() {
+            return maxBytes > 0;
+        }
+    }
+    
+    private static class ContentKey {
+        
+        private final String groupKey;
+        
+        private final String grayName;
+        
+        private ContentKey(String groupKey, String grayName) {
+            this.groupKey = groupKey;
+            this.grayName = grayName;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey that = (ContentKey) o;
+            return Objects.equals(groupKey, that.groupKey) && Objects.equals(grayName, that.grayName);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, grayName);
+        }
+    }
+    
+    private static class ContentEntry {
+        
+        private final String md5;
+        
+        private final String content;
+        
+        private ContentEntry(String md5, String content) {
+            this.md5 = md5;
+            this.content = content;
+        }
+    }
+}
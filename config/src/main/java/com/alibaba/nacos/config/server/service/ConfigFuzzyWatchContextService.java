@@ -56,6 +56,11 @@ public class ConfigFuzzyWatchContextService {
      */
     private final Map<String, Set<String>> matchedGroupKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of the patterns in matchedGroupKeysMap.
+     */
+    private final GroupKeyPatternIndex patternIndex = new GroupKeyPatternIndex();
+    
     public ConfigFuzzyWatchContextService() {
     }
     
@@ -78,6 +83,7 @@ public class ConfigFuzzyWatchContextService {
                 
                 if (watchedClients == null) {
                     iterator.remove();
+                    patternIndex.remove(matchedGroupKeys.getKey());
                     LogUtil.DEFAULT_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
                             matchedGroupKeys.getKey());
@@ -130,26 +136,29 @@ public class ConfigFuzzyWatchContextService {
         boolean tryAdd = changedType.equals(ADD_CONFIG) || changedType.equals(CONFIG_CHANGED);
         boolean tryRemove = changedType.equals(DELETE_CONFIG);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedGroupKeysMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), dataId, group, namespace)) {
-                boolean containsAlready = entry.getValue().contains(groupKey);
-                boolean reachToUpLimit = reachToUpLimit(entry.getValue().size());
+        for (String groupKeyPattern : patternIndex.matchPatterns(dataId, group, namespace)) {
+            Set<String> matchedGroupKeys = matchedGroupKeysMap.get(groupKeyPattern);
+            if (matchedGroupKeys == null) {
+                continue;
+            }
+            // events of different group keys are handled concurrently, keep the check of upper limit atomic.
+            synchronized (matchedGroupKeys) {
+                boolean containsAlready = matchedGroupKeys.contains(groupKey);
+                boolean reachToUpLimit = reachToUpLimit(matchedGroupKeys.size());
                 if (tryAdd && !containsAlready && reachToUpLimit) {
                     LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
-                                    + "current config will be ignored for pattern {} ,current count is {}", entry.getKey(),
-                            entry.getValue().size());
+                                    + "current config will be ignored for pattern {} ,current count is {}",
+                            groupKeyPattern, matchedGroupKeys.size());
                     continue;
                 }
                 
-                if (tryAdd && !containsAlready && entry.getValue().add(groupKey)) {
+                if (tryAdd && !containsAlready && matchedGroupKeys.add(groupKey)) {
                     needNotify = true;
                 }
-                if (tryRemove && containsAlready && entry.getValue().remove(groupKey)) {
+                if (tryRemove && containsAlready && matchedGroupKeys.remove(groupKey)) {
                     needNotify = true;
                     if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(entry.getKey());
+                        makeupMatchedGroupKeys(groupKeyPattern);
                     }
                 }
             }
@@ -165,26 +174,41 @@ public class ConfigFuzzyWatchContextService {
     public void makeupMatchedGroupKeys(String groupKeyPattern) {
         
         Set<String> matchedGroupKeys = matchedGroupKeysMap.get(groupKeyPattern);
-        if (matchedGroupKeys == null || reachToUpLimit(matchedGroupKeys.size())) {
+        if (matchedGroupKeys == null) {
             return;
         }
-        
-        for (String groupKey : ConfigCacheService.CACHE.keySet()) {
-            String[] groupKeyItems = GroupKey.parseKey(groupKey);
-            if (FuzzyGroupKeyPattern.matchPattern(groupKeyPattern, groupKeyItems[0], groupKeyItems[1], groupKeyItems[2])
-                    && !matchedGroupKeys.contains(groupKey)) {
-                matchedGroupKeys.add(groupKey);
-                LogUtil.DEFAULT_LOG.info("[fuzzy-watch] pattern {} makeup group key {}", groupKeyPattern, groupKey);
-                if (reachToUpLimit(matchedGroupKeys.size())) {
-                    LogUtil.DEFAULT_LOG.warn(
-                            "[fuzzy-watch] pattern {] matched config count is over limit ,makeup group keys skip.",
-                            groupKeyPattern);
-                    return;
-                }
+        synchronized (matchedGroupKeys) {
+            if (reachToUpLimit(matchedGroupKeys.size())) {
+                return;
             }
+            ConfigCacheService.GROUP_KEY_INDEX.forEachCandidate(groupKeyPattern, groupKey -> {
+                if (isMatched(groupKeyPattern, groupKey) && matchedGroupKeys.add(groupKey)) {
+                    LogUtil.DEFAULT_LOG.info("[fuzzy-watch] pattern {} makeup group key {}", groupKeyPattern,
+                            groupKey);
+                    if (reachToUpLimit(matchedGroupKeys.size())) {
+                        LogUtil.DEFAULT_LOG.warn(
+                                "[fuzzy-watch] pattern {] matched config count is over limit ,makeup group keys skip.",
+                                groupKeyPattern);
+                        return false;
+                    }
+                }
+                return true;
+            });
         }
     }
     
+    /**
+     * check the group key in jvm cache matches the pattern.
+     */
+    private static boolean isMatched(String groupKeyPattern, String groupKey) {
+        if (!ConfigCacheService.CACHE.containsKey(groupKey)) {
+            return false;
+        }
+        String[] groupKeyItems = GroupKey.parseKey(groupKey);
+        return FuzzyGroupKeyPattern.matchPattern(groupKeyPattern, groupKeyItems[0], groupKeyItems[1],
+                groupKeyItems[2]);
+    }
+    
     private boolean reachToUpLimit(int size) {
         return size >= ConfigCommonConfig.getInstance().getMaxMatchedConfigCount();
     }
@@ -212,27 +236,29 @@ public class ConfigFuzzyWatchContextService {
             throw new NacosException(FUZZY_WATCH_PATTERN_OVER_LIMIT.getCode(), FUZZY_WATCH_PATTERN_OVER_LIMIT.getMsg());
         }
         
-        matchedGroupKeysMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
-        Set<String> matchedGroupKeys = this.matchedGroupKeysMap.get(groupKeyPattern);
+        Set<String> matchedGroupKeys = matchedGroupKeysMap.computeIfAbsent(groupKeyPattern,
+                k -> ConcurrentHashMap.newKeySet());
         long matchBeginTime = System.currentTimeMillis();
-        boolean overMatchCount = false;
-        for (String groupKey : ConfigCacheService.CACHE.keySet()) {
-            String[] groupKeyItems = GroupKey.parseKey(groupKey);
-            if (FuzzyGroupKeyPattern.matchPattern(groupKeyPattern, groupKeyItems[0], groupKeyItems[1],
-                    groupKeyItems[2])) {
-                
-                if (reachToUpLimit(matchedGroupKeys.size())) {
-                    LogUtil.DEFAULT_LOG.warn("[fuzzy-watch]   pattern matched service count is over limit , "
-                                    + "other services will stop notify for pattern {} ,current count is {}", groupKeyPattern,
-                            matchedGroupKeys.size());
-                    overMatchCount = true;
-                    break;
+        boolean[] overMatchCount = new boolean[1];
+        synchronized (matchedGroupKeys) {
+            patternIndex.add(groupKeyPattern);
+            ConfigCacheService.GROUP_KEY_INDEX.forEachCandidate(groupKeyPattern, groupKey -> {
+                if (isMatched(groupKeyPattern, groupKey)) {
+                    if (reachToUpLimit(matchedGroupKeys.size())) {
+                        LogUtil.DEFAULT_LOG.warn("[fuzzy-watch]   pattern matched service count is over limit , "
+                                        + "other services will stop notify for pattern {} ,current count is {}",
+                                groupKeyPattern, matchedGroupKeys.size());
+                        overMatchCount[0] = true;
+                        return false;
+                    }
+                    matchedGroupKeys.add(groupKey);
                 }
-                matchedGroupKeys.add(groupKey);
-            }
+                return true;
+            });
         }
         LogUtil.DEFAULT_LOG.info("[fuzzy-watch]  pattern {} match {} group keys,overMatchCount={}, cost {}ms",
-                groupKeyPattern, matchedGroupKeys.size(), overMatchCount, System.currentTimeMillis() - matchBeginTime);
+                groupKeyPattern, matchedGroupKeys.size(), overMatchCount[0],
+                System.currentTimeMillis() - matchBeginTime);
         
     }
     
@@ -246,7 +272,7 @@ public class ConfigFuzzyWatchContextService {
      * @throws NacosException over max pattern count.
      */
     public synchronized void addFuzzyWatch(String groupKeyPattern, String connectId) throws NacosException {
-        watchedClientsMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
+        watchedClientsMap.computeIfAbsent(groupKeyPattern, k -> ConcurrentHashMap.newKeySet());
         initMatchGroupKeys(groupKeyPattern);
         // Add the connection ID to the set associated with the key pattern in keyPatternContext
         watchedClientsMap.get(groupKeyPattern).add(connectId);
@@ -293,19 +319,13 @@ public class ConfigFuzzyWatchContextService {
     public Set<String> getMatchedClients(String groupKey) {
         // Initialize a set to store the matched connection IDs
         Set<String> connectIds = new HashSet<>();
-        // Iterate over each key pattern in the context
-        Iterator<Map.Entry<String, Set<String>>> watchClientIterator = watchedClientsMap.entrySet().iterator();
-        
         String[] groupItems = GroupKey2.parseKey(groupKey);
-        
-        while (watchClientIterator.hasNext()) {
-            Map.Entry<String, Set<String>> watchClientEntry = watchClientIterator.next();
-            
-            String keyPattern = watchClientEntry.getKey();
-            if (FuzzyGroupKeyPattern.matchPattern(keyPattern, groupItems[0], groupItems[1], groupItems[2])) {
-                if (CollectionUtils.isNotEmpty(watchClientEntry.getValue())) {
-                    connectIds.addAll(watchClientEntry.getValue());
-                }
+        // Only the patterns with matched group keys context may have watched clients
+        Set<String> matchedPatterns = patternIndex.matchPatterns(groupItems[0], groupItems[1], groupItems[2]);
+        for (String keyPattern : matchedPatterns) {
+            Set<String> watchedClients = watchedClientsMap.get(keyPattern);
+            if (CollectionUtils.isNotEmpty(watchedClients)) {
+                connectIds.addAll(watchedClients);
             }
         }
         return connectIds;
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+import static com.alibaba.nacos.api.common.Constants.ALL_PATTERN;
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+import static com.alibaba.nacos.api.common.Constants.FUZZY_WATCH_PATTERN_SPLITTER;
+
+/**
+ * Index of group keys by namespace and group. The group keys of a group are sorted, and the encoding of data id keeps
+ * prefix, so the group keys matching a data id prefix pattern are found by a range scan instead of a full scan.
+ *
+ * @author Nacos
+ */
+class GroupKeyIndex {
+    
+    /**
+     * namespace -> group -> sorted group keys.
+     */
+    private final Map<String, Map<String, NavigableSet<String>>> index = new ConcurrentHashMap<>();
+    
+    /**
+     * Add group key to index.
+     *
+     * @param groupKey group key
+     */
+    void add(String groupKey) {
+        String[] items = GroupKey2.parseKey(groupKey);
+        index.computeIfAbsent(namespace(items[2]), k -> new ConcurrentHashMap<>(16))
+                .computeIfAbsent(items[1], k -> new ConcurrentSkipListSet<>()).add(groupKey);
+    }
+    
+    /**
+     * Remove group key from index, the empty group is kept as the count of groups is small.
+     *
+     * @param groupKey group key
+     */
+    void remove(String groupKey) {
+        String[] items = GroupKey2.parseKey(groupKey);
+        Map<String, NavigableSet<String>> groups = index.get(namespace(items[2]));
+        NavigableSet<String> groupKeys = groups == null ? null : groups.get(items[1]);
+        if (groupKeys != null) {
+            groupKeys.remove(groupKey);
+        }
+    }
+    
+    /**
+     * Visit the group keys which may match the pattern, until the visitor returns false. The visited group keys should
+     * be checked by {@link com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern#matchPattern}.
+     *
+     * @param groupKeyPattern group key pattern
+     * @param visitor         visitor of candidate group keys, return false to stop visiting
+     */
+    void forEachCandidate(String groupKeyPattern, Predicate<String> visitor) {
+        String[] patternItems = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+        Map<String, NavigableSet<String>> groups = index.get(patternItems[0]);
+        if (groups == null) {
+            return;
+        }
+        String groupPattern = patternItems[1];
+        String keyPrefix = keyPrefix(patternItems[2]);
+        if (!groupPattern.contains(ALL_PATTERN)) {
+            NavigableSet<String> groupKeys = groups.get(groupPattern);
+            if (groupKeys != null) {
+                visit(groupKeys, keyPrefix, visitor);
+            }
+            return;
+        }
+        for (NavigableSet<String> groupKeys : groups.values()) {
+            if (!visit(groupKeys, keyPrefix, visitor)) {
+                return;
+            }
+        }
+    }
+    
+    private static boolean visit(NavigableSet<String> groupKeys, String keyPrefix, Predicate<String> visitor) {
+        for (String groupKey : groupKeys.tailSet(keyPrefix, true)) {
+            if (!groupKey.startsWith(keyPrefix)) {
+                break;
+            }
+            if (!visitor.test(groupKey)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get the prefix of group keys matching the data id pattern, empty prefix if the pattern is not a prefix pattern.
+     */
+    private static String keyPrefix(String resourcePattern) {
+        if (!resourcePattern.contains(ALL_PATTERN)) {
+            return encode(resourcePattern) + '+';
+        }
+        if (resourcePattern.endsWith(ALL_PATTERN) && !resourcePattern.startsWith(ALL_PATTERN)) {
+            return encode(resourcePattern.replace(ALL_PATTERN, ""));
+        }
+        return "";
+    }
+    
+    /**
+     * Same as the encoding of group key, + -> %2B % -> %25.
+     */
+    private static String encode(String str) {
+        return str.replace("%", "%25").replace("+", "%2B");
+    }
+    
+    private static String namespace(String tenant) {
+        return StringUtils.isBlank(tenant) ? DEFAULT_NAMESPACE_ID : tenant;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.alibaba.nacos.api.common.Constants.ALL_PATTERN;
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+import static com.alibaba.nacos.api.common.Constants.FUZZY_WATCH_PATTERN_SPLITTER;
+
+/**
+ * Index of fuzzy watch group key patterns, to find the patterns matching a group key without checking every pattern.
+ *
+ * <p>Patterns are indexed by namespace, then by exact group, then by exact data id or by a trie of data id prefix.
+ * Patterns with fuzzy group or other data id patterns are checked one by one. Patterns change rarely, so the index is
+ * rebuilt and replaced on change, and lookups read it without lock.
+ *
+ * @author Nacos
+ */
+class GroupKeyPatternIndex {
+    
+    private final Set<String> patterns = new HashSet<>();
+    
+    /**
+     * namespace -> patterns of namespace.
+     */
+    private volatile Map<String, NamespacePatterns> index = Collections.emptyMap();
+    
+    /**
+     * Add group key pattern to index.
+     *
+     * @param groupKeyPattern group key pattern
+     */
+    synchronized void add(String groupKeyPattern) {
+        if (patterns.add(groupKeyPattern)) {
+            rebuild();
+        }
+    }
+    
+    /**
+     * Remove group key pattern from index.
+     *
+     * @param groupKeyPattern group key pattern
+     */
+    synchronized void remove(String groupKeyPattern) {
+        if (patterns.remove(groupKeyPattern)) {
+            rebuild();
+        }
+    }
+    
+    /**
+     * Get the patterns matching the config.
+     *
+     * @param dataId    data id
+     * @param group     group
+     * @param namespace namespace
+     * @return matched patterns
+     */
+    Set<String> matchPatterns(String dataId, String group, String namespace) {
+        String fixNamespace = StringUtils.isBlank(namespace) ? DEFAULT_NAMESPACE_ID : namespace;
+        NamespacePatterns namespacePatterns = index.get(fixNamespace);
+        if (namespacePatterns == null) {
+            return Collections.emptySet();
+        }
+        List<String> candidates = new ArrayList<>();
+        ResourcePatterns exactGroupPatterns = namespacePatterns.exactGroups.get(group);
+        if (exactGroupPatterns != null) {
+            exactGroupPatterns.collect(dataId, candidates);
+        }
+        namespacePatterns.fuzzyGroups.collect(dataId, candidates);
+        Set<String> result = new HashSet<>(candidates.size());
+        for (String each : candidates) {
+            if (FuzzyGroupKeyPattern.matchPattern(each, dataId, group, fixNamespace)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void rebuild() {
+        Map<String, NamespacePatterns> newIndex = new HashMap<>(patterns.size());
+        for (String each : patterns) {
+            String[] items = each.split(FUZZY_WATCH_PATTERN_SPLITTER);
+            NamespacePatterns namespacePatterns = newIndex.computeIfAbsent(items[0], k -> new NamespacePatterns());
+            ResourcePatterns resourcePatterns = items[1].contains(ALL_PATTERN) ? namespacePatterns.fuzzyGroups
+                    : namespacePatterns.exactGroups.computeIfAbsent(items[1], k -> new ResourcePatterns());
+            resourcePatterns.add(items[2], each);
+        }
+        index = newIndex;
+    }
+    
+    private static class NamespacePatterns {
+        
+        private final Map<String, ResourcePatterns> exactGroups = new HashMap<>();
+        
+        private final ResourcePatterns fuzzyGroups = new ResourcePatterns();
+    }
+    
+    private static class ResourcePatterns {
+        
+        private final Map<String, List<String>> exactResources = new HashMap<>();
+        
+        private final PrefixNode prefixRoot = new PrefixNode();
+        
+        private final List<String> otherPatterns = new ArrayList<>();
+        
+        private void add(String resourcePattern, String groupKeyPattern) {
+            boolean prefixPattern = resourcePattern.endsWith(ALL_PATTERN) && !resourcePattern.startsWith(ALL_PATTERN);
+            if (!resourcePattern.contains(ALL_PATTERN)) {
+                exactResources.computeIfAbsent(resourcePattern, k -> new ArrayList<>(1)).add(groupKeyPattern);
+            } else if (prefixPattern || ALL_PATTERN.equals(resourcePattern)) {
+                String prefix = resourcePattern.replace(ALL_PATTERN, "");
+                PrefixNode node = prefixRoot;
+                for (int i = 0; i < prefix.length(); i++) {
+                    node = node.children.computeIfAbsent(prefix.charAt(i), k -> new PrefixNode());
+                }
+                node.patterns.add(groupKeyPattern);
+            } else {
+                otherPatterns.add(groupKeyPattern);
+            }
+        }
+        
+        private void collect(String resource, List<String> candidates) {
+            List<String> exactPatterns = exactResources.get(resource);
+            if (exactPatterns != null) {
+                candidates.addAll(exactPatterns);
+            }
+            PrefixNode node = prefixRoot;
+            candidates.addAll(node.patterns);
+            for (int i = 0; i < resource.length() && node != null; i++) {
+                node = node.children.get(resource.charAt(i));
+                if (node != null) {
+                    candidates.addAll(node.patterns);
+                }
+            }
+            candidates.addAll(otherPatterns);
+        }
+    }
+    
+    private static class PrefixNode {
+        
+        private final Map<Character, PrefixNode> children = new HashMap<>(4);
+        
+        private final List<String> patterns = new ArrayList<>(1);
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.api.remote.RpcScheduledExecutor;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardedPublisherFactory;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.ExceptionUtil;
 import com.alibaba.nacos.config.server.model.ConfigListenState;
@@ -30,6 +31,7 @@ import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.MD5Util;
 import com.alibaba.nacos.config.server.utils.RequestUtil;
+import com.alibaba.nacos.core.monitor.ShardedPublisherMetrics;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.connection.request.ConnectionCheckRequest;
 import com.alibaba.nacos.plugin.control.connection.response.ConnectionCheckResponse;
@@ -233,8 +235,9 @@ public class LongPollingService {
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
-        // Register LocalDataChangeEvent to NotifyCenter.
-        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, NotifyCenter.ringBufferSize);
+        // Register LocalDataChangeEvent to NotifyCenter, changes of different configs are handled in parallel.
+        ShardedPublisherMetrics.register(NotifyCenter.registerToPublisher(LocalDataChangeEvent.class,
+                ShardedPublisherFactory.getInstance(), NotifyCenter.ringBufferSize));
         
         // Register A Subscriber to subscribe LocalDataChangeEvent.
         NotifyCenter.registerSubscriber(new Subscriber() {
@@ -31,6 +31,7 @@ import com.alibaba.nacos.config.server.service.dump.processor.DumpAllProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpProcessor;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllGrayTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.dump.task.DumpBatchTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
@@ -48,8 +49,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.DUMP_LOG;
 
@@ -95,6 +99,8 @@ public abstract class DumpService {
     
     private TaskManager dumpAllTaskMgr;
     
+    private final AtomicLong dumpBatchTaskSequence = new AtomicLong();
+    
     static final int INIT_THREAD_COUNT = 10;
     
     int total = 0;
@@ -300,6 +306,24 @@ public abstract class DumpService {
         }
     }
     
+    /**
+     * dump a batch of configs, the formal configs of the same group and tenant will be loaded by one query.
+     *
+     * @param dumpRequests dumpRequests.
+     */
+    public void dumpBatch(List<DumpRequest> dumpRequests) {
+        List<DumpTask> dumpTasks = new ArrayList<>(dumpRequests.size());
+        for (DumpRequest dumpRequest : dumpRequests) {
+            String groupKey = GroupKey2.getKey(dumpRequest.getDataId(), dumpRequest.getGroup(),
+                    dumpRequest.getTenant());
+            String grayName = StringUtils.isNotBlank(dumpRequest.getGrayName()) ? dumpRequest.getGrayName() : null;
+            dumpTasks.add(new DumpTask(groupKey, grayName, dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp()));
+        }
+        String taskKey = DumpBatchTask.TASK_ID_PREFIX + dumpBatchTaskSequence.incrementAndGet();
+        dumpTaskMgr.addTask(taskKey, new DumpBatchTask(dumpTasks));
+        DUMP_LOG.info("[dump] add batch task. size={}", dumpTasks.size());
+    }
+    
     /**
      * dump formal config.
      *
@@ -90,6 +90,21 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Start a batch of disk writes in current thread, the saves and removes are buffered until {@link #commitBatch()}
+     * is called by the same thread. Disk service without batch support writes directly.
+     */
+    default void startBatch() {
+    }
+    
+    /**
+     * Commit the disk writes buffered since {@link #startBatch()} in current thread.
+     *
+     * @throws IOException io exception.
+     */
+    default void commitBatch() throws IOException {
+    }
+    
     /**
      * Clear all config file.
      */
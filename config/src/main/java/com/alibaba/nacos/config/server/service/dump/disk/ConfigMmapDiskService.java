@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config memory mapped disk service.
+ *
+ * <p>Contents are appended to a few large memory mapped segment files instead of one file per config, see
+ * {@link ConfigSegmentStore}.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigMmapDiskService implements ConfigDiskService {
+    
+    private static final String BASE_DIR = File.separator + "data" + File.separator + "segment-config-data";
+    
+    private static final String GRAY_DIR = File.separator + "data" + File.separator + "segment-gray-data";
+    
+    private static final long COMPACT_INTERVAL_SECONDS = 60L;
+    
+    private final ConfigSegmentStore formalStore;
+    
+    private final ConfigSegmentStore grayStore;
+    
+    public ConfigMmapDiskService() {
+        this(ConfigSegmentStore.DEFAULT_SEGMENT_SIZE);
+        ConfigExecutor.scheduleConfigTask(this::compact, COMPACT_INTERVAL_SECONDS, COMPACT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+    
+    ConfigMmapDiskService(int segmentSize) {
+        this.formalStore = new ConfigSegmentStore(new File(EnvUtil.getNacosHome(), BASE_DIR), segmentSize);
+        this.grayStore = new ConfigSegmentStore(new File(EnvUtil.getNacosHome(), GRAY_DIR), segmentSize);
+    }
+    
+    private static String grayKey(String dataId, String group, String tenant, String grayName) {
+        // encode group key again, so the gray name is separated by the only unencoded `+`.
+        return GroupKey2.getKey(GroupKey2.getKey(dataId, group, tenant), grayName);
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        formalStore.put(GroupKey2.getKey(dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        grayStore.put(grayKey(dataId, group, tenant, grayName), content);
+    }
+    
+    @Override
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        grayStore.remove(grayKey(dataId, group, tenant, grayName));
+    }
+    
+    @Override
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) {
+        return grayStore.get(grayKey(dataId, group, tenant, grayName));
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        formalStore.remove(GroupKey2.getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) {
+        return formalStore.get(GroupKey2.getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public void clearAll() {
+        formalStore.clear();
+    }
+    
+    @Override
+    public void clearAllGray() {
+        grayStore.clear();
+    }
+    
+    /**
+     * Compact the segments with too many overwritten or removed contents.
+     */
+    void compact() {
+        formalStore.compact();
+        grayStore.compact();
+    }
+}
@@ -20,24 +20,37 @@ import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
-import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
-import static com.alibaba.nacos.config.server.constant.Constants.NULL;
 
 /**
  * config rocks db disk service.
  *
+ * <p>Formal and gray contents are stored in one rocks db with separate column families, and the writes in a batch
+ * started by {@link #startBatch()} are committed by one {@link WriteBatch}.
+ *
  * @author shiyiyue
  */
 @SuppressWarnings({"PMD.ServiceOrDaoClassShouldEndWithImplRule", "PMD.LowerCamelCaseVariableNamingRule"})
@@ -45,13 +58,41 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final String ROCKSDB_DATA = File.separator + "rocksdata" + File.separator;
     
-    private static final String BASE_DIR = ROCKSDB_DATA + "config-data";
+    private static final String DB_DIR = ROCKSDB_DATA + "config-db";
+    
+    private static final String BASE_DIR = "config-data";
     
-    private static final String GRAY_DIR = ROCKSDB_DATA + "gray-data";
+    private static final String GRAY_DIR = "gray-data";
+    
+    /**
+     * Directories of the rocks dbs opened for each dir before column families were used.
+     */
+    private static final String[] LEGACY_DB_DIRS = new String[] {ROCKSDB_DATA + BASE_DIR, ROCKSDB_DATA + GRAY_DIR};
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    private static final byte SEPARATOR = '+';
+    
+    private static final byte ESCAPE = '%';
+    
+    private static final byte[] EMPTY_BYTES = new byte[0];
+    
+    /**
+     * A rocks db can only be opened once by a process, so it is shared by all instances.
+     */
+    private static volatile RocksDB rocksDb;
+    
+    /**
+     * column family name -> column family handle.
+     */
+    private static final Map<String, ColumnFamilyHandle> COLUMN_FAMILY_HANDLES = new ConcurrentHashMap<>(4);
+    
+    /**
+     * Operations on column family handles hold the read lock, so the dropped handle can be closed under write lock.
+     */
+    private static final ReadWriteLock COLUMN_FAMILY_LOCK = new ReentrantReadWriteLock();
+    
+    private final ThreadLocal<WriteBatch> writeBatch = new ThreadLocal<>();
     
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
@@ -64,57 +105,49 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
-    private void deleteDirIfExist(String dir) {
-        File rockskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
-        if (!rockskDataDir.exists()) {
-            return;
-        }
-        File baseDir = new File(EnvUtil.getNacosHome(), dir);
-        if (baseDir.exists()) {
-            baseDir.delete();
-        }
-    }
-    
     public ConfigRocksDbDiskService() {
-        createDirIfNotExist(BASE_DIR);
-        createDirIfNotExist(GRAY_DIR);
-        
-    }
-    
-    private byte[] getKeyByte(String dataId, String group, String tenant, String tag) throws IOException {
-        String[] keys = new String[] {dataId, group, tenant, tag};
-        return getKeyByte(keys);
+        createDirIfNotExist(DB_DIR);
     }
     
-    private byte[] getKeyByte(String... keys) throws IOException {
-        if (keys == null || keys.length == 0) {
-            return NULL.getBytes(ENCODE_UTF8);
+    /**
+     * Encode key as `urlEncode(dataId)+urlEncode(group)+urlEncode(tenant)+urlEncode(tag)+` bytes directly, which `+`
+     * is encoded to `%2B` and `%` is encoded to `%25`. As the bytes of multibyte UTF-8 char never contain ascii bytes,
+     * it is same as encoding the string before converting to bytes.
+     */
+    static byte[] getKeyByte(String dataId, String group, String tenant, String tag) {
+        byte[][] parts = new byte[][] {toBytes(dataId), toBytes(group), toBytes(tenant), toBytes(tag)};
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length + 1;
+            for (byte each : part) {
+                if (SEPARATOR == each || ESCAPE == each) {
+                    length += 2;
+                }
+            }
         }
-        StringBuilder stringBuilder = new StringBuilder();
-        for (String key : keys) {
-            if (StringUtils.isBlank(key)) {
-                key = "";
+        byte[] result = new byte[length];
+        int pos = 0;
+        for (byte[] part : parts) {
+            for (byte each : part) {
+                if (SEPARATOR == each) {
+                    result[pos++] = ESCAPE;
+                    result[pos++] = '2';
+                    result[pos++] = 'B';
+                } else if (ESCAPE == each) {
+                    result[pos++] = ESCAPE;
+                    result[pos++] = '2';
+                    result[pos++] = '5';
+                } else {
+                    result[pos++] = each;
+                }
             }
-            urlEncode(key, stringBuilder);
-            stringBuilder.append("+");
+            result[pos++] = SEPARATOR;
         }
-        return stringBuilder.toString().getBytes(ENCODE_UTF8);
+        return result;
     }
     
-    /**
-     * + -> %2B % -> %25.
-     */
-    private static void urlEncode(String str, StringBuilder sb) {
-        for (int idx = 0; idx < str.length(); ++idx) {
-            char c = str.charAt(idx);
-            if ('+' == c) {
-                sb.append("%2B");
-            } else if ('%' == c) {
-                sb.append("%25");
-            } else {
-                sb.append(c);
-            }
-        }
+    private static byte[] toBytes(String key) {
+        return StringUtils.isBlank(key) ? EMPTY_BYTES : key.getBytes(StandardCharsets.UTF_8);
     }
     
     /**
@@ -123,7 +156,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            put(type, getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -142,11 +175,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
-        try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
+        saveToDiskInner(type, dataId, group, tenant, grayName, content);
     }
     
     /**
@@ -176,10 +205,69 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Deletes gray configuration files on disk.
      */
     public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
-        removeGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
+        removeContentInner(GRAY_DIR, dataId, group, tenant, grayName);
         
     }
     
+    @Override
+    public void startBatch() {
+        if (writeBatch.get() == null) {
+            writeBatch.set(new WriteBatch());
+        }
+    }
+    
+    @Override
+    public void commitBatch() throws IOException {
+        WriteBatch batch = writeBatch.get();
+        if (batch == null) {
+            return;
+        }
+        writeBatch.remove();
+        try (WriteOptions writeOptions = new WriteOptions()) {
+            if (batch.count() > 0) {
+                initAndGetDB().write(writeOptions, batch);
+            }
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        } finally {
+            batch.close();
+        }
+    }
+    
+    private void put(String type, byte[] key, byte[] value) throws IOException, RocksDBException {
+        initAndGetDB();
+        Lock lock = COLUMN_FAMILY_LOCK.readLock();
+        lock.lock();
+        try {
+            ColumnFamilyHandle columnFamily = COLUMN_FAMILY_HANDLES.get(type);
+            WriteBatch batch = writeBatch.get();
+            if (batch != null) {
+                batch.put(columnFamily, key, value);
+            } else {
+                rocksDb.put(columnFamily, key, value);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void delete(String type, byte[] key) throws IOException, RocksDBException {
+        initAndGetDB();
+        Lock lock = COLUMN_FAMILY_LOCK.readLock();
+        lock.lock();
+        try {
+            ColumnFamilyHandle columnFamily = COLUMN_FAMILY_HANDLES.get(type);
+            WriteBatch batch = writeBatch.get();
+            if (batch != null) {
+                batch.delete(columnFamily, key);
+            } else {
+                rocksDb.delete(columnFamily, key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     private String byte2String(byte[] bytes) throws IOException {
         if (bytes == null) {
             return null;
@@ -187,19 +275,48 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return new String(bytes, ENCODE_UTF8);
     }
     
-    RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
-        } else {
-            synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
-                }
-                createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
+    RocksDB initAndGetDB() throws IOException, RocksDBException {
+        if (rocksDb != null) {
+            return rocksDb;
+        }
+        synchronized (ConfigRocksDbDiskService.class) {
+            if (rocksDb != null) {
+                return rocksDb;
+            }
+            String path = EnvUtil.getNacosHome() + DB_DIR;
+            createDirIfEmpty(path);
+            List<String> names = Arrays.asList(new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8),
+                    BASE_DIR, GRAY_DIR);
+            List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(names.size());
+            for (String name : names) {
+                descriptors.add(createColumnFamilyDescriptor(name));
+            }
+            List<ColumnFamilyHandle> handles = new ArrayList<>(names.size());
+            RocksDB db = RocksDB.open(createOptions(), path, descriptors, handles);
+            for (int i = 0; i < names.size(); i++) {
+                COLUMN_FAMILY_HANDLES.put(names.get(i), handles.get(i));
+            }
+            rocksDb = db;
+            deleteLegacyDbDirs();
+            return rocksDb;
+        }
+    }
+    
+    /**
+     * Delete the rocks dbs of legacy dirs once the column family db is opened. The contents of them are not moved
+     * since the disk cache is rebuilt by dumping all configs from storage at startup.
+     */
+    void deleteLegacyDbDirs() {
+        for (String each : LEGACY_DB_DIRS) {
+            File legacyDir = new File(EnvUtil.getNacosHome(), each);
+            if (!legacyDir.exists()) {
+                continue;
+            }
+            if (FileUtils.deleteQuietly(legacyDir)) {
+                LogUtil.DEFAULT_LOG.info("delete legacy rocksdb dir {} success.", legacyDir.getPath());
+            } else {
+                LogUtil.DEFAULT_LOG.warn("delete legacy rocksdb dir {} failed.", legacyDir.getPath());
             }
-            
         }
     }
     
@@ -210,40 +327,28 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
-    private String getContentInner(String type, String dataId, String group, String tenant) throws IOException {
-        byte[] bytes = null;
-        try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
-            String string = byte2String(bytes);
-            return string;
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
-    }
-    
-    private String getGrayInner(String type, String dataId, String group, String tenant, String grayName)
+    private String getContentInner(String type, String dataId, String group, String tenant, String tag)
             throws IOException {
-        byte[] bytes = null;
+        byte[] key = getKeyByte(dataId, group, tenant, tag);
+        byte[] bytes;
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, grayName));
-            return byte2String(bytes);
+            RocksDB db = initAndGetDB();
+            Lock lock = COLUMN_FAMILY_LOCK.readLock();
+            lock.lock();
+            try {
+                bytes = db.get(COLUMN_FAMILY_HANDLES.get(type), key);
+            } finally {
+                lock.unlock();
+            }
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
+        return byte2String(bytes);
     }
     
     private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
-        } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
-                    group, tenant, e.getCause());
-        }
-    }
-    
-    private void removeGrayInner(String type, String dataId, String group, String tenant, String grayName) {
-        try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, grayName));
+            delete(type, getKeyByte(dataId, group, tenant, tag));
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -254,23 +359,27 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Returns the path of the gray content cache file in server.
      */
     public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
-        return getGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
+        return getContentInner(GRAY_DIR, dataId, group, tenant, grayName);
     }
     
     public String getContent(String dataId, String group, String tenant) throws IOException {
-        return getContentInner(BASE_DIR, dataId, group, tenant);
+        return getContentInner(BASE_DIR, dataId, group, tenant, null);
     }
     
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
-        return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
+        return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant, null), encode);
     }
     
-    Options createOptions(String dir) {
+    DBOptions createOptions() {
         DBOptions dbOptions = new DBOptions();
         dbOptions.setMaxBackgroundJobs(Runtime.getRuntime().availableProcessors());
-        Options options = new Options(dbOptions, createColumnFamilyOptions(dir));
-        options.setCreateIfMissing(true);
-        return options;
+        dbOptions.setCreateIfMissing(true);
+        dbOptions.setCreateMissingColumnFamilies(true);
+        return dbOptions;
+    }
+    
+    private ColumnFamilyDescriptor createColumnFamilyDescriptor(String name) {
+        return new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), createColumnFamilyOptions(name));
     }
     
     ColumnFamilyOptions createColumnFamilyOptions(String dir) {
@@ -316,18 +425,32 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         
     }
     
+    /**
+     * Drop the column family and create an empty one with same name.
+     */
+    private void clearColumnFamily(String name) throws IOException, RocksDBException {
+        RocksDB db = initAndGetDB();
+        Lock lock = COLUMN_FAMILY_LOCK.writeLock();
+        lock.lock();
+        try {
+            ColumnFamilyHandle old = COLUMN_FAMILY_HANDLES.get(name);
+            db.dropColumnFamily(old);
+            COLUMN_FAMILY_HANDLES.put(name, db.createColumnFamily(createColumnFamilyDescriptor(name)));
+            // no operation is using the old handle under write lock, close it to release the native handle.
+            old.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Clear all config file.
      */
     public void clearAll() {
         try {
-            if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
-            }
-            deleteDirIfExist(BASE_DIR);
+            clearColumnFamily(BASE_DIR);
             LogUtil.DEFAULT_LOG.info("clear all config-info success.");
-        } catch (RocksDBException e) {
+        } catch (RocksDBException | IOException e) {
             LogUtil.DEFAULT_LOG.warn("clear all config-info failed.", e);
         }
     }
@@ -338,13 +461,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllGray() {
         
         try {
-            if (rocksDbMap.containsKey(GRAY_DIR)) {
-                rocksDbMap.get(GRAY_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + GRAY_DIR, new Options());
-            }
-            deleteDirIfExist(GRAY_DIR);
+            clearColumnFamily(GRAY_DIR);
             LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
-        } catch (RocksDBException e) {
+        } catch (RocksDBException | IOException e) {
             LogUtil.DEFAULT_LOG.warn("clear all config-info-gray failed.", e);
         }
     }
@@ -0,0 +1,282 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only config content store on memory mapped segment files.
+ *
+ * <p>Each record is `keyLength(int) valueLength(int) key value` appended to the active segment, and an in-memory index
+ * keeps the location of the latest record of each key. Overwritten and removed records become dead bytes of their
+ * segment, and a sealed segment with too many dead bytes is compacted by moving its live records to the active
+ * segment and deleting the file. The store is a cache rebuilt by dump on startup, so records are not recovered from
+ * existing segment files.
+ *
+ * @author Nacos
+ */
+class ConfigSegmentStore {
+    
+    static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    
+    private static final int HEADER_SIZE = 8;
+    
+    private static final String SEGMENT_SUFFIX = ".seg";
+    
+    private static final double COMPACT_DEAD_RATIO = 0.5D;
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    /**
+     * segment id -> segment, including the active one.
+     */
+    private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+    
+    private Segment activeSegment;
+    
+    private long nextSegmentId;
+    
+    ConfigSegmentStore(File dir, int segmentSize) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        deleteSegmentFiles();
+    }
+    
+    /**
+     * Get the content of key.
+     *
+     * @param key key
+     * @return content, or null if not exist
+     */
+    String get(String key) {
+        Location location = index.get(key);
+        return location == null ? null : location.read();
+    }
+    
+    /**
+     * Append the content of key, the previous record of key becomes dead.
+     *
+     * @param key     key
+     * @param content content
+     * @throws IOException if the segment file can not be created
+     */
+    synchronized void put(String key, String content) throws IOException {
+        Location location = append(key.getBytes(StandardCharsets.UTF_8), content.getBytes(StandardCharsets.UTF_8));
+        release(index.put(key, location));
+    }
+    
+    /**
+     * Remove the content of key.
+     *
+     * @param key key
+     */
+    synchronized void remove(String key) {
+        release(index.remove(key));
+    }
+    
+    /**
+     * Remove all contents and segment files.
+     */
+    synchronized void clear() {
+        index.clear();
+        segments.clear();
+        activeSegment = null;
+        deleteSegmentFiles();
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    int segmentCount() {
+        return segments.size();
+    }
+    
+    /**
+     * Compact the sealed segments whose dead bytes reach the ratio.
+     */
+    void compact() {
+        List<Segment> candidates = new ArrayList<>();
+        synchronized (this) {
+            for (Segment each : segments.values()) {
+                if (each != activeSegment && each.deadBytes >= each.writePosition * COMPACT_DEAD_RATIO) {
+                    candidates.add(each);
+                }
+            }
+        }
+        for (Segment each : candidates) {
+            try {
+                compact(each);
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("compact config segment {} fail.", each.file, e);
+            }
+        }
+    }
+    
+    private void compact(Segment segment) throws IOException {
+        int position = 0;
+        int moved = 0;
+        while (position < segment.writePosition) {
+            int keyLength = segment.buffer.getInt(position);
+            int valueLength = segment.buffer.getInt(position + 4);
+            byte[] keyBytes = segment.read(position + HEADER_SIZE, keyLength);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            synchronized (this) {
+                Location location = index.get(key);
+                if (location != null && location.segment == segment && location.offset == position) {
+                    index.put(key, append(keyBytes, location.readBytes()));
+                    moved++;
+                }
+            }
+            position += HEADER_SIZE + keyLength + valueLength;
+        }
+        synchronized (this) {
+            segments.remove(segment.id);
+        }
+        segment.delete();
+        LogUtil.DEFAULT_LOG.info("compact config segment {}, moved {} records.", segment.file, moved);
+    }
+    
+    private Location append(byte[] key, byte[] value) throws IOException {
+        int recordLength = HEADER_SIZE + key.length + value.length;
+        if (activeSegment == null || activeSegment.remaining() < recordLength) {
+            long id = nextSegmentId++;
+            File file = new File(dir, id + SEGMENT_SUFFIX);
+            activeSegment = new Segment(id, file, Math.max(segmentSize, recordLength));
+            segments.put(id, activeSegment);
+        }
+        return activeSegment.append(key, value);
+    }
+    
+    private void release(Location location) {
+        if (location != null) {
+            location.segment.deadBytes += HEADER_SIZE + location.keyLength + location.valueLength;
+        }
+    }
+    
+    private void deleteSegmentFiles() {
+        if (!dir.exists()) {
+            dir.mkdirs();
+            return;
+        }
+        File[] files = dir.listFiles((parent, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return;
+        }
+        for (File each : files) {
+            if (!each.delete()) {
+                LogUtil.DEFAULT_LOG.warn("delete config segment {} fail.", each);
+            }
+        }
+    }
+    
+    private static class Segment {
+        
+        private final long id;
+        
+        private final File file;
+        
+        /**
+         * Only absolute get and put are used, so the buffer can be shared by readers and writer.
+         */
+        private final MappedByteBuffer buffer;
+        
+        private volatile int writePosition;
+        
+        /**
+         * Guarded by the store.
+         */
+        private long deadBytes;
+        
+        private Segment(long id, File file, int size) throws IOException {
+            this.id = id;
+            this.file = file;
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+                // the mapping is still valid after the channel is closed.
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+        
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+        
+        private Location append(byte[] key, byte[] value) {
+            int offset = writePosition;
+            buffer.putInt(offset, key.length);
+            buffer.putInt(offset + 4, value.length);
+            buffer.put(offset + HEADER_SIZE, key);
+            buffer.put(offset + HEADER_SIZE + key.length, value);
+            writePosition = offset + HEADER_SIZE + key.length + value.length;
+            return new Location(this, offset, key.length, value.length);
+        }
+        
+        private byte[] read(int offset, int length) {
+            byte[] result = new byte[length];
+            buffer.get(offset, result);
+            return result;
+        }
+        
+        private void delete() {
+            // the file is unmapped when the buffer is collected, readers holding old location are still safe.
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+    
+    private static class Location {
+        
+        private final Segment segment;
+        
+        private final int offset;
+        
+        private final int keyLength;
+        
+        private final int valueLength;
+        
+        private Location(Segment segment, int offset, int keyLength, int valueLength) {
+            this.segment = segment;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+        }
+        
+        private byte[] readBytes() {
+            return segment.read(offset + HEADER_SIZE + keyLength, valueLength);
+        }
+        
+        private String read() {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
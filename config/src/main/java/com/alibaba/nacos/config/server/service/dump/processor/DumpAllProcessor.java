@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
@@ -24,6 +26,8 @@ import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -31,10 +35,18 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.api.model.Page;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -42,6 +54,9 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>The pages of config info are fetched in a pipeline: the next page is prefetched while the current page is
+ * dumped. Each page is dumped in parallel slices, and the completion of each page is signaled by a latch.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
@@ -52,7 +67,6 @@ public class DumpAllProcessor implements NacosTaskProcessor {
     }
     
     @Override
-    @SuppressWarnings("PMD.MethodTooLongRule")
     public boolean process(NacosTask task) {
         if (!(task instanceof DumpAllTask)) {
             DEFAULT_LOG.error(
@@ -61,108 +75,213 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
+        final boolean startUp = dumpAllTask.isStartUp();
+        final int pageSize = PropertyUtil.getAllDumpPageSize();
+        final int parallelism = Runtime.getRuntime().availableProcessors();
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
         long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        }
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(parallelism * 2), r -> new Thread(r, "dump all executor"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        ExecutorService prefetchExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> new Thread(r, "dump all prefetch executor"));
+        List<CountDownLatch> pageLatches = new ArrayList<>();
+        AtomicReference<Throwable> sliceFailure = new AtomicReference<>();
+        long diskStart = 0L;
         
         DEFAULT_LOG.info("start dump all config-info...");
-        
-        while (lastMaxId < currentMaxId) {
-            long start = System.currentTimeMillis();
-            
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
-            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
-                break;
-            }
-            
-            for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                if (StringUtils.isBlank(cf.getTenant())) {
-                    continue;
-                }
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
+        try {
+            Future<Page<ConfigInfoWrapper>> nextPage = prefetchPage(prefetchExecutor, lastMaxId, pageSize, startUp);
+            while (nextPage != null) {
+                final long start = System.currentTimeMillis();
                 
-                if (cf == null) {
-                    continue;
+                Page<ConfigInfoWrapper> page = nextPage.get();
+                final long dbTimeStamp = System.currentTimeMillis();
+                if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                    break;
                 }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
+                for (ConfigInfoWrapper cf : page.getPageItems()) {
+                    lastMaxId = Math.max(cf.getId(), lastMaxId);
                 }
+                // prefetch next page while dumping current page.
+                nextPage = lastMaxId < currentMaxId ? prefetchPage(prefetchExecutor, lastMaxId, pageSize, startUp)
+                        : null;
                 
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
+                //if not start up, page query will not return content, check md5 and lastModified first,
+                //if changed, get content of changed configs in one batch to dump.
+                List<ConfigInfoWrapper> configs = startUp ? page.getPageItems() : findChangedConfigs(page.getPageItems());
+                if (diskStart == 0L) {
+                    diskStart = System.currentTimeMillis();
                 }
+                pageLatches.add(dumpConfigs(configs, executorService, parallelism, startUp, sliceFailure));
                 
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+                long submitStamp = System.currentTimeMillis();
+                DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},submitTime={}", lastMaxId,
+                        currentMaxId, (dbTimeStamp - start), (submitStamp - dbTimeStamp));
             }
             
-            long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
-        }
-        
-        //wait all task are finished and then shutdown executor.
-        try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+            awaitDumpTasks(pageLatches, diskStart, sliceFailure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.error("[all-dump] wait dump tasks to be finished interrupted", e);
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all config-info interrupted", e);
+        } catch (ExecutionException e) {
+            // page query failed in prefetch executor, rethrow the cause so that startup fails or task is retried.
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            DEFAULT_LOG.error("[all-dump] dump all config-info error", cause);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all config-info error", cause);
+        } catch (RuntimeException e) {
+            DEFAULT_LOG.error("[all-dump] dump all config-info error", e);
+            throw e;
+        } finally {
+            prefetchExecutor.shutdownNow();
             executorService.shutdown();
-            
-        } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
         }
         DEFAULT_LOG.info("success to  dump all config-info。");
         return true;
     }
     
+    private void awaitDumpTasks(List<CountDownLatch> pageLatches, long diskStart,
+            AtomicReference<Throwable> sliceFailure) throws InterruptedException {
+        //wait all task are finished.
+        for (CountDownLatch pageLatch : pageLatches) {
+            if (pageLatch.getCount() > 0) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", pageLatch.getCount());
+            }
+            pageLatch.await();
+        }
+        if (diskStart > 0L) {
+            DEFAULT_LOG.info("[all-dump] all dump tasks finished, diskTime={}", System.currentTimeMillis() - diskStart);
+        }
+        // md5 of cache is updated before the batch is committed, so fail the dump if any batch is not written.
+        Throwable failure = sliceFailure.get();
+        if (failure != null) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all config-info commit batch fail",
+                    failure);
+        }
+    }
+    
+    private Future<Page<ConfigInfoWrapper>> prefetchPage(ExecutorService prefetchExecutor, long lastMaxId,
+            int pageSize, boolean needContent) {
+        return prefetchExecutor.submit(
+                () -> configInfoPersistService.findAllConfigInfoFragment(lastMaxId, pageSize, needContent));
+    }
+    
+    /**
+     * Find the configs whose md5 or last modified time is different from local cache, and query their content in one
+     * batch.
+     *
+     * @param pageItems config info without content
+     * @return changed config info with content
+     */
+    private List<ConfigInfoWrapper> findChangedConfigs(List<ConfigInfoWrapper> pageItems) {
+        List<Long> changedIds = new ArrayList<>();
+        for (ConfigInfoWrapper cf : pageItems) {
+            if (StringUtils.isBlank(cf.getTenant())) {
+                continue;
+            }
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (newLastModified || md5Update) {
+                LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                        cf.getMd5());
+                changedIds.add(cf.getId());
+            }
+        }
+        if (changedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ConfigInfoWrapper> changedConfigs = configInfoPersistService.findAllConfigInfoByIds(changedIds);
+        return changedConfigs == null ? Collections.emptyList() : changedConfigs;
+    }
+    
+    private CountDownLatch dumpConfigs(List<ConfigInfoWrapper> configs, ExecutorService executorService,
+            int parallelism, boolean batchWrite, AtomicReference<Throwable> sliceFailure) {
+        List<ConfigInfoWrapper> dumpConfigs = new ArrayList<>(configs.size());
+        for (ConfigInfoWrapper cf : configs) {
+            if (cf == null || StringUtils.isBlank(cf.getTenant())) {
+                continue;
+            }
+            if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+                ClientIpWhiteList.load(cf.getContent());
+            }
+            
+            if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+                SwitchService.load(cf.getContent());
+            }
+            dumpConfigs.add(cf);
+        }
+        if (dumpConfigs.isEmpty()) {
+            return new CountDownLatch(0);
+        }
+        int sliceSize = (dumpConfigs.size() + parallelism - 1) / parallelism;
+        int sliceCount = (dumpConfigs.size() + sliceSize - 1) / sliceSize;
+        CountDownLatch latch = new CountDownLatch(sliceCount);
+        for (int from = 0; from < dumpConfigs.size(); from += sliceSize) {
+            List<ConfigInfoWrapper> slice = dumpConfigs.subList(from, Math.min(from + sliceSize, dumpConfigs.size()));
+            executorService.execute(() -> {
+                try {
+                    dumpSlice(slice, batchWrite, sliceFailure);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        return latch;
+    }
+    
+    /**
+     * Dump a slice of configs. On startup the server is not serving yet, so the disk writes of the slice can be
+     * committed in one batch after the md5 of cache are updated. The commit failure is recorded in {@code sliceFailure}
+     * and fails the whole dump.
+     */
+    private void dumpSlice(List<ConfigInfoWrapper> slice, boolean batchWrite, AtomicReference<Throwable> sliceFailure) {
+        ConfigDiskService configDiskService = ConfigDiskServiceFactory.getInstance();
+        if (batchWrite) {
+            configDiskService.startBatch();
+        }
+        try {
+            for (ConfigInfoWrapper cf : slice) {
+                dumpConfig(cf);
+            }
+        } finally {
+            if (batchWrite) {
+                try {
+                    configDiskService.commitBatch();
+                } catch (IOException e) {
+                    LogUtil.DUMP_LOG.error("[dump-all-error] commit batch of {} configs fail", slice.size(), e);
+                    sliceFailure.compareAndSet(null, e);
+                }
+            }
+        }
+    }
+    
+    private void dumpConfig(ConfigInfoWrapper cf) {
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final long lastModified = cf.getLastModified();
+        try {
+            final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+            boolean result = ConfigCacheService.dumpWithMd5(dataId, group, cf.getTenant(), content, md5Utf8,
+                    lastModified, cf.getType(), cf.getEncryptedDataKey());
+            if (result) {
+                LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                        lastModified, content.length(), md5Utf8);
+            } else {
+                LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
+            }
+        } catch (Throwable e) {
+            LogUtil.DUMP_LOG.error("[dump-all-error] {}", GroupKey2.getKey(dataId, group), e);
+        }
+    }
+    
     final ConfigInfoPersistService configInfoPersistService;
 }
@@ -23,12 +23,18 @@ import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
+import com.alibaba.nacos.config.server.service.dump.task.DumpBatchTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -51,6 +57,9 @@ public class DumpProcessor implements NacosTaskProcessor {
     
     @Override
     public boolean process(NacosTask task) {
+        if (task instanceof DumpBatchTask) {
+            return processBatch((DumpBatchTask) task);
+        }
         DumpTask dumpTask = (DumpTask) task;
         String[] pair = GroupKey2.parseKey(dumpTask.getGroupKey());
         String dataId = pair[0];
@@ -82,12 +91,81 @@ public class DumpProcessor implements NacosTaskProcessor {
         }
         
         ConfigInfoWrapper cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+        return dumpFormal(build, cf, lastModifiedOut);
+        
+    }
+    
+    /**
+     * Dump the tasks in batch. If some of the tasks failed, only the failed ones are kept in the batch task, so the
+     * retry of batch task will not dump the succeeded ones again.
+     */
+    private boolean processBatch(DumpBatchTask dumpBatchTask) {
+        List<DumpTask> failedTasks = new ArrayList<>();
+        // formal configs of the same group and tenant are loaded by one query, gray configs are rare, dump one by one.
+        Map<String, List<DumpTask>> formalTasks = new LinkedHashMap<>();
+        for (DumpTask dumpTask : dumpBatchTask.getDumpTasks()) {
+            if (StringUtils.isBlank(dumpTask.getGrayName())) {
+                String[] pair = GroupKey2.parseKey(dumpTask.getGroupKey());
+                formalTasks.computeIfAbsent(GroupKey2.getKey(StringUtils.EMPTY, pair[1], pair[2]),
+                        k -> new ArrayList<>()).add(dumpTask);
+                continue;
+            }
+            try {
+                if (!process(dumpTask)) {
+                    failedTasks.add(dumpTask);
+                }
+            } catch (Exception e) {
+                LogUtil.DUMP_LOG.error("[dump] process gray task in batch error. groupKey={}", dumpTask.getGroupKey(),
+                        e);
+                failedTasks.add(dumpTask);
+            }
+        }
+        for (List<DumpTask> dumpTasks : formalTasks.values()) {
+            String[] groupPair = GroupKey2.parseKey(dumpTasks.get(0).getGroupKey());
+            List<String> dataIds = new ArrayList<>(dumpTasks.size());
+            for (DumpTask dumpTask : dumpTasks) {
+                dataIds.add(GroupKey2.parseKey(dumpTask.getGroupKey())[0]);
+            }
+            List<ConfigInfoWrapper> configInfos;
+            try {
+                configInfos = configInfoPersistService.findConfigInfoByDataIds(dataIds, groupPair[1], groupPair[2]);
+            } catch (Exception e) {
+                LogUtil.DUMP_LOG.error("[dump] load formal configs in batch error. group={}, tenant={}", groupPair[1],
+                        groupPair[2], e);
+                failedTasks.addAll(dumpTasks);
+                continue;
+            }
+            Map<String, ConfigInfoWrapper> configInfoMap = new HashMap<>(configInfos.size() * 2);
+            for (ConfigInfoWrapper configInfo : configInfos) {
+                configInfoMap.put(configInfo.getDataId(), configInfo);
+            }
+            for (int i = 0; i < dumpTasks.size(); i++) {
+                DumpTask dumpTask = dumpTasks.get(i);
+                String dataId = dataIds.get(i);
+                LogUtil.DUMP_LOG.info("[dump] process formal task in batch. groupKey={}", dumpTask.getGroupKey());
+                ConfigDumpEvent.ConfigDumpEventBuilder build = ConfigDumpEvent.builder().namespaceId(groupPair[2])
+                        .dataId(dataId).group(groupPair[1]).handleIp(dumpTask.getHandleIp());
+                if (!dumpFormal(build, configInfoMap.get(dataId), dumpTask.getLastModified())) {
+                    failedTasks.add(dumpTask);
+                }
+            }
+        }
+        if (failedTasks.isEmpty()) {
+            return true;
+        }
+        LogUtil.DUMP_LOG.warn("[dump] batch task partially failed, retry failed tasks. failed={}, total={}",
+                failedTasks.size(), dumpBatchTask.getDumpTasks().size());
+        dumpBatchTask.setDumpTasks(failedTasks);
+        return false;
+    }
+    
+    private boolean dumpFormal(ConfigDumpEvent.ConfigDumpEventBuilder build, ConfigInfoWrapper cf,
+            long lastModifiedOut) {
         build.remove(Objects.isNull(cf));
         build.content(Objects.isNull(cf) ? null : cf.getContent());
         build.type(Objects.isNull(cf) ? null : cf.getType());
         build.encryptedDataKey(Objects.isNull(cf) ? null : cf.getEncryptedDataKey());
         build.lastModifiedTs(Objects.isNull(cf) ? lastModifiedOut : cf.getLastModified());
         return DumpConfigHandler.configDump(build.build());
-        
     }
 }
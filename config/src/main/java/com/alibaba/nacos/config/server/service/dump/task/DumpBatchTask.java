@@ -0,0 +1,51 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.task;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+
+import java.util.List;
+
+/**
+ * Dump a batch of configs task, which dumps the formal configs of the same group and tenant by one query.
+ *
+ * @author Nacos
+ */
+public class DumpBatchTask extends AbstractDelayTask {
+    
+    public static final String TASK_ID_PREFIX = "dumpBatchTask+";
+    
+    private volatile List<DumpTask> dumpTasks;
+    
+    public DumpBatchTask(List<DumpTask> dumpTasks) {
+        this.dumpTasks = dumpTasks;
+        //retry interval: 1s
+        setTaskInterval(1000L);
+    }
+    
+    @Override
+    public void merge(AbstractDelayTask task) {
+    }
+    
+    public List<DumpTask> getDumpTasks() {
+        return dumpTasks;
+    }
+    
+    public void setDumpTasks(List<DumpTask> dumpTasks) {
+        this.dumpTasks = dumpTasks;
+    }
+}
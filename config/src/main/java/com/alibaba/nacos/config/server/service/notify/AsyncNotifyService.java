@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.common.notify.Event;
@@ -24,6 +26,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
@@ -31,9 +34,12 @@ import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberChangeListener;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
 import com.alibaba.nacos.api.common.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.utils.InetUtils;
@@ -44,12 +50,19 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC;
 import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_GRAY_MODEL;
 
 /**
@@ -73,6 +86,11 @@ public class AsyncNotifyService {
     
     private ServerMemberManager memberManager;
     
+    /**
+     * Pending notify tasks to be synced by batch, key is the address of member.
+     */
+    private final Map<String, BatchNotifyQueue> batchNotifyQueues = new ConcurrentHashMap<>();
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -101,6 +119,23 @@ public class AsyncNotifyService {
                 return ConfigDataChangeEvent.class;
             }
         });
+        
+        // Register A Subscriber to drop the pending batch notify tasks of the members which left the cluster.
+        NotifyCenter.registerSubscriber(new MemberChangeListener() {
+            
+            @Override
+            public void onEvent(MembersChangeEvent event) {
+                handleMembersChangeEvent(event);
+            }
+        });
+    }
+    
+    void handleMembersChangeEvent(MembersChangeEvent event) {
+        Set<String> addresses = new HashSet<>(event.getMembers().size() * 2);
+        for (Member member : event.getMembers()) {
+            addresses.add(member.getAddress());
+        }
+        batchNotifyQueues.keySet().removeIf(address -> !addresses.contains(address));
     }
     
     void handleConfigDataChangeEvent(Event event) {
@@ -117,7 +152,12 @@ public class AsyncNotifyService {
             for (Member member : ipList) {
                 // grpc report data change only
                 NotifySingleRpcTask notifySingleRpcTask = generateTask(evt, member);
-                if (notifySingleRpcTask != null) {
+                if (notifySingleRpcTask == null) {
+                    continue;
+                }
+                if (isBatchSyncSupported(member)) {
+                    addBatchNotifyTask(notifySingleRpcTask);
+                } else {
                     rpcQueue.add(notifySingleRpcTask);
                 }
                 
@@ -156,6 +196,62 @@ public class AsyncNotifyService {
         return !memberManager.stateCheck(targetIp, HEALTHY_CHECK_STATUS);
     }
     
+    private boolean isBatchSyncSupported(Member member) {
+        return ConfigCommonConfig.getInstance().getClusterSyncBatchWindow() > 0 && (Boolean) member.getExtendInfo()
+                .getOrDefault(SUPPORT_BATCH_CONFIG_SYNC, Boolean.FALSE);
+    }
+    
+    private void addBatchNotifyTask(NotifySingleRpcTask task) {
+        BatchNotifyQueue queue = batchNotifyQueues.computeIfAbsent(task.member.getAddress(),
+                address -> new BatchNotifyQueue());
+        if (queue.offer(task)) {
+            ConfigExecutor.scheduleAsyncNotify(new AsyncBatchRpcTask(task.member.getAddress()),
+                    ConfigCommonConfig.getInstance().getClusterSyncBatchWindow(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    void executeAsyncBatchRpcTask(String address) {
+        BatchNotifyQueue queue = batchNotifyQueues.get(address);
+        if (queue == null) {
+            return;
+        }
+        List<NotifySingleRpcTask> tasks = queue.poll(ConfigCommonConfig.getInstance().getClusterSyncBatchMaxSize());
+        try {
+            if (!tasks.isEmpty() && memberManager.hasMember(address)) {
+                syncBatch(address, tasks);
+            }
+        } finally {
+            if (queue.continueIfPending()) {
+                ConfigExecutor.executeAsyncNotify(new AsyncBatchRpcTask(address));
+            }
+        }
+    }
+    
+    private void syncBatch(String address, List<NotifySingleRpcTask> tasks) {
+        if (isUnHealthy(address)) {
+            // target ip is unhealthy, then put them in the notification list one by one
+            for (NotifySingleRpcTask task : tasks) {
+                ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                        task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task),
+                        ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, address);
+                asyncTaskExecute(task);
+            }
+            return;
+        }
+        ConfigChangeClusterBatchSyncRequest batchSyncRequest = new ConfigChangeClusterBatchSyncRequest();
+        for (NotifySingleRpcTask task : tasks) {
+            batchSyncRequest.addConfigChangeItem(task.getDataId(), task.getGroup(), task.getTenant(),
+                    task.getGrayName(), task.getLastModified());
+        }
+        try {
+            configClusterRpcClientProxy.syncConfigChangeBatch(tasks.get(0).member, batchSyncRequest,
+                    new AsyncBatchRpcNotifyCallBack(AsyncNotifyService.this, tasks));
+        } catch (Exception e) {
+            MetricsMonitor.getConfigNotifyException().increment();
+            tasks.forEach(this::asyncTaskExecute);
+        }
+    }
+    
     void executeAsyncRpcTask(Queue<NotifySingleRpcTask> queue) {
         while (!queue.isEmpty()) {
             NotifySingleRpcTask task = queue.poll();
@@ -214,6 +310,74 @@ public class AsyncNotifyService {
         }
     }
     
+    public class AsyncBatchRpcTask implements Runnable {
+        
+        private final String address;
+        
+        public AsyncBatchRpcTask(String address) {
+            this.address = address;
+        }
+        
+        @Override
+        public void run() {
+            executeAsyncBatchRpcTask(address);
+        }
+    }
+    
+    /**
+     * Notify tasks waiting to be synced to one member by batch. Only one batch sync is scheduled for a member at the same
+     * time, and the later task of the same config replaces the earlier one.
+     */
+    static class BatchNotifyQueue {
+        
+        private final Map<String, NotifySingleRpcTask> pendingTasks = new LinkedHashMap<>();
+        
+        private boolean scheduled;
+        
+        /**
+         * Add task to queue.
+         *
+         * @param task notify task
+         * @return true if a batch sync should be scheduled by caller
+         */
+        synchronized boolean offer(NotifySingleRpcTask task) {
+            String key = GroupKey2.getKey(task.getDataId(), task.getGroup(), task.getTenant());
+            if (StringUtils.isNotBlank(task.getGrayName())) {
+                key = GroupKey2.getKey(key, task.getGrayName());
+            }
+            pendingTasks.remove(key);
+            pendingTasks.put(key, task);
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+        
+        synchronized List<NotifySingleRpcTask> poll(int maxSize) {
+            List<NotifySingleRpcTask> tasks = new ArrayList<>(Math.min(maxSize, pendingTasks.size()));
+            Iterator<NotifySingleRpcTask> iterator = pendingTasks.values().iterator();
+            while (iterator.hasNext() && tasks.size() < maxSize) {
+                tasks.add(iterator.next());
+                iterator.remove();
+            }
+            return tasks;
+        }
+        
+        /**
+         * Check whether there are still tasks to sync, otherwise the next offered task will schedule a new batch sync.
+         *
+         * @return true if caller should continue to sync the pending tasks
+         */
+        synchronized boolean continueIfPending() {
+            if (pendingTasks.isEmpty()) {
+                scheduled = false;
+                return false;
+            }
+            return true;
+        }
+    }
+    
     public static class NotifySingleRpcTask extends AbstractDelayTask {
         
         private String dataId;
@@ -391,6 +555,66 @@ public class AsyncNotifyService {
         }
     }
     
+    public static class AsyncBatchRpcNotifyCallBack implements RequestCallBack<ConfigChangeClusterBatchSyncResponse> {
+        
+        private final List<NotifySingleRpcTask> tasks;
+        
+        AsyncNotifyService asyncNotifyService;
+        
+        public AsyncBatchRpcNotifyCallBack(AsyncNotifyService asyncNotifyService, List<NotifySingleRpcTask> tasks) {
+            this.tasks = tasks;
+            this.asyncNotifyService = asyncNotifyService;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterBatchSyncResponse response) {
+            if (response.isSuccess()) {
+                for (NotifySingleRpcTask task : tasks) {
+                    long delayed = System.currentTimeMillis() - task.getLastModified();
+                    ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                            task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task),
+                            ConfigTraceService.NOTIFY_TYPE_OK, delayed, task.member.getAddress());
+                }
+            } else {
+                LOGGER.error("[notify-error] target:{} batch size:{} code:{}", tasks.get(0).member.getAddress(),
+                        tasks.size(), response.getErrorCode());
+                retry(ConfigTraceService.NOTIFY_TYPE_ERROR);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            LOGGER.error("[notify-exception] target:{} batch size:{} ex:{}", tasks.get(0).member.getAddress(),
+                    tasks.size(), ex);
+            retry(ConfigTraceService.NOTIFY_TYPE_EXCEPTION);
+        }
+        
+        private void retry(String notifyType) {
+            for (NotifySingleRpcTask task : tasks) {
+                long delayed = System.currentTimeMillis() - task.getLastModified();
+                ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                        task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task), notifyType, delayed,
+                        task.member.getAddress());
+                
+                //get delay time and set fail count to the task, failed tasks are retried one by one
+                asyncNotifyService.asyncTaskExecute(task);
+                LogUtil.NOTIFY_LOG.error("[notify-retry] target:{} dataId:{} group:{} ts:{}",
+                        task.member.getAddress(), task.getDataId(), task.getGroup(), task.getLastModified());
+            }
+            MetricsMonitor.getConfigNotifyException().increment();
+        }
+    }
+    
     /**
      * get delayTime and also set failCount to task; The failure time index increases, so as not to retry invalid tasks
      * in the offline scene, which affects the normal synchronization.
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service.query.handler;
 import com.alibaba.nacos.common.utils.NamespaceUtil;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -26,6 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ConfigChainEntryHandler.
@@ -41,6 +44,11 @@ public class ConfigChainEntryHandler extends AbstractConfigQueryHandler {
     
     private static final ThreadLocal<CacheItem> CACHE_ITEM_THREAD_LOCAL = new ThreadLocal<>();
     
+    /**
+     * Content cache fills deferred during optimistic read, applied only after the read is validated.
+     */
+    private static final ThreadLocal<List<Runnable>> OPTIMISTIC_CACHE_FILLS_THREAD_LOCAL = new ThreadLocal<>();
+    
     @Override
     public String getName() {
         return CHAIN_ENTRY_HANDLER;
@@ -51,6 +59,10 @@ public class ConfigChainEntryHandler extends AbstractConfigQueryHandler {
     
         request.setTenant(NamespaceUtil.processNamespaceParameter(request.getTenant()));
         String groupKey = GroupKey2.getKey(request.getDataId(), request.getGroup(), request.getTenant());
+        ConfigQueryChainResponse optimisticResponse = handleOptimistically(request, groupKey);
+        if (optimisticResponse != null) {
+            return optimisticResponse;
+        }
         int lockResult = ConfigCacheService.tryConfigReadLock(groupKey);
         CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
         
@@ -78,7 +90,63 @@ public class ConfigChainEntryHandler extends AbstractConfigQueryHandler {
         }
     }
     
+    /**
+     * Read config without read lock, and validate no dump happened during the read.
+     *
+     * @return response, or null if the config is changing and should be read with read lock.
+     */
+    private ConfigQueryChainResponse handleOptimistically(ConfigQueryChainRequest request, String groupKey)
+            throws IOException {
+        CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+        if (cacheItem == null || nextHandler == null) {
+            return null;
+        }
+        long stamp = ConfigCacheService.tryOptimisticRead(cacheItem);
+        if (stamp == 0L) {
+            return null;
+        }
+        ConfigQueryChainResponse response;
+        List<Runnable> cacheFills = new ArrayList<>(1);
+        try {
+            CACHE_ITEM_THREAD_LOCAL.set(cacheItem);
+            OPTIMISTIC_CACHE_FILLS_THREAD_LOCAL.set(cacheFills);
+            response = nextHandler.handle(request);
+        } catch (IOException | RuntimeException e) {
+            // the exception may be caused by reading changing content, retry with read lock.
+            if (ConfigCacheService.validateOptimisticRead(cacheItem, stamp)) {
+                throw e;
+            }
+            return null;
+        } finally {
+            CACHE_ITEM_THREAD_LOCAL.remove();
+            OPTIMISTIC_CACHE_FILLS_THREAD_LOCAL.remove();
+        }
+        if (!ConfigCacheService.validateOptimisticRead(cacheItem, stamp)) {
+            return null;
+        }
+        cacheFills.forEach(Runnable::run);
+        return response;
+    }
+    
     public static CacheItem getThreadLocalCacheItem() {
         return CACHE_ITEM_THREAD_LOCAL.get();
     }
+    
+    /**
+     * Cache the content read from disk with its md5. In optimistic read the md5 and the content may come from
+     * different dumps, so the content is cached only after the read is validated.
+     *
+     * @param groupKey group key
+     * @param grayName gray name, null for formal config
+     * @param md5      md5 read from cache item
+     * @param content  content read from disk
+     */
+    public static void cacheContent(String groupKey, String grayName, String md5, String content) {
+        List<Runnable> cacheFills = OPTIMISTIC_CACHE_FILLS_THREAD_LOCAL.get();
+        if (cacheFills != null) {
+            cacheFills.add(() -> ConfigContentCache.put(groupKey, grayName, md5, content));
+        } else {
+            ConfigContentCache.put(groupKey, grayName, md5, content);
+        }
+    }
 }
\ No newline at end of file
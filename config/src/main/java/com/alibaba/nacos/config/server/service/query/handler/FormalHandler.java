@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
@@ -49,7 +50,11 @@ public class FormalHandler extends AbstractConfigQueryHandler {
         
         CacheItem cacheItem = ConfigChainEntryHandler.getThreadLocalCacheItem();
         String md5 = cacheItem.getConfigCache().getMd5();
-        String content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+        String content = ConfigContentCache.get(cacheItem.getGroupKey(), null, md5);
+        if (content == null) {
+            content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+            ConfigChainEntryHandler.cacheContent(cacheItem.getGroupKey(), null, md5, content);
+        }
         if (StringUtils.isBlank(content)) {
             response.setStatus(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_NOT_FOUND);
             return response;
@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
@@ -56,12 +57,16 @@ public class GrayRuleMatchHandler extends AbstractConfigQueryHandler {
         if (matchedGray != null) {
             ConfigQueryChainResponse response = new ConfigQueryChainResponse();
             
-            long lastModified = matchedGray.getLastModifiedTs();
+            final long lastModified = matchedGray.getLastModifiedTs();
             String md5 = matchedGray.getMd5();
-            String encryptedDataKey = matchedGray.getEncryptedDataKey();
-            String content = ConfigDiskServiceFactory.getInstance()
-                    .getGrayContent(request.getDataId(), request.getGroup(), request.getTenant(),
-                            matchedGray.getGrayName());
+            final String encryptedDataKey = matchedGray.getEncryptedDataKey();
+            String content = ConfigContentCache.get(cacheItem.getGroupKey(), matchedGray.getGrayName(), md5);
+            if (content == null) {
+                content = ConfigDiskServiceFactory.getInstance()
+                        .getGrayContent(request.getDataId(), request.getGroup(), request.getTenant(),
+                                matchedGray.getGrayName());
+                ConfigChainEntryHandler.cacheContent(cacheItem.getGroupKey(), matchedGray.getGrayName(), md5, content);
+            }
             
             response.setContent(content);
             response.setMd5(md5);
@@ -323,6 +323,25 @@ public interface ConfigInfoPersistService {
      */
     Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final int pageSize, boolean needContent);
     
+    /**
+     * Query all config info with content by ids.
+     *
+     * @param ids id list
+     * @return {@link ConfigInfoWrapper} list
+     */
+    List<ConfigInfoWrapper> findAllConfigInfoByIds(final List<Long> ids);
+    
+    /**
+     * Query config info with content by data ids in the same group and tenant.
+     *
+     * @param dataIds data id list
+     * @param group   group
+     * @param tenant  tenant
+     * @return {@link ConfigInfoWrapper} list
+     */
+    List<ConfigInfoWrapper> findConfigInfoByDataIds(final List<String> dataIds, final String group,
+            final String tenant);
+    
     /**
      * Query config info.
      *
@@ -827,6 +827,38 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         
     }
     
+    @Override
+    public List<ConfigInfoWrapper> findAllConfigInfoByIds(final List<Long> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Collections.emptyList();
+        }
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.IDS, ids);
+        MapperResult mapperResult = configInfoMapper.findConfigInfosByIds(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_INFO_WRAPPER_ROW_MAPPER);
+    }
+    
+    @Override
+    public List<ConfigInfoWrapper> findConfigInfoByDataIds(final List<String> dataIds, final String group,
+            final String tenant) {
+        if (CollectionUtils.isEmpty(dataIds)) {
+            return Collections.emptyList();
+        }
+        final String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.TENANT_ID, tenantTmp);
+        context.putWhereParameter(FieldConstant.GROUP_ID, group);
+        context.putWhereParameter(FieldConstant.DATA_IDS, dataIds);
+        MapperResult mapperResult = configInfoMapper.findConfigInfoByDataIds(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_INFO_WRAPPER_ROW_MAPPER);
+    }
+    
     @Override
     public Page<ConfigInfo> findConfigInfoLike4Page(final int pageNo, final int pageSize, final String dataId,
             final String group, final String tenant, final Map<String, Object> configAdvanceInfo) {
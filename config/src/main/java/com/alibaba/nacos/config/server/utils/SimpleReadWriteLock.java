@@ -16,64 +16,114 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
 /**
  * Simplest read-write lock implementation. Requires locking and unlocking must be called in pairs.
  *
+ * <p>The lock is lock-free, the lock status and the write version are kept in one long and updated by CAS. Besides
+ * read lock, readers can also read optimistically without any write like {@link java.util.concurrent.locks.StampedLock}:
+ * get a stamp by {@link #tryOptimisticRead()}, read, and then check the stamp by {@link #validate(long)}.
+ *
  * @author Nacos
  */
 public class SimpleReadWriteLock {
     
+    private static final AtomicLongFieldUpdater<SimpleReadWriteLock> STATE_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(SimpleReadWriteLock.class, "state");
+    
+    private static final long STATUS_MASK = 0xFFFFFFFFL;
+    
+    private static final long WRITE_LOCKED = STATUS_MASK;
+    
+    private static final long VERSION_UNIT = 1L << 32;
+    
     /**
-     * Zero means no lock; Negative Numbers mean write locks; Positive Numbers mean read locks, and the numeric value
-     * represents the number of read locks.
+     * Low 32 bits are the lock status: zero means no lock; all bits set means write lock; other numbers mean read locks,
+     * and the numeric value represents the number of read locks. High 32 bits are the version increased by each release
+     * of write lock.
      */
-    private int status = 0;
+    private volatile long state = 0;
     
     /**
      * Try read lock.
      */
-    public synchronized boolean tryReadLock() {
-        if (isWriteLocked()) {
-            return false;
-        } else {
-            status++;
-            return true;
-        }
+    public boolean tryReadLock() {
+        long current;
+        do {
+            current = state;
+            if (isWriteLocked(current)) {
+                return false;
+            }
+        } while (!STATE_UPDATER.compareAndSet(this, current, current + 1));
+        return true;
     }
     
     /**
      * Release the read lock.
      */
-    public synchronized void releaseReadLock() {
-        // when status equals 0, it should not decrement to negative numbers
-        if (status == 0) {
-            return;
-        }
-        status--;
+    public void releaseReadLock() {
+        long current;
+        do {
+            current = state;
+            // when status equals 0, it should not decrement to negative numbers
+            if (isFree(current) || isWriteLocked(current)) {
+                return;
+            }
+        } while (!STATE_UPDATER.compareAndSet(this, current, current - 1));
     }
     
     /**
      * Try write lock.
      */
-    public synchronized boolean tryWriteLock() {
-        if (!isFree()) {
-            return false;
-        } else {
-            status = -1;
-            return true;
-        }
+    public boolean tryWriteLock() {
+        long current = state;
+        return isFree(current) && STATE_UPDATER.compareAndSet(this, current, current | WRITE_LOCKED);
+    }
+    
+    /**
+     * Release the write lock, and invalidate all stamps of optimistic read.
+     */
+    public void releaseWriteLock() {
+        long current;
+        do {
+            current = state;
+            if (!isWriteLocked(current)) {
+                return;
+            }
+        } while (!STATE_UPDATER.compareAndSet(this, current, (current & ~STATUS_MASK) + VERSION_UNIT));
     }
     
-    public synchronized void releaseWriteLock() {
-        status = 0;
+    /**
+     * Get a stamp for optimistic read.
+     *
+     * @return stamp to validate after read, 0 if the lock is write locked
+     */
+    public long tryOptimisticRead() {
+        long current = state;
+        return isWriteLocked(current) ? 0L : (current >>> 32) + 1;
     }
     
-    private boolean isWriteLocked() {
-        return status < 0;
+    /**
+     * Check whether the lock has not been write locked since the stamp is got.
+     *
+     * @param stamp stamp from {@link #tryOptimisticRead()}
+     * @return true if the reads after getting stamp are consistent
+     */
+    public boolean validate(long stamp) {
+        // the reads before validation must not be reordered after reading state.
+        VarHandle.acquireFence();
+        long current = state;
+        return stamp != 0L && !isWriteLocked(current) && (current >>> 32) + 1 == stamp;
     }
     
-    private boolean isFree() {
-        return status == 0;
+    private static boolean isWriteLocked(long state) {
+        return (state & STATUS_MASK) == WRITE_LOCKED;
     }
-
+    
+    private static boolean isFree(long state) {
+        return (state & STATUS_MASK) == 0;
+    }
+    
 }
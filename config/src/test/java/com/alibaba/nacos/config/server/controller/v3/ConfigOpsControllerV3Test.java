@@ -49,6 +49,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -100,6 +101,14 @@ class ConfigOpsControllerV3Test {
         assertEquals(200, actualValue);
     }
     
+    @Test
+    void testGetCacheMemory() throws Exception {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.OPS_CONTROLLER_V3_ADMIN_PATH + "/memory");
+        String actualValue = mockMvc.perform(builder).andReturn().getResponse().getContentAsString();
+        assertEquals(0, JacksonUtils.toObj(actualValue).get("code").intValue());
+        assertTrue(JacksonUtils.toObj(actualValue).get("data").has("bytesPerEntry"));
+    }
+    
     @Test
     void testSetLogLevel() throws Exception {
         
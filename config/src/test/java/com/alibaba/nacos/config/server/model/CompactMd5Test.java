@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactMd5Test {
+    
+    @Test
+    void testCompactMd5() {
+        String md5 = MD5Utils.md5Hex("content", "UTF-8");
+        CompactMd5 compactMd5 = CompactMd5.valueOf(md5);
+        assertTrue(compactMd5.isCompact());
+        assertEquals(md5, compactMd5.toString());
+        assertTrue(compactMd5.matches(md5));
+        assertFalse(compactMd5.matches(MD5Utils.md5Hex("other", "UTF-8")));
+        assertFalse(compactMd5.matches(md5.toUpperCase()));
+        assertFalse(compactMd5.matches(""));
+        assertFalse(compactMd5.matches(null));
+        assertEquals(CompactMd5.valueOf(md5), compactMd5);
+        assertEquals(CompactMd5.valueOf(md5).hashCode(), compactMd5.hashCode());
+        assertNotEquals(CompactMd5.valueOf(MD5Utils.md5Hex("other", "UTF-8")), compactMd5);
+    }
+    
+    @Test
+    void testBoundaryDigits() {
+        String md5 = "00000000000000000fffffffffffffff";
+        CompactMd5 compactMd5 = CompactMd5.valueOf(md5);
+        assertTrue(compactMd5.isCompact());
+        assertEquals(md5, compactMd5.toString());
+        assertTrue(compactMd5.matches(md5));
+        assertEquals("ffffffffffffffff0000000000000000",
+                CompactMd5.valueOf("ffffffffffffffff0000000000000000").toString());
+    }
+    
+    @Test
+    void testRawMd5() {
+        assertNull(CompactMd5.valueOf(null));
+        CompactMd5 empty = CompactMd5.valueOf("");
+        assertFalse(empty.isCompact());
+        assertEquals("", empty.toString());
+        assertTrue(empty.matches(""));
+        String upperCase = MD5Utils.md5Hex("content", "UTF-8").toUpperCase();
+        CompactMd5 upperCaseMd5 = CompactMd5.valueOf(upperCase);
+        assertFalse(upperCaseMd5.isCompact());
+        assertEquals(upperCase, upperCaseMd5.toString());
+        assertTrue(upperCaseMd5.matches(upperCase));
+        assertNotEquals(CompactMd5.valueOf(upperCase.toLowerCase()), upperCaseMd5);
+    }
+    
+    @Test
+    void testConfigCacheMd5() {
+        String md5 = MD5Utils.md5Hex("content", "UTF-8");
+        ConfigCache configCache = new ConfigCache(md5, 1L);
+        assertEquals(md5, configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(md5));
+        assertTrue(configCache.getCompactMd5().isCompact());
+        configCache.clear();
+        assertEquals("", configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(""));
+        configCache.setMd5(null);
+        assertNull(configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(null));
+        assertFalse(configCache.isMd5Equals(md5));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.monitor;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigCacheMemoryReportTest {
+    
+    MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        envUtilMockedStatic.when(() -> EnvUtil.getProperty("nacos.config.cache.type", "nacos")).thenReturn("nacos");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        envUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testEmptyReport() {
+        ConfigCacheMemoryReport report = new ConfigCacheMemoryReport();
+        assertEquals(0L, report.getEntryCount());
+        assertEquals(0L, report.getBytesPerEntry());
+        assertEquals(0L, report.getLegacyBytesPerEntry());
+    }
+    
+    @Test
+    void testReport() {
+        final String md5 = MD5Utils.md5Hex("content", "UTF-8");
+        CacheItem item = new CacheItem("dataId+group+tenant");
+        item.getConfigCache().setMd5(md5);
+        CacheItem grayItem = new CacheItem("dataId2+group+tenant");
+        grayItem.getConfigCache().setMd5(md5);
+        grayItem.initConfigGrayIfEmpty("beta");
+        grayItem.getConfigCacheGray().get("beta").setMd5(md5);
+        
+        ConfigCacheMemoryReport report = new ConfigCacheMemoryReport();
+        report.add(item);
+        report.add(grayItem);
+        assertEquals(2L, report.getEntryCount());
+        assertEquals(1L, report.getGrayCount());
+        assertEquals(3L, report.getCompactMd5Count());
+        // each md5 saves the bytes of a 32 chars string minus the compact holder.
+        long savedPerMd5 = ConfigCacheMemoryReport.stringBytes(md5) - ConfigCacheMemoryReport.COMPACT_MD5_BYTES;
+        assertEquals(40L, savedPerMd5);
+        assertEquals(3 * savedPerMd5, report.getLegacyEstimatedBytes() - report.getEstimatedBytes());
+        assertTrue(report.getBytesPerEntry() < report.getLegacyBytesPerEntry());
+    }
+    
+    @Test
+    void testRawMd5NotSaved() {
+        CacheItem item = new CacheItem("dataId+group+tenant");
+        item.getConfigCache().setMd5("");
+        ConfigCacheMemoryReport report = new ConfigCacheMemoryReport();
+        report.add(item);
+        assertEquals(0L, report.getCompactMd5Count());
+        assertEquals(report.getLegacyEstimatedBytes() + ConfigCacheMemoryReport.COMPACT_MD5_BYTES,
+                report.getEstimatedBytes());
+    }
+}
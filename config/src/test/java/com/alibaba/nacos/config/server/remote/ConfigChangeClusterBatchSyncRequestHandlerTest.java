@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigChangeClusterBatchSyncRequestHandlerTest {
+    
+    private ConfigChangeClusterBatchSyncRequestHandler configChangeClusterBatchSyncRequestHandler;
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @BeforeEach
+    void setUp() {
+        configChangeClusterBatchSyncRequestHandler = new ConfigChangeClusterBatchSyncRequestHandler(dumpService);
+    }
+    
+    @Test
+    void testHandle() throws NacosException {
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        request.addConfigChangeItem("dataId1", "group", "tenant", null, 1L);
+        request.addConfigChangeItem("dataId2", "group", "tenant", "beta", 2L);
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        ConfigChangeClusterBatchSyncResponse response = configChangeClusterBatchSyncRequestHandler.handle(request,
+                meta);
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        ArgumentCaptor<List<DumpRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dumpService).dumpBatch(captor.capture());
+        List<DumpRequest> dumpRequests = captor.getValue();
+        assertEquals(2, dumpRequests.size());
+        assertEquals("dataId1", dumpRequests.get(0).getDataId());
+        assertNull(dumpRequests.get(0).getGrayName());
+        assertEquals(1L, dumpRequests.get(0).getLastModifiedTs());
+        assertEquals("1.1.1.1", dumpRequests.get(0).getSourceIp());
+        assertEquals("dataId2", dumpRequests.get(1).getDataId());
+        assertEquals("beta", dumpRequests.get(1).getGrayName());
+        assertEquals("tenant", dumpRequests.get(1).getTenant());
+    }
+    
+    @Test
+    void testHandleEmpty() throws NacosException {
+        ConfigChangeClusterBatchSyncResponse response = configChangeClusterBatchSyncRequestHandler.handle(
+                new ConfigChangeClusterBatchSyncRequest(), new RequestMeta());
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        verify(dumpService, never()).dumpBatch(any());
+    }
+}
@@ -24,11 +24,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -105,4 +111,61 @@ class ConfigChangeListenContextTest {
         assertFalse(configListenStates.get("groupKey").isNamespaceTransfer());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetListenersReadOnly() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId", false);
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        assertThrows(UnsupportedOperationException.class, () -> listeners.add("otherConnectionId"));
+    }
+    
+    @Test
+    void testGetListenKeyMd5AfterRemove() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId", false);
+        configChangeListenContext.removeListen("groupKey", "connectionId");
+        assertNull(configChangeListenContext.getListenKeyMd5("connectionId", "groupKey"));
+        assertNull(configChangeListenContext.getListenKeyMd5("unknownConnectionId", "groupKey"));
+    }
+    
+    @Test
+    void testConcurrentListenAndClear() throws InterruptedException {
+        final int threadCount = 8;
+        final int groupKeyCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final String connectionId = "connectionId" + i;
+                final boolean clear = i % 2 == 0;
+                executorService.execute(() -> {
+                    try {
+                        for (int j = 0; j < groupKeyCount; j++) {
+                            configChangeListenContext.addListen("groupKey" + j, "md5", connectionId, false);
+                            // iterate listeners while others are modifying.
+                            Set<String> listeners = configChangeListenContext.getListeners("groupKey" + j);
+                            if (listeners != null) {
+                                listeners.forEach(each -> configChangeListenContext.getConfigListenState(each, "groupKey"));
+                            }
+                        }
+                        if (clear) {
+                            configChangeListenContext.clearContextForConnectionId(connectionId);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(threadCount / 2, configChangeListenContext.getConnectionCount());
+        for (int j = 0; j < groupKeyCount; j++) {
+            Set<String> listeners = configChangeListenContext.getListeners("groupKey" + j);
+            assertEquals(threadCount / 2, listeners.size());
+            for (String each : listeners) {
+                assertEquals("md5", configChangeListenContext.getListenKeyMd5(each, "groupKey" + j));
+            }
+        }
+    }
+    
+}
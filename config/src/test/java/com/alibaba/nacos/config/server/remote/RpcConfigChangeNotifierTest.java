@@ -17,8 +17,10 @@
 package com.alibaba.nacos.config.server.remote;
 
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
 import com.alibaba.nacos.config.server.model.ConfigListenState;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.core.remote.ConnectionManager;
@@ -48,6 +50,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -134,15 +137,20 @@ class RpcConfigChangeNotifierTest {
         //mock push tps passed
         Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
         
+        long payloadCacheHit = MetricsMonitor.getPushPayloadCacheHit().get();
+        long payloadCacheMiss = MetricsMonitor.getPushPayloadCacheMiss().get();
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+        //payload is serialized once for con1 and reused for con3.
+        assertEquals(payloadCacheMiss + 1, MetricsMonitor.getPushPayloadCacheMiss().get());
+        assertEquals(payloadCacheHit + 1, MetricsMonitor.getPushPayloadCacheHit().get());
         //wait rpc push executed.
         Thread.sleep(50L);
         //expect rpc push task run.
         Mockito.verify(rpcPushService, times(1))
-                .pushWithCallback(eq("con1"), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
+                .pushWithCallback(eq("con1"), any(PreSerializedRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
                         any(Executor.class));
         Mockito.verify(rpcPushService, times(1))
-                .pushWithCallback(eq("con3"), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
+                .pushWithCallback(eq("con3"), any(PreSerializedRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
                         any(Executor.class));
         
     }
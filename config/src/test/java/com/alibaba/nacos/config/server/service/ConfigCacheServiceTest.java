@@ -247,6 +247,34 @@ class ConfigCacheServiceTest {
         assertNull(grayCacheAfterRemove);
     }
     
+    @Test
+    void testIsUptodate() throws Exception {
+        String dataId = "dataIdtestIsUptodate";
+        String group = "group11";
+        String tenant = "tenant112";
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        assertTrue(ConfigCacheService.isUptodate(groupKey, ""));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, "anyMd5"));
+        
+        String content = "formalContent";
+        String md5 = MD5Utils.md5Hex(content, "UTF-8");
+        ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5, System.currentTimeMillis(), "text", null);
+        String grayContent = "grayContent";
+        String grayRule = "{\"type\":\"tag\",\"version\":\"1.0.0\",\"expr\":\"uptodateTag\",\"priority\":1}";
+        ConfigCacheService.dumpGray(dataId, group, tenant, "grayName", grayRule, grayContent,
+                System.currentTimeMillis(), null);
+        String grayMd5 = MD5Utils.md5Hex(grayContent, "UTF-8");
+        
+        assertTrue(ConfigCacheService.isUptodate(groupKey, md5));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, grayMd5));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, md5.toUpperCase()));
+        assertTrue(ConfigCacheService.isUptodate(groupKey, grayMd5, null, "uptodateTag"));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, md5, null, "uptodateTag"));
+        assertTrue(ConfigCacheService.isUptodate(groupKey, md5, null, "otherTag"));
+        
+        ConfigCacheService.remove(dataId, group, tenant);
+    }
+    
     @Test
     void testTryConfigReadLock() throws Exception {
         String dataId = "123testTryConfigReadLock";
@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigContentCacheTest {
+    
+    @BeforeEach
+    void setUp() {
+        ConfigContentCache.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ConfigContentCache.clear();
+    }
+    
+    @Test
+    void testPutAndGet() {
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        ConfigContentCache.put("dataId+group", "gray", "grayMd5", "grayContent");
+        assertEquals("content", ConfigContentCache.get("dataId+group", null, "md5"));
+        assertEquals("grayContent", ConfigContentCache.get("dataId+group", "gray", "grayMd5"));
+        assertNull(ConfigContentCache.get("dataId+group", "otherGray", "grayMd5"));
+        assertEquals(2, ConfigContentCache.size());
+    }
+    
+    @Test
+    void testGetWithChangedMd5() {
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        assertNull(ConfigContentCache.get("dataId+group", null, "newMd5"));
+        ConfigContentCache.put("dataId+group", null, "newMd5", "newContent");
+        assertEquals("newContent", ConfigContentCache.get("dataId+group", null, "newMd5"));
+        assertNull(ConfigContentCache.get("dataId+group", null, "md5"));
+    }
+    
+    @Test
+    void testRemove() {
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        ConfigContentCache.put("dataId+group", "gray", "grayMd5", "grayContent");
+        ConfigContentCache.remove("dataId+group", null);
+        assertNull(ConfigContentCache.get("dataId+group", null, "md5"));
+        assertEquals("grayContent", ConfigContentCache.get("dataId+group", "gray", "grayMd5"));
+    }
+    
+    @Test
+    void testRemoveCacheItem() {
+        CacheItem cacheItem = new CacheItem("dataId+group");
+        cacheItem.initConfigGrayIfEmpty("gray");
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        ConfigContentCache.put("dataId+group", "gray", "grayMd5", "grayContent");
+        ConfigContentCache.put("dataId2+group", null, "md5", "content");
+        ConfigContentCache.remove(cacheItem);
+        assertNull(ConfigContentCache.get("dataId+group", null, "md5"));
+        assertNull(ConfigContentCache.get("dataId+group", "gray", "grayMd5"));
+        assertEquals("content", ConfigContentCache.get("dataId2+group", null, "md5"));
+    }
+    
+    @Test
+    void testPutBlankContentInvalidatesPrevious() {
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        ConfigContentCache.put("dataId+group", null, "emptyMd5", "");
+        assertEquals(0, ConfigContentCache.size());
+    }
+    
+    @Test
+    void testMaxBytesRefreshed() {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        long maxBytes = config.getContentCacheMaxBytes();
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        try {
+            config.setContentCacheMaxBytes(0L);
+            assertNull(ConfigContentCache.get("dataId+group", null, "md5"));
+            ConfigContentCache.put("dataId+group", null, "md5", "content");
+            assertEquals(0, ConfigContentCache.size());
+        } finally {
+            config.setContentCacheMaxBytes(maxBytes);
+        }
+        ConfigContentCache.put("dataId+group", null, "md5", "content");
+        assertEquals("content", ConfigContentCache.get("dataId+group", null, "md5"));
+    }
+    
+    @Test
+    void testBlankContentNotCached() {
+        ConfigContentCache.put("dataId+group", null, "md5", "");
+        ConfigContentCache.put("dataId+group", "gray", null, "grayContent");
+        assertEquals(0, ConfigContentCache.size());
+    }
+}
@@ -31,7 +31,15 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alibaba.nacos.api.common.Constants.ConfigChangedType.ADD_CONFIG;
 import static com.alibaba.nacos.api.common.Constants.ConfigChangedType.DELETE_CONFIG;
@@ -51,6 +59,8 @@ public class ConfigFuzzyWatchContextServiceTest {
     
     private static int mocMaxPatternConfigCount = 10;
     
+    private ConfigCommonConfig configCommonConfig;
+    
     /**
      * before.
      */
@@ -62,7 +72,7 @@ public class ConfigFuzzyWatchContextServiceTest {
         
         configCommonConfigMockedStatic = Mockito.mockStatic(ConfigCommonConfig.class);
         
-        ConfigCommonConfig configCommonConfig = Mockito.mock(ConfigCommonConfig.class);
+        configCommonConfig = Mockito.mock(ConfigCommonConfig.class);
         when(configCommonConfig.getMaxPatternCount()).thenReturn(mocMaxPattern);
         when(configCommonConfig.getMaxMatchedConfigCount()).thenReturn(mocMaxPatternConfigCount);
         
@@ -117,6 +127,48 @@ public class ConfigFuzzyWatchContextServiceTest {
         Assertions.assertTrue(matchedGroupKeys3.isEmpty());
     }
     
+    @Test
+    public void testSyncGroupKeyContextConcurrently() throws Exception {
+        ConfigFuzzyWatchContextService configFuzzyWatchContextService = new ConfigFuzzyWatchContextService();
+        String groupKeyPattern = FuzzyGroupKeyPattern.generatePattern("concurrent*", "group", "12345");
+        configFuzzyWatchContextService.addFuzzyWatch(groupKeyPattern, "id");
+        
+        final int threadCount = 16;
+        final int groupKeyCount = 200;
+        AtomicInteger notifyCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                final int threadIndex = i;
+                futures.add(executorService.submit(() -> {
+                    // static mock is thread local.
+                    try (MockedStatic<ConfigCommonConfig> mockedStatic = Mockito.mockStatic(ConfigCommonConfig.class)) {
+                        mockedStatic.when(ConfigCommonConfig::getInstance).thenReturn(configCommonConfig);
+                        startLatch.await();
+                        for (int j = threadIndex; j < groupKeyCount; j += threadCount) {
+                            String groupKey = GroupKey.getKeyTenant("concurrent" + j, "group", "12345");
+                            if (configFuzzyWatchContextService.syncGroupKeyContext(groupKey, ADD_CONFIG)) {
+                                notifyCount.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assertions.assertEquals(mocMaxPatternConfigCount, notifyCount.get());
+        Assertions.assertEquals(mocMaxPatternConfigCount,
+                configFuzzyWatchContextService.matchGroupKeys(groupKeyPattern).size());
+    }
+    
     @Test
     public void testSyncGroupKeyContext() throws NacosException {
         ConfigFuzzyWatchContextService configFuzzyWatchContextService = new ConfigFuzzyWatchContextService();
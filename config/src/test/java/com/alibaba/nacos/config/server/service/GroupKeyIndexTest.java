@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GroupKeyIndexTest {
+    
+    private GroupKeyIndex groupKeyIndex;
+    
+    @BeforeEach
+    void setUp() {
+        groupKeyIndex = new GroupKeyIndex();
+        for (String dataId : Arrays.asList("app", "app.yaml", "app+1", "apple", "other", "my-app")) {
+            groupKeyIndex.add(GroupKey2.getKey(dataId, "group", "tenant"));
+            groupKeyIndex.add(GroupKey2.getKey(dataId, "group2", "tenant"));
+            groupKeyIndex.add(GroupKey2.getKey(dataId, "group", ""));
+        }
+    }
+    
+    private Set<String> candidates(String dataIdPattern, String groupPattern, String namespace) {
+        Set<String> result = new HashSet<>();
+        groupKeyIndex.forEachCandidate(FuzzyGroupKeyPattern.generatePattern(dataIdPattern, groupPattern, namespace),
+                result::add);
+        return result;
+    }
+    
+    @Test
+    void testExactDataId() {
+        assertEquals(new HashSet<>(Arrays.asList(GroupKey2.getKey("app", "group", "tenant"))),
+                candidates("app", "group", "tenant"));
+        assertEquals(new HashSet<>(Arrays.asList(GroupKey2.getKey("app+1", "group", "tenant"))),
+                candidates("app+1", "group", "tenant"));
+        assertEquals(new HashSet<>(Arrays.asList(GroupKey2.getKey("app", "group", ""))),
+                candidates("app", "group", ""));
+    }
+    
+    @Test
+    void testPrefixDataId() {
+        assertEquals(new HashSet<>(Arrays.asList(GroupKey2.getKey("app", "group", "tenant"),
+                        GroupKey2.getKey("app.yaml", "group", "tenant"), GroupKey2.getKey("app+1", "group", "tenant"),
+                        GroupKey2.getKey("apple", "group", "tenant"))), candidates("app*", "group", "tenant"));
+        assertEquals(new HashSet<>(Arrays.asList(GroupKey2.getKey("app+1", "group", "tenant"))),
+                candidates("app+*", "group", "tenant"));
+        assertEquals(8, candidates("app*", "group*", "tenant").size());
+    }
+    
+    @Test
+    void testOtherPatternVisitAllOfGroup() {
+        assertEquals(6, candidates("*app", "group", "tenant").size());
+        assertEquals(12, candidates("*", "*", "tenant").size());
+        assertEquals(0, candidates("*", "*", "unknown").size());
+    }
+    
+    @Test
+    void testRemoveAndStop() {
+        groupKeyIndex.remove(GroupKey2.getKey("apple", "group", "tenant"));
+        assertEquals(3, candidates("app*", "group", "tenant").size());
+        Set<String> visited = new HashSet<>();
+        groupKeyIndex.forEachCandidate(FuzzyGroupKeyPattern.generatePattern("*", "*", "tenant"),
+                groupKey -> visited.add(groupKey) && visited.size() < 2);
+        assertEquals(2, visited.size());
+    }
+}
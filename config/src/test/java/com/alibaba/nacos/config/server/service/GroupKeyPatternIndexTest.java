@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GroupKeyPatternIndexTest {
+    
+    private static final List<String> PATTERNS = Arrays.asList(
+            FuzzyGroupKeyPattern.generatePattern("app.yaml", "group", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("app*", "group", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("*", "group", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("*.yaml", "group", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("*pp*", "group", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("a*l", "group", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("app*", "gro*", "tenant"),
+            FuzzyGroupKeyPattern.generatePattern("app*", "group", ""),
+            FuzzyGroupKeyPattern.generatePattern("app*", "other", "tenant"));
+    
+    private static Set<String> scan(String dataId, String group, String namespace) {
+        return PATTERNS.stream()
+                .filter(pattern -> FuzzyGroupKeyPattern.matchPattern(pattern, dataId, group, namespace))
+                .collect(Collectors.toSet());
+    }
+    
+    @Test
+    void testMatchPatternsSameAsScan() {
+        GroupKeyPatternIndex patternIndex = new GroupKeyPatternIndex();
+        PATTERNS.forEach(patternIndex::add);
+        for (String dataId : Arrays.asList("app.yaml", "app", "apple", "ap", "my.yaml", "all", "")) {
+            for (String group : Arrays.asList("group", "groupX", "other")) {
+                for (String namespace : Arrays.asList("tenant", "", "public", "unknown")) {
+                    assertEquals(scan(dataId, group, namespace), patternIndex.matchPatterns(dataId, group, namespace),
+                            dataId + "," + group + "," + namespace);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void testRemove() {
+        GroupKeyPatternIndex patternIndex = new GroupKeyPatternIndex();
+        String pattern = FuzzyGroupKeyPattern.generatePattern("app*", "group", "tenant");
+        patternIndex.add(pattern);
+        assertEquals(new HashSet<>(Collections.singletonList(pattern)),
+                patternIndex.matchPatterns("app", "group", "tenant"));
+        patternIndex.remove(pattern);
+        assertEquals(Collections.emptySet(), patternIndex.matchPatterns("app", "group", "tenant"));
+    }
+}
@@ -25,6 +25,7 @@ import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigRocksDbDiskService;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpProcessor;
+import com.alibaba.nacos.config.server.service.dump.task.DumpBatchTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
@@ -44,11 +45,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -170,4 +177,66 @@ class DumpProcessorTest {
         assertNull(contentFromDiskAfterRemove);
         
     }
+    
+    @Test
+    void testDumpBatch() throws IOException {
+        String group = "testGroup";
+        String tenant = "testTenant";
+        long time = System.currentTimeMillis();
+        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+        configInfoWrapper.setDataId("testDataId1");
+        configInfoWrapper.setGroup(group);
+        configInfoWrapper.setTenant(tenant);
+        configInfoWrapper.setContent("testContent1");
+        configInfoWrapper.setLastModified(time);
+        Mockito.when(configInfoPersistService.findConfigInfoByDataIds(eq(Arrays.asList("testDataId1", "testDataId2")),
+                eq(group), eq(tenant))).thenReturn(Collections.singletonList(configInfoWrapper));
+        
+        String handlerIp = "127.0.0.1";
+        DumpTask dumpTask1 = new DumpTask(GroupKey2.getKey("testDataId1", group, tenant), null, time, handlerIp);
+        DumpTask dumpTask2 = new DumpTask(GroupKey2.getKey("testDataId2", group, tenant), null, time, handlerIp);
+        boolean process = dumpProcessor.process(new DumpBatchTask(Arrays.asList(dumpTask1, dumpTask2)));
+        assertTrue(process);
+        verify(configInfoPersistService, never()).findConfigInfo(Mockito.anyString(), Mockito.anyString(),
+                Mockito.anyString());
+        
+        CacheItem contentCache = ConfigCacheService.getContentCache(GroupKey2.getKey("testDataId1", group, tenant));
+        assertEquals(MD5Utils.md5Hex("testContent1", "UTF-8"), contentCache.getConfigCache().getMd5());
+        assertEquals("testContent1", ConfigDiskServiceFactory.getInstance().getContent("testDataId1", group, tenant));
+        // not found config is removed
+        assertNull(ConfigCacheService.getContentCache(GroupKey2.getKey("testDataId2", group, tenant)));
+        
+        ConfigCacheService.remove("testDataId1", group, tenant);
+    }
+    
+    @Test
+    void testDumpBatchRetryFailedTasksOnly() {
+        String tenant = "testTenant";
+        long time = System.currentTimeMillis();
+        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+        configInfoWrapper.setDataId("testDataId1");
+        configInfoWrapper.setGroup("okGroup");
+        configInfoWrapper.setTenant(tenant);
+        configInfoWrapper.setContent("testContent1");
+        configInfoWrapper.setLastModified(time);
+        Mockito.when(configInfoPersistService.findConfigInfoByDataIds(eq(Collections.singletonList("testDataId1")),
+                eq("okGroup"), eq(tenant))).thenReturn(Collections.singletonList(configInfoWrapper));
+        Mockito.when(configInfoPersistService.findConfigInfoByDataIds(eq(Collections.singletonList("testDataId2")),
+                eq("failGroup"), eq(tenant))).thenThrow(new RuntimeException("mock error"))
+                .thenReturn(Collections.emptyList());
+        
+        String handlerIp = "127.0.0.1";
+        DumpTask dumpTask1 = new DumpTask(GroupKey2.getKey("testDataId1", "okGroup", tenant), null, time, handlerIp);
+        DumpTask dumpTask2 = new DumpTask(GroupKey2.getKey("testDataId2", "failGroup", tenant), null, time,
+                handlerIp);
+        DumpBatchTask dumpBatchTask = new DumpBatchTask(Arrays.asList(dumpTask1, dumpTask2));
+        assertFalse(dumpProcessor.process(dumpBatchTask));
+        assertEquals(Collections.singletonList(dumpTask2), dumpBatchTask.getDumpTasks());
+        
+        assertTrue(dumpProcessor.process(dumpBatchTask));
+        verify(configInfoPersistService, times(1)).findConfigInfoByDataIds(eq(Collections.singletonList("testDataId1")),
+                eq("okGroup"), eq(tenant));
+        
+        ConfigCacheService.remove("testDataId1", "okGroup", tenant);
+    }
 }
@@ -53,6 +53,13 @@ class ConfigDiskServiceFactoryTest {
         assertTrue(instance instanceof ConfigRocksDbDiskService);
     }
     
+    @Test
+    void getMmapDiskInstance() {
+        System.setProperty("config_disk_type", "mmapdisk");
+        ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+        assertTrue(instance instanceof ConfigMmapDiskService);
+    }
+    
     @Test
     void getDefaultRawDiskInstance() {
         System.setProperty("config_disk_type", "123");
@@ -0,0 +1,154 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    private ConfigRocksDbDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        diskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        diskService.clearAll();
+        diskService.clearAllGray();
+    }
+    
+    @Test
+    void testGetKeyByte() {
+        assertArrayEquals("a%2Bb+g%25+++".getBytes(StandardCharsets.UTF_8),
+                ConfigRocksDbDiskService.getKeyByte("a+b", "g%", "", null));
+        assertArrayEquals("数据%2B+组++gray+".getBytes(StandardCharsets.UTF_8),
+                ConfigRocksDbDiskService.getKeyByte("数据+", "组", " ", "gray"));
+    }
+    
+    @Test
+    void testDeleteLegacyDbDirs() throws IOException {
+        File legacyConfigDir = new File(EnvUtil.getNacosHome(), "rocksdata" + File.separator + "config-data");
+        File legacyGrayDir = new File(EnvUtil.getNacosHome(), "rocksdata" + File.separator + "gray-data");
+        assertTrue(legacyConfigDir.mkdirs() || legacyConfigDir.exists());
+        assertTrue(legacyGrayDir.mkdirs() || legacyGrayDir.exists());
+        assertTrue(new File(legacyConfigDir, "CURRENT").createNewFile());
+        diskService.deleteLegacyDbDirs();
+        assertFalse(legacyConfigDir.exists());
+        assertFalse(legacyGrayDir.exists());
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testSaveAndRemove() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content你好");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content你好", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "other"));
+        
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.removeConfigInfo4Gray("dataId", "group", "tenant", "gray");
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testBatchWrite() throws IOException {
+        diskService.saveToDisk("removed", "group", "tenant", "content");
+        diskService.startBatch();
+        for (String dataId : Arrays.asList("dataId1", "dataId2", "dataId3")) {
+            diskService.saveToDisk(dataId, "group", "tenant", dataId);
+        }
+        diskService.removeConfigInfo("removed", "group", "tenant");
+        assertNull(diskService.getContent("dataId1", "group", "tenant"));
+        assertEquals("content", diskService.getContent("removed", "group", "tenant"));
+        
+        diskService.commitBatch();
+        for (String dataId : Arrays.asList("dataId1", "dataId2", "dataId3")) {
+            assertEquals(dataId, diskService.getContent(dataId, "group", "tenant"));
+        }
+        assertNull(diskService.getContent("removed", "group", "tenant"));
+        
+        // writes after commit are not batched.
+        diskService.saveToDisk("dataId4", "group", "tenant", "dataId4");
+        assertEquals("dataId4", diskService.getContent("dataId4", "group", "tenant"));
+    }
+    
+    @Test
+    void testClearAll() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.clearAllGray();
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        
+        diskService.saveToDisk("dataId", "group", "tenant", "newContent");
+        assertEquals("newContent", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testClearAllWhileWriting() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            int i = 0;
+            while (!stop.get()) {
+                try {
+                    diskService.saveToDisk("dataId" + i, "group", "tenant", "content" + i);
+                    diskService.getContent("dataId" + i, "group", "tenant");
+                    i++;
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                    return;
+                }
+            }
+        });
+        writer.start();
+        // the dropped column family handle is closed on every clear, concurrent writes must not use the closed one.
+        for (int i = 0; i < 20; i++) {
+            diskService.clearAll();
+        }
+        stop.set(true);
+        writer.join();
+        assertNull(failure.get());
+        
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSegmentStoreTest {
+    
+    @TempDir
+    File tempDir;
+    
+    private ConfigSegmentStore store;
+    
+    @BeforeEach
+    void setUp() {
+        store = new ConfigSegmentStore(tempDir, 1024);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        store.clear();
+    }
+    
+    @Test
+    void testPutGetAndRemove() throws IOException {
+        store.put("key", "content你好");
+        assertEquals("content你好", store.get("key"));
+        store.put("key", "newContent");
+        assertEquals("newContent", store.get("key"));
+        store.remove("key");
+        assertNull(store.get("key"));
+        assertEquals(0, store.size());
+    }
+    
+    @Test
+    void testRollAndLargeRecord() throws IOException {
+        StringBuilder largeContent = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            largeContent.append("content");
+        }
+        store.put("small", "small");
+        store.put("large", largeContent.toString());
+        store.put("small2", "small2");
+        assertEquals(largeContent.toString(), store.get("large"));
+        assertEquals("small", store.get("small"));
+        assertEquals("small2", store.get("small2"));
+        assertEquals(3, store.segmentCount());
+    }
+    
+    @Test
+    void testCompact() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + (i % 10), "content" + i);
+        }
+        final int segmentCount = store.segmentCount();
+        store.compact();
+        assertEquals(10, store.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("content" + (90 + i), store.get("key" + i));
+        }
+        assertTrue(store.segmentCount() < segmentCount);
+        assertEquals(store.segmentCount(), Objects.requireNonNull(tempDir.listFiles()).length);
+    }
+    
+    @Test
+    void testClear() throws IOException {
+        store.put("key", "content");
+        store.clear();
+        assertNull(store.get("key"));
+        assertEquals(0, Objects.requireNonNull(tempDir.listFiles()).length);
+        store.put("key", "newContent");
+        assertEquals("newContent", store.get("key"));
+    }
+}
@@ -45,9 +45,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -216,19 +218,11 @@ class DumpAllProcessorTest {
         Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), false))
                 .thenReturn(page);
         
-        ConfigInfoWrapper configInfoWrapperSingle1 = new ConfigInfoWrapper();
-        BeanUtils.copyProperties(configInfoWrapper1, configInfoWrapperSingle1);
-        configInfoWrapperSingle1.setContent("content123456");
-        Mockito.when(
-                configInfoPersistService.findConfigInfo(configInfoWrapper1.getDataId(), configInfoWrapper1.getGroup(),
-                        configInfoWrapper1.getTenant())).thenReturn(configInfoWrapperSingle1);
-        
         ConfigInfoWrapper configInfoWrapperSingle2 = new ConfigInfoWrapper();
         BeanUtils.copyProperties(configInfoWrapper2, configInfoWrapperSingle2);
         configInfoWrapperSingle2.setContent("content123456222");
-        Mockito.when(
-                configInfoPersistService.findConfigInfo(configInfoWrapper2.getDataId(), configInfoWrapper2.getGroup(),
-                        configInfoWrapper2.getTenant())).thenReturn(configInfoWrapperSingle2);
+        Mockito.when(configInfoPersistService.findAllConfigInfoByIds(Collections.singletonList(2L)))
+                .thenReturn(Collections.singletonList(configInfoWrapperSingle2));
         
         // For config 1, assign a latter time, to make sure that it would not be updated.
         // For config 2, assign an earlier time, to make sure that it would be updated.
@@ -277,4 +271,15 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapperSingle2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllOnStartUpWithQueryFail() {
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(2L);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, PropertyUtil.getAllDumpPageSize(), true))
+                .thenThrow(new IllegalStateException("mock db fail"));
+        
+        // startup dump should fail instead of reporting success with empty cache.
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> dumpAllProcessor.process(new DumpAllTask(true)));
+        assertEquals("mock db fail", exception.getMessage());
+    }
 }
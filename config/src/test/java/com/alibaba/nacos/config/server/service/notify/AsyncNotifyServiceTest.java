@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -25,6 +27,8 @@ import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.AsyncRpcNotifyCallBack;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberMetaDataConstants;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
 import com.alibaba.nacos.api.common.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -33,6 +37,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,12 +45,16 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.HEALTHY_CHECK_STATUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -229,4 +238,102 @@ class AsyncNotifyServiceTest {
                         any(TimeUnit.class)), times(2));
         
     }
+    
+    @Test
+    void testHandleConfigDataChangeEventWithBatchSync() {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC, true);
+        List<Member> memberList = new ArrayList<>();
+        memberList.add(member1);
+        Mockito.when(serverMemberManager.allMembersWithoutSelf()).thenReturn(memberList);
+        
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId1", "testGroup", null, System.currentTimeMillis()));
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId2", "testGroup", null, System.currentTimeMillis()));
+        
+        // expect only one batch sync scheduled in coalescing window, and no single sync.
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncBatchRpcTask.class), anyLong(),
+                        any(TimeUnit.class)), times(1));
+        configExecutorMocked.verify(() -> ConfigExecutor.executeAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class)),
+                times(0));
+    }
+    
+    @Test
+    void testExecuteAsyncBatchRpcTask() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC, true);
+        List<Member> memberList = new ArrayList<>();
+        memberList.add(member1);
+        Mockito.when(serverMemberManager.allMembersWithoutSelf()).thenReturn(memberList);
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member1.getAddress()), eq(HEALTHY_CHECK_STATUS)))
+                .thenReturn(true);
+        
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId1", "testGroup", null, System.currentTimeMillis()));
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId2", "testGroup", null, System.currentTimeMillis()));
+        // the same config changed again in window is synced only once.
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId1", "testGroup", null, System.currentTimeMillis()));
+        
+        asyncNotifyService.executeAsyncBatchRpcTask(member1.getAddress());
+        
+        ArgumentCaptor<ConfigChangeClusterBatchSyncRequest> requestCaptor = ArgumentCaptor.forClass(
+                ConfigChangeClusterBatchSyncRequest.class);
+        ArgumentCaptor<RequestCallBack> callBackCaptor = ArgumentCaptor.forClass(RequestCallBack.class);
+        Mockito.verify(configClusterRpcClientProxy, times(1))
+                .syncConfigChangeBatch(eq(member1), requestCaptor.capture(), callBackCaptor.capture());
+        assertEquals(2, requestCaptor.getValue().getConfigChangeItems().size());
+        configExecutorMocked.verify(() -> ConfigExecutor.executeAsyncNotify(any(AsyncNotifyService.AsyncBatchRpcTask.class)),
+                times(0));
+        
+        // failed batch is retried one by one.
+        ConfigChangeClusterBatchSyncResponse failResponse = new ConfigChangeClusterBatchSyncResponse();
+        failResponse.setResultCode(500);
+        callBackCaptor.getValue().onResponse(failResponse);
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(),
+                        any(TimeUnit.class)), times(2));
+    }
+    
+    @Test
+    void testHandleMembersChangeEventRemoveLeftMemberQueue() {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC, true);
+        Member member2 = new Member();
+        member2.setIp("testip2" + timeStamp);
+        member2.setState(NodeState.UP);
+        member2.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC, true);
+        List<Member> memberList = new ArrayList<>();
+        memberList.add(member1);
+        memberList.add(member2);
+        Mockito.when(serverMemberManager.allMembersWithoutSelf()).thenReturn(memberList);
+        
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("testDataId1", "testGroup", null, System.currentTimeMillis()));
+        Map<String, ?> batchNotifyQueues = (Map<String, ?>) ReflectionTestUtils.getField(asyncNotifyService,
+                "batchNotifyQueues");
+        assertEquals(2, batchNotifyQueues.size());
+        
+        asyncNotifyService.handleMembersChangeEvent(
+                MembersChangeEvent.builder().members(Collections.singletonList(member1)).build());
+        assertEquals(1, batchNotifyQueues.size());
+        assertTrue(batchNotifyQueues.containsKey(member1.getAddress()));
+    }
 }
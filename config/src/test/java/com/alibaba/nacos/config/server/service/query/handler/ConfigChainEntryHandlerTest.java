@@ -17,7 +17,11 @@
 package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -58,6 +62,12 @@ class ConfigChainEntryHandlerTest {
     @Mock
     private CacheItem cacheItem;
     
+    @Mock
+    private ConfigCache configCache;
+    
+    @Mock
+    private ConfigDiskService configDiskService;
+    
     @BeforeEach
     public void setUp() {
         mockedStaticGroupKey2 = Mockito.mockStatic(GroupKey2.class);
@@ -147,6 +157,89 @@ class ConfigChainEntryHandlerTest {
         verify(nextHandler, never()).handle(any());
     }
     
+    @Test
+    public void handleOptimisticReadValidShouldNotTakeReadLock() throws IOException {
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        
+        String groupKey = "groupKey";
+        mockedStaticGroupKey2.when(() -> GroupKey2.getKey(anyString(), anyString(), anyString())).thenReturn(groupKey);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.getContentCache(groupKey)).thenReturn(cacheItem);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.tryOptimisticRead(cacheItem)).thenReturn(1L);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.validateOptimisticRead(cacheItem, 1L))
+                .thenReturn(true);
+        
+        ConfigQueryChainResponse nextResponse = new ConfigQueryChainResponse();
+        nextResponse.setResultCode(200);
+        when(nextHandler.handle(request)).thenReturn(nextResponse);
+        ConfigQueryChainResponse response = configChainEntryHandler.handle(request);
+        
+        assertEquals(200, response.getResultCode());
+        verify(nextHandler, times(1)).handle(request);
+        mockedStaticConfigCacheService.verify(() -> ConfigCacheService.tryConfigReadLock(groupKey), never());
+    }
+    
+    @Test
+    public void handleOptimisticReadInvalidShouldRetryWithReadLock() throws IOException {
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        
+        String groupKey = "groupKey";
+        mockedStaticGroupKey2.when(() -> GroupKey2.getKey(anyString(), anyString(), anyString())).thenReturn(groupKey);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.getContentCache(groupKey)).thenReturn(cacheItem);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.tryOptimisticRead(cacheItem)).thenReturn(1L);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.validateOptimisticRead(cacheItem, 1L))
+                .thenReturn(false);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.tryConfigReadLock(groupKey)).thenReturn(1);
+        
+        when(nextHandler.handle(request)).thenThrow(new IOException("content is changing"))
+                .thenReturn(new ConfigQueryChainResponse());
+        configChainEntryHandler.handle(request);
+        
+        verify(nextHandler, times(2)).handle(request);
+        mockedStaticConfigCacheService.verify(() -> ConfigCacheService.releaseReadLock(groupKey), times(1));
+    }
+    
+    @Test
+    public void handleOptimisticReadInterleavedWithDumpShouldNotCacheStaleContent() throws IOException {
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        
+        String groupKey = "groupKey";
+        mockedStaticGroupKey2.when(() -> GroupKey2.getKey(anyString(), anyString(), anyString())).thenReturn(groupKey);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.getContentCache(groupKey)).thenReturn(cacheItem);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.tryOptimisticRead(cacheItem)).thenReturn(1L);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.validateOptimisticRead(cacheItem, 1L))
+                .thenReturn(false);
+        mockedStaticConfigCacheService.when(() -> ConfigCacheService.tryConfigReadLock(groupKey)).thenReturn(1);
+        // a dump of content B happens after md5 A is read in optimistic read, and before the content is read from disk.
+        when(cacheItem.getGroupKey()).thenReturn(groupKey);
+        when(cacheItem.getConfigCache()).thenReturn(configCache);
+        when(configCache.getMd5()).thenReturn("md5A", "md5B");
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("contentB");
+        configChainEntryHandler.setNextHandler(new FormalHandler());
+        
+        try (MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic = Mockito.mockStatic(
+                ConfigDiskServiceFactory.class)) {
+            configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance)
+                    .thenReturn(configDiskService);
+            ConfigQueryChainResponse response = configChainEntryHandler.handle(request);
+            
+            assertEquals("md5B", response.getMd5());
+            assertEquals("contentB", response.getContent());
+            assertNull(ConfigContentCache.get(groupKey, null, "md5A"));
+            assertEquals("contentB", ConfigContentCache.get(groupKey, null, "md5B"));
+        } finally {
+            ConfigContentCache.clear();
+        }
+    }
+    
     @Test
     public void testGetName() {
         assertEquals("chainEntryHandler", configChainEntryHandler.getName());
@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
@@ -35,6 +36,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,6 +74,7 @@ class FormalHandlerTest {
     public void tearDown() {
         configDiskServiceFactoryMockedStatic.close();
         configChainEntryHandlerMockedStatic.close();
+        ConfigContentCache.clear();
     }
     
     @Test
@@ -111,6 +117,31 @@ class FormalHandlerTest {
         assertEquals(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL, response.getStatus());
     }
     
+    @Test
+    public void handleContentCachedShouldNotReadDisk() throws IOException {
+        when(cacheItem.getGroupKey()).thenReturn("dataId+group+tenant");
+        when(cacheItem.getConfigCache()).thenReturn(configCache);
+        when(configCache.getMd5()).thenReturn("mockMd5");
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("mockContent");
+        configChainEntryHandlerMockedStatic.when(
+                () -> ConfigChainEntryHandler.cacheContent(anyString(), any(), anyString(), anyString()))
+                .thenCallRealMethod();
+        
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        
+        assertEquals("mockContent", formalHandler.handle(request).getContent());
+        assertEquals("mockContent", formalHandler.handle(request).getContent());
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+        
+        // md5 changed, cached content is invalid.
+        when(configCache.getMd5()).thenReturn("newMd5");
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("newContent");
+        assertEquals("newContent", formalHandler.handle(request).getContent());
+    }
+    
     @Test
     public void testGetName() {
         assertEquals("formalHandler", formalHandler.getName());
@@ -20,7 +20,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -79,4 +88,84 @@ class SimpleReadWriteLockTest {
         
         assertFalse(lock.tryWriteLock());
     }
+    
+    @Test
+    void testReleaseReadLockWhenWriteLocked() {
+        SimpleReadWriteLock lock = new SimpleReadWriteLock();
+        assertTrue(lock.tryWriteLock());
+        lock.releaseReadLock();
+        assertFalse(lock.tryReadLock());
+        lock.releaseWriteLock();
+        assertTrue(lock.tryReadLock());
+    }
+    
+    @Test
+    void testOptimisticRead() {
+        SimpleReadWriteLock lock = new SimpleReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        assertNotEquals(0L, stamp);
+        assertTrue(lock.validate(stamp));
+        
+        // read lock does not invalidate the stamp
+        assertTrue(lock.tryReadLock());
+        assertTrue(lock.validate(stamp));
+        lock.releaseReadLock();
+        
+        assertTrue(lock.tryWriteLock());
+        assertFalse(lock.validate(stamp));
+        assertEquals(0L, lock.tryOptimisticRead());
+        lock.releaseWriteLock();
+        assertFalse(lock.validate(stamp));
+        assertFalse(lock.validate(0L));
+        
+        long newStamp = lock.tryOptimisticRead();
+        assertNotEquals(stamp, newStamp);
+        assertTrue(lock.validate(newStamp));
+    }
+    
+    @Test
+    void testConcurrentOptimisticReadAndWrite() throws InterruptedException {
+        final SimpleReadWriteLock lock = new SimpleReadWriteLock();
+        final int[] pair = new int[2];
+        final int readerCount = 4;
+        final AtomicBoolean stop = new AtomicBoolean();
+        final AtomicInteger inconsistent = new AtomicInteger();
+        final AtomicInteger validReads = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(readerCount + 1);
+        CountDownLatch latch = new CountDownLatch(readerCount + 1);
+        final long deadline = System.currentTimeMillis() + 10000L;
+        executorService.execute(() -> {
+            // keep writing until some reads are validated, readers may be scheduled late on a busy machine.
+            for (int i = 1; i <= 20000 || validReads.get() == 0 && System.currentTimeMillis() < deadline; i++) {
+                while (!lock.tryWriteLock()) {
+                    Thread.onSpinWait();
+                }
+                pair[0] = i;
+                pair[1] = i;
+                lock.releaseWriteLock();
+            }
+            stop.set(true);
+            latch.countDown();
+        });
+        for (int i = 0; i < readerCount; i++) {
+            executorService.execute(() -> {
+                while (!stop.get()) {
+                    long stamp = lock.tryOptimisticRead();
+                    int first = pair[0];
+                    int second = pair[1];
+                    if (lock.validate(stamp)) {
+                        validReads.incrementAndGet();
+                        if (first != second) {
+                            inconsistent.incrementAndGet();
+                        }
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdownNow();
+        assertEquals(0, inconsistent.get());
+        assertTrue(validReads.get() > 0);
+    }
 }
@@ -354,6 +354,7 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest.class,
             com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest.class,
             com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest.class,
+            com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest.class,
             com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse.class,
             com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse.class,
             com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse.class,
@@ -361,6 +362,7 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse.class,
             com.alibaba.nacos.api.config.remote.response.ConfigRemoveResponse.class,
             com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse.class,
+            com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse.class,
             com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest.class,
             com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest.class,
             com.alibaba.nacos.api.naming.remote.request.ServiceListRequest.class,
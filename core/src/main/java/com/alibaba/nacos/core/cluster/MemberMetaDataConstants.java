@@ -44,6 +44,11 @@ public class MemberMetaDataConstants {
     
     public static final String SUPPORT_GRAY_MODEL = "supportGrayModel";
     
+    /**
+     * Whether the node can handle batched config change sync requests from other nodes.
+     */
+    public static final String SUPPORT_BATCH_CONFIG_SYNC = "supportBatchConfigSync";
+    
     public static final String[] BASIC_META_KEYS = new String[] {SITE_KEY, AD_WEIGHT, RAFT_PORT, WEIGHT, VERSION,
             READY_TO_UPGRADE};
 }
@@ -38,6 +38,8 @@ public class SpringValueConfigsInitializer implements ControlConfigsInitializer
     
     private static final String LOCAL_RULE_STORAGE_BASE_DIR = PREFIX + "rule.local.basedir";
     
+    private static final String TPS_BARRIER_CREATOR = PREFIX + "tps.barrier.creator";
+    
     private static final String DEFAULT_CONNECTION_RUNTIME_EJECTOR = "nacos";
     
     @Override
@@ -52,5 +54,6 @@ public class SpringValueConfigsInitializer implements ControlConfigsInitializer
         }
         controlConfigs.setRuleExternalStorage(EnvUtil.getProperty(RULE_EXTERNAL_STORAGE));
         controlConfigs.setControlManagerType(EnvUtil.getProperty(CONTROL_MANAGER_TYPE));
+        controlConfigs.setTpsBarrierCreator(EnvUtil.getProperty(TPS_BARRIER_CREATOR));
     }
 }
@@ -73,6 +73,7 @@ public class NacosHttpTpsFilter implements Filter {
         final HttpServletResponse response = (HttpServletResponse) servletResponse;
         
         Method method = controllerMethodsCache.getMethod(httpServletRequest);
+        TpsCheckRequest passedTpsCheckRequest = null;
         try {
             if (method != null && method.isAnnotationPresent(TpsControl.class)
                     && TpsControlConfig.isTpsControlEnabled()) {
@@ -100,13 +101,30 @@ public class NacosHttpTpsFilter implements Filter {
                                     asyncContext), 1000L, TimeUnit.MILLISECONDS);
                     return;
                 }
-                
+                passedTpsCheckRequest = httpTpsCheckRequest;
             }
         } catch (Throwable throwable) {
             Loggers.TPS.warn("Fail to  http tps check", throwable);
         }
         
-        filterChain.doFilter(httpServletRequest, response);
+        if (null == passedTpsCheckRequest) {
+            filterChain.doFilter(httpServletRequest, response);
+            return;
+        }
+        long handleStartTime = System.nanoTime();
+        try {
+            filterChain.doFilter(httpServletRequest, response);
+        } finally {
+            releaseTps(passedTpsCheckRequest, System.nanoTime() - handleStartTime);
+        }
+    }
+    
+    private void releaseTps(TpsCheckRequest tpsCheckRequest, long costNanos) {
+        try {
+            tpsControlManager.release(tpsCheckRequest, costNanos);
+        } catch (Throwable throwable) {
+            Loggers.TPS.warn("Fail to  http tps release", throwable);
+        }
     }
     
     @Override
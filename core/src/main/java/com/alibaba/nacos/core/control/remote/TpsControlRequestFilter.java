@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.context.RequestContextHolder;
 import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.control.TpsControlConfig;
 import com.alibaba.nacos.core.remote.AbstractRequestFilter;
@@ -43,6 +44,11 @@ import java.lang.reflect.Method;
 @Service
 public class TpsControlRequestFilter extends AbstractRequestFilter {
     
+    /**
+     * Key of request context to keep the tps check request passed, which should be released after request handled.
+     */
+    private static final String PASSED_TPS_CHECK_REQUEST = "passedTpsCheckRequest";
+    
     private TpsControlManager tpsControlManager;
     
     @Override
@@ -91,6 +97,7 @@ public class TpsControlRequestFilter extends AbstractRequestFilter {
                     }
                     
                 }
+                RequestContextHolder.getContext().addExtensionContext(PASSED_TPS_CHECK_REQUEST, tpsCheckRequest);
             } catch (Throwable throwable) {
                 com.alibaba.nacos.plugin.control.Loggers.TPS.warn("Tps check exception , request: {},exception:{}",
                         request.getClass().getSimpleName(), throwable);
@@ -100,6 +107,24 @@ public class TpsControlRequestFilter extends AbstractRequestFilter {
         return null;
     }
     
+    /**
+     * Release tps of current request if it is passed by tps check, should be called after request handled.
+     *
+     * @param costNanos cost of handling the request in nanoseconds
+     */
+    public static void releaseTps(long costNanos) {
+        Object passedRequest = RequestContextHolder.getContext().getExtensionContext(PASSED_TPS_CHECK_REQUEST);
+        if (!(passedRequest instanceof TpsCheckRequest)) {
+            return;
+        }
+        try {
+            ControlManagerCenter.getInstance().getTpsControlManager().release((TpsCheckRequest) passedRequest, costNanos);
+        } catch (Throwable throwable) {
+            com.alibaba.nacos.plugin.control.Loggers.TPS.warn("Tps release exception , point: {},exception:{}",
+                    ((TpsCheckRequest) passedRequest).getPointName(), throwable);
+        }
+    }
+    
     private void initTpsControlManager() {
         if (tpsControlManager == null) {
             tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
@@ -25,6 +25,7 @@ import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Metrics unified usage center.
@@ -101,6 +102,15 @@ public final class NacosMeterRegistryCenter {
         return null;
     }
     
+    public static <T> T gauge(String registry, String name, Iterable<Tag> tags, T stateObject,
+            ToDoubleFunction<T> valueFunction) {
+        CompositeMeterRegistry compositeMeterRegistry = METER_REGISTRIES.get(registry);
+        if (compositeMeterRegistry != null) {
+            return METER_REGISTRIES.get(registry).gauge(name, tags, stateObject, valueFunction);
+        }
+        return null;
+    }
+    
     public static Timer timer(String registry, String name, Iterable<Tag> tags) {
         CompositeMeterRegistry compositeMeterRegistry = METER_REGISTRIES.get(registry);
         if (compositeMeterRegistry != null) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.monitor;
+
+import com.alibaba.nacos.common.notify.DefaultShardedPublisher;
+import com.alibaba.nacos.common.notify.EventPublisher;
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Metrics of {@link DefaultShardedPublisher}, exports queue size and lag of each shard.
+ *
+ * @author Nacos
+ */
+public final class ShardedPublisherMetrics {
+    
+    private static final String METER_REGISTRY = NacosMeterRegistryCenter.CORE_STABLE_REGISTRY;
+    
+    private static final String METER_NAME = "nacos_publisher";
+    
+    private ShardedPublisherMetrics() {
+    }
+    
+    /**
+     * Register queue size and lag gauges for each shard if the publisher is sharded.
+     *
+     * @param publisher event publisher
+     */
+    public static void register(EventPublisher publisher) {
+        if (!(publisher instanceof DefaultShardedPublisher)) {
+            return;
+        }
+        DefaultShardedPublisher shardedPublisher = (DefaultShardedPublisher) publisher;
+        for (int i = 0; i < shardedPublisher.getShardCount(); i++) {
+            final int shard = i;
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, METER_NAME, buildTags(shardedPublisher, shard, "queueSize"),
+                    shardedPublisher, each -> each.getQueueSize(shard));
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, METER_NAME, buildTags(shardedPublisher, shard, "lagMillis"),
+                    shardedPublisher, each -> each.getLagMillis(shard));
+        }
+    }
+    
+    private static List<Tag> buildTags(DefaultShardedPublisher publisher, int shard, String name) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "core"));
+        tags.add(new ImmutableTag("name", name));
+        tags.add(new ImmutableTag("publisher", publisher.getPublisherName()));
+        tags.add(new ImmutableTag("shard", String.valueOf(shard)));
+        return tags;
+    }
+}
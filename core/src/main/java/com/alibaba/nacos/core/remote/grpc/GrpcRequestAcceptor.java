@@ -33,6 +33,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.context.RequestContext;
 import com.alibaba.nacos.core.context.RequestContextHolder;
 import com.alibaba.nacos.core.context.addition.BasicContext;
+import com.alibaba.nacos.core.control.remote.TpsControlRequestFilter;
 import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
@@ -195,7 +196,13 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             requestMeta.setAbilityTable(connection.getAbilityTable());
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
-            Response response = requestHandler.handleRequest(request, requestMeta);
+            Response response;
+            long handleStartTime = System.nanoTime();
+            try {
+                response = requestHandler.handleRequest(request, requestMeta);
+            } finally {
+                TpsControlRequestFilter.releaseTps(System.nanoTime() - handleStartTime);
+            }
             Payload payloadResponse = GrpcUtils.convert(response);
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
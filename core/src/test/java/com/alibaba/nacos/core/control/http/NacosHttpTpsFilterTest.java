@@ -116,6 +116,7 @@ class NacosHttpTpsFilterTest {
         
         //verify
         Mockito.verify(filterChain, Mockito.times(1)).doFilter(httpServletRequest, httpServletResponse);
+        Mockito.verify(tpsControlManager, Mockito.times(1)).release(any(TpsCheckRequest.class), Mockito.anyLong());
         
     }
     
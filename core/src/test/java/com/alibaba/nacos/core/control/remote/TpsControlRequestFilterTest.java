@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.context.RequestContextHolder;
 import com.alibaba.nacos.core.remote.HealthCheckRequestHandler;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.tps.TpsControlManager;
@@ -41,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class TpsControlRequestFilterTest {
@@ -67,6 +69,7 @@ class TpsControlRequestFilterTest {
     @AfterEach
     void after() {
         controlManagerCenterMockedStatic.close();
+        RequestContextHolder.removeContext();
     }
     
     /**
@@ -98,6 +101,34 @@ class TpsControlRequestFilterTest {
         assertNull(filterResponse);
     }
     
+    /**
+     * test tps check passed ,release after request handled.
+     */
+    @Test
+    void testReleaseAfterPass() {
+        HealthCheckRequest healthCheckRequest = new HealthCheckRequest();
+        RequestMeta requestMeta = new RequestMeta();
+        TpsCheckResponse tpsCheckResponse = new TpsCheckResponse(true, 200, "success");
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(tpsCheckResponse);
+        tpsControlRequestFilter.filter(healthCheckRequest, requestMeta, HealthCheckRequestHandler.class);
+        TpsControlRequestFilter.releaseTps(100L);
+        Mockito.verify(tpsControlManager).release(any(TpsCheckRequest.class), eq(100L));
+    }
+    
+    /**
+     * test tps check rejected ,not release.
+     */
+    @Test
+    void testNotReleaseAfterRejected() {
+        HealthCheckRequest healthCheckRequest = new HealthCheckRequest();
+        RequestMeta requestMeta = new RequestMeta();
+        TpsCheckResponse tpsCheckResponse = new TpsCheckResponse(false, 5031, "rejected");
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(tpsCheckResponse);
+        tpsControlRequestFilter.filter(healthCheckRequest, requestMeta, HealthCheckRequestHandler.class);
+        TpsControlRequestFilter.releaseTps(100L);
+        Mockito.verify(tpsControlManager, Mockito.never()).release(any(TpsCheckRequest.class), Mockito.anyLong());
+    }
+    
     /**
      * test tps check rejected ,response is not null.
      */
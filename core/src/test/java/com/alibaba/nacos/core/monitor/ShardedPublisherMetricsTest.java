@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.monitor;
+
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.DefaultShardedPublisher;
+import com.alibaba.nacos.common.notify.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ShardedPublisherMetricsTest {
+    
+    private SimpleMeterRegistry simpleMeterRegistry;
+    
+    private DefaultShardedPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY).add(simpleMeterRegistry);
+        publisher = new DefaultShardedPublisher(2);
+        publisher.init(MetricsTestEvent.class, 16);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+        CompositeMeterRegistry registry = NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY);
+        registry.remove(simpleMeterRegistry);
+    }
+    
+    @Test
+    void testRegister() {
+        ShardedPublisherMetrics.register(publisher);
+        for (int i = 0; i < publisher.getShardCount(); i++) {
+            Gauge queueSize = simpleMeterRegistry.find("nacos_publisher").tag("publisher", "MetricsTestEvent")
+                    .tag("shard", String.valueOf(i)).tag("name", "queueSize").gauge();
+            assertNotNull(queueSize);
+            assertEquals(0D, queueSize.value());
+            Gauge lag = simpleMeterRegistry.find("nacos_publisher").tag("publisher", "MetricsTestEvent")
+                    .tag("shard", String.valueOf(i)).tag("name", "lagMillis").gauge();
+            assertNotNull(lag);
+            assertEquals(0D, lag.value());
+        }
+    }
+    
+    @Test
+    void testRegisterNotShardedPublisher() {
+        int gaugeCount = simpleMeterRegistry.find("nacos_publisher").gauges().size();
+        ShardedPublisherMetrics.register(new DefaultPublisher());
+        assertEquals(gaugeCount, simpleMeterRegistry.find("nacos_publisher").gauges().size());
+    }
+    
+    private static class MetricsTestEvent extends Event {
+        
+        private static final long serialVersionUID = -1470853432581929618L;
+    }
+}
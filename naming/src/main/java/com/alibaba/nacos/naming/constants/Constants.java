@@ -65,6 +65,16 @@ public final class Constants {
      */
     public static final String EXPIRE_INSTANCE = "nacos.naming.expireInstance";
     
+    /**
+     * Whether to use NIO http health checker for persistent instances. default: true.
+     */
+    public static final String HTTP_HEALTH_CHECK_NIO_ENABLED = "nacos.naming.health.http.nio.enabled";
+    
+    /**
+     * Selector thread count of NIO http health checker. default: a quarter of available processors, at least 1.
+     */
+    public static final String HTTP_HEALTH_CHECK_NIO_THREADS = "nacos.naming.health.http.nio.threads";
+    
     /**
      * UDP max retry times.
      */
@@ -43,4 +43,13 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Naming push task max delay time when changes of one service are frequent, unit: milliseconds. The push delay of
+     * service grows from {@link #PUSH_TASK_DELAY} to this value during frequent changes, such as rolling deploy. If it
+     * is not larger than {@link #PUSH_TASK_DELAY}, the push delay is fixed.
+     */
+    public static final String PUSH_TASK_MAX_DELAY = "nacos.naming.push.pushTaskMaxDelay";
+    
+    public static final long DEFAULT_PUSH_TASK_MAX_DELAY = 3000L;
 }
@@ -48,6 +48,11 @@ public class ClientOperationEvent extends Event {
         return service;
     }
     
+    @Override
+    public Object shardKey() {
+        return clientId;
+    }
+    
     /**
      * Client register service event.
      */
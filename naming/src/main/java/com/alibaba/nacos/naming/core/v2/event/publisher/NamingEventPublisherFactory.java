@@ -16,9 +16,14 @@
 
 package com.alibaba.nacos.naming.core.v2.event.publisher;
 
+import com.alibaba.nacos.common.notify.DefaultShardedPublisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.common.notify.ShardedPublisherFactory;
+import com.alibaba.nacos.core.monitor.ShardedPublisherMetrics;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,6 +33,8 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
+ * {@link ClientOperationEvent} of different clients are not related, they are handled by
+ * {@link DefaultShardedPublisher} which keeps the order of events of same client.
  * </p>
  *
  * @author xiweng.yy
@@ -36,7 +43,7 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
@@ -52,6 +59,11 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
+            if (ClientOperationEvent.class.equals(eventClass)) {
+                EventPublisher result = ShardedPublisherFactory.getInstance().apply(eventClass, maxQueueSize);
+                ShardedPublisherMetrics.register(result);
+                return (ShardedEventPublisher) result;
+            }
             NamingEventPublisher result = new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
@@ -60,8 +72,10 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            String status = each instanceof DefaultShardedPublisher ? ((DefaultShardedPublisher) each).getStatus()
+                    : ((NamingEventPublisher) each).getStatus();
+            result.append('\t').append(status).append('\n');
         }
         return result.toString();
     }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.core.v2.event.service;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 /**
@@ -54,6 +55,13 @@ public class ServiceEvent extends Event {
         public ServiceChangedEvent(Service service, String changedType, boolean incrementRevision) {
             super(service);
             this.changedType = changedType;
+            renew(service, incrementRevision);
+            // Readers such as ServiceStorage check the revision of singleton, so the change should be recorded to it.
+            ServiceManager.getInstance().getSingletonIfExist(service).filter(singleton -> singleton != service)
+                    .ifPresent(singleton -> renew(singleton, incrementRevision));
+        }
+        
+        private static void renew(Service service, boolean incrementRevision) {
             service.renewUpdateTime();
             if (incrementRevision) {
                 service.incrementRevision();
@@ -129,13 +129,19 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addPublisherIndexes(Service service, String clientId) {
-        String serviceChangedType = Constants.ServiceChangedType.INSTANCE_CHANGED;
-        if (!publisherIndexes.containsKey(service)) {
-            // The only time the index needs to be updated is when the service is first created
-            serviceChangedType = Constants.ServiceChangedType.ADD_SERVICE;
-        }
-        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, serviceChangedType, true));
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>()).add(clientId);
+        final String[] serviceChangedType = {Constants.ServiceChangedType.INSTANCE_CHANGED};
+        // Update index before changed event which increases service revision, see ServiceStorage.
+        // Client operations of different clients are handled concurrently, so update index atomically.
+        publisherIndexes.compute(service, (key, ids) -> {
+            if (null == ids) {
+                // The only time the index needs to be updated is when the service is first created
+                serviceChangedType[0] = Constants.ServiceChangedType.ADD_SERVICE;
+                ids = new ConcurrentHashSet<>();
+            }
+            ids.add(clientId);
+            return ids;
+        });
+        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, serviceChangedType[0], true));
     }
     
     private void removePublisherIndexes(Service service, String clientId) {
@@ -149,21 +155,24 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
+        final boolean[] added = {false};
+        subscriberIndexes.compute(service, (key, clientIds) -> {
+            if (null == clientIds) {
+                clientIds = new ConcurrentHashSet<>();
+            }
+            added[0] = clientIds.add(clientId);
+            return clientIds;
+        });
         // Fix #5404, Only first time add need notify event.
-        if (clientIds.add(clientId)) {
+        if (added[0]) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
     private void removeSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.get(service);
-        if (clientIds == null) {
-            return;
-        }
-        clientIds.remove(clientId);
-        if (clientIds.isEmpty()) {
-            subscriberIndexes.remove(service);
-        }
+        subscriberIndexes.computeIfPresent(service, (key, clientIds) -> {
+            clientIds.remove(clientId);
+            return clientIds.isEmpty() ? null : clientIds;
+        });
     }
 }
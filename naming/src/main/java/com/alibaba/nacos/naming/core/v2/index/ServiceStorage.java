@@ -24,16 +24,20 @@ import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -43,11 +47,31 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Service storage.
  *
+ * <p>The instances of each client are materialized once and kept in an instance table, and the service data is cached
+ * together with the {@link Service#getRevision()} it is built from. Reading service data is O(1) until the revision of
+ * service changed, and only instances of changed clients are materialized again when rebuilding.
+ *
+ * <p>The instance table is not maintained from {@link com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent}
+ * directly. Heartbeat and health check change the healthy state of {@link InstancePublishInfo} in place and instance
+ * metadata is changed by {@link NamingMetadataManager}, neither of them goes through client operation events, and
+ * another subscriber of these events is not ordered with {@link ClientServiceIndexesManager} which increases the
+ * revision, so a rebuild might see the new revision before the table is updated. So a rebuild still visits each client of
+ * the service, but only compares the publish info, healthy state and metadata by reference, which keeps the table
+ * correct for all kinds of changes without parsing the instances of unchanged clients.
+ *
+ * <p>For services without selector, the instances selected by clusters, healthy and enabled conditions are the same for
+ * all subscribers, so these views are also computed once per service data and shared until the service changed.
+ *
  * @author xiweng.yy
  */
 @Component
 public class ServiceStorage {
     
+    /**
+     * Max count of selected views kept for each service data, the views beyond it are computed for every query.
+     */
+    private static final int MAX_SELECTED_VIEWS = 32;
+    
     private final ClientServiceIndexesManager serviceIndexesManager;
     
     private final ClientManager clientManager;
@@ -56,7 +80,9 @@ public class ServiceStorage {
     
     private final NamingMetadataManager metadataManager;
     
-    private final ConcurrentMap<Service, ServiceInfo> serviceDataIndexes;
+    private final ConcurrentMap<Service, ServiceData> serviceDataIndexes;
+    
+    private final ConcurrentMap<Service, ConcurrentMap<String, ClientInstances>> serviceInstanceTable;
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
@@ -67,6 +93,7 @@ public class ServiceStorage {
         this.switchDomain = switchDomain;
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
+        this.serviceInstanceTable = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
     }
     
@@ -75,22 +102,95 @@ public class ServiceStorage {
     }
     
     public ServiceInfo getData(Service service) {
-        return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
+        ServiceData snapshot = serviceDataIndexes.get(service);
+        return null != snapshot ? snapshot.serviceInfo : getPushData(service);
     }
     
     public ServiceInfo getPushData(Service service) {
-        ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
-            return result;
+            return emptyServiceInfo(service);
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
+        // Revision should be read before instances, so that any change during building will make this data expired.
+        long revision = singleton.getRevision();
+        ServiceData snapshot = serviceDataIndexes.get(singleton);
+        if (null != snapshot && snapshot.revision == revision) {
+            return snapshot.serviceInfo;
+        }
+        ServiceInfo result = emptyServiceInfo(singleton);
         result.setHosts(getAllInstancesFromIndex(singleton));
-        serviceDataIndexes.put(singleton, result);
+        serviceDataIndexes.put(singleton, new ServiceData(revision, result));
+        return result;
+    }
+    
+    /**
+     * Get the selected instances of current service data with healthy protection.
+     *
+     * @param service         service
+     * @param serviceMetadata metadata of service
+     * @param cluster         cluster of instances
+     * @param healthyOnly     whether only select instance which healthy
+     * @param enableOnly      whether only select instance which enabled
+     * @param subscriberIp    subscriber ip address
+     * @return selected service info, which might be shared and should not be modified
+     */
+    public ServiceInfo getSelectedData(Service service, ServiceMetadata serviceMetadata, String cluster,
+            boolean healthyOnly, boolean enableOnly, String subscriberIp) {
+        return getSelectedData(service, getData(service), serviceMetadata, cluster, healthyOnly, enableOnly,
+                subscriberIp);
+    }
+    
+    /**
+     * Get the selected instances of the service data with healthy protection.
+     *
+     * <p>If the service data is the current cached one and the result doesn't depend on subscriber, the selected view
+     * is shared by all queries and subscribers until the service changed. Otherwise it is computed for each call.
+     *
+     * @param service         service
+     * @param serviceInfo     service data to select, usually got from {@link #getData(Service)} or
+     *                        {@link #getPushData(Service)}
+     * @param serviceMetadata metadata of service
+     * @param cluster         cluster of instances
+     * @param healthyOnly     whether only select instance which healthy
+     * @param enableOnly      whether only select instance which enabled
+     * @param subscriberIp    subscriber ip address
+     * @return selected service info, which might be shared and should not be modified
+     */
+    public ServiceInfo getSelectedData(Service service, ServiceInfo serviceInfo, ServiceMetadata serviceMetadata,
+            String cluster, boolean healthyOnly, boolean enableOnly, String subscriberIp) {
+        ServiceData snapshot = serviceDataIndexes.get(service);
+        boolean shareable = null != snapshot && snapshot.serviceInfo == serviceInfo
+                && isSubscriberIndependent(serviceMetadata);
+        if (!shareable) {
+            return ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, cluster, healthyOnly,
+                    enableOnly, subscriberIp);
+        }
+        String viewKey = cluster + '@' + healthyOnly + '@' + enableOnly;
+        SelectedView view = snapshot.selectedViews.get(viewKey);
+        if (null != view && view.isValid(serviceMetadata)) {
+            return view.serviceInfo;
+        }
+        ServiceInfo result = ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, cluster,
+                healthyOnly, enableOnly, subscriberIp);
+        if (null != view || snapshot.selectedViews.size() < MAX_SELECTED_VIEWS) {
+            snapshot.selectedViews.put(viewKey, new SelectedView(serviceMetadata, result));
+        }
         return result;
     }
     
+    private boolean isSubscriberIndependent(ServiceMetadata serviceMetadata) {
+        return null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector;
+    }
+    
+    /**
+     * Remove the cached data, instances and clusters of the service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
+        serviceInstanceTable.remove(service);
         serviceClusterIndex.remove(service);
     }
     
@@ -106,25 +206,42 @@ public class ServiceStorage {
     private List<Instance> getAllInstancesFromIndex(Service service) {
         Set<Instance> result = new HashSet<>();
         Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+        ConcurrentMap<String, ClientInstances> instanceTable = serviceInstanceTable
+                .computeIfAbsent(service, key -> new ConcurrentHashMap<>(4));
+        Collection<String> clientIds = serviceIndexesManager.getAllClientsRegisteredService(service);
+        // remove the instances of clients which have deregistered from this service, other clients are revalidated
+        // by reference comparison and only changed ones are parsed again.
+        instanceTable.keySet().retainAll(clientIds);
+        for (String each : clientIds) {
             Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
-                }
+            if (!instancePublishInfo.isPresent()) {
+                instanceTable.remove(each);
+                continue;
+            }
+            ClientInstances clientInstances = instanceTable.get(each);
+            if (null == clientInstances || !clientInstances.isValid(service, instancePublishInfo.get())) {
+                clientInstances = parseClientInstances(service, instancePublishInfo.get());
+                instanceTable.put(each, clientInstances);
+            }
+            for (Instance instance : clientInstances.instances) {
+                result.add(instance);
+                clusters.add(instance.getClusterName());
             }
         }
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return Collections.unmodifiableList(new ArrayList<>(result));
+    }
+    
+    private ClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo) {
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
+            return parseBatchInstance(service, batchInstancePublishInfo);
+        }
+        ClientInstances result = new ClientInstances(publishInfo, 1);
+        result.add(service, publishInfo);
+        return result;
     }
     
     /**
@@ -133,15 +250,13 @@ public class ServiceStorage {
      * @param batchInstancePublishInfo batchInstancePublishInfo
      * @return batch instance list
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
+    private ClientInstances parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo) {
         List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
+        ClientInstances result = new ClientInstances(batchInstancePublishInfo, instancePublishInfos.size());
         for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+            result.add(service, instancePublishInfo);
         }
-        return resultInstanceList;
+        return result;
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -152,11 +267,106 @@ public class ServiceStorage {
         return Optional.ofNullable(client.getInstancePublishInfo(service));
     }
     
-    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo) {
+    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo,
+            InstanceMetadata instanceMetadata) {
         Instance result = InstanceUtil.parseToApiInstance(service, instanceInfo);
-        Optional<InstanceMetadata> metadata = metadataManager
-                .getInstanceMetadata(service, instanceInfo.getMetadataId());
-        metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
+        if (null != instanceMetadata) {
+            InstanceUtil.updateInstanceMetadata(result, instanceMetadata);
+        }
         return result;
     }
+    
+    private InstanceMetadata getInstanceMetadata(Service service, InstancePublishInfo instanceInfo) {
+        return metadataManager.getInstanceMetadata(service, instanceInfo.getMetadataId()).orElse(null);
+    }
+    
+    private static class ServiceData {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final ConcurrentMap<String, SelectedView> selectedViews;
+        
+        private ServiceData(long revision, ServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+            this.selectedViews = new ConcurrentHashMap<>(4);
+        }
+    }
+    
+    /**
+     * Selected instances of one service data. The protect threshold might be changed without rebuilding service data,
+     * so the metadata it is selected with is checked before reusing.
+     */
+    private static class SelectedView {
+        
+        private final ServiceMetadata serviceMetadata;
+        
+        private final float protectThreshold;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private SelectedView(ServiceMetadata serviceMetadata, ServiceInfo serviceInfo) {
+            this.serviceMetadata = serviceMetadata;
+            this.protectThreshold = null == serviceMetadata ? 0F : serviceMetadata.getProtectThreshold();
+            this.serviceInfo = serviceInfo;
+        }
+        
+        private boolean isValid(ServiceMetadata currentMetadata) {
+            if (serviceMetadata != currentMetadata) {
+                return false;
+            }
+            return null == currentMetadata || Float.compare(protectThreshold, currentMetadata.getProtectThreshold()) == 0;
+        }
+    }
+    
+    /**
+     * Materialized instances of one client in one service.
+     *
+     * <p>Register and deregister replace the {@link InstancePublishInfo} of client, while health check and instance
+     * metadata update change the state in place, so all of them are checked before reusing the instances.
+     */
+    private class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<InstancePublishInfo> sources;
+        
+        private final List<Boolean> healthyStates;
+        
+        private final List<InstanceMetadata> metadatas;
+        
+        private final List<Instance> instances;
+        
+        private ClientInstances(InstancePublishInfo publishInfo, int size) {
+            this.publishInfo = publishInfo;
+            this.sources = new ArrayList<>(size);
+            this.healthyStates = new ArrayList<>(size);
+            this.metadatas = new ArrayList<>(size);
+            this.instances = new ArrayList<>(size);
+        }
+        
+        private void add(Service service, InstancePublishInfo source) {
+            InstanceMetadata instanceMetadata = getInstanceMetadata(service, source);
+            sources.add(source);
+            healthyStates.add(source.isHealthy());
+            metadatas.add(instanceMetadata);
+            instances.add(parseInstance(service, source, instanceMetadata));
+        }
+        
+        private boolean isValid(Service service, InstancePublishInfo currentPublishInfo) {
+            if (publishInfo != currentPublishInfo) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                InstancePublishInfo source = sources.get(i);
+                if (source.isHealthy() != healthyStates.get(i)
+                        || getInstanceMetadata(service, source) != metadatas.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
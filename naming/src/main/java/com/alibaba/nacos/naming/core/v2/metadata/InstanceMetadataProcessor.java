@@ -116,6 +116,8 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
         Service service = Service.newService(op.getNamespace(), op.getGroup(), op.getServiceName());
         service = ServiceManager.getInstance().getSingleton(service);
         namingMetadataManager.removeInstanceMetadata(service, op.getTag());
+        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service,
+                com.alibaba.nacos.api.common.Constants.ServiceChangedType.INSTANCE_CHANGED, true));
     }
     
     @Override
@@ -28,24 +28,32 @@ import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.GlobalConfig;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.HttpClientManager;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.common.constant.RequestUrlConstants.HTTP_PREFIX;
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
 
 /**
- * TCP health check processor for v2.x.
+ * HTTP health check processor for v2.x.
  *
  * <p>Current health check logic is same as v1.x. TODO refactor health check for v2.x.
  *
+ * <p>Probes are sent by {@link NioHttpHealthChecker} by default, which shares a few selector threads and reuses
+ * keep-alive connections. Set {@code nacos.naming.health.http.nio.enabled=false} to use the async http client.
+ *
  * @author xiweng.yy
  */
 @Component
@@ -56,13 +64,31 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
     private static final NacosAsyncRestTemplate ASYNC_REST_TEMPLATE = HttpClientManager
             .getProcessorNacosAsyncRestTemplate();
     
+    private static final long NIO_KEEP_ALIVE_MILLIS = 20000L;
+    
     private final HealthCheckCommonV2 healthCheckCommon;
     
     private final SwitchDomain switchDomain;
     
+    private final NioHttpHealthChecker nioHealthChecker;
+    
     public HttpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.nioHealthChecker = createNioHealthChecker();
+    }
+    
+    private static NioHttpHealthChecker createNioHealthChecker() {
+        if (!GlobalConfig.isHttpHealthCheckNioEnabled()) {
+            return null;
+        }
+        try {
+            return new NioHttpHealthChecker(GlobalConfig.getHttpHealthCheckNioThreads(),
+                    HttpClientManager.PROCESSOR_TIME_OUT_MILLIS, NIO_KEEP_ALIVE_MILLIS, GlobalExecutor::executeNamingHealth);
+        } catch (Exception e) {
+            SRV_LOG.warn("[HEALTH-CHECK-V2] init NIO http health checker failed, use async http client instead.", e);
+            return null;
+        }
     }
     
     @Override
@@ -84,6 +110,12 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
             
             Http healthChecker = (Http) metadata.getHealthChecker();
             int ckPort = metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
+            if (null != nioHealthChecker) {
+                nioHealthChecker.probe(instance.getIp(), ckPort, healthChecker.getPath(),
+                        healthChecker.getCustomHeaders(), new HttpHealthCheckCallback(instance, task, service));
+                MetricsMonitor.getHttpHealthCheckMonitor().incrementAndGet();
+                return;
+            }
             URL host = new URL(HTTP_PREFIX + instance.getIp() + ":" + ckPort);
             URL target = new URL(host, healthChecker.getPath());
             Map<String, String> customHeaders = healthChecker.getCustomHeaders();
@@ -106,7 +138,17 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         return TYPE;
     }
     
-    private class HttpHealthCheckCallback implements Callback<String> {
+    /**
+     * Shutdown the NIO http health checker.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (null != nioHealthChecker) {
+            nioHealthChecker.shutdown();
+        }
+    }
+    
+    private class HttpHealthCheckCallback implements Callback<String>, NioHttpHealthChecker.ProbeCallback {
         
         private final HealthCheckTaskV2 task;
         
@@ -125,8 +167,12 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         @Override
         public void onReceive(RestResult<String> result) {
-            instance.setCheckRt(System.currentTimeMillis() - startTime);
-            int httpCode = result.getCode();
+            onResponse(result.getCode());
+        }
+        
+        @Override
+        public void onResponse(int httpCode) {
+            recordCheckRt();
             if (HttpURLConnection.HTTP_OK == httpCode) {
                 healthCheckCommon.checkOk(task, service, "http:" + httpCode);
                 healthCheckCommon.reEvaluateCheckRt(System.currentTimeMillis() - startTime, task,
@@ -148,7 +194,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         @Override
         public void onError(Throwable throwable) {
             Throwable cause = throwable;
-            instance.setCheckRt(System.currentTimeMillis() - startTime);
+            recordCheckRt();
             int maxStackDepth = 50;
             for (int deepth = 0; deepth < maxStackDepth && cause != null; deepth++) {
                 if (HttpUtils.isTimeoutException(cause)) {
@@ -174,5 +220,14 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         public void onCancel() {
         
         }
+        
+        private void recordCheckRt() {
+            long checkRt = System.currentTimeMillis() - startTime;
+            instance.setCheckRt(checkRt);
+            Timer timer = MetricsMonitor.getHealthCheckRtTimer(TYPE);
+            if (null != timer) {
+                timer.record(checkRt, TimeUnit.MILLISECONDS);
+            }
+        }
     }
 }
@@ -0,0 +1,578 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.naming.misc.HttpClientManager;
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Http health checker based on NIO.
+ *
+ * <p>Probes are multiplexed on a small number of selector loops, and the probes of the same target are always handled
+ * by the same loop, so that the connection can be reused without lock if the target allows keep-alive. Only the status
+ * code of response is needed for health check, so the probe is finished once the response headers are received, and
+ * the body is drained only to reuse the connection.
+ *
+ * @author Nacos
+ */
+public class NioHttpHealthChecker {
+    
+    private static final int READ_BUFFER_SIZE = 4096;
+    
+    private static final int MAX_HEADER_SIZE = 8192;
+    
+    private static final long MAX_DRAIN_BODY_SIZE = 65536L;
+    
+    private static final int MAX_IDLE_CONNECTIONS_PER_TARGET = 2;
+    
+    private static final long SELECT_TIMEOUT_MILLIS = 50L;
+    
+    private static final long IDLE_CHECK_INTERVAL_MILLIS = 5000L;
+    
+    private static final int STATUS_LINE_MIN_PARTS = 2;
+    
+    private static final String CRLF = "\r\n";
+    
+    private static final String ROOT_PATH = "/";
+    
+    private static final String HTTP_VERSION_PREFIX = "HTTP/";
+    
+    private static final String HTTP_VERSION_1_1 = "HTTP/1.1";
+    
+    private final ProbeLoop[] loops;
+    
+    private final long timeoutMillis;
+    
+    private final long keepAliveMillis;
+    
+    private final Executor callbackExecutor;
+    
+    private volatile boolean shutdown;
+    
+    /**
+     * Create and start the checker.
+     *
+     * @param loopCount        count of selector loops
+     * @param timeoutMillis    timeout of one probe, including connecting and receiving response headers
+     * @param keepAliveMillis  max idle time of reused connection, {@code 0} means never reuse connection
+     * @param callbackExecutor executor to run probe callbacks
+     * @throws IOException if open selector failed
+     */
+    public NioHttpHealthChecker(int loopCount, long timeoutMillis, long keepAliveMillis, Executor callbackExecutor)
+            throws IOException {
+        this.timeoutMillis = timeoutMillis;
+        this.keepAliveMillis = keepAliveMillis;
+        this.callbackExecutor = callbackExecutor;
+        this.loops = new ProbeLoop[Math.max(loopCount, 1)];
+        NameThreadFactory threadFactory = new NameThreadFactory("com.alibaba.nacos.naming.health.http.nio");
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new ProbeLoop();
+            threadFactory.newThread(loops[i]).start();
+        }
+    }
+    
+    /**
+     * Send a http GET probe to target, the result will be notified to callback.
+     *
+     * @param ip       ip of target
+     * @param port     port of target
+     * @param path     request path with query
+     * @param headers  custom headers, nullable
+     * @param callback callback of probe result
+     */
+    public void probe(String ip, int port, String path, Map<String, String> headers, ProbeCallback callback) {
+        Probe probe = new Probe(ip, port, buildRequest(ip, port, path, headers), callback);
+        if (shutdown) {
+            probe.dispatchError(new IOException("http health checker is shutdown"));
+            return;
+        }
+        int hash = probe.target.hashCode();
+        loops[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % loops.length].submit(probe);
+    }
+    
+    /**
+     * Stop all selector loops and close connections.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (ProbeLoop each : loops) {
+            each.selector.wakeup();
+        }
+    }
+    
+    private static byte[] buildRequest(String ip, int port, String path, Map<String, String> headers) {
+        StringBuilder request = new StringBuilder(128);
+        request.append("GET ");
+        if (StringUtils.isEmpty(path)) {
+            request.append(ROOT_PATH);
+        } else {
+            if (!path.startsWith(ROOT_PATH)) {
+                request.append(ROOT_PATH);
+            }
+            request.append(path);
+        }
+        request.append(' ').append(HTTP_VERSION_1_1).append(CRLF);
+        request.append("Host: ").append(ip).append(':').append(port).append(CRLF);
+        request.append("User-Agent: ").append(HttpClientManager.PROCESSOR_USER_AGENT).append(CRLF);
+        request.append("Connection: keep-alive").append(CRLF);
+        if (null != headers) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                String name = entry.getKey();
+                if (StringUtils.isBlank(name) || "host".equalsIgnoreCase(name) || "connection".equalsIgnoreCase(name)) {
+                    continue;
+                }
+                request.append(name).append(": ").append(entry.getValue()).append(CRLF);
+            }
+        }
+        request.append(CRLF);
+        return request.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+    
+    /**
+     * Callback of http probe.
+     */
+    public interface ProbeCallback {
+        
+        /**
+         * Response received.
+         *
+         * @param httpCode http status code of response
+         */
+        void onResponse(int httpCode);
+        
+        /**
+         * Probe failed, {@link SocketTimeoutException} means timeout.
+         *
+         * @param throwable cause
+         */
+        void onError(Throwable throwable);
+    }
+    
+    private class Probe {
+        
+        private final String ip;
+        
+        private final int port;
+        
+        private final String target;
+        
+        private final byte[] request;
+        
+        private final ProbeCallback callback;
+        
+        private long deadline;
+        
+        private boolean done;
+        
+        private boolean retried;
+        
+        private Connection connection;
+        
+        private Probe(String ip, int port, byte[] request, ProbeCallback callback) {
+            this.ip = ip;
+            this.port = port;
+            this.target = ip + ":" + port;
+            this.request = request;
+            this.callback = callback;
+        }
+        
+        private void dispatchResponse(int httpCode) {
+            done = true;
+            callbackExecutor.execute(() -> callback.onResponse(httpCode));
+        }
+        
+        private void dispatchError(Throwable throwable) {
+            done = true;
+            callbackExecutor.execute(() -> callback.onError(throwable));
+        }
+    }
+    
+    private class Connection {
+        
+        private final String target;
+        
+        private final SocketChannel channel;
+        
+        private SelectionKey key;
+        
+        private Probe probe;
+        
+        private ByteBuffer writeBuffer;
+        
+        private final StringBuilder header = new StringBuilder();
+        
+        private boolean headerReceived;
+        
+        private boolean responseReceived;
+        
+        private boolean keepAlive;
+        
+        private long remainingBody;
+        
+        private long idleSince;
+        
+        private Connection(String target, SocketChannel channel) {
+            this.target = target;
+            this.channel = channel;
+        }
+        
+        private void bind(Probe probe) {
+            this.probe = probe;
+            probe.connection = this;
+            writeBuffer = ByteBuffer.wrap(probe.request);
+            header.setLength(0);
+            headerReceived = false;
+            responseReceived = false;
+            keepAlive = false;
+            remainingBody = 0L;
+        }
+        
+        /**
+         * Parse response bytes.
+         *
+         * @param buffer bytes read from channel
+         * @return {@code true} if whole response is received
+         */
+        private boolean onRead(ByteBuffer buffer) {
+            responseReceived = true;
+            while (!headerReceived && buffer.hasRemaining()) {
+                char c = (char) (buffer.get() & 0xFF);
+                header.append(c);
+                if (isHeaderEnd(c)) {
+                    onHeader();
+                } else if (header.length() > MAX_HEADER_SIZE) {
+                    throw new IllegalStateException("response header is too large");
+                }
+            }
+            if (!headerReceived) {
+                return false;
+            }
+            remainingBody -= buffer.remaining();
+            buffer.position(buffer.limit());
+            return remainingBody <= 0;
+        }
+        
+        private boolean isHeaderEnd(char last) {
+            int length = header.length();
+            return '\n' == last && length >= CRLF.length() * 2 && '\r' == header.charAt(length - 2)
+                    && '\n' == header.charAt(length - 3) && '\r' == header.charAt(length - 4);
+        }
+        
+        private void onHeader() {
+            headerReceived = true;
+            String[] lines = header.toString().trim().split(CRLF);
+            String[] statusLine = lines[0].split(" ", 3);
+            if (statusLine.length < STATUS_LINE_MIN_PARTS || !statusLine[0].startsWith(HTTP_VERSION_PREFIX)) {
+                throw new IllegalStateException("invalid status line: " + lines[0]);
+            }
+            final int httpCode = Integer.parseInt(statusLine[1].trim());
+            keepAlive = keepAliveMillis > 0 && HTTP_VERSION_1_1.equals(statusLine[0]);
+            long contentLength = -1L;
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon <= 0) {
+                    continue;
+                }
+                String name = lines[i].substring(0, colon).trim();
+                String value = lines[i].substring(colon + 1).trim();
+                if ("content-length".equalsIgnoreCase(name)) {
+                    contentLength = Long.parseLong(value);
+                } else if ("connection".equalsIgnoreCase(name) && "close".equalsIgnoreCase(value)) {
+                    keepAlive = false;
+                }
+            }
+            if (contentLength < 0 || contentLength > MAX_DRAIN_BODY_SIZE) {
+                // unknown or large body, close connection instead of draining it
+                keepAlive = false;
+            }
+            remainingBody = contentLength;
+            probe.dispatchResponse(httpCode);
+        }
+    }
+    
+    private class ProbeLoop implements Runnable {
+        
+        private final Selector selector;
+        
+        private final Queue<Probe> submittedProbes = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicBoolean wakeup = new AtomicBoolean();
+        
+        private final ArrayDeque<Probe> inflightProbes = new ArrayDeque<>();
+        
+        private final Map<String, ArrayDeque<Connection>> idleConnections = new HashMap<>(16);
+        
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        
+        private long lastIdleCheckTime = System.currentTimeMillis();
+        
+        private ProbeLoop() throws IOException {
+            this.selector = Selector.open();
+        }
+        
+        private void submit(Probe probe) {
+            submittedProbes.add(probe);
+            if (wakeup.compareAndSet(false, true)) {
+                selector.wakeup();
+            }
+        }
+        
+        @Override
+        public void run() {
+            while (!shutdown) {
+                try {
+                    wakeup.set(false);
+                    if (submittedProbes.isEmpty()) {
+                        selector.select(SELECT_TIMEOUT_MILLIS);
+                    } else {
+                        selector.selectNow();
+                    }
+                    processSelectedKeys();
+                    long now = System.currentTimeMillis();
+                    processSubmittedProbes(now);
+                    expireProbes(now);
+                    closeIdleConnections(now);
+                } catch (Throwable e) {
+                    Loggers.SRV_LOG.error("[HEALTH-CHECK-V2] error while processing http NIO probes", e);
+                }
+            }
+            closeAll();
+        }
+        
+        private void processSelectedKeys() {
+            Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+            while (iterator.hasNext()) {
+                SelectionKey key = iterator.next();
+                iterator.remove();
+                Connection connection = (Connection) key.attachment();
+                try {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isConnectable()) {
+                        connection.channel.finishConnect();
+                        key.interestOps(SelectionKey.OP_WRITE);
+                    } else if (key.isWritable()) {
+                        doWrite(connection);
+                    } else if (key.isReadable()) {
+                        doRead(connection);
+                    }
+                } catch (Throwable e) {
+                    onConnectionError(connection, e);
+                }
+            }
+        }
+        
+        private void doWrite(Connection connection) throws IOException {
+            connection.channel.write(connection.writeBuffer);
+            if (!connection.writeBuffer.hasRemaining()) {
+                connection.key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+        
+        private void doRead(Connection connection) throws IOException {
+            readBuffer.clear();
+            int read = connection.channel.read(readBuffer);
+            if (read < 0) {
+                if (null == connection.probe || connection.headerReceived) {
+                    // idle connection closed by target, or closed while draining body
+                    close(connection);
+                    return;
+                }
+                throw new EOFException("connection closed by target before response");
+            }
+            if (null == connection.probe) {
+                // unexpected data from idle connection
+                close(connection);
+                return;
+            }
+            readBuffer.flip();
+            boolean finished = connection.onRead(readBuffer);
+            if (!connection.headerReceived) {
+                return;
+            }
+            if (!connection.keepAlive) {
+                connection.probe.connection = null;
+                connection.probe = null;
+                close(connection);
+            } else if (finished) {
+                release(connection);
+            }
+        }
+        
+        private void onConnectionError(Connection connection, Throwable throwable) {
+            close(connection);
+            Probe probe = connection.probe;
+            if (null == probe || probe.done) {
+                return;
+            }
+            if (!connection.responseReceived && connection.idleSince > 0 && !probe.retried) {
+                // the reused connection may be closed by target after idle, retry with a new connection
+                probe.retried = true;
+                connect(probe);
+                return;
+            }
+            probe.dispatchError(throwable);
+        }
+        
+        private void processSubmittedProbes(long now) {
+            for (Probe probe = submittedProbes.poll(); null != probe; probe = submittedProbes.poll()) {
+                probe.deadline = now + timeoutMillis;
+                inflightProbes.add(probe);
+                Connection connection = pollIdleConnection(probe.target);
+                if (null == connection) {
+                    connect(probe);
+                } else {
+                    connection.bind(probe);
+                    connection.key.interestOps(SelectionKey.OP_WRITE);
+                }
+            }
+        }
+        
+        private void connect(Probe probe) {
+            SocketChannel channel = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                channel.socket().setSoLinger(false, -1);
+                Connection connection = new Connection(probe.target, channel);
+                connection.bind(probe);
+                boolean connected = channel.connect(new InetSocketAddress(probe.ip, probe.port));
+                connection.key = channel.register(selector,
+                        connected ? SelectionKey.OP_WRITE : SelectionKey.OP_CONNECT, connection);
+            } catch (Throwable e) {
+                closeQuietly(channel);
+                probe.dispatchError(e);
+            }
+        }
+        
+        private Connection pollIdleConnection(String target) {
+            ArrayDeque<Connection> connections = idleConnections.get(target);
+            if (null == connections) {
+                return null;
+            }
+            Connection result = connections.pollLast();
+            while (null != result && !result.key.isValid()) {
+                // closed by target while idle
+                result = connections.pollLast();
+            }
+            if (connections.isEmpty()) {
+                idleConnections.remove(target);
+            }
+            return result;
+        }
+        
+        private void release(Connection connection) {
+            connection.probe.connection = null;
+            connection.probe = null;
+            connection.idleSince = System.currentTimeMillis();
+            ArrayDeque<Connection> connections = idleConnections.computeIfAbsent(connection.target,
+                    k -> new ArrayDeque<>(MAX_IDLE_CONNECTIONS_PER_TARGET));
+            if (connections.size() >= MAX_IDLE_CONNECTIONS_PER_TARGET) {
+                close(connection);
+                return;
+            }
+            // keep reading to find the closing of connection by target
+            connection.key.interestOps(SelectionKey.OP_READ);
+            connections.addLast(connection);
+        }
+        
+        private void expireProbes(long now) {
+            while (!inflightProbes.isEmpty() && inflightProbes.peekFirst().deadline <= now) {
+                Probe probe = inflightProbes.pollFirst();
+                Connection connection = probe.connection;
+                if (null != connection && connection.probe == probe) {
+                    // not finished, or still draining response body
+                    connection.probe = null;
+                    close(connection);
+                }
+                if (!probe.done) {
+                    probe.dispatchError(new SocketTimeoutException("http probe timeout after " + timeoutMillis + "ms"));
+                }
+            }
+        }
+        
+        private void closeIdleConnections(long now) {
+            if (now - lastIdleCheckTime < IDLE_CHECK_INTERVAL_MILLIS) {
+                return;
+            }
+            lastIdleCheckTime = now;
+            Iterator<ArrayDeque<Connection>> iterator = idleConnections.values().iterator();
+            while (iterator.hasNext()) {
+                ArrayDeque<Connection> connections = iterator.next();
+                connections.removeIf(each -> {
+                    boolean expired = !each.key.isValid() || now - each.idleSince >= keepAliveMillis;
+                    if (expired) {
+                        close(each);
+                    }
+                    return expired;
+                });
+                if (connections.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+        
+        private void close(Connection connection) {
+            if (null != connection.key) {
+                connection.key.cancel();
+            }
+            closeQuietly(connection.channel);
+        }
+        
+        private void closeQuietly(SocketChannel channel) {
+            if (null == channel) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+            }
+        }
+        
+        private void closeAll() {
+            for (SelectionKey each : selector.keys()) {
+                closeQuietly((SocketChannel) each.channel());
+            }
+            try {
+                selector.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
@@ -25,6 +25,8 @@ import static com.alibaba.nacos.naming.constants.Constants.EMPTY_SERVICE_EXPIRED
 import static com.alibaba.nacos.naming.constants.Constants.EXPIRED_METADATA_CLEAN_INTERVAL;
 import static com.alibaba.nacos.naming.constants.Constants.EXPIRED_METADATA_EXPIRED_TIME;
 import static com.alibaba.nacos.naming.constants.Constants.EXPIRE_INSTANCE;
+import static com.alibaba.nacos.naming.constants.Constants.HTTP_HEALTH_CHECK_NIO_ENABLED;
+import static com.alibaba.nacos.naming.constants.Constants.HTTP_HEALTH_CHECK_NIO_THREADS;
 
 /**
  * Stores some configurations for Distro protocol.
@@ -59,6 +61,14 @@ public class GlobalConfig {
         return EnvUtil.getProperty(EXPIRED_METADATA_EXPIRED_TIME, Long.class, 60000L);
     }
    
+    public static boolean isHttpHealthCheckNioEnabled() {
+        return EnvUtil.getProperty(HTTP_HEALTH_CHECK_NIO_ENABLED, Boolean.class, true);
+    }
+    
+    public static int getHttpHealthCheckNioThreads() {
+        return EnvUtil.getProperty(HTTP_HEALTH_CHECK_NIO_THREADS, Integer.class, EnvUtil.getAvailableProcessors(0.25));
+    }
+    
     public static int getMaxPatternCount() {
         return EnvUtil.getProperty("nacos.naming.fuzzy.watch.max.pattern.count", Integer.class, 20);
     }
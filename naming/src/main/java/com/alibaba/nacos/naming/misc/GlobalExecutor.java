@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.misc;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.HashedTimingWheel;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.naming.NamingApp;
@@ -64,6 +65,13 @@ public class GlobalExecutor {
                     Integer.max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT),
                             1), new NameThreadFactory("com.alibaba.nacos.naming.health"));
     
+    /**
+     * Timing wheel for the health check tasks of each client, whose count grows with the instance count. Expired tasks
+     * are executed by {@link #NAMING_HEALTH_EXECUTOR}.
+     */
+    private static final HashedTimingWheel NAMING_HEALTH_TIMING_WHEEL = new HashedTimingWheel(
+            "com.alibaba.nacos.naming.health.timing.wheel", 100, TimeUnit.MILLISECONDS, 512, NAMING_HEALTH_EXECUTOR);
+    
     private static final ScheduledExecutorService RETRANSMITTER_EXECUTOR = ExecutorFactory.Managed
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.push.retransmitter"));
@@ -121,6 +129,19 @@ public class GlobalExecutor {
         return NAMING_HEALTH_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
     
+    public static void executeNamingHealth(Runnable command) {
+        NAMING_HEALTH_EXECUTOR.execute(command);
+    }
+    
+    public static HashedTimingWheel.Timeout scheduleNamingHealthCheck(Runnable command, long delay, TimeUnit unit) {
+        return NAMING_HEALTH_TIMING_WHEEL.schedule(command, delay, unit);
+    }
+    
+    public static HashedTimingWheel.Timeout scheduleNamingHealthCheck(Runnable command, long initialDelay, long delay,
+            TimeUnit unit) {
+        return NAMING_HEALTH_TIMING_WHEEL.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+    }
+    
     public static void scheduleRetransmitter(Runnable runnable, long delay, TimeUnit unit) {
         RETRANSMITTER_EXECUTOR.schedule(runnable, delay, unit);
     }
@@ -50,6 +50,13 @@ public class HttpClientManager {
     
     private static final int CON_TIME_OUT_MILLIS = 5000;
     
+    /**
+     * Timeout of health check probes, including getting connection, connecting and reading response.
+     */
+    public static final int PROCESSOR_TIME_OUT_MILLIS = 500;
+    
+    public static final String PROCESSOR_USER_AGENT = "VIPServer";
+    
     private static final HttpClientFactory SYNC_HTTP_CLIENT_FACTORY = new SyncHttpClientFactory();
     
     private static final HttpClientFactory ASYNC_HTTP_CLIENT_FACTORY = new AsyncHttpClientFactory();
@@ -170,15 +177,15 @@ public class HttpClientManager {
         protected HttpClientConfig buildHttpClientConfig() {
             return HttpClientConfig
                     .builder()
-                    .setConnectionRequestTimeout(500)
-                    .setReadTimeOutMillis(500)
-                    .setConTimeOutMillis(500)
+                    .setConnectionRequestTimeout(PROCESSOR_TIME_OUT_MILLIS)
+                    .setReadTimeOutMillis(PROCESSOR_TIME_OUT_MILLIS)
+                    .setConTimeOutMillis(PROCESSOR_TIME_OUT_MILLIS)
                     .setIoThreadCount(1)
                     .setContentCompressionEnabled(false)
                     .setMaxRedirects(0)
                     .setMaxConnTotal(5000)
                     .setMaxConnPerRoute(-1)
-                    .setUserAgent("VIPServer")
+                    .setUserAgent(PROCESSOR_USER_AGENT)
                     .build();
         }
         
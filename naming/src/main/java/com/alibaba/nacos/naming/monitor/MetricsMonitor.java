@@ -24,6 +24,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -77,6 +78,15 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong pushPayloadCacheHit = new AtomicLong();
+    
+    private final AtomicLong pushPayloadCacheMiss = new AtomicLong();
+    
+    /**
+     * The count of push tasks merged into pending ones, which means the pushes saved by coalescing.
+     */
+    private final AtomicLong pushMergedCount = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -198,6 +208,18 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getPushPayloadCacheHit() {
+        return INSTANCE.pushPayloadCacheHit;
+    }
+    
+    public static AtomicLong getPushPayloadCacheMiss() {
+        return INSTANCE.pushPayloadCacheMiss;
+    }
+    
+    public static AtomicLong getPushMergedCount() {
+        return INSTANCE.pushMergedCount;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -235,6 +257,18 @@ public class MetricsMonitor {
         INSTANCE.emptyPush.incrementAndGet();
     }
     
+    public static void incrementPushPayloadCacheHit() {
+        INSTANCE.pushPayloadCacheHit.incrementAndGet();
+    }
+    
+    public static void incrementPushPayloadCacheMiss() {
+        INSTANCE.pushPayloadCacheMiss.incrementAndGet();
+    }
+    
+    public static void incrementPushMerged() {
+        INSTANCE.pushMergedCount.incrementAndGet();
+    }
+    
     public static void incrementInstanceCount() {
         INSTANCE.ipCount.incrementAndGet();
     }
@@ -259,6 +293,17 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.counter(METER_REGISTRY, "nacos_exception", "module", "naming", "name", "disk");
     }
     
+    /**
+     * Get the timer of health check probe rt, which records the rt distribution of actual probes.
+     *
+     * @param type health check type, such as HTTP
+     * @return timer of probe rt
+     */
+    public static Timer getHealthCheckRtTimer(String type) {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "naming", "name", "healthCheckRt", "type", type);
+    }
+    
     public static Counter getLeaderSendBeatFailedException() {
         return NacosMeterRegistryCenter
                 .counter(METER_REGISTRY, "nacos_exception", "module", "naming", "name", "leaderSendBeatFailed");
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.pojo;
 
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -46,6 +47,13 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * The revision of service data which is pushed to this subscriber successfully, used to decide whether delta push
+     * can be applied.
+     */
+    @JsonIgnore
+    private transient volatile long pushedRevision;
+    
     public Subscriber() {
     }
     
@@ -130,6 +138,16 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public long getPushedRevision() {
+        return pushedRevision;
+    }
+    
+    @JsonIgnore
+    public void setPushedRevision(long pushedRevision) {
+        this.pushedRevision = pushedRevision;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -37,6 +37,8 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private long pushTaskMaxDelay = PushConstants.DEFAULT_PUSH_TASK_MAX_DELAY;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +52,14 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        pushTaskMaxDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_MAX_DELAY, Long.class,
+                PushConstants.DEFAULT_PUSH_TASK_MAX_DELAY);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", pushTaskMaxDelay=" + pushTaskMaxDelay + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +77,8 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public long getPushTaskMaxDelay() {
+        return pushTaskMaxDelay;
+    }
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,18 +31,49 @@ import java.util.Optional;
  */
 public class PushDataWrapper {
     
+    private Service service;
+    
     private final ServiceMetadata serviceMetadata;
     
     private final ServiceInfo originalData;
     
     private final Map<String, Object> processedDatum;
     
+    private long revision;
+    
+    /**
+     * The last pushed data of this service, used to generate delta push data. Null means no base data.
+     */
+    private PushDataWrapper baseData;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
         processedDatum = new HashMap<>(1);
     }
     
+    public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData, long revision,
+            PushDataWrapper baseData) {
+        this(serviceMetadata, originalData);
+        this.revision = revision;
+        this.baseData = baseData;
+    }
+    
+    public PushDataWrapper(Service service, ServiceMetadata serviceMetadata, ServiceInfo originalData, long revision,
+            PushDataWrapper baseData) {
+        this(serviceMetadata, originalData, revision, baseData);
+        this.service = service;
+    }
+    
+    /**
+     * Get the service of this push data. Null means the data is not generated for a service in storage.
+     *
+     * @return service of push data
+     */
+    public Service getService() {
+        return service;
+    }
+    
     public ServiceInfo getOriginalData() {
         return originalData;
     }
@@ -50,6 +82,14 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public Optional<PushDataWrapper> getBaseData() {
+        return Optional.ofNullable(baseData);
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
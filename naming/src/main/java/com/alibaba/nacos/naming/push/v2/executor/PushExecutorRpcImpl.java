@@ -16,18 +16,30 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.AbstractFuzzyWatchNotifyRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
 /**
  * Push execute service for rpc.
  *
@@ -36,16 +48,33 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String DELTA_KEY_PREFIX = "delta@";
+    
+    private static final String FULL_PAYLOAD_KEY_PREFIX = "fullPayload@";
+    
+    private static final String REVISION_PAYLOAD_KEY_PREFIX = "revisionPayload@";
+    
+    private static final String DELTA_PAYLOAD_KEY_PREFIX = "deltaPayload@";
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    private final ServiceStorage serviceStorage;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager,
+            ServiceStorage serviceStorage) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        this.serviceStorage = serviceStorage;
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
+        pushService.pushWithoutAck(clientId, getPayload(FULL_PAYLOAD_KEY_PREFIX, data, subscriber,
+                isSubscriberIndependent(data),
+                () -> NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo)));
     }
     
     @Override
@@ -53,14 +82,106 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
+        pushService.pushWithCallback(clientId, buildNotifyRequest(clientId, subscriber, data, actualServiceInfo),
                 callBack, GlobalExecutor.getCallbackExecutor());
     }
     
+    private ServerRequest buildNotifyRequest(String clientId, Subscriber subscriber, PushDataWrapper data,
+            ServiceInfo actualServiceInfo) {
+        boolean subscriberIndependent = isSubscriberIndependent(data);
+        if (!isSupportDeltaPush(clientId)) {
+            return getPayload(FULL_PAYLOAD_KEY_PREFIX, data, subscriber, subscriberIndependent,
+                    () -> NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo));
+        }
+        Optional<PushDataWrapper> baseData = data.getBaseData();
+        if (!baseData.isPresent() || baseData.get().getRevision() != subscriber.getPushedRevision()) {
+            return getPayload(REVISION_PAYLOAD_KEY_PREFIX, data, subscriber, subscriberIndependent,
+                    () -> NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, data.getRevision()));
+        }
+        ServiceInfoDelta delta = getServiceInfoDelta(data, baseData.get(), subscriber, actualServiceInfo);
+        if (delta.size() >= actualServiceInfo.ipCount()) {
+            return getPayload(REVISION_PAYLOAD_KEY_PREFIX, data, subscriber, subscriberIndependent,
+                    () -> NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo, data.getRevision()));
+        }
+        return getPayload(DELTA_PAYLOAD_KEY_PREFIX, data, subscriber,
+                subscriberIndependent && isSubscriberIndependent(baseData.get()),
+                () -> NotifySubscriberRequest.buildDeltaNotifySubscriberRequest(withoutHosts(actualServiceInfo),
+                        baseData.get().getRevision(), data.getRevision(), delta.getAddedInstances(),
+                        delta.getRemovedInstances(), delta.getModifiedInstances()));
+    }
+    
+    /**
+     * Get the push payload. The payload of subscriber independent push only depends on the subscribed clusters, so
+     * it is serialized once and shared by all subscribers of the same clusters in this push.
+     */
+    private ServerRequest getPayload(String keyPrefix, PushDataWrapper data, Subscriber subscriber,
+            boolean cacheable, Supplier<NotifySubscriberRequest> requestSupplier) {
+        if (!cacheable) {
+            return requestSupplier.get();
+        }
+        String payloadKey = keyPrefix + subscriber.getCluster();
+        Optional<PreSerializedRequest> cachedPayload = data.getProcessedPushData(payloadKey);
+        if (cachedPayload.isPresent()) {
+            MetricsMonitor.incrementPushPayloadCacheHit();
+            return cachedPayload.get().duplicate();
+        }
+        MetricsMonitor.incrementPushPayloadCacheMiss();
+        PreSerializedRequest result = PreSerializedRequest.serialize(requestSupplier.get());
+        data.addProcessedPushData(payloadKey, result);
+        return result.duplicate();
+    }
+    
+    private boolean isSupportDeltaPush(String clientId) {
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection) {
+            return false;
+        }
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH.getName()));
+    }
+    
+    private ServiceInfoDelta getServiceInfoDelta(PushDataWrapper data, PushDataWrapper baseData,
+            Subscriber subscriber, ServiceInfo actualServiceInfo) {
+        if (!isSubscriberIndependent(data) || !isSubscriberIndependent(baseData)) {
+            return ServiceInfoDelta.diff(getServiceInfo(baseData, subscriber), actualServiceInfo);
+        }
+        // Without selector, the delta only depends on the subscribed clusters, so reuse it in the same push.
+        String deltaKey = DELTA_KEY_PREFIX + subscriber.getCluster();
+        Optional<ServiceInfoDelta> cachedDelta = data.getProcessedPushData(deltaKey);
+        if (cachedDelta.isPresent()) {
+            return cachedDelta.get();
+        }
+        ServiceInfoDelta result = ServiceInfoDelta.diff(getServiceInfo(baseData, subscriber), actualServiceInfo);
+        data.addProcessedPushData(deltaKey, result);
+        return result;
+    }
+    
+    private boolean isSubscriberIndependent(PushDataWrapper data) {
+        return null == data.getServiceMetadata() || null == data.getServiceMetadata().getSelector()
+                || data.getServiceMetadata().getSelector() instanceof NoneSelector;
+    }
+    
+    private ServiceInfo withoutHosts(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        return result;
+    }
+    
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
-        return ServiceUtil
-                .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
-                        subscriber);
+        if (null == data.getService()) {
+            return ServiceUtil.selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(),
+                    false, true, subscriber);
+        }
+        // The selected view of current service data is shared with other pushes and queries.
+        return serviceStorage.getSelectedData(data.getService(), data.getOriginalData(), data.getServiceMetadata(),
+                subscriber.getCluster(), false, true, subscriber.getIp());
     }
 
     @Override
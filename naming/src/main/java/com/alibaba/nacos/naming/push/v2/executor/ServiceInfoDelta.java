@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instance differences between two versions of service info, keyed by {@link NamingUtils#getInstanceKey(Instance)}.
+ *
+ * @author Nacos
+ */
+public final class ServiceInfoDelta {
+    
+    private final List<Instance> addedInstances = new LinkedList<>();
+    
+    private final List<Instance> removedInstances = new LinkedList<>();
+    
+    private final List<Instance> modifiedInstances = new LinkedList<>();
+    
+    private ServiceInfoDelta() {
+    }
+    
+    /**
+     * Compute the instance differences from base service info to current service info.
+     *
+     * @param base    base service info
+     * @param current current service info
+     * @return delta from base to current
+     */
+    public static ServiceInfoDelta diff(ServiceInfo base, ServiceInfo current) {
+        ServiceInfoDelta result = new ServiceInfoDelta();
+        Map<String, Instance> baseInstances = new HashMap<>(base.getHosts().size());
+        for (Instance each : base.getHosts()) {
+            baseInstances.put(NamingUtils.getInstanceKey(each), each);
+        }
+        for (Instance each : current.getHosts()) {
+            Instance baseInstance = baseInstances.remove(NamingUtils.getInstanceKey(each));
+            if (null == baseInstance) {
+                result.addedInstances.add(each);
+            } else if (!baseInstance.equals(each)) {
+                result.modifiedInstances.add(each);
+            }
+        }
+        result.removedInstances.addAll(baseInstances.values());
+        return result;
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public int size() {
+        return addedInstances.size() + removedInstances.size() + modifiedInstances.size();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.task;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Adaptive push coalescing window of services.
+ *
+ * <p>The push delay of one service is doubled when the service changes again within current delay, until the max
+ * delay, so that frequent changes such as rolling deploy are merged into fewer pushes. The delay is halved for each
+ * quiet window, so that an isolated change is pushed with the base delay. Because the merged push task keeps the time
+ * of the first pending change, the push latency of any change is not larger than the max delay.
+ *
+ * @author Nacos
+ */
+public class PushCoalescingWindow {
+    
+    private final ConcurrentMap<Service, WindowState> windows = new ConcurrentHashMap<>();
+    
+    /**
+     * Record a change of service and get the push delay for it.
+     *
+     * @param service   changed service
+     * @param baseDelay delay for isolated change, unit: milliseconds
+     * @param maxDelay  max delay for frequent changes, unit: milliseconds
+     * @param now       current time, unit: milliseconds
+     * @return push delay of service, unit: milliseconds
+     */
+    public long nextDelay(Service service, long baseDelay, long maxDelay, long now) {
+        if (maxDelay <= baseDelay || baseDelay <= 0) {
+            windows.remove(service);
+            return baseDelay;
+        }
+        return windows.compute(service,
+                (key, old) -> null == old ? new WindowState(baseDelay, now) : old.onChange(baseDelay, maxDelay, now))
+                .getDelay();
+    }
+    
+    /**
+     * Get current push delay of service.
+     *
+     * @param service   service
+     * @param baseDelay delay for isolated change, unit: milliseconds
+     * @return current push delay of service, unit: milliseconds
+     */
+    public long getDelay(Service service, long baseDelay) {
+        WindowState state = windows.get(service);
+        return null == state ? baseDelay : state.getDelay();
+    }
+    
+    /**
+     * Remove windows of services which have not changed for the idle time.
+     *
+     * @param now        current time, unit: milliseconds
+     * @param idleMillis idle time, unit: milliseconds
+     */
+    public void expire(long now, long idleMillis) {
+        windows.values().removeIf(each -> now - each.getLastChangeTime() >= idleMillis);
+    }
+    
+    public int size() {
+        return windows.size();
+    }
+    
+    private static class WindowState {
+        
+        private final long delay;
+        
+        private final long lastChangeTime;
+        
+        private WindowState(long delay, long lastChangeTime) {
+            this.delay = delay;
+            this.lastChangeTime = lastChangeTime;
+        }
+        
+        private WindowState onChange(long baseDelay, long maxDelay, long now) {
+            long current = Math.min(Math.max(delay, baseDelay), maxDelay);
+            long elapsed = now - lastChangeTime;
+            if (elapsed < current) {
+                return new WindowState(Math.min(current << 1, maxDelay), now);
+            }
+            long quietWindows = elapsed / current;
+            long shrunk = quietWindows >= Long.SIZE - 1 ? baseDelay : current >> quietWindows;
+            return new WindowState(Math.max(shrunk, baseDelay), now);
+        }
+        
+        private long getDelay() {
+            return delay;
+        }
+        
+        private long getLastChangeTime() {
+            return lastChangeTime;
+        }
+    }
+}
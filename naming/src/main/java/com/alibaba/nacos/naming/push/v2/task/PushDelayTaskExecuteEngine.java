@@ -16,19 +16,30 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Nacos naming push delay task execute engine.
  *
@@ -36,6 +47,8 @@ import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
  */
 public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
+    private static final long COALESCING_WINDOW_EXPIRE_INTERVAL = 60000L;
+    
     private final ClientManager clientManager;
     
     private final ClientServiceIndexesManager indexesManager;
@@ -48,6 +61,20 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    /**
+     * The last pushed data of each service, which is the base of next delta push.
+     */
+    private final ConcurrentMap<Service, PushDataWrapper> lastPushDataMap;
+    
+    /**
+     * Push revision is global increased, so that revisions of a recreated service never conflict with old ones.
+     */
+    private final AtomicLong pushRevision;
+    
+    private final PushCoalescingWindow coalescingWindow;
+    
+    private long lastExpireTime;
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
@@ -58,6 +85,10 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         this.metadataManager = metadataManager;
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
+        this.lastPushDataMap = new ConcurrentHashMap<>();
+        this.pushRevision = new AtomicLong();
+        this.coalescingWindow = new PushCoalescingWindow();
+        this.lastExpireTime = System.currentTimeMillis();
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
     }
     
@@ -81,8 +112,69 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    public PushCoalescingWindow getCoalescingWindow() {
+        return coalescingWindow;
+    }
+    
+    /**
+     * Record a change of service and get the adaptive push delay, which grows with change frequency of the service and
+     * shrinks back when the service is quiet.
+     *
+     * @param service changed service
+     * @return push delay of service, unit: milliseconds
+     */
+    public long nextPushDelay(Service service) {
+        PushConfig pushConfig = PushConfig.getInstance();
+        return coalescingWindow.nextDelay(service, pushConfig.getPushTaskDelay(), pushConfig.getPushTaskMaxDelay(),
+                System.currentTimeMillis());
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        lock.lock();
+        try {
+            if (tasks.containsKey(key)) {
+                MetricsMonitor.incrementPushMerged();
+            }
+            super.addTask(key, newTask);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Generate push data with a new revision. Only the data pushed to all subscribers is recorded as the base of next
+     * push, because push for some target clients does not change the state of other subscribers.
+     *
+     * @param service         service
+     * @param serviceMetadata metadata of service
+     * @param serviceInfo     full service info to push
+     * @param pushToAll       whether the data is pushed to all subscribers
+     * @return push data wrapper with base data of last push
+     */
+    public PushDataWrapper generatePushData(Service service, ServiceMetadata serviceMetadata,
+            ServiceInfo serviceInfo, boolean pushToAll) {
+        long revision = pushRevision.incrementAndGet();
+        if (!pushToAll) {
+            return new PushDataWrapper(service, serviceMetadata, serviceInfo, revision, lastPushDataMap.get(service));
+        }
+        PushDataWrapper current = new PushDataWrapper(service, serviceMetadata, serviceInfo, revision, null);
+        PushDataWrapper base;
+        if (ServiceManager.getInstance().containSingleton(service)) {
+            base = lastPushDataMap.put(service, current);
+        } else {
+            base = lastPushDataMap.remove(service);
+        }
+        return new PushDataWrapper(service, serviceMetadata, serviceInfo, revision, base);
+    }
+    
     @Override
     protected void processTasks() {
+        long now = System.currentTimeMillis();
+        if (now - lastExpireTime >= COALESCING_WINDOW_EXPIRE_INTERVAL) {
+            coalescingWindow.expire(now, COALESCING_WINDOW_EXPIRE_INTERVAL);
+            lastExpireTime = now;
+        }
         if (!switchDomain.isPushEnabled()) {
             return;
         }
@@ -70,18 +70,18 @@ public class PushExecuteTask extends AbstractExecuteTask {
                     continue;
                 }
                 delayTaskEngine.getPushExecutor().doPushWithCallback(each, subscriber, wrapper,
-                        new ServicePushCallback(each, subscriber, wrapper.getOriginalData(), delayTask.isPushToAll()));
+                        new ServicePushCallback(each, subscriber, wrapper, delayTask.isPushToAll()));
             }
         } catch (Exception e) {
             Loggers.PUSH.error("Push task for service" + service.getGroupedServiceName() + " execute failed ", e);
-            delayTaskEngine.addTask(service, new PushDelayTask(service, 1000L));
+            delayTaskEngine.addTask(service, new PushDelayTask(service, PushConfig.getInstance().getPushTaskRetryDelay()));
         }
     }
     
     private PushDataWrapper generatePushData() {
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return delayTaskEngine.generatePushData(service, serviceMetadata, serviceInfo, delayTask.isPushToAll());
     }
     
     private Collection<String> getTargetClientIds() {
@@ -97,6 +97,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
         
         private final ServiceInfo serviceInfo;
         
+        private final long revision;
+        
         /**
          * Record the push task execute start time.
          */
@@ -110,11 +112,12 @@ public class PushExecuteTask extends AbstractExecuteTask {
          */
         private ServiceInfo actualServiceInfo;
         
-        private ServicePushCallback(String clientId, Subscriber subscriber, ServiceInfo serviceInfo,
+        private ServicePushCallback(String clientId, Subscriber subscriber, PushDataWrapper pushData,
                 boolean isPushToAll) {
             this.clientId = clientId;
             this.subscriber = subscriber;
-            this.serviceInfo = serviceInfo;
+            this.serviceInfo = pushData.getOriginalData();
+            this.revision = pushData.getRevision();
             this.isPushToAll = isPushToAll;
             this.executeStartTime = System.currentTimeMillis();
             this.actualServiceInfo = serviceInfo;
@@ -131,6 +134,7 @@ public class PushExecuteTask extends AbstractExecuteTask {
             long pushCostTimeForNetWork = pushFinishTime - executeStartTime;
             long pushCostTimeForAll = pushFinishTime - delayTask.getLastProcessTime();
             long serviceLevelAgreementTime = pushFinishTime - service.getLastUpdatedTime();
+            subscriber.setPushedRevision(revision);
             if (isPushToAll) {
                 Loggers.PUSH
                         .info("[PUSH-SUCC] {}ms, all delay time {}ms, SLA {}ms, {}, originalSize={}, DataSize={}, target={}",
@@ -152,6 +156,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
         @Override
         public void onFail(Throwable e) {
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
+            // the subscriber state is unknown after failure, make sure next push is full data
+            subscriber.setPushedRevision(0L);
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
             if (!(e instanceof NoRequiredRetryException)) {
@@ -16,8 +16,10 @@
 
 package com.alibaba.nacos.naming.core.v2.event.publisher;
 
+import com.alibaba.nacos.common.notify.DefaultShardedPublisher;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,4 +63,16 @@ class NamingEventPublisherFactoryTest {
                 "Naming event publisher statues:\n" + "\tPublisher TestEvent                     : shutdown=false, queue=      0/8      \n";
         assertThat(NamingEventPublisherFactory.getInstance().getAllPublisherStatues(), is(expectedStatus));
     }
+    
+    @Test
+    void testApplyClientOperationEvent() {
+        EventPublisher publisher = NamingEventPublisherFactory.getInstance()
+                .apply(ClientOperationEvent.ClientRegisterServiceEvent.class, Byte.SIZE);
+        assertThat(publisher instanceof DefaultShardedPublisher, is(true));
+        assertThat(NamingEventPublisherFactory.getInstance()
+                .apply(ClientOperationEvent.ClientDeregisterServiceEvent.class, Byte.SIZE), is(publisher));
+        String expectedStatus = "Naming event publisher statues:\n" + "\t" + ((DefaultShardedPublisher) publisher).getStatus()
+                + "\n";
+        assertThat(NamingEventPublisherFactory.getInstance().getAllPublisherStatues(), is(expectedStatus));
+    }
 }
@@ -18,11 +18,15 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +48,9 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -64,7 +72,7 @@ class ServiceStorageTest {
     private NamingMetadataManager namingMetadataManager;
     
     @Mock
-    private ServiceInfo serviceInfo;
+    private Client client;
     
     @Mock
     private InstancePublishInfo instancePublishInfo;
@@ -80,12 +88,11 @@ class ServiceStorageTest {
         ConcurrentMap<Service, Set<String>> serviceSetConcurrentMap = (ConcurrentMap<Service, Set<String>>) serviceClusterIndex.get(
                 serviceStorage);
         serviceSetConcurrentMap.put(SERVICE, new HashSet<>(Collections.singletonList(NACOS)));
-        
-        Field serviceDataIndexes = ServiceStorage.class.getDeclaredField("serviceDataIndexes");
-        serviceDataIndexes.setAccessible(true);
-        ConcurrentMap<Service, ServiceInfo> infoConcurrentMap = (ConcurrentMap<Service, ServiceInfo>) serviceDataIndexes.get(
-                serviceStorage);
-        infoConcurrentMap.put(SERVICE, serviceInfo);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ServiceManager.getInstance().removeSingleton(SERVICE);
     }
     
     @Test
@@ -113,8 +120,88 @@ class ServiceStorageTest {
         assertNotNull(pushData);
     }
     
+    @Test
+    void testGetPushDataWithSnapshot() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                .thenReturn(Collections.singletonList(NACOS));
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+        Mockito.when(client.getInstancePublishInfo(singleton)).thenReturn(publishInfo);
+        ServiceInfo first = serviceStorage.getPushData(SERVICE);
+        assertEquals(1, first.ipCount());
+        // no change, the same data should be returned.
+        assertSame(first, serviceStorage.getPushData(SERVICE));
+        assertSame(first, serviceStorage.getData(SERVICE));
+        // other instance changed, the instance of this client should be reused.
+        singleton.incrementRevision();
+        ServiceInfo second = serviceStorage.getPushData(SERVICE);
+        assertNotSame(first, second);
+        assertSame(first.getHosts().get(0), second.getHosts().get(0));
+        // healthy changed in place.
+        publishInfo.setHealthy(false);
+        singleton.incrementRevision();
+        ServiceInfo third = serviceStorage.getPushData(SERVICE);
+        assertFalse(third.getHosts().get(0).isHealthy());
+        // client re-register instance.
+        Mockito.when(client.getInstancePublishInfo(singleton)).thenReturn(new InstancePublishInfo("1.1.1.2", 8848));
+        singleton.incrementRevision();
+        assertEquals("1.1.1.2", serviceStorage.getPushData(SERVICE).getHosts().get(0).getIp());
+        // client deregister instance.
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                .thenReturn(Collections.emptyList());
+        singleton.incrementRevision();
+        assertEquals(0, serviceStorage.getPushData(SERVICE).ipCount());
+    }
+    
+    @Test
+    void testGetSelectedDataShared() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        mockHealthyAndUnhealthyInstances(singleton);
+        ServiceInfo healthy = serviceStorage.getSelectedData(SERVICE, null, "", true, true, "1.1.1.1");
+        assertEquals(1, healthy.ipCount());
+        assertTrue(healthy.getHosts().get(0).isHealthy());
+        // view without selector is shared by all subscribers of the same conditions.
+        assertSame(healthy, serviceStorage.getSelectedData(SERVICE, null, "", true, true, "2.2.2.2"));
+        ServiceInfo all = serviceStorage.getSelectedData(SERVICE, null, "", false, true, "1.1.1.1");
+        assertEquals(2, all.ipCount());
+        assertNotSame(all, healthy);
+        // views are rebuilt after service changed.
+        singleton.incrementRevision();
+        serviceStorage.getPushData(SERVICE);
+        assertNotSame(healthy, serviceStorage.getSelectedData(SERVICE, null, "", true, true, "1.1.1.1"));
+    }
+    
+    @Test
+    void testGetSelectedDataNotSharedForOtherData() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        mockHealthyAndUnhealthyInstances(singleton);
+        serviceStorage.getPushData(SERVICE);
+        ServiceInfo otherData = new ServiceInfo();
+        otherData.setHosts(serviceStorage.getData(SERVICE).getHosts());
+        ServiceInfo first = serviceStorage.getSelectedData(SERVICE, otherData, null, "", true, true, "1.1.1.1");
+        assertEquals(1, first.ipCount());
+        assertNotSame(first, serviceStorage.getSelectedData(SERVICE, otherData, null, "", true, true, "1.1.1.1"));
+    }
+    
+    private void mockHealthyAndUnhealthyInstances(Service singleton) {
+        final Client unhealthyClient = Mockito.mock(Client.class);
+        InstancePublishInfo healthyInstance = new InstancePublishInfo("1.1.1.1", 8848);
+        healthyInstance.setHealthy(true);
+        InstancePublishInfo unhealthyInstance = new InstancePublishInfo("1.1.1.2", 8848);
+        unhealthyInstance.setHealthy(false);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                .thenReturn(Arrays.asList(NACOS, "unhealthy"));
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+        Mockito.when(clientManagerDelegate.getClient("unhealthy")).thenReturn(unhealthyClient);
+        Mockito.when(client.getInstancePublishInfo(singleton)).thenReturn(healthyInstance);
+        Mockito.when(unhealthyClient.getInstancePublishInfo(singleton)).thenReturn(unhealthyInstance);
+    }
+    
     @Test
     void testRemoveData() throws NoSuchFieldException, IllegalAccessException {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        serviceStorage.getPushData(SERVICE);
         serviceStorage.removeData(SERVICE);
         
         Field serviceClusterIndex = ServiceStorage.class.getDeclaredField("serviceClusterIndex");
@@ -124,8 +211,7 @@ class ServiceStorageTest {
         
         Field serviceDataIndexes = ServiceStorage.class.getDeclaredField("serviceDataIndexes");
         serviceDataIndexes.setAccessible(true);
-        ConcurrentMap<Service, ServiceInfo> infoConcurrentMap = (ConcurrentMap<Service, ServiceInfo>) serviceDataIndexes.get(
-                serviceStorage);
+        ConcurrentMap<Service, ?> infoConcurrentMap = (ConcurrentMap<Service, ?>) serviceDataIndexes.get(serviceStorage);
         
         assertEquals(0, serviceSetConcurrentMap.size());
         assertEquals(0, infoConcurrentMap.size());
@@ -155,12 +241,16 @@ class ServiceStorageTest {
     @Test
     void testParseInstance() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class);
+        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class,
+                InstancePublishInfo.class, InstanceMetadata.class);
         parseInstance.setAccessible(true);
-        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo);
+        InstanceMetadata instanceMetadata = new InstanceMetadata();
+        instanceMetadata.setWeight(2.0D);
+        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo,
+                instanceMetadata);
         
-        Mockito.verify(namingMetadataManager).getInstanceMetadata(SERVICE, instancePublishInfo.getMetadataId());
         assertNotNull(instance);
+        assertEquals(2.0D, instance.getWeight(), 0.0D);
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.metadata;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InstanceMetadataProcessorTest {
+    
+    @Mock
+    private NamingMetadataManager namingMetadataManager;
+    
+    @Mock
+    private ProtocolManager protocolManager;
+    
+    @Mock
+    private CPProtocol cpProtocol;
+    
+    private InstanceMetadataProcessor instanceMetadataProcessor;
+    
+    private Service service;
+    
+    @BeforeEach
+    void setUp() {
+        Mockito.when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
+        instanceMetadataProcessor = new InstanceMetadataProcessor(namingMetadataManager, protocolManager);
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("namespace", "group", "instanceMetadataProcessorTest"));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    @Test
+    void testOnApplyIncrementRevision() {
+        InstanceMetadata instanceMetadata = new InstanceMetadata();
+        long revision = service.getRevision();
+        
+        Response changeResponse = instanceMetadataProcessor.onApply(buildRequest(DataOperation.CHANGE, instanceMetadata));
+        assertTrue(changeResponse.getSuccess());
+        verify(namingMetadataManager).updateInstanceMetadata(eq(service), eq("1.1.1.1:8848:DEFAULT"), any(InstanceMetadata.class));
+        assertEquals(revision + 1, service.getRevision());
+        
+        // the metadata of instance is removed, the instances pushed to subscribers also change.
+        Response deleteResponse = instanceMetadataProcessor.onApply(buildRequest(DataOperation.DELETE, null));
+        assertTrue(deleteResponse.getSuccess());
+        verify(namingMetadataManager).removeInstanceMetadata(service, "1.1.1.1:8848:DEFAULT");
+        assertEquals(revision + 2, service.getRevision());
+    }
+    
+    private WriteRequest buildRequest(DataOperation operation, InstanceMetadata instanceMetadata) {
+        MetadataOperation<InstanceMetadata> metadataOperation = new MetadataOperation<>();
+        metadataOperation.setNamespace(service.getNamespace());
+        metadataOperation.setGroup(service.getGroup());
+        metadataOperation.setServiceName(service.getName());
+        metadataOperation.setTag("1.1.1.1:8848:DEFAULT");
+        metadataOperation.setMetadata(instanceMetadata);
+        return WriteRequest.newBuilder().setOperation(operation.name())
+                .setData(ByteString.copyFrom(SerializeFactory.getDefault().serialize(metadataOperation))).build();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.naming.misc.HttpClientManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NioHttpHealthCheckerTest {
+    
+    private static final String LOCALHOST = "127.0.0.1";
+    
+    private NioHttpHealthChecker checker;
+    
+    private ServerSocket serverSocket;
+    
+    private final AtomicInteger acceptCount = new AtomicInteger();
+    
+    private final List<String> requestLines = new CopyOnWriteArrayList<>();
+    
+    private final List<String> requestHeaders = new CopyOnWriteArrayList<>();
+    
+    private volatile String response;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        checker = new NioHttpHealthChecker(2, 500L, 20000L, Runnable::run);
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST));
+        response = "HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok";
+        Thread acceptor = new Thread(this::accept);
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        checker.shutdown();
+        serverSocket.close();
+    }
+    
+    @Test
+    void testProbeOk() throws Exception {
+        assertEquals(200, probe("/health").get(5, TimeUnit.SECONDS));
+        assertEquals("GET /health HTTP/1.1", requestLines.get(0));
+        assertTrue(requestHeaders.contains("User-Agent: " + HttpClientManager.PROCESSOR_USER_AGENT));
+        assertTrue(requestHeaders.contains("X-Test: test"));
+    }
+    
+    @Test
+    void testProbeUnavailable() throws Exception {
+        response = "HTTP/1.1 503 Service Unavailable\r\nContent-Length: 0\r\n\r\n";
+        assertEquals(503, probe("health").get(5, TimeUnit.SECONDS));
+        assertEquals("GET /health HTTP/1.1", requestLines.get(0));
+    }
+    
+    @Test
+    void testReuseKeepAliveConnection() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, probe("/").get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(3, requestLines.size());
+        assertEquals(1, acceptCount.get());
+    }
+    
+    @Test
+    void testNotReuseClosedConnection() throws Exception {
+        response = "HTTP/1.1 200 OK\r\nConnection: close\r\nContent-Length: 2\r\n\r\nok";
+        for (int i = 0; i < 2; i++) {
+            assertEquals(200, probe("/").get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, acceptCount.get());
+    }
+    
+    @Test
+    void testProbeTimeout() throws Exception {
+        response = null;
+        assertTrue(probe("/").get(5, TimeUnit.SECONDS) instanceof SocketTimeoutException);
+    }
+    
+    @Test
+    void testProbeRefused() throws Exception {
+        int port = serverSocket.getLocalPort();
+        serverSocket.close();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        checker.probe(LOCALHOST, port, "/", Collections.emptyMap(), new FutureCallback(result));
+        assertTrue(result.get(5, TimeUnit.SECONDS) instanceof ConnectException);
+    }
+    
+    @Test
+    void testProbeAfterShutdown() throws Exception {
+        checker.shutdown();
+        assertTrue(probe("/").get(5, TimeUnit.SECONDS) instanceof IOException);
+    }
+    
+    private CompletableFuture<Object> probe(String path) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        checker.probe(LOCALHOST, serverSocket.getLocalPort(), path, Collections.singletonMap("X-Test", "test"),
+                new FutureCallback(result));
+        return result;
+    }
+    
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                acceptCount.incrementAndGet();
+                Thread handler = new Thread(() -> handle(socket));
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException ignore) {
+                return;
+            }
+        }
+    }
+    
+    private void handle(Socket socket) {
+        try (Socket ignore = socket) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            OutputStream output = socket.getOutputStream();
+            for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+                requestLines.add(line);
+                for (String header = reader.readLine(); null != header && !header.isEmpty(); ) {
+                    requestHeaders.add(header);
+                    header = reader.readLine();
+                }
+                String current = response;
+                if (null == current) {
+                    // never response to make timeout
+                    TimeUnit.SECONDS.sleep(2);
+                    return;
+                }
+                output.write(current.getBytes(StandardCharsets.ISO_8859_1));
+                output.flush();
+                if (current.contains("Connection: close")) {
+                    return;
+                }
+            }
+        } catch (Exception ignore) {
+        }
+    }
+    
+    private static class FutureCallback implements NioHttpHealthChecker.ProbeCallback {
+        
+        private final CompletableFuture<Object> result;
+        
+        private FutureCallback(CompletableFuture<Object> result) {
+            this.result = result;
+        }
+        
+        @Override
+        public void onResponse(int httpCode) {
+            result.complete(httpCode);
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            result.complete(throwable);
+        }
+    }
+}
@@ -42,6 +42,8 @@ class PushConfigTest {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY * 2;
     
+    private long pushTaskMaxDelay = PushConstants.DEFAULT_PUSH_TASK_MAX_DELAY * 2;
+    
     @BeforeEach
     void setUp() throws Exception {
         mockEnvironment = new MockEnvironment();
@@ -54,11 +56,13 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.PUSH_TASK_MAX_DELAY, String.valueOf(pushTaskMaxDelay));
         NotifyCenter.publishEvent(ServerConfigChangeEvent.newEvent());
         TimeUnit.SECONDS.sleep(1);
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
+        assertEquals(pushTaskMaxDelay, pushConfig.getPushTaskMaxDelay());
     }
     
     @Test
@@ -66,12 +70,14 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.PUSH_TASK_MAX_DELAY, String.valueOf(pushTaskMaxDelay));
         Constructor<PushConfig> declaredConstructor = PushConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
         PushConfig pushConfig = declaredConstructor.newInstance();
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
+        assertEquals(pushTaskMaxDelay, pushConfig.getPushTaskMaxDelay());
         
     }
 }
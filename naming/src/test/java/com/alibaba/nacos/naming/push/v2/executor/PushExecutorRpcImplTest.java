@@ -16,17 +16,26 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,13 +48,17 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,12 +76,21 @@ class PushExecutorRpcImplTest {
     @Mock
     private NamingPushCallback pushCallBack;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private Connection connection;
+    
     @Mock
     private SelectorManager selectorManager;
     
     @Mock
     private ConfigurableApplicationContext context;
     
+    @Mock
+    private ServiceStorage serviceStorage;
+    
     private PushDataWrapper pushData;
     
     private PushExecutorRpcImpl pushExecutor;
@@ -80,7 +102,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager, serviceStorage);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -91,23 +113,111 @@ class PushExecutorRpcImplTest {
     @Test
     void testDoPush() {
         pushExecutor.doPush(rpcClientId, subscriber, pushData);
-        verify(pushService).pushWithoutAck(eq(rpcClientId), any(NotifySubscriberRequest.class));
+        verify(pushService).pushWithoutAck(eq(rpcClientId), any(PreSerializedRequest.class));
     }
     
     @Test
     void testDoPushWithCallback() {
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
+                .pushWithCallback(eq(rpcClientId), any(PreSerializedRequest.class), eq(pushCallBack),
                         eq(GlobalExecutor.getCallbackExecutor()));
         pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackForDeltaClient() {
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH.getName(), true));
+        PushDataWrapper baseData = new PushDataWrapper(serviceMetadata, buildServiceInfo("1.1.1.1", "1.1.1.2",
+                "1.1.1.3", "1.1.1.4"), 1L, null);
+        PushDataWrapper currentData = new PushDataWrapper(serviceMetadata, buildServiceInfo("1.1.1.1", "1.1.1.2",
+                "1.1.1.3", "1.1.1.5"), 2L, baseData);
+        when(subscriber.getPushedRevision()).thenReturn(1L);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, currentData, pushCallBack);
+        verify(pushService).pushWithCallback(eq(rpcClientId), argThat(request -> {
+            NotifySubscriberRequest notifyRequest = toNotifyRequest(request);
+            return notifyRequest.isDelta() && 1L == notifyRequest.getBaseRevision() && 2L == notifyRequest
+                    .getRevision() && notifyRequest.getServiceInfo().getHosts().isEmpty()
+                    && "1.1.1.5".equals(notifyRequest.getAddedInstances().get(0).getIp())
+                    && "1.1.1.4".equals(notifyRequest.getRemovedInstances().get(0).getIp())
+                    && notifyRequest.getModifiedInstances().isEmpty();
+        }), eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+    }
+    
+    @Test
+    void testDoPushWithCallbackForDeltaClientWithRevisionGap() {
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH.getName(), true));
+        PushDataWrapper baseData = new PushDataWrapper(serviceMetadata, buildServiceInfo("1.1.1.1", "1.1.1.2"), 1L,
+                null);
+        PushDataWrapper currentData = new PushDataWrapper(serviceMetadata, buildServiceInfo("1.1.1.1", "1.1.1.3"),
+                2L, baseData);
+        when(subscriber.getPushedRevision()).thenReturn(0L);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, currentData, pushCallBack);
+        verify(pushService).pushWithCallback(eq(rpcClientId), argThat(request -> {
+            NotifySubscriberRequest notifyRequest = toNotifyRequest(request);
+            return !notifyRequest.isDelta() && 2L == notifyRequest.getRevision()
+                    && 2 == notifyRequest.getServiceInfo().ipCount();
+        }), eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+    }
+    
+    @Test
+    void testDoPushWithCallbackReusePayload() {
+        final long hitCount = MetricsMonitor.getPushPayloadCacheHit().get();
+        final long missCount = MetricsMonitor.getPushPayloadCacheMiss().get();
+        PushDataWrapper currentData = new PushDataWrapper(serviceMetadata, buildServiceInfo("1.1.1.1", "1.1.1.2"));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, currentData, pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, currentData, pushCallBack);
+        verify(pushService, times(2)).pushWithCallback(eq(rpcClientId),
+                argThat(request -> 2 == toNotifyRequest(request).getServiceInfo().ipCount()), eq(pushCallBack),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        assertEquals(missCount + 1, MetricsMonitor.getPushPayloadCacheMiss().get());
+        assertEquals(hitCount + 1, MetricsMonitor.getPushPayloadCacheHit().get());
+    }
+    
+    @Test
+    void testDoPushWithCallbackUseSelectedViewOfStorage() {
+        Service service = Service.newService("N", "G", "S");
+        ServiceInfo serviceInfo = buildServiceInfo("1.1.1.1", "1.1.1.2");
+        PushDataWrapper currentData = new PushDataWrapper(service, serviceMetadata, serviceInfo, 1L, null);
+        when(subscriber.getCluster()).thenReturn("DEFAULT");
+        when(serviceStorage.getSelectedData(eq(service), eq(serviceInfo), eq(serviceMetadata), eq("DEFAULT"), eq(false),
+                eq(true), any())).thenAnswer(invocation -> ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo,
+                        serviceMetadata, "DEFAULT", false, true, null));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, currentData, pushCallBack);
+        verify(serviceStorage).getSelectedData(eq(service), eq(serviceInfo), eq(serviceMetadata), eq("DEFAULT"),
+                eq(false), eq(true), any());
+        verify(pushService).pushWithCallback(eq(rpcClientId),
+                argThat(request -> 2 == toNotifyRequest(request).getServiceInfo().ipCount()), eq(pushCallBack),
+                eq(GlobalExecutor.getCallbackExecutor()));
+    }
+    
+    private NotifySubscriberRequest toNotifyRequest(Object request) {
+        return JacksonUtils.toObj(((PreSerializedRequest) request).toJsonBytes(), NotifySubscriberRequest.class);
+    }
+    
+    private ServiceInfo buildServiceInfo(String... ips) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (String each : ips) {
+            Instance instance = new Instance();
+            instance.setIp(each);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
-            NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
+            NotifySubscriberRequest pushRequest = toNotifyRequest(invocationOnMock.getArgument(1));
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
             PushCallBack callBack = invocationOnMock.getArgument(2);
             callBack.onSuccess();
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceInfoDeltaTest {
+    
+    @Test
+    void testDiff() {
+        ServiceInfo base = buildServiceInfo("1.1.1.1", "1.1.1.2", "1.1.1.3");
+        ServiceInfo current = buildServiceInfo("1.1.1.1", "1.1.1.3", "1.1.1.4");
+        current.getHosts().get(1).setWeight(2.0D);
+        ServiceInfoDelta delta = ServiceInfoDelta.diff(base, current);
+        assertEquals(3, delta.size());
+        assertEquals("1.1.1.4", delta.getAddedInstances().get(0).getIp());
+        assertEquals("1.1.1.2", delta.getRemovedInstances().get(0).getIp());
+        assertEquals("1.1.1.3", delta.getModifiedInstances().get(0).getIp());
+    }
+    
+    @Test
+    void testDiffWithSameData() {
+        ServiceInfo base = buildServiceInfo("1.1.1.1", "1.1.1.2");
+        assertEquals(0, ServiceInfoDelta.diff(base, buildServiceInfo("1.1.1.1", "1.1.1.2")).size());
+    }
+    
+    @Test
+    void testDiffWithEmptyData() {
+        ServiceInfoDelta delta = ServiceInfoDelta.diff(buildServiceInfo("1.1.1.1", "1.1.1.2"), buildServiceInfo());
+        assertTrue(delta.getAddedInstances().isEmpty());
+        assertEquals(2, delta.getRemovedInstances().size());
+    }
+    
+    private ServiceInfo buildServiceInfo(String... ips) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (String each : ips) {
+            Instance instance = new Instance();
+            instance.setIp(each);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.task;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PushCoalescingWindowTest {
+    
+    private final Service service = Service.newService("N", "G", "S");
+    
+    private final PushCoalescingWindow window = new PushCoalescingWindow();
+    
+    @Test
+    void testIsolatedChangeUseBaseDelay() {
+        assertEquals(500L, window.nextDelay(service, 500L, 3000L, 0L));
+        assertEquals(500L, window.nextDelay(service, 500L, 3000L, 10000L));
+        assertEquals(500L, window.getDelay(service, 500L));
+    }
+    
+    @Test
+    void testFrequentChangeGrowToMaxDelay() {
+        long now = 0L;
+        assertEquals(500L, window.nextDelay(service, 500L, 3000L, now));
+        assertEquals(1000L, window.nextDelay(service, 500L, 3000L, now += 100L));
+        assertEquals(2000L, window.nextDelay(service, 500L, 3000L, now += 100L));
+        assertEquals(3000L, window.nextDelay(service, 500L, 3000L, now += 100L));
+        assertEquals(3000L, window.nextDelay(service, 500L, 3000L, now + 100L));
+    }
+    
+    @Test
+    void testQuietShrinkBack() {
+        long now = 0L;
+        window.nextDelay(service, 500L, 3000L, now);
+        window.nextDelay(service, 500L, 3000L, now += 100L);
+        assertEquals(2000L, window.nextDelay(service, 500L, 3000L, now += 100L));
+        // one quiet window halves the delay.
+        assertEquals(1000L, window.nextDelay(service, 500L, 3000L, now += 2000L));
+        // long quiet shrinks back to base delay.
+        assertEquals(500L, window.nextDelay(service, 500L, 3000L, now + 60000L));
+    }
+    
+    @Test
+    void testFixedDelayWhenMaxDelayNotLarger() {
+        assertEquals(500L, window.nextDelay(service, 500L, 500L, 0L));
+        assertEquals(500L, window.nextDelay(service, 500L, 500L, 100L));
+        assertEquals(0, window.size());
+    }
+    
+    @Test
+    void testExpire() {
+        window.nextDelay(service, 500L, 3000L, 0L);
+        window.nextDelay(Service.newService("N", "G", "S2"), 500L, 3000L, 50000L);
+        window.expire(60000L, 60000L);
+        assertEquals(1, window.size());
+        assertEquals(500L, window.getDelay(service, 500L));
+    }
+}
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.push.v2.task;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
@@ -24,7 +25,9 @@ import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 import org.junit.jupiter.api.AfterEach;
@@ -33,15 +36,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@MockitoSettings(strictness = Strictness.LENIENT)
 @ExtendWith(MockitoExtension.class)
 class PushDelayTaskExecuteEngineTest {
     
@@ -99,4 +108,46 @@ class PushDelayTaskExecuteEngineTest {
         verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
                 any(NamingPushCallback.class));
     }
+    
+    @Test
+    void testAddTaskMerged() {
+        when(switchDomain.isPushEnabled()).thenReturn(false);
+        final long before = MetricsMonitor.getPushMergedCount().get();
+        executeEngine.addTask(service, new PushDelayTask(service, 0L));
+        executeEngine.addTask(service, new PushDelayTask(service, 0L, clientId));
+        executeEngine.addTask(service, new PushDelayTask(service, 0L));
+        assertEquals(1, executeEngine.size());
+        assertEquals(before + 2, MetricsMonitor.getPushMergedCount().get());
+    }
+    
+    @Test
+    void testNextPushDelay() {
+        long baseDelay = PushConfig.getInstance().getPushTaskDelay();
+        assertEquals(baseDelay, executeEngine.nextPushDelay(service));
+        assertTrue(executeEngine.nextPushDelay(service) > baseDelay);
+        assertTrue(executeEngine.nextPushDelay(service) <= PushConfig.getInstance().getPushTaskMaxDelay());
+    }
+    
+    @Test
+    void testGeneratePushData() {
+        ServiceManager.getInstance().getSingleton(service);
+        try {
+            ServiceInfo first = new ServiceInfo("G@@S");
+            PushDataWrapper firstData = executeEngine.generatePushData(service, null, first, true);
+            assertFalse(firstData.getBaseData().isPresent());
+            PushDataWrapper targetData = executeEngine.generatePushData(service, null, new ServiceInfo("G@@S"), false);
+            assertTrue(targetData.getBaseData().isPresent());
+            assertEquals(firstData.getRevision(), targetData.getBaseData().get().getRevision());
+            PushDataWrapper secondData = executeEngine.generatePushData(service, null, new ServiceInfo("G@@S"), true);
+            assertTrue(secondData.getRevision() > targetData.getRevision());
+            assertEquals(firstData.getRevision(), secondData.getBaseData().get().getRevision());
+            assertEquals(first, secondData.getBaseData().get().getOriginalData());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+        PushDataWrapper removedData = executeEngine.generatePushData(service, null, new ServiceInfo("G@@S"), true);
+        assertTrue(removedData.getBaseData().isPresent());
+        assertFalse(executeEngine.generatePushData(service, null, new ServiceInfo("G@@S"), true).getBaseData()
+                .isPresent());
+    }
 }
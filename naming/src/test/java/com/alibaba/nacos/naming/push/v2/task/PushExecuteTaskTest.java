@@ -26,6 +26,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.NoRequiredRetryException;
+import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +44,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -96,6 +98,8 @@ class PushExecuteTaskTest {
         when(delayTaskExecuteEngine.getServiceStorage()).thenReturn(serviceStorage);
         when(delayTaskExecuteEngine.getMetadataManager()).thenReturn(metadataManager);
         when(metadataManager.getServiceMetadata(service)).thenReturn(Optional.empty());
+        when(delayTaskExecuteEngine.generatePushData(eq(service), any(), any(), anyBoolean())).thenAnswer(
+                invocation -> new PushDataWrapper(invocation.getArgument(1), invocation.getArgument(2), 1L, null));
         ApplicationUtils.injectContext(context);
     }
     
@@ -105,6 +109,7 @@ class PushExecuteTaskTest {
         PushExecuteTask executeTask = new PushExecuteTask(service, delayTaskExecuteEngine, delayTask);
         executeTask.run();
         assertEquals(1, MetricsMonitor.getTotalPushMonitor().get());
+        verify(subscriber).setPushedRevision(1L);
     }
     
     @Test
@@ -144,6 +149,7 @@ class PushExecuteTaskTest {
         pushExecutor.setFailedException(new RuntimeException());
         executeTask.run();
         assertEquals(1, MetricsMonitor.getFailedPushMonitor().get());
+        verify(subscriber).setPushedRevision(0L);
         verify(delayTaskExecuteEngine).addTask(eq(service), any(PushDelayTask.class));
     }
 }
@@ -26,7 +26,6 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
-import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,13 +63,9 @@ class ServiceQueryRequestHandlerTest {
     @Mock
     private ConfigurableApplicationContext applicationContext;
     
-    @Mock
-    private SelectorManager selectorManager;
-    
     @BeforeEach
     void setUp() {
         ApplicationUtils.injectContext(applicationContext);
-        Mockito.when(applicationContext.getBean(SelectorManager.class)).thenReturn(selectorManager);
     }
     
     @Test
@@ -83,10 +78,10 @@ class ServiceQueryRequestHandlerTest {
         serviceInfo.setGroupName("B");
         serviceInfo.setName("C");
         serviceInfo.setHosts(instances);
-        Mockito.when(serviceStorage.getData(Mockito.any())).thenReturn(serviceInfo);
-        
         ServiceMetadata serviceMetadata = new ServiceMetadata();
         Mockito.when(metadataManager.getServiceMetadata(Mockito.any())).thenReturn(Optional.of(serviceMetadata));
+        Mockito.when(serviceStorage.getSelectedData(Mockito.any(), Mockito.eq(serviceMetadata), Mockito.eq(""),
+                Mockito.eq(false), Mockito.eq(true), Mockito.any())).thenReturn(serviceInfo);
         
         ServiceQueryRequest serviceQueryRequest = new ServiceQueryRequest();
         serviceQueryRequest.setNamespace("A");
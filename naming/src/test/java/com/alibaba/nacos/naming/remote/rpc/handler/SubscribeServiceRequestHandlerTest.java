@@ -28,7 +28,6 @@ import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.service.impl.EphemeralClientOperationServiceImpl;
-import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,13 +69,9 @@ class SubscribeServiceRequestHandlerTest {
     @Mock
     private ConfigurableApplicationContext applicationContext;
     
-    @Mock
-    private SelectorManager selectorManager;
-    
     @BeforeEach
     void setUp() {
         ApplicationUtils.injectContext(applicationContext);
-        Mockito.when(applicationContext.getBean(SelectorManager.class)).thenReturn(selectorManager);
     }
     
     @AfterEach
@@ -94,10 +89,10 @@ class SubscribeServiceRequestHandlerTest {
         serviceInfo.setGroupName("B");
         serviceInfo.setName("C");
         serviceInfo.setHosts(instances);
-        Mockito.when(serviceStorage.getData(Mockito.any())).thenReturn(serviceInfo);
-        
         ServiceMetadata serviceMetadata = new ServiceMetadata();
         Mockito.when(metadataManager.getServiceMetadata(Mockito.any())).thenReturn(Optional.of(serviceMetadata));
+        Mockito.when(serviceStorage.getSelectedData(Mockito.any(), Mockito.eq(serviceMetadata), Mockito.any(),
+                Mockito.eq(false), Mockito.eq(true), Mockito.any())).thenReturn(serviceInfo);
         
         SubscribeServiceRequest subscribeServiceRequest = new SubscribeServiceRequest();
         subscribeServiceRequest.setNamespace("A");
@@ -88,6 +88,10 @@ public class NacosJwtParser {
         return NacosSignatureAlgorithm.getExpiredTimeInSeconds(token, key);
     }
     
+    public NacosJwtPayload parsePayload(String token) throws AccessException {
+        return NacosSignatureAlgorithm.parsePayload(token, key);
+    }
+    
     public class JwtBuilder {
         
         private final NacosJwtPayload nacosJwtPayload = new NacosJwtPayload();
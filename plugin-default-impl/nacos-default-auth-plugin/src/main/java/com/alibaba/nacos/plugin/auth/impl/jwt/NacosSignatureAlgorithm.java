@@ -122,12 +122,7 @@ public final class NacosSignatureAlgorithm {
      * @throws AccessException access exception
      */
     public NacosUser verify(String header, String payload, String signature, Key key) throws AccessException {
-        Mac macInstance = getMacInstance(key);
-        byte[] bytes = macInstance.doFinal((header + JWT_SEPERATOR + payload).getBytes(StandardCharsets.US_ASCII));
-        if (!URL_BASE64_ENCODER.encodeToString(bytes).equals(signature)) {
-            throw new AccessException("Invalid signature");
-        }
-        NacosJwtPayload nacosJwtPayload = JacksonUtils.toObj(URL_BASE64_DECODER.decode(payload), NacosJwtPayload.class);
+        NacosJwtPayload nacosJwtPayload = verifyPayload(header, payload, signature, key);
         if (nacosJwtPayload.getExp() >= TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())) {
             return new NacosUser(nacosJwtPayload.getSub());
         }
@@ -144,6 +139,18 @@ public final class NacosSignatureAlgorithm {
      * @throws AccessException access exception
      */
     public static long getExpiredTimeInSeconds(String jwt, Key key) throws AccessException {
+        return parsePayload(jwt, key).getExp();
+    }
+    
+    /**
+     * verify the signature of jwt and parse its payload, the expired time of payload is not checked.
+     *
+     * @param jwt complete jwt string
+     * @param key for signature
+     * @return payload of jwt
+     * @throws AccessException access exception
+     */
+    public static NacosJwtPayload parsePayload(String jwt, Key key) throws AccessException {
         if (StringUtils.isBlank(jwt)) {
             throw new AccessException("user not found!");
         }
@@ -159,7 +166,7 @@ public final class NacosSignatureAlgorithm {
         if (signatureAlgorithm == null) {
             throw new AccessException("unsupported signature algorithm");
         }
-        return signatureAlgorithm.getExpireTimeInSeconds(header, payload, signature, key);
+        return signatureAlgorithm.verifyPayload(header, payload, signature, key);
     }
     
     /**
@@ -174,13 +181,17 @@ public final class NacosSignatureAlgorithm {
      */
     public long getExpireTimeInSeconds(String header, String payload, String signature, Key key)
             throws AccessException {
+        return verifyPayload(header, payload, signature, key).getExp();
+    }
+    
+    private NacosJwtPayload verifyPayload(String header, String payload, String signature, Key key)
+            throws AccessException {
         Mac macInstance = getMacInstance(key);
         byte[] bytes = macInstance.doFinal((header + JWT_SEPERATOR + payload).getBytes(StandardCharsets.US_ASCII));
         if (!URL_BASE64_ENCODER.encodeToString(bytes).equals(signature)) {
             throw new AccessException("Invalid signature");
         }
-        NacosJwtPayload nacosJwtPayload = JacksonUtils.toObj(URL_BASE64_DECODER.decode(payload), NacosJwtPayload.class);
-        return nacosJwtPayload.getExp();
+        return JacksonUtils.toObj(URL_BASE64_DECODER.decode(payload), NacosJwtPayload.class);
     }
     
     private NacosSignatureAlgorithm(String alg, String jcaName, String header) {
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.plugin.auth.impl.roles;
 
 import com.alibaba.nacos.api.model.Page;
+import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -45,6 +47,8 @@ public abstract class AbstractCachedRoleService implements NacosRoleService {
     
     private volatile Map<String, List<PermissionInfo>> permissionInfoMap = new ConcurrentHashMap<>();
     
+    private final Map<String, RolePermissionMatcher> permissionMatcherMap = new ConcurrentHashMap<>();
+    
     protected Set<String> getCachedRoleSet() {
         return roleSet;
     }
@@ -57,6 +61,29 @@ public abstract class AbstractCachedRoleService implements NacosRoleService {
         return permissionInfoMap;
     }
     
+    /**
+     * Get the compiled permissions of role, which is compiled again after the permissions of role changed.
+     *
+     * @param role role name
+     * @return compiled permissions, or {@code null} if the role has no permission
+     */
+    protected RolePermissionMatcher getPermissionMatcher(String role) {
+        List<PermissionInfo> permissionInfos = getPermissions(role);
+        if (CollectionUtils.isEmpty(permissionInfos)) {
+            return null;
+        }
+        RolePermissionMatcher result = permissionMatcherMap.get(role);
+        if (null == result || !result.isCompiledFrom(permissionInfos)) {
+            result = new RolePermissionMatcher(permissionInfos);
+            permissionMatcherMap.put(role, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Reload roles and permissions. The cached lists of unchanged users and roles are kept, so that the compiled
+     * permissions and the permission decisions depending on them are only rebuilt for the changed ones.
+     */
     @Scheduled(initialDelay = 5000, fixedDelay = 15000)
     protected void reload() {
         try {
@@ -70,18 +97,61 @@ public abstract class AbstractCachedRoleService implements NacosRoleService {
                 tmpRoleInfoMap.get(roleInfo.getUsername()).add(roleInfo);
                 tmpRoleSet.add(roleInfo.getRole());
             }
+            Map<String, List<RoleInfo>> oldRoleInfoMap = roleInfoMap;
+            tmpRoleInfoMap.replaceAll((username, roleInfos) -> isSameRoles(oldRoleInfoMap.get(username), roleInfos)
+                    ? oldRoleInfoMap.get(username) : roleInfos);
             
+            Map<String, List<PermissionInfo>> oldPermissionInfoMap = permissionInfoMap;
             Map<String, List<PermissionInfo>> tmpPermissionInfoMap = new ConcurrentHashMap<>(16);
             for (String role : tmpRoleSet) {
                 Page<PermissionInfo> permissionInfoPage = getPermissions(role, DEFAULT_PAGE_NO, Integer.MAX_VALUE);
-                tmpPermissionInfoMap.put(role, permissionInfoPage.getPageItems());
+                List<PermissionInfo> permissionInfos = permissionInfoPage.getPageItems();
+                List<PermissionInfo> oldPermissionInfos = oldPermissionInfoMap.get(role);
+                tmpPermissionInfoMap.put(role,
+                        isSamePermissions(oldPermissionInfos, permissionInfos) ? oldPermissionInfos : permissionInfos);
             }
             
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
             permissionInfoMap = tmpPermissionInfoMap;
+            permissionMatcherMap.entrySet()
+                    .removeIf(entry -> !entry.getValue().isCompiledFrom(tmpPermissionInfoMap.get(entry.getKey())));
         } catch (Exception e) {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
     }
+    
+    private static boolean isSameRoles(List<RoleInfo> oldRoleInfos, List<RoleInfo> roleInfos) {
+        if (null == oldRoleInfos || oldRoleInfos.size() != roleInfos.size()) {
+            return false;
+        }
+        for (int i = 0; i < roleInfos.size(); i++) {
+            RoleInfo oldRoleInfo = oldRoleInfos.get(i);
+            RoleInfo roleInfo = roleInfos.get(i);
+            if (!Objects.equals(oldRoleInfo.getUsername(), roleInfo.getUsername()) || !Objects
+                    .equals(oldRoleInfo.getRole(), roleInfo.getRole())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isSamePermissions(List<PermissionInfo> oldPermissionInfos,
+            List<PermissionInfo> permissionInfos) {
+        if (null == oldPermissionInfos || null == permissionInfos
+                || oldPermissionInfos.size() != permissionInfos.size()) {
+            return false;
+        }
+        for (int i = 0; i < permissionInfos.size(); i++) {
+            PermissionInfo oldPermissionInfo = oldPermissionInfos.get(i);
+            PermissionInfo permissionInfo = permissionInfos.get(i);
+            boolean same = Objects.equals(oldPermissionInfo.getRole(), permissionInfo.getRole()) && Objects
+                    .equals(oldPermissionInfo.getResource(), permissionInfo.getResource()) && Objects
+                    .equals(oldPermissionInfo.getAction(), permissionInfo.getAction());
+            if (!same) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
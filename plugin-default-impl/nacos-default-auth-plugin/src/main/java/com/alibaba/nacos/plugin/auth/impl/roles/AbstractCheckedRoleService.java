@@ -28,10 +28,13 @@ import com.alibaba.nacos.plugin.auth.impl.constant.AuthConstants;
 import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
 import com.alibaba.nacos.plugin.auth.impl.persistence.RoleInfo;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
-import java.util.regex.Pattern;
 
 import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
 
@@ -42,8 +45,16 @@ import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
  */
 public abstract class AbstractCheckedRoleService extends AbstractCachedRoleService implements NacosRoleService {
     
+    /**
+     * Max count of cached permission decisions, the least recently used ones are evicted once exceeded.
+     */
+    private static final int MAX_PERMISSION_DECISION_CACHE_SIZE = 10000;
+    
     private final AuthConfigs authConfigs;
     
+    private final Cache<PermissionDecisionKey, PermissionDecision> permissionDecisionCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_PERMISSION_DECISION_CACHE_SIZE).build();
+    
     protected AbstractCheckedRoleService(AuthConfigs authConfigs) {
         this.authConfigs = authConfigs;
     }
@@ -72,27 +83,55 @@ public abstract class AbstractCheckedRoleService extends AbstractCachedRoleServi
             return false;
         }
         
-        // For other roles, use a pattern match to decide if pass or not.
+        // For other roles, use the compiled permissions to decide if pass or not.
+        String resource = joinResource(permission.getResource());
+        String action = permission.getAction();
+        if (!authConfigs.isCachingEnabled()) {
+            return matchPermission(getPermissionMatchers(roleInfoList), resource, action);
+        }
+        PermissionDecisionKey decisionKey = new PermissionDecisionKey(nacosUser.getUserName(), resource, action);
+        PermissionDecision decision = permissionDecisionCache.getIfPresent(decisionKey);
+        if (null != decision && isValidDecision(decision, roleInfoList)) {
+            return decision.result;
+        }
+        List<RolePermissionMatcher> matchers = getPermissionMatchers(roleInfoList);
+        boolean result = matchPermission(matchers, resource, action);
+        permissionDecisionCache.put(decisionKey, new PermissionDecision(roleInfoList, matchers, result));
+        return result;
+    }
+    
+    private List<RolePermissionMatcher> getPermissionMatchers(List<RoleInfo> roleInfoList) {
+        List<RolePermissionMatcher> result = new ArrayList<>(roleInfoList.size());
         for (RoleInfo roleInfo : roleInfoList) {
-            List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
-            if (CollectionUtils.isEmpty(permissionInfoList)) {
-                continue;
-            }
-            for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
-                if (permissionResource.startsWith(":")) {
-                    permissionResource = DEFAULT_NAMESPACE_ID + permissionResource;
-                }
-                String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
-                    return true;
-                }
+            result.add(getPermissionMatcher(roleInfo.getRole()));
+        }
+        return result;
+    }
+    
+    private boolean matchPermission(List<RolePermissionMatcher> matchers, String resource, String action) {
+        for (RolePermissionMatcher each : matchers) {
+            if (null != each && each.matches(resource, action)) {
+                return true;
             }
         }
         return false;
     }
     
+    /**
+     * The decision is valid only if the roles of user and the permissions of these roles are not changed.
+     */
+    private boolean isValidDecision(PermissionDecision decision, List<RoleInfo> roleInfoList) {
+        if (decision.roleInfoList != roleInfoList) {
+            return false;
+        }
+        for (int i = 0; i < roleInfoList.size(); i++) {
+            if (getPermissionMatcher(roleInfoList.get(i).getRole()) != decision.matchers.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     @Override
     public Result<Boolean> isDuplicatePermission(String role, String resource, String action) {
         List<PermissionInfo> permissionInfos = getPermissions(role);
@@ -162,4 +201,53 @@ public abstract class AbstractCheckedRoleService extends AbstractCachedRoleServi
         }
         return result.toString();
     }
+    
+    private static class PermissionDecisionKey {
+        
+        private final String userName;
+        
+        private final String resource;
+        
+        private final String action;
+        
+        private PermissionDecisionKey(String userName, String resource, String action) {
+            this.userName = userName;
+            this.resource = resource;
+            this.action = action;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PermissionDecisionKey that = (PermissionDecisionKey) o;
+            return Objects.equals(userName, that.userName) && Objects.equals(resource, that.resource)
+                    && Objects.equals(action, that.action);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(userName, resource, action);
+        }
+    }
+    
+    private static class PermissionDecision {
+        
+        private final List<RoleInfo> roleInfoList;
+        
+        private final List<RolePermissionMatcher> matchers;
+        
+        private final boolean result;
+        
+        private PermissionDecision(List<RoleInfo> roleInfoList, List<RolePermissionMatcher> matchers,
+                boolean result) {
+            this.roleInfoList = roleInfoList;
+            this.matchers = matchers;
+            this.result = result;
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.auth.impl.roles;
+
+import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+
+/**
+ * Compiled permissions of one role.
+ *
+ * <p>The resource of permission is a regex in which {@code *} matches any characters. Resources without other regex
+ * characters are matched as exact resources or by a prefix trie if only ending with {@code *}, and the others are
+ * compiled to {@link Pattern} only once.
+ *
+ * @author Nacos
+ */
+public class RolePermissionMatcher {
+    
+    private static final String WILDCARD = "*";
+    
+    private static final String REGEX_WILDCARD = ".*";
+    
+    private static final String NAMESPACE_OMITTED_PREFIX = ":";
+    
+    private static final String REGEX_SPECIAL_CHARS = "\\^$.|?+()[]{}";
+    
+    private final List<PermissionInfo> source;
+    
+    private final Map<String, List<String>> exactResources;
+    
+    private final TrieNode prefixResources;
+    
+    private final List<PatternPermission> patternResources;
+    
+    public RolePermissionMatcher(List<PermissionInfo> source) {
+        this.source = source;
+        this.exactResources = new HashMap<>(source.size());
+        this.prefixResources = new TrieNode();
+        this.patternResources = new LinkedList<>();
+        for (PermissionInfo each : source) {
+            if (null != each.getResource() && null != each.getAction()) {
+                compile(each.getResource(), each.getAction());
+            }
+        }
+    }
+    
+    private void compile(String resource, String action) {
+        String permissionResource = resource.startsWith(NAMESPACE_OMITTED_PREFIX) ? DEFAULT_NAMESPACE_ID + resource
+                : resource;
+        int wildcardIndex = permissionResource.indexOf(WILDCARD);
+        boolean onlyTailWildcard = wildcardIndex < 0 || wildcardIndex == permissionResource.length() - 1;
+        if (containsRegexSpecialChar(permissionResource) || !onlyTailWildcard) {
+            Pattern pattern = Pattern.compile(permissionResource.replace(WILDCARD, REGEX_WILDCARD));
+            patternResources.add(new PatternPermission(pattern, action));
+        } else if (wildcardIndex < 0) {
+            exactResources.computeIfAbsent(permissionResource, key -> new ArrayList<>(1)).add(action);
+        } else {
+            prefixResources.add(permissionResource.substring(0, wildcardIndex), action);
+        }
+    }
+    
+    private boolean containsRegexSpecialChar(String resource) {
+        for (int i = 0; i < resource.length(); i++) {
+            if (REGEX_SPECIAL_CHARS.indexOf(resource.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Whether this matcher is compiled from the permissions.
+     *
+     * @param permissionInfos permissions of role
+     * @return {@code true} if compiled from the same permissions instance
+     */
+    public boolean isCompiledFrom(List<PermissionInfo> permissionInfos) {
+        return source == permissionInfos;
+    }
+    
+    /**
+     * Whether any permission of the role matches the resource and action.
+     *
+     * @param resource joined resource, such as {@code namespace:group:config/dataId}
+     * @param action   action of request
+     * @return {@code true} if matched
+     */
+    public boolean matches(String resource, String action) {
+        if (containsAction(exactResources.get(resource), action)) {
+            return true;
+        }
+        TrieNode node = prefixResources;
+        int index = 0;
+        while (null != node) {
+            if (containsAction(node.actions, action)) {
+                return true;
+            }
+            node = index < resource.length() ? node.next(resource.charAt(index++)) : null;
+        }
+        for (PatternPermission each : patternResources) {
+            if (each.action.contains(action) && each.pattern.matcher(resource).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean containsAction(List<String> actions, String action) {
+        if (null == actions) {
+            return false;
+        }
+        for (String each : actions) {
+            if (each.contains(action)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static class TrieNode {
+        
+        private Map<Character, TrieNode> children;
+        
+        private List<String> actions;
+        
+        private void add(String prefix, String action) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                if (null == node.children) {
+                    node.children = new HashMap<>(4);
+                }
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new TrieNode());
+            }
+            if (null == node.actions) {
+                node.actions = new ArrayList<>(1);
+            }
+            node.actions.add(action);
+        }
+        
+        private TrieNode next(char c) {
+            return null == children ? null : children.get(c);
+        }
+    }
+    
+    private static class PatternPermission {
+        
+        private final Pattern pattern;
+        
+        private final String action;
+        
+        private PatternPermission(Pattern pattern, String action) {
+            this.pattern = pattern;
+            this.action = action;
+        }
+    }
+}
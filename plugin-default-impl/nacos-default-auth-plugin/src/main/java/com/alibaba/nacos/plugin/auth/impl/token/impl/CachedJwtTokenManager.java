@@ -16,25 +16,38 @@
 
 package com.alibaba.nacos.plugin.auth.impl.token.impl;
 
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.plugin.auth.exception.AccessException;
+import com.alibaba.nacos.plugin.auth.impl.jwt.NacosJwtPayload;
 import com.alibaba.nacos.plugin.auth.impl.token.TokenManager;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Cached JWT token manager.
  *
+ * <p>Tokens created by this node and tokens verified by this node, such as the ones created by other nodes, are both
+ * cached, so each token is only verified once in each node. The cached tokens are also ordered by expired time, so
+ * expired tokens are cleaned without scanning all tokens, and the earliest expired tokens are evicted first if too
+ * many tokens are cached.
+ *
  * @author majorhe
  */
 public class CachedJwtTokenManager implements TokenManager {
     
+    private static final int MAX_CACHED_TOKEN_COUNT = 65536;
+    
+    private static final Comparator<TokenEntity> EXPIRED_TIME_ORDER = Comparator
+            .comparingLong(TokenEntity::getExpiredTimeMills).thenComparing(TokenEntity::getToken);
+    
     /**
      * key: token string, value: token entity.
      */
@@ -45,6 +58,12 @@ public class CachedJwtTokenManager implements TokenManager {
      */
     private volatile Map<String, TokenEntity> userMap = new ConcurrentHashMap<>(128);
     
+    /**
+     * Cached token entities ordered by expired time.
+     */
+    private final ConcurrentSkipListSet<TokenEntity> expiredTimeQueue = new ConcurrentSkipListSet<>(
+            EXPIRED_TIME_ORDER);
+    
     private final JwtTokenManager jwtTokenManager;
     
     public CachedJwtTokenManager(JwtTokenManager jwtTokenManager) {
@@ -53,20 +72,16 @@ public class CachedJwtTokenManager implements TokenManager {
     
     @Scheduled(initialDelay = 30000, fixedDelay = 60000)
     private void cleanExpiredToken() {
-        List<String> tokens = new ArrayList<>();
-        tokenMap.forEach((k, v) -> {
-            if (v.getExpiredTimeMills() < System.currentTimeMillis()) {
-                tokens.add(k);
+        long now = System.currentTimeMillis();
+        Iterator<TokenEntity> iterator = expiredTimeQueue.iterator();
+        while (iterator.hasNext()) {
+            TokenEntity each = iterator.next();
+            if (each.getExpiredTimeMills() >= now) {
+                break;
             }
-        });
-        tokens.forEach(e -> tokenMap.remove(e));
-        List<String> users = new ArrayList<>();
-        userMap.forEach((k, v) -> {
-            if (v.getExpiredTimeMills() < System.currentTimeMillis()) {
-                users.add(k);
-            }
-        });
-        users.forEach(e -> userMap.remove(e));
+            iterator.remove();
+            evictToken(each);
+        }
     }
     
     @Override
@@ -82,19 +97,15 @@ public class CachedJwtTokenManager implements TokenManager {
      * @throws AccessException access exception
      */
     public String createToken(String username) throws AccessException {
-        if (userMap.containsKey(username)) {
-            String token = userMap.get(username).getToken();
-            long expiredTime = userMap.get(username).getExpiredTimeMills();
-            if (!needRefresh(expiredTime)) {
-                return token;
-            }
+        TokenEntity cached = userMap.get(username);
+        if (null != cached && !needRefresh(cached.getExpiredTimeMills())) {
+            return cached.getToken();
         }
         String token = jwtTokenManager.createToken(username);
-        NacosUser user = jwtTokenManager.parseToken(token);
+        NacosUser user = new NacosUser(username, token);
         long expiredTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(getTokenValidityInSeconds());
-        Authentication authentication = jwtTokenManager.getAuthentication(token);
-        TokenEntity model = new TokenEntity(token, username, expiredTime, authentication, user);
-        tokenMap.put(token, model);
+        Authentication authentication = jwtTokenManager.getAuthentication(user);
+        TokenEntity model = cacheToken(new TokenEntity(token, username, expiredTime, authentication, user));
         userMap.put(username, model);
         return token;
     }
@@ -107,10 +118,8 @@ public class CachedJwtTokenManager implements TokenManager {
      * @throws AccessException access exception
      */
     public Authentication getAuthentication(String token) throws AccessException {
-        if (!tokenMap.containsKey(token)) {
-            return jwtTokenManager.getAuthentication(token);
-        }
-        return tokenMap.get(token).getAuthentication();
+        TokenEntity cached = getCachedToken(token);
+        return null != cached ? cached.getAuthentication() : verifyToken(token).getAuthentication();
     }
     
     /**
@@ -120,47 +129,32 @@ public class CachedJwtTokenManager implements TokenManager {
      * @throws AccessException access exception
      */
     public void validateToken(String token) throws AccessException {
-        if (!tokenMap.containsKey(token)) {
-            // jwtTokenManager.validateToken(token) will throw runtime exception if token invalid
-            jwtTokenManager.validateToken(token);
-            // if token valid
-            Authentication authentication = jwtTokenManager.getAuthentication(token);
-            String username = authentication.getName();
-            if (username == null || username.isEmpty()) {
-                return;
-            }
-            long expiredTime = TimeUnit.SECONDS.toMillis(jwtTokenManager.getExpiredTimeInSeconds(token));
-            if (expiredTime <= System.currentTimeMillis()) {
-                return;
-            }
-            NacosUser user = jwtTokenManager.parseToken(token);
-            tokenMap.putIfAbsent(token, new TokenEntity(token, username, expiredTime, authentication, user));
+        if (null == getCachedToken(token)) {
+            // verifyToken(token) will throw exception if token invalid
+            verifyToken(token);
         }
     }
     
     @Override
     public NacosUser parseToken(String token) throws AccessException {
-        if (!tokenMap.containsKey(token)) {
-            Authentication authentication = jwtTokenManager.getAuthentication(token);
-            String username = authentication.getName();
-            if (username == null || username.isEmpty()) {
-                throw new AccessException("invalid token, username is empty");
-            }
-            long expiredTime = TimeUnit.SECONDS.toMillis(jwtTokenManager.getExpiredTimeInSeconds(token));
-            if (expiredTime <= System.currentTimeMillis()) {
-                throw new AccessException("expired token");
-            }
-            NacosUser user = jwtTokenManager.parseToken(token);
-            tokenMap.putIfAbsent(token, new TokenEntity(token, username, expiredTime, authentication, user));
-            return user;
+        TokenEntity cached = getCachedToken(token);
+        if (null != cached) {
+            return cached.getNacosUser();
+        }
+        TokenEntity verified = verifyToken(token);
+        if (StringUtils.isEmpty(verified.getUserName())) {
+            throw new AccessException("invalid token, username is empty");
+        }
+        if (verified.getExpiredTimeMills() <= System.currentTimeMillis()) {
+            throw new AccessException("expired token");
         }
-        return tokenMap.get(token).getNacosUser();
+        return verified.getNacosUser();
     }
     
     public long getTokenTtlInSeconds(String token) throws AccessException {
-        if (tokenMap.containsKey(token)) {
-            return TimeUnit.MILLISECONDS.toSeconds(
-                    tokenMap.get(token).getExpiredTimeMills() - System.currentTimeMillis());
+        TokenEntity cached = tokenMap.get(token);
+        if (null != cached) {
+            return TimeUnit.MILLISECONDS.toSeconds(cached.getExpiredTimeMills() - System.currentTimeMillis());
         }
         return jwtTokenManager.getTokenTtlInSeconds(token);
     }
@@ -175,6 +169,57 @@ public class CachedJwtTokenManager implements TokenManager {
         return System.currentTimeMillis() + refreshWindowMills > expiredTimeMills;
     }
     
+    private TokenEntity getCachedToken(String token) {
+        TokenEntity result = tokenMap.get(token);
+        if (null != result && result.getExpiredTimeMills() < System.currentTimeMillis()) {
+            expiredTimeQueue.remove(result);
+            evictToken(result);
+            return null;
+        }
+        return result;
+    }
+    
+    /**
+     * Verify the token which is not cached, and cache it if the token is valid. The signature of token is only verified
+     * once, both user and expired time are taken from the verified payload.
+     */
+    private TokenEntity verifyToken(String token) throws AccessException {
+        NacosJwtPayload payload = jwtTokenManager.parseTokenPayload(token);
+        if (payload.getExp() < TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())) {
+            throw new AccessException("token expired!");
+        }
+        String username = payload.getSub();
+        NacosUser user = new NacosUser(username, token);
+        long expiredTime = TimeUnit.SECONDS.toMillis(payload.getExp());
+        TokenEntity result = new TokenEntity(token, username, expiredTime, jwtTokenManager.getAuthentication(user),
+                user);
+        if (StringUtils.isEmpty(username) || expiredTime <= System.currentTimeMillis()) {
+            return result;
+        }
+        return cacheToken(result);
+    }
+    
+    private TokenEntity cacheToken(TokenEntity tokenEntity) {
+        TokenEntity previous = tokenMap.putIfAbsent(tokenEntity.getToken(), tokenEntity);
+        if (null != previous) {
+            return previous;
+        }
+        expiredTimeQueue.add(tokenEntity);
+        while (tokenMap.size() > MAX_CACHED_TOKEN_COUNT) {
+            TokenEntity earliest = expiredTimeQueue.pollFirst();
+            if (null == earliest) {
+                break;
+            }
+            evictToken(earliest);
+        }
+        return tokenEntity;
+    }
+    
+    private void evictToken(TokenEntity tokenEntity) {
+        tokenMap.remove(tokenEntity.getToken(), tokenEntity);
+        userMap.remove(tokenEntity.getUserName(), tokenEntity);
+    }
+    
     static class TokenEntity {
         
         private String token;
@@ -27,6 +27,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.plugin.auth.exception.AccessException;
 import com.alibaba.nacos.plugin.auth.impl.constant.AuthConstants;
 import com.alibaba.nacos.plugin.auth.impl.jwt.NacosJwtParser;
+import com.alibaba.nacos.plugin.auth.impl.jwt.NacosJwtPayload;
 import com.alibaba.nacos.plugin.auth.impl.token.TokenManager;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -119,8 +120,16 @@ public class JwtTokenManager extends Subscriber<ServerConfigChangeEvent> impleme
      */
     @Deprecated
     public Authentication getAuthentication(String token) throws AccessException {
-        NacosUser nacosUser = jwtParser.parse(token);
-        
+        return getAuthentication(jwtParser.parse(token));
+    }
+    
+    /**
+     * Get auth Info of the user parsed from token.
+     *
+     * @param nacosUser user parsed from token
+     * @return auth info
+     */
+    public Authentication getAuthentication(NacosUser nacosUser) {
         List<GrantedAuthority> authorities = AuthorityUtils.commaSeparatedStringToAuthorityList(StringUtils.EMPTY);
         
         User principal = new User(nacosUser.getUserName(), "", authorities);
@@ -141,6 +150,18 @@ public class JwtTokenManager extends Subscriber<ServerConfigChangeEvent> impleme
         return jwtParser.parse(token);
     }
     
+    /**
+     * Verify the signature of token and parse its payload, the expired time of payload is not checked.
+     *
+     * @param token token
+     * @return payload of token
+     * @throws AccessException access exception if the token is invalid
+     */
+    public NacosJwtPayload parseTokenPayload(String token) throws AccessException {
+        checkJwtParser();
+        return jwtParser.parsePayload(token);
+    }
+    
     public long getTokenValidityInSeconds() {
         return tokenValidityInSeconds;
     }
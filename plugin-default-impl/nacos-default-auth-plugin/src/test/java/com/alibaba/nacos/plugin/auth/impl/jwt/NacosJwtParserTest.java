@@ -26,6 +26,7 @@ import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -88,6 +89,16 @@ class NacosJwtParserTest {
         assertTrue(expiredTimeSeconds * 1000 - System.currentTimeMillis() > 0);
     }
     
+    @Test
+    void testParsePayload() throws AccessException {
+        NacosJwtParser parser = new NacosJwtParser(encode("SecretKey012345678901234567SecretKey0123456789012345678901289012"));
+        String token = parser.jwtBuilder().setUserName("nacos").setExpiredTime(100L).compact();
+        NacosJwtPayload payload = parser.parsePayload(token);
+        assertEquals("nacos", payload.getSub());
+        assertEquals(parser.getExpireTimeInSeconds(token), payload.getExp());
+        assertThrows(AccessException.class, () -> parser.parsePayload(token + "invalid"));
+    }
+    
     private String encode(String key) {
         return Base64.getEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
     }
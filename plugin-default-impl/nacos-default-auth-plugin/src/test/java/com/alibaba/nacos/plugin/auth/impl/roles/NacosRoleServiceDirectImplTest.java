@@ -43,9 +43,13 @@ import java.util.Properties;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -82,6 +86,43 @@ class NacosRoleServiceDirectImplTest {
         reload.invoke(nacosRoleService);
     }
     
+    @Test
+    void reloadKeepUnchangedPermissionMatcher() throws Exception {
+        when(authConfigs.isCachingEnabled()).thenReturn(true);
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setUsername("nacos");
+        roleInfo.setRole("dev");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("", "", 1, Integer.MAX_VALUE)).thenReturn(rolePage);
+        when(permissionPersistService.getPermissions("dev", 1, Integer.MAX_VALUE)).thenReturn(
+                mockPermissionPage(":DEFAULT_GROUP:config/*"), mockPermissionPage(":DEFAULT_GROUP:config/*"),
+                mockPermissionPage(":DEFAULT_GROUP:naming/*"));
+        Method reload = AbstractCachedRoleService.class.getDeclaredMethod("reload");
+        reload.setAccessible(true);
+        reload.invoke(nacosRoleService);
+        List<RoleInfo> roleInfos = nacosRoleService.getCachedRoleInfoMap().get("nacos");
+        RolePermissionMatcher matcher = nacosRoleService.getPermissionMatcher("dev");
+        assertNotNull(matcher);
+        // permissions not changed, the compiled matcher is kept.
+        reload.invoke(nacosRoleService);
+        assertSame(roleInfos, nacosRoleService.getCachedRoleInfoMap().get("nacos"));
+        assertSame(matcher, nacosRoleService.getPermissionMatcher("dev"));
+        // permissions changed, the matcher is rebuilt.
+        reload.invoke(nacosRoleService);
+        assertNotSame(matcher, nacosRoleService.getPermissionMatcher("dev"));
+    }
+    
+    private Page<PermissionInfo> mockPermissionPage(String resource) {
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("dev");
+        permissionInfo.setResource(resource);
+        permissionInfo.setAction("r");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+        return permissionPage;
+    }
+    
     @Test
     void hasPermission() {
         Permission permission = new Permission();
@@ -105,6 +146,39 @@ class NacosRoleServiceDirectImplTest {
         assertTrue(res3);
     }
     
+    @Test
+    void hasPermissionWithCachedDecision() {
+        when(authConfigs.isCachingEnabled()).thenReturn(true);
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setUsername("nacos");
+        roleInfo.setRole("dev");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("nacos", "", 1, Integer.MAX_VALUE)).thenReturn(rolePage);
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("dev");
+        permissionInfo.setResource(":DEFAULT_GROUP:config/*");
+        permissionInfo.setAction("r");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+        when(permissionPersistService.getPermissions("dev", 1, Integer.MAX_VALUE)).thenReturn(permissionPage);
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("nacos");
+        Permission permission = new Permission(new Resource("", "DEFAULT_GROUP", "app", "config", null), "r");
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        assertFalse(nacosRoleService.hasPermission(nacosUser,
+                new Permission(new Resource("", "DEFAULT_GROUP", "app", "config", null), "w")));
+        verify(permissionPersistService, times(1)).getPermissions("dev", 1, Integer.MAX_VALUE);
+        // the cached decision is expired after the permissions of role changed.
+        PermissionInfo newPermissionInfo = new PermissionInfo();
+        newPermissionInfo.setRole("dev");
+        newPermissionInfo.setResource(":DEFAULT_GROUP:naming/*");
+        newPermissionInfo.setAction("r");
+        nacosRoleService.getCachedPermissionInfoMap().put("dev", Collections.singletonList(newPermissionInfo));
+        assertFalse(nacosRoleService.hasPermission(nacosUser, permission));
+    }
+    
     @Test
     void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.auth.impl.roles;
+
+import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RolePermissionMatcherTest {
+    
+    @Test
+    void testMatchExactResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Collections.singletonList(buildPermission("public:DEFAULT_GROUP:config/app", "rw")));
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app", "r"));
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app", "w"));
+        assertFalse(matcher.matches("public:DEFAULT_GROUP:config/app1", "r"));
+        assertFalse(matcher.matches("public:DEFAULT_GROUP:config/ap", "r"));
+    }
+    
+    @Test
+    void testMatchPrefixResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Arrays.asList(buildPermission("test:*", "r"), buildPermission("test:DEFAULT_GROUP:*", "w")));
+        assertTrue(matcher.matches("test:DEFAULT_GROUP:config/app", "r"));
+        assertTrue(matcher.matches("test:DEFAULT_GROUP:config/app", "w"));
+        assertTrue(matcher.matches("test:", "r"));
+        assertFalse(matcher.matches("test:OTHER_GROUP:config/app", "w"));
+        assertFalse(matcher.matches("test", "r"));
+        assertFalse(matcher.matches("public:DEFAULT_GROUP:config/app", "r"));
+    }
+    
+    @Test
+    void testMatchAllResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Collections.singletonList(buildPermission("*", "r")));
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app", "r"));
+        assertTrue(matcher.matches("", "r"));
+        assertFalse(matcher.matches("public:DEFAULT_GROUP:config/app", "w"));
+    }
+    
+    @Test
+    void testMatchPatternResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Arrays.asList(buildPermission("test:*:naming/*", "r"), buildPermission("test:DEFAULT_GROUP:config/a.yaml",
+                        "r")));
+        assertTrue(matcher.matches("test:DEFAULT_GROUP:naming/service", "r"));
+        assertFalse(matcher.matches("test:DEFAULT_GROUP:config/service", "r"));
+        // keep the regex semantic of resource.
+        assertTrue(matcher.matches("test:DEFAULT_GROUP:config/a.yaml", "r"));
+        assertTrue(matcher.matches("test:DEFAULT_GROUP:config/a-yaml", "r"));
+    }
+    
+    @Test
+    void testMatchResourceWithoutNamespace() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Collections.singletonList(buildPermission(":DEFAULT_GROUP:*", "r")));
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app", "r"));
+        assertFalse(matcher.matches("test:DEFAULT_GROUP:config/app", "r"));
+    }
+    
+    @Test
+    void testMatchManyPermissions() {
+        List<PermissionInfo> permissionInfos = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            permissionInfos.add(buildPermission("ns" + i + ":*", "r"));
+            permissionInfos.add(buildPermission("public:DEFAULT_GROUP:config/app" + i, "rw"));
+        }
+        RolePermissionMatcher matcher = new RolePermissionMatcher(permissionInfos);
+        assertTrue(matcher.isCompiledFrom(permissionInfos));
+        assertFalse(matcher.isCompiledFrom(new ArrayList<>(permissionInfos)));
+        assertTrue(matcher.matches("ns999:DEFAULT_GROUP:config/app", "r"));
+        assertFalse(matcher.matches("ns1000:DEFAULT_GROUP:config/app", "r"));
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app500", "w"));
+        assertFalse(matcher.matches("public:DEFAULT_GROUP:config/app1000", "w"));
+    }
+    
+    private PermissionInfo buildPermission(String resource, String action) {
+        PermissionInfo result = new PermissionInfo();
+        result.setRole("role");
+        result.setResource(resource);
+        result.setAction(action);
+        return result;
+    }
+}
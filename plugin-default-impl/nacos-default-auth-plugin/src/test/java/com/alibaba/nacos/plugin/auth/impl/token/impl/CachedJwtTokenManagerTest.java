@@ -17,6 +17,7 @@
 package com.alibaba.nacos.plugin.auth.impl.token.impl;
 
 import com.alibaba.nacos.plugin.auth.exception.AccessException;
+import com.alibaba.nacos.plugin.auth.impl.jwt.NacosJwtPayload;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,10 +28,21 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.security.core.Authentication;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -51,17 +63,14 @@ class CachedJwtTokenManagerTest {
     @Mock
     private Authentication authentication;
     
-    @Mock
-    private NacosUser user;
-    
     @BeforeEach
     void setUp() throws Exception {
         cachedJwtTokenManager = new CachedJwtTokenManager(jwtTokenManager);
         when(jwtTokenManager.getTokenValidityInSeconds()).thenReturn(100L);
         when(jwtTokenManager.getTokenTtlInSeconds(anyString())).thenReturn(100L);
-        when(jwtTokenManager.getExpiredTimeInSeconds(anyString())).thenReturn(System.currentTimeMillis());
+        when(jwtTokenManager.parseTokenPayload(anyString())).thenReturn(mockPayload(System.currentTimeMillis()));
         when(jwtTokenManager.getAuthentication(anyString())).thenReturn(authentication);
-        when(jwtTokenManager.parseToken(anyString())).thenReturn(user);
+        when(jwtTokenManager.getAuthentication(any(NacosUser.class))).thenReturn(authentication);
         when(jwtTokenManager.createToken(anyString())).thenReturn("token");
         when(authentication.getName()).thenReturn("nacos");
     }
@@ -101,4 +110,63 @@ class CachedJwtTokenManagerTest {
         assertTrue(cachedJwtTokenManager.getTokenValidityInSeconds() > 0);
     }
     
+    @Test
+    void testVerifyTokenOnlyOnce() throws AccessException {
+        assertNotNull(cachedJwtTokenManager.getAuthentication("otherNodeToken"));
+        assertNotNull(cachedJwtTokenManager.parseToken("otherNodeToken"));
+        cachedJwtTokenManager.validateToken("otherNodeToken");
+        verify(jwtTokenManager, times(1)).parseTokenPayload("otherNodeToken");
+        verify(jwtTokenManager, never()).parseToken(anyString());
+        verify(jwtTokenManager, never()).getExpiredTimeInSeconds(anyString());
+    }
+    
+    @Test
+    void testCleanExpiredToken() throws Exception {
+        long expiredTimeInSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 1;
+        when(jwtTokenManager.parseTokenPayload("expiringToken")).thenReturn(mockPayload(expiredTimeInSeconds));
+        cachedJwtTokenManager.parseToken("expiringToken");
+        cachedJwtTokenManager.parseToken("token");
+        TimeUnit.MILLISECONDS.sleep(TimeUnit.SECONDS.toMillis(expiredTimeInSeconds) - System.currentTimeMillis() + 100);
+        Method method = CachedJwtTokenManager.class.getDeclaredMethod("cleanExpiredToken");
+        method.setAccessible(true);
+        method.invoke(cachedJwtTokenManager);
+        Map<String, ?> tokenMap = getTokenMap();
+        assertFalse(tokenMap.containsKey("expiringToken"));
+        assertTrue(tokenMap.containsKey("token"));
+    }
+    
+    @Test
+    void testEvictEarliestExpiredToken() throws Exception {
+        long expiredTimeInSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 100;
+        when(jwtTokenManager.parseTokenPayload("earliestToken")).thenReturn(mockPayload(expiredTimeInSeconds));
+        cachedJwtTokenManager.parseToken("earliestToken");
+        for (int i = 0; i < 65536; i++) {
+            cachedJwtTokenManager.parseToken("token" + i);
+        }
+        Map<String, ?> tokenMap = getTokenMap();
+        assertEquals(65536, tokenMap.size());
+        assertFalse(tokenMap.containsKey("earliestToken"));
+    }
+    
+    @Test
+    void testParseExpiredToken() throws AccessException {
+        long expiredTimeInSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - 1;
+        when(jwtTokenManager.parseTokenPayload("expiredToken")).thenReturn(mockPayload(expiredTimeInSeconds));
+        assertThrows(AccessException.class, () -> cachedJwtTokenManager.parseToken("expiredToken"));
+    }
+    
+    private NacosJwtPayload mockPayload(long expiredTimeInSeconds) {
+        NacosJwtPayload payload = new NacosJwtPayload();
+        payload.setSub("nacos");
+        payload.setExp(expiredTimeInSeconds);
+        return payload;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> getTokenMap() throws Exception {
+        Field field = CachedJwtTokenManager.class.getDeclaredField("tokenMap");
+        field.setAccessible(true);
+        return (Map<String, ?>) field.get(cachedJwtTokenManager);
+    }
+    
 }
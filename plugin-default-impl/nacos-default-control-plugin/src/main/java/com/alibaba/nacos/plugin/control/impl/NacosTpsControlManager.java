@@ -128,6 +128,19 @@ public class NacosTpsControlManager extends TpsControlManager {
         
     }
     
+    @Override
+    public void release(TpsCheckRequest tpsRequest, long costNanos) {
+        TpsBarrier tpsBarrier = points.get(tpsRequest.getPointName());
+        if (null == tpsBarrier) {
+            return;
+        }
+        try {
+            tpsBarrier.releaseTps(tpsRequest, costNanos);
+        } catch (Throwable throwable) {
+            Loggers.TPS.warn("[{}]release tps error,error={}", tpsRequest.getPointName(), throwable);
+        }
+    }
+    
     class TpsMetricsReporter implements Runnable {
         
         long lastReportSecond = 0L;
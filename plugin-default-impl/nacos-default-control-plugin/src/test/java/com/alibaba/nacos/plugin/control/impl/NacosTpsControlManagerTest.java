@@ -86,4 +86,27 @@ class NacosTpsControlManagerTest {
         TpsCheckResponse check = nacosTpsControlManager.check(tpsCheckRequest);
         assertTrue(check.isSuccess());
     }
+    
+    @Test
+    void testCheckAndReleaseConcurrency() {
+        NacosTpsControlManager nacosTpsControlManager = new NacosTpsControlManager();
+        nacosTpsControlManager.registerTpsPoint("test");
+        final TpsControlRule tpsLimitRule = new TpsControlRule();
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(5);
+        ruleDetail.setMonitorType(MonitorType.INTERCEPT.getType());
+        ruleDetail.setBarrierType("adaptiveconcurrency");
+        tpsLimitRule.setPointRule(ruleDetail);
+        tpsLimitRule.setPointName("test");
+        nacosTpsControlManager.applyTpsRule("test", tpsLimitRule);
+        
+        TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
+        tpsCheckRequest.setPointName("test");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(nacosTpsControlManager.check(tpsCheckRequest).isSuccess());
+        }
+        assertFalse(nacosTpsControlManager.check(tpsCheckRequest).isSuccess());
+        nacosTpsControlManager.release(tpsCheckRequest, 1000L);
+        assertTrue(nacosTpsControlManager.check(tpsCheckRequest).isSuccess());
+    }
 }
@@ -58,6 +58,8 @@ public class ControlConfigs {
     
     private String controlManagerType = "";
     
+    private String tpsBarrierCreator = "";
+    
     public String getRuleExternalStorage() {
         return ruleExternalStorage;
     }
@@ -89,4 +91,12 @@ public class ControlConfigs {
     public void setControlManagerType(String controlManagerType) {
         this.controlManagerType = controlManagerType;
     }
+    
+    public String getTpsBarrierCreator() {
+        return tpsBarrierCreator;
+    }
+    
+    public void setTpsBarrierCreator(String tpsBarrierCreator) {
+        this.tpsBarrierCreator = tpsBarrierCreator;
+    }
 }
@@ -16,8 +16,10 @@
 
 package com.alibaba.nacos.plugin.control.tps;
 
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.plugin.control.Loggers;
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.plugin.control.rule.parser.NacosTpsControlRuleParser;
 import com.alibaba.nacos.plugin.control.rule.parser.TpsControlRuleParser;
 import com.alibaba.nacos.plugin.control.rule.storage.RuleStorageProxy;
@@ -58,9 +60,23 @@ public abstract class TpsControlManager {
     /**
      * Build tps barrier creator to creator tps barrier for each point.
      *
+     * <p>The creator is selected by name from {@link ControlConfigs#getTpsBarrierCreator()}, default creator will be
+     * used if not configured or not found.
+     *
      * @return TpsBarrierCreator implementation for current plugin
      */
     protected TpsBarrierCreator buildTpsBarrierCreator() {
+        String tpsBarrierCreatorName = ControlConfigs.getInstance().getTpsBarrierCreator();
+        if (StringUtils.isNotBlank(tpsBarrierCreatorName)) {
+            for (TpsBarrierCreator each : NacosServiceLoader.load(TpsBarrierCreator.class)) {
+                if (tpsBarrierCreatorName.equalsIgnoreCase(each.getName())) {
+                    Loggers.CONTROL.info("Found tps barrier creator of name={}", each.getName());
+                    return each;
+                }
+            }
+            Loggers.CONTROL.warn("Not found tps barrier creator of name={}, use default creator replaced.",
+                    tpsBarrierCreatorName);
+        }
         return new DefaultNacosTpsBarrierCreator();
     }
     
@@ -123,6 +139,16 @@ public abstract class TpsControlManager {
      */
     public abstract TpsCheckResponse check(TpsCheckRequest tpsRequest);
     
+    /**
+     * release tps after the request passed by {@link #check(TpsCheckRequest)} completed, so that barriers limiting
+     * concurrency can count in-flight requests and learn the latency of point. Default do nothing.
+     *
+     * @param tpsRequest TpsRequest passed.
+     * @param costNanos  cost of handling the request in nanoseconds.
+     */
+    public void release(TpsCheckRequest tpsRequest, long costNanos) {
+    }
+    
     /**
      * get control manager name.
      *
@@ -0,0 +1,229 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.plugin.control.tps.MonitorType;
+import com.alibaba.nacos.plugin.control.tps.TpsMetrics;
+import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.response.TpsResultCode;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency rule barrier.
+ *
+ * <p>Limits the count of in-flight requests of the point, and the limit is adjusted like TCP Vegas by the latency of
+ * completed requests reported through {@link #releaseTps(BarrierCheckRequest, long)}. For each window of samples, the
+ * queue size is estimated by {@code limit * (1 - minRtt / avgRtt)}, the limit grows when the queue is short and the
+ * limit is really used, and shrinks when the queue is long. {@code maxCount} of the rule is the upper bound of limit.
+ *
+ * @author Nacos
+ */
+public class AdaptiveConcurrencyRuleBarrier extends RuleBarrier {
+    
+    static final long DEFAULT_MAX_LIMIT = 1000L;
+    
+    static final long DEFAULT_INITIAL_LIMIT = 20L;
+    
+    private static final double MIN_LIMIT = 1.0D;
+    
+    private static final long MIN_WINDOW_SAMPLES = 10L;
+    
+    /**
+     * Windows to re-learn the no load latency, in case of the latency of point changed.
+     */
+    private static final int PROBE_WINDOWS = 100;
+    
+    private static final double ALPHA = 3.0D;
+    
+    private static final double BETA = 6.0D;
+    
+    private final AtomicLong inFlight = new AtomicLong();
+    
+    private final LongAdder windowSamples = new LongAdder();
+    
+    private final LongAdder windowRttSum = new LongAdder();
+    
+    private final AtomicLong windowMinRtt = new AtomicLong(Long.MAX_VALUE);
+    
+    private final AtomicLong windowMaxInFlight = new AtomicLong();
+    
+    private final AtomicBoolean updating = new AtomicBoolean();
+    
+    private final StripedCountRateCounter rateCounter;
+    
+    private volatile double limit;
+    
+    private volatile long maxLimit = DEFAULT_MAX_LIMIT;
+    
+    /**
+     * Latency without queueing, only accessed by the thread updating limit.
+     */
+    private long noLoadRtt = -1;
+    
+    private int windowsSinceProbe;
+    
+    public AdaptiveConcurrencyRuleBarrier(String pointName, String ruleName, TimeUnit period) {
+        super.setPointName(pointName);
+        super.setPeriod(period);
+        super.setRuleName(ruleName);
+        this.limit = DEFAULT_INITIAL_LIMIT;
+        this.rateCounter = new StripedCountRateCounter(ruleName, TimeUnit.SECONDS);
+    }
+    
+    @Override
+    public String getBarrierName() {
+        return "adaptiveconcurrency";
+    }
+    
+    public long getLimit() {
+        return (long) limit;
+    }
+    
+    public long getInFlight() {
+        return inFlight.get();
+    }
+    
+    @Override
+    public TpsCheckResponse applyTps(BarrierCheckRequest barrierCheckRequest) {
+        long timestamp = barrierCheckRequest.getTimestamp();
+        long count = barrierCheckRequest.getCount();
+        long current = inFlight.addAndGet(count);
+        if (current <= getLimit()) {
+            updateMax(windowMaxInFlight, current);
+            rateCounter.add(timestamp, count);
+            return new TpsCheckResponse(true, TpsResultCode.PASS_BY_POINT, "success");
+        }
+        rateCounter.addInterceptedCount(timestamp, count);
+        if (MonitorType.INTERCEPT.getType().equals(getMonitorType())) {
+            inFlight.addAndGet(-count);
+            return new TpsCheckResponse(false, TpsResultCode.DENY_BY_POINT, "concurrency over limit :" + getLimit());
+        }
+        updateMax(windowMaxInFlight, current);
+        return new TpsCheckResponse(true, TpsResultCode.PASS_BY_POINT, "success");
+    }
+    
+    @Override
+    public void releaseTps(BarrierCheckRequest barrierCheckRequest, long costNanos) {
+        long count = barrierCheckRequest.getCount();
+        // the barrier might be created by new rule after request passed, avoid negative in-flight count.
+        inFlight.updateAndGet(value -> Math.max(0L, value - count));
+        windowRttSum.add(costNanos);
+        windowSamples.increment();
+        updateMin(windowMinRtt, costNanos);
+        if (windowSamples.sum() >= Math.max(MIN_WINDOW_SAMPLES, getLimit()) && updating.compareAndSet(false, true)) {
+            try {
+                updateLimit();
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+    
+    private void updateLimit() {
+        final long samples = windowSamples.sumThenReset();
+        final long rttSum = windowRttSum.sumThenReset();
+        final long minRtt = windowMinRtt.getAndSet(Long.MAX_VALUE);
+        final long maxInFlight = windowMaxInFlight.getAndSet(0L);
+        if (samples <= 0 || rttSum <= 0) {
+            return;
+        }
+        if (noLoadRtt <= 0 || ++windowsSinceProbe >= PROBE_WINDOWS) {
+            noLoadRtt = minRtt;
+            windowsSinceProbe = 0;
+        } else {
+            noLoadRtt = Math.min(noLoadRtt, minRtt);
+        }
+        double currentLimit = limit;
+        double avgRtt = (double) rttSum / samples;
+        double queueSize = currentLimit * (1.0D - noLoadRtt / avgRtt);
+        double step = Math.max(1.0D, Math.log10(currentLimit));
+        double newLimit = currentLimit;
+        // only grow when the limit is really used, otherwise the limit will be too large for burst.
+        boolean limitUsed = maxInFlight * 2 >= currentLimit;
+        if (queueSize <= ALPHA * step && limitUsed) {
+            newLimit = currentLimit + step;
+        } else if (queueSize >= BETA * step) {
+            newLimit = currentLimit - step;
+        }
+        limit = Math.max(MIN_LIMIT, Math.min(newLimit, maxLimit));
+    }
+    
+    private static void updateMax(AtomicLong target, long value) {
+        long current = target.get();
+        while (value > current && !target.compareAndSet(current, value)) {
+            current = target.get();
+        }
+    }
+    
+    private static void updateMin(AtomicLong target, long value) {
+        long current = target.get();
+        while (value < current && !target.compareAndSet(current, value)) {
+            current = target.get();
+        }
+    }
+    
+    @Override
+    public void applyRuleDetail(RuleDetail ruleDetail) {
+        this.setMaxCount(ruleDetail.getMaxCount());
+        this.setMonitorType(ruleDetail.getMonitorType());
+        this.setPeriod(ruleDetail.getPeriod());
+        refreshMaxLimit();
+    }
+    
+    @Override
+    public void clearLimitRule() {
+        super.clearLimitRule();
+        refreshMaxLimit();
+    }
+    
+    private void refreshMaxLimit() {
+        this.maxLimit = getMaxCount() > 0 ? getMaxCount() : DEFAULT_MAX_LIMIT;
+        this.limit = Math.min(limit, maxLimit);
+    }
+    
+    @Override
+    public String getLimitMsg() {
+        Map<String, String> limitMsg = new HashMap<>(4);
+        limitMsg.put("deniedType", "point");
+        limitMsg.put("limitCount", String.valueOf(getLimit()));
+        limitMsg.put("maxLimit", String.valueOf(maxLimit));
+        limitMsg.put("inFlight", String.valueOf(getInFlight()));
+        return JacksonUtils.toJson(limitMsg);
+    }
+    
+    @Override
+    public TpsMetrics getMetrics(long timeStamp) {
+        timeStamp = RateCounter.getTrimMillsOfSecond(timeStamp);
+        long totalPass = rateCounter.getCount(timeStamp);
+        long totalDenied = rateCounter.getInterceptedCount(timeStamp);
+        if (totalPass <= 0 && totalDenied <= 0) {
+            return null;
+        }
+        TpsMetrics tpsMetrics = new TpsMetrics("", "", timeStamp, TimeUnit.SECONDS);
+        tpsMetrics.setCounter(new TpsMetrics.Counter(totalPass, totalDenied));
+        return tpsMetrics;
+    }
+}
@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.plugin.control.Loggers;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.RuleBarrierCreator;
 import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
@@ -30,8 +33,19 @@ import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
  */
 public class DefaultNacosTpsBarrier extends TpsBarrier {
     
+    /**
+     * creator of current point barrier.
+     */
+    private RuleBarrierCreator pointBarrierCreator;
+    
     public DefaultNacosTpsBarrier(String pointName) {
         super(pointName);
+        this.pointBarrierCreator = ruleBarrierCreator;
+    }
+    
+    public DefaultNacosTpsBarrier(String pointName, RuleBarrierCreator ruleBarrierCreator) {
+        super(pointName, ruleBarrierCreator);
+        this.pointBarrierCreator = ruleBarrierCreator;
     }
     
     /**
@@ -49,6 +63,15 @@ public class DefaultNacosTpsBarrier extends TpsBarrier {
         return super.getPointBarrier().applyTps(pointCheckRequest);
     }
     
+    @Override
+    public void releaseTps(TpsCheckRequest tpsCheckRequest, long costNanos) {
+        BarrierCheckRequest pointCheckRequest = new BarrierCheckRequest();
+        pointCheckRequest.setCount(tpsCheckRequest.getCount());
+        pointCheckRequest.setPointName(super.getPointName());
+        pointCheckRequest.setTimestamp(tpsCheckRequest.getTimestamp());
+        super.getPointBarrier().releaseTps(pointCheckRequest, costNanos);
+    }
+    
     /**
      * apply rule.
      *
@@ -71,9 +94,34 @@ public class DefaultNacosTpsBarrier extends TpsBarrier {
                         + ",original monitorType={}, original monitorType={}, ", this.getPointName(),
                 this.pointBarrier.getMaxCount(), newPointRule.getMaxCount(), this.pointBarrier.getMonitorType(),
                 newPointRule.getMonitorType());
-        this.pointBarrier.applyRuleDetail(newPointRule);
+        RuleBarrierCreator newPointBarrierCreator = findRuleBarrierCreator(newPointRule.getBarrierType());
+        if (!newPointBarrierCreator.name().equals(pointBarrierCreator.name())) {
+            Loggers.CONTROL.info("Change point barrier ,pointName=[{}], original barrier={}, new barrier={}",
+                    this.getPointName(), pointBarrierCreator.name(), newPointBarrierCreator.name());
+            RuleBarrier newPointBarrier = newPointBarrierCreator.createRuleBarrier(this.getPointName(),
+                    this.getPointName(), newPointRule.getPeriod());
+            newPointBarrier.applyRuleDetail(newPointRule);
+            this.pointBarrier = newPointBarrier;
+            this.pointBarrierCreator = newPointBarrierCreator;
+        } else {
+            this.pointBarrier.applyRuleDetail(newPointRule);
+        }
         
         Loggers.CONTROL.info("Apply tps control rule end,pointName=[{}]  ", this.getPointName());
         
     }
+    
+    private RuleBarrierCreator findRuleBarrierCreator(String barrierType) {
+        if (StringUtils.isBlank(barrierType)) {
+            return ruleBarrierCreator;
+        }
+        for (RuleBarrierCreator each : NacosServiceLoader.load(RuleBarrierCreator.class)) {
+            if (barrierType.equalsIgnoreCase(each.name())) {
+                return each;
+            }
+        }
+        Loggers.CONTROL.warn("Not found rule barrier creator of type={}, use default barrier of pointName=[{}]",
+                barrierType, this.getPointName());
+        return ruleBarrierCreator;
+    }
 }
@@ -115,6 +115,16 @@ public abstract class RuleBarrier {
      */
     public abstract TpsCheckResponse applyTps(BarrierCheckRequest barrierCheckRequest);
     
+    /**
+     * release tps after the request passed by {@link #applyTps(BarrierCheckRequest)} completed, only barriers
+     * limiting concurrency need to override it.
+     *
+     * @param barrierCheckRequest barrierCheckRequest.
+     * @param costNanos           cost of handling the request in nanoseconds.
+     */
+    public void releaseTps(BarrierCheckRequest barrierCheckRequest, long costNanos) {
+    }
+    
     /**
      * apply rule detail.
      *
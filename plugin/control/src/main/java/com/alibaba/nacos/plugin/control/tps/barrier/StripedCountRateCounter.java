@@ -0,0 +1,202 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped count rate counter.
+ *
+ * <p>Counts of each period are kept in {@link LongAdder}s, so hot points are counted without contending on the same
+ * cache line, and the count is only summed periodically when it is far from the limit. Each slot is bound to one
+ * period and replaced atomically when a new period starts, so no count is lost or mixed into another period at the
+ * window edge.
+ *
+ * @author Nacos
+ */
+public class StripedCountRateCounter extends RateCounter {
+    
+    private static final int DEFAULT_RECORD_SIZE = 10;
+    
+    /**
+     * Average adds passed between two sums of count, when the count is far from the limit.
+     */
+    private static final int SUM_INTERVAL = 16;
+    
+    /**
+     * Adds to the limit below which the count is summed for every add.
+     */
+    private static final int SUM_HEADROOM = SUM_INTERVAL * 8;
+    
+    private final long startTime;
+    
+    private final long periodMillis;
+    
+    private final AtomicReferenceArray<TpsSlot> slots;
+    
+    public StripedCountRateCounter(String name, TimeUnit period) {
+        super(name, period);
+        long now = System.currentTimeMillis();
+        if (period == TimeUnit.MINUTES) {
+            startTime = RateCounter.getTrimMillsOfMinute(now);
+        } else if (period == TimeUnit.HOURS) {
+            startTime = RateCounter.getTrimMillsOfHour(now);
+        } else {
+            //second default
+            startTime = RateCounter.getTrimMillsOfSecond(now);
+        }
+        this.periodMillis = period.toMillis(1);
+        this.slots = new AtomicReferenceArray<>(DEFAULT_RECORD_SIZE);
+    }
+    
+    @Override
+    public long add(long timestamp, long count) {
+        TpsSlot slot = createSlotIfAbsent(timestamp);
+        if (null == slot) {
+            return 0L;
+        }
+        slot.count.add(count);
+        return slot.count.sum();
+    }
+    
+    /**
+     * Try to add count of the period of timestamp within the upper limit.
+     *
+     * <p>The count is summed by about every {@link #SUM_INTERVAL} adds, chosen by thread local random so that the adds
+     * share nothing but the striped cells. Adds far from the limit are passed by the latest summed count, and adds near
+     * the limit always sum the count, so the limit is exact unless more than {@link #SUM_HEADROOM} adds happen between
+     * two sums. Once the summed count is beyond the limit, the later adds of the period are intercepted without summing
+     * again, because the count never decreases in one period.
+     *
+     * @param timestamp  timestamp
+     * @param countDelta count to add
+     * @param upperLimit upper limit of count in the period
+     * @return {@code true} if the count is within the limit, otherwise {@code false}
+     */
+    @Override
+    public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
+        TpsSlot slot = createSlotIfAbsent(timestamp);
+        if (null == slot) {
+            return true;
+        }
+        slot.count.add(countDelta);
+        long summedCount = slot.summedCount;
+        if (summedCount <= upperLimit) {
+            boolean farFromLimit = upperLimit - summedCount > SUM_HEADROOM * countDelta;
+            if (farFromLimit && ThreadLocalRandom.current().nextInt(SUM_INTERVAL) != 0) {
+                return true;
+            }
+            long count = slot.count.sum();
+            slot.summedCount = count;
+            if (count <= upperLimit) {
+                return true;
+            }
+        }
+        slot.interceptedCount.add(countDelta);
+        return false;
+    }
+    
+    @Override
+    public long getCount(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        TpsSlot slot = slots.get(getIndex(windowTime));
+        return null != slot && slot.time == windowTime ? slot.count.sum() : 0L;
+    }
+    
+    /**
+     * Add intercepted count of the period of timestamp.
+     *
+     * @param timestamp timestamp
+     * @param count     intercepted count
+     */
+    public void addInterceptedCount(long timestamp, long count) {
+        TpsSlot slot = createSlotIfAbsent(timestamp);
+        if (null != slot) {
+            slot.interceptedCount.add(count);
+        }
+    }
+    
+    /**
+     * Get intercepted count of the period of timestamp.
+     *
+     * @param timestamp timestamp
+     * @return intercepted count
+     */
+    public long getInterceptedCount(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        TpsSlot slot = slots.get(getIndex(windowTime));
+        return null != slot && slot.time == windowTime ? slot.interceptedCount.sum() : 0L;
+    }
+    
+    /**
+     * Get slot of the period of timestamp, create if not exist.
+     *
+     * @param timestamp timestamp
+     * @return tps slot, or {@code null} if the period of timestamp is too old to record
+     */
+    private TpsSlot createSlotIfAbsent(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        int index = getIndex(windowTime);
+        while (true) {
+            TpsSlot current = slots.get(index);
+            if (null != current && current.time == windowTime) {
+                return current;
+            }
+            if (null != current && current.time > windowTime) {
+                return null;
+            }
+            TpsSlot newSlot = new TpsSlot(windowTime);
+            if (slots.compareAndSet(index, current, newSlot)) {
+                return newSlot;
+            }
+        }
+    }
+    
+    private long getWindowTime(long timestamp) {
+        return startTime + Math.floorDiv(timestamp - startTime, periodMillis) * periodMillis;
+    }
+    
+    private int getIndex(long windowTime) {
+        return (int) Math.floorMod((windowTime - startTime) / periodMillis, (long) DEFAULT_RECORD_SIZE);
+    }
+    
+    static class TpsSlot {
+        
+        private final long time;
+        
+        private final LongAdder count = new LongAdder();
+        
+        private final LongAdder interceptedCount = new LongAdder();
+        
+        /**
+         * The latest summed count, which is never larger than the real count.
+         */
+        private volatile long summedCount;
+        
+        TpsSlot(long time) {
+            this.time = time;
+        }
+        
+        @Override
+        public String toString() {
+            return "TpsSlot{" + "time=" + time + ", count=" + count + ", interceptedCount=" + interceptedCount + '}';
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.plugin.control.tps.MonitorType;
+import com.alibaba.nacos.plugin.control.tps.TpsMetrics;
+import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.response.TpsResultCode;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket rule barrier.
+ *
+ * <p>Tokens are refilled smoothly at {@code maxCount} per period and at most {@code burst} tokens are kept, so short
+ * bursts are accepted while the long-term rate is limited. The bucket is implemented by the theoretical arrival time of
+ * GCRA, which is updated by CAS without lock.
+ *
+ * @author Nacos
+ */
+public class TokenBucketRuleBarrier extends RuleBarrier {
+    
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(Long.MIN_VALUE);
+    
+    private final StripedCountRateCounter rateCounter;
+    
+    private long burst = -1;
+    
+    /**
+     * Nanoseconds to generate one token, no limit if not positive.
+     */
+    private volatile long intervalNanos;
+    
+    /**
+     * Nanoseconds to fill up the bucket.
+     */
+    private volatile long capacityNanos;
+    
+    public TokenBucketRuleBarrier(String pointName, String ruleName, TimeUnit period) {
+        super.setPointName(pointName);
+        super.setPeriod(period);
+        super.setRuleName(ruleName);
+        this.rateCounter = new StripedCountRateCounter(ruleName, TimeUnit.SECONDS);
+    }
+    
+    @Override
+    public String getBarrierName() {
+        return "tokenbucket";
+    }
+    
+    public long getBurst() {
+        return burst;
+    }
+    
+    @Override
+    public TpsCheckResponse applyTps(BarrierCheckRequest barrierCheckRequest) {
+        long timestamp = barrierCheckRequest.getTimestamp();
+        long count = barrierCheckRequest.getCount();
+        boolean accepted = tryAcquire(TimeUnit.MILLISECONDS.toNanos(timestamp), count);
+        if (accepted) {
+            rateCounter.add(timestamp, count);
+            return new TpsCheckResponse(true, TpsResultCode.PASS_BY_POINT, "success");
+        }
+        rateCounter.addInterceptedCount(timestamp, count);
+        if (MonitorType.INTERCEPT.getType().equals(getMonitorType())) {
+            return new TpsCheckResponse(false, TpsResultCode.DENY_BY_POINT,
+                    "tps over limit :" + getMaxCount() + ", burst :" + burst);
+        }
+        return new TpsCheckResponse(true, TpsResultCode.PASS_BY_POINT, "success");
+    }
+    
+    /**
+     * Try to acquire tokens at the time.
+     *
+     * @param nowNanos current time in nanoseconds
+     * @param count    count of tokens
+     * @return {@code true} if enough tokens in bucket
+     */
+    boolean tryAcquire(long nowNanos, long count) {
+        long interval = intervalNanos;
+        if (interval <= 0) {
+            return true;
+        }
+        long capacity = capacityNanos;
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + interval * count;
+            if (next - nowNanos > capacity) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+    
+    @Override
+    public void applyRuleDetail(RuleDetail ruleDetail) {
+        this.setMaxCount(ruleDetail.getMaxCount());
+        this.setMonitorType(ruleDetail.getMonitorType());
+        this.setPeriod(ruleDetail.getPeriod());
+        this.burst = ruleDetail.getBurst() > 0 ? ruleDetail.getBurst() : ruleDetail.getMaxCount();
+        refreshBucket();
+    }
+    
+    @Override
+    public void clearLimitRule() {
+        super.clearLimitRule();
+        this.burst = -1;
+        refreshBucket();
+    }
+    
+    private void refreshBucket() {
+        long maxCount = getMaxCount();
+        if (maxCount <= 0) {
+            this.intervalNanos = -1;
+            return;
+        }
+        long interval = Math.max(1L, getPeriod().toNanos(1) / maxCount);
+        this.capacityNanos = interval * burst;
+        this.intervalNanos = interval;
+    }
+    
+    @Override
+    public String getLimitMsg() {
+        Map<String, String> limitMsg = new HashMap<>(4);
+        limitMsg.put("deniedType", "point");
+        limitMsg.put("period", getPeriod().toString());
+        limitMsg.put("limitCount", String.valueOf(getMaxCount()));
+        limitMsg.put("burst", String.valueOf(burst));
+        return JacksonUtils.toJson(limitMsg);
+    }
+    
+    @Override
+    public TpsMetrics getMetrics(long timeStamp) {
+        timeStamp = RateCounter.getTrimMillsOfSecond(timeStamp);
+        long totalPass = rateCounter.getCount(timeStamp);
+        long totalDenied = rateCounter.getInterceptedCount(timeStamp);
+        if (totalPass <= 0 && totalDenied <= 0) {
+            return null;
+        }
+        TpsMetrics tpsMetrics = new TpsMetrics("", "", timeStamp, TimeUnit.SECONDS);
+        tpsMetrics.setCounter(new TpsMetrics.Counter(totalPass, totalDenied));
+        return tpsMetrics;
+    }
+}
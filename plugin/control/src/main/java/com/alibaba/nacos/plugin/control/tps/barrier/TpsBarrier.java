@@ -36,11 +36,15 @@ public abstract class TpsBarrier {
     
     protected String pointName;
     
-    protected RuleBarrier pointBarrier;
+    protected volatile RuleBarrier pointBarrier;
     
     public TpsBarrier(String pointName) {
+        this(pointName, new LocalSimpleCountBarrierCreator());
+    }
+    
+    public TpsBarrier(String pointName, RuleBarrierCreator ruleBarrierCreator) {
         this.pointName = pointName;
-        this.ruleBarrierCreator = new LocalSimpleCountBarrierCreator();
+        this.ruleBarrierCreator = ruleBarrierCreator;
         this.pointBarrier = ruleBarrierCreator.createRuleBarrier(pointName, pointName, TimeUnit.SECONDS);
     }
     
@@ -52,6 +56,15 @@ public abstract class TpsBarrier {
      */
     public abstract TpsCheckResponse applyTps(TpsCheckRequest tpsCheckRequest);
     
+    /**
+     * release tps after the request passed by {@link #applyTps(TpsCheckRequest)} completed.
+     *
+     * @param tpsCheckRequest tpsCheckRequest.
+     * @param costNanos       cost of handling the request in nanoseconds.
+     */
+    public void releaseTps(TpsCheckRequest tpsCheckRequest, long costNanos) {
+    }
+    
     public RuleBarrier getPointBarrier() {
         return pointBarrier;
     }
@@ -36,6 +36,16 @@ public class RuleDetail {
      */
     String monitorType = "";
     
+    /**
+     * name of rule barrier creator, such as `tokenbucket` and `adaptiveconcurrency`, default counter if blank.
+     */
+    String barrierType = "";
+    
+    /**
+     * max burst count of token bucket barrier, same as max count if not positive.
+     */
+    long burst = -1;
+    
     public RuleDetail() {
     
     }
@@ -72,8 +82,25 @@ public class RuleDetail {
         this.monitorType = monitorType;
     }
     
+    public String getBarrierType() {
+        return barrierType;
+    }
+    
+    public void setBarrierType(String barrierType) {
+        this.barrierType = barrierType;
+    }
+    
+    public long getBurst() {
+        return burst;
+    }
+    
+    public void setBurst(long burst) {
+        this.burst = burst;
+    }
+    
     @Override
     public String toString() {
-        return "Rule{" + "maxTps=" + maxCount + ", monitorType='" + monitorType + '\'' + '}';
+        return "Rule{" + "maxTps=" + maxCount + ", monitorType='" + monitorType + '\'' + ", barrierType='" + barrierType
+                + '\'' + ", burst=" + burst + '}';
     }
 }
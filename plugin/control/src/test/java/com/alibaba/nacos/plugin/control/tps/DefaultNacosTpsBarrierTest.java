@@ -16,7 +16,11 @@
 
 package com.alibaba.nacos.plugin.control.tps;
 
+import com.alibaba.nacos.plugin.control.rule.parser.NacosTpsControlRuleParser;
+import com.alibaba.nacos.plugin.control.tps.barrier.AdaptiveConcurrencyRuleBarrier;
 import com.alibaba.nacos.plugin.control.tps.barrier.DefaultNacosTpsBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalSimpleCountRuleBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.TokenBucketRuleBarrier;
 import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
@@ -28,6 +32,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultNacosTpsBarrierTest {
@@ -69,4 +76,34 @@ class DefaultNacosTpsBarrierTest {
         
     }
     
+    @Test
+    void testChangeBarrierByRule() {
+        String testTpsBarrier = "test_barrier";
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier(testTpsBarrier);
+        assertInstanceOf(LocalSimpleCountRuleBarrier.class, tpsBarrier.getPointBarrier());
+        
+        String ruleContent = "{\"pointName\":\"test_barrier\",\"pointRule\":{\"maxCount\":5,\"burst\":10,"
+                + "\"monitorType\":\"intercept\",\"barrierType\":\"tokenbucket\"}}";
+        TpsControlRule tpsControlRule = new NacosTpsControlRuleParser().parseRule(ruleContent);
+        tpsBarrier.applyRule(tpsControlRule);
+        assertInstanceOf(TokenBucketRuleBarrier.class, tpsBarrier.getPointBarrier());
+        TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+        }
+        assertFalse(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+        
+        tpsControlRule.getPointRule().setBarrierType("adaptiveconcurrency");
+        tpsBarrier.applyRule(tpsControlRule);
+        AdaptiveConcurrencyRuleBarrier adaptiveBarrier = (AdaptiveConcurrencyRuleBarrier) tpsBarrier.getPointBarrier();
+        assertTrue(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+        assertEquals(1, adaptiveBarrier.getInFlight());
+        tpsBarrier.releaseTps(tpsCheckRequest, 1000L);
+        assertEquals(0, adaptiveBarrier.getInFlight());
+        
+        // unknown barrier type, use default barrier.
+        tpsControlRule.getPointRule().setBarrierType("unknown");
+        tpsBarrier.applyRule(tpsControlRule);
+        assertInstanceOf(LocalSimpleCountRuleBarrier.class, tpsBarrier.getPointBarrier());
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps;
+
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
+import com.alibaba.nacos.plugin.control.tps.barrier.StripedCountRuleBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.DefaultNacosTpsBarrierCreator;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.StripedNacosTpsBarrierCreator;
+import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TpsBarrierCreatorSelectTest {
+    
+    @AfterEach
+    void tearDown() {
+        ControlConfigs.getInstance().setTpsBarrierCreator("");
+    }
+    
+    @Test
+    void testSelectDefaultCreator() {
+        assertInstanceOf(DefaultNacosTpsBarrierCreator.class, new DefaultTpsControlManager().tpsBarrierCreator);
+        ControlConfigs.getInstance().setTpsBarrierCreator("unknown");
+        assertInstanceOf(DefaultNacosTpsBarrierCreator.class, new DefaultTpsControlManager().tpsBarrierCreator);
+    }
+    
+    @Test
+    void testSelectStripedCreator() {
+        ControlConfigs.getInstance().setTpsBarrierCreator("nacos-striped");
+        TpsControlManager tpsControlManager = new DefaultTpsControlManager();
+        assertInstanceOf(StripedNacosTpsBarrierCreator.class, tpsControlManager.tpsBarrierCreator);
+        
+        TpsBarrier tpsBarrier = tpsControlManager.tpsBarrierCreator.createTpsBarrier("test_barrier");
+        assertInstanceOf(StripedCountRuleBarrier.class, tpsBarrier.getPointBarrier());
+        TpsControlRule tpsControlRule = new TpsControlRule();
+        tpsControlRule.setPointName("test_barrier");
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(5);
+        ruleDetail.setMonitorType(MonitorType.INTERCEPT.getType());
+        ruleDetail.setPeriod(TimeUnit.SECONDS);
+        tpsControlRule.setPointRule(ruleDetail);
+        tpsBarrier.applyRule(tpsControlRule);
+        
+        TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
+        tpsCheckRequest.setTimestamp(System.currentTimeMillis());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+        }
+        assertFalse(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.plugin.control.tps.MonitorType;
+import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyRuleBarrierTest {
+    
+    private AdaptiveConcurrencyRuleBarrier createBarrier(long maxCount, String monitorType) {
+        final AdaptiveConcurrencyRuleBarrier barrier = new AdaptiveConcurrencyRuleBarrier("test", "test", TimeUnit.SECONDS);
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(maxCount);
+        ruleDetail.setMonitorType(monitorType);
+        barrier.applyRuleDetail(ruleDetail);
+        return barrier;
+    }
+    
+    /**
+     * Run rounds that the limit of concurrent requests are all passed and completed with the latency.
+     */
+    private void runRounds(AdaptiveConcurrencyRuleBarrier barrier, int rounds, long costNanos) {
+        BarrierCheckRequest request = new BarrierCheckRequest();
+        for (int i = 0; i < rounds; i++) {
+            long limit = barrier.getLimit();
+            for (int j = 0; j < limit; j++) {
+                assertTrue(barrier.applyTps(request).isSuccess());
+            }
+            for (int j = 0; j < limit; j++) {
+                barrier.releaseTps(request, costNanos);
+            }
+        }
+    }
+    
+    @Test
+    void testLimitInFlight() {
+        AdaptiveConcurrencyRuleBarrier barrier = createBarrier(100, MonitorType.INTERCEPT.getType());
+        BarrierCheckRequest request = new BarrierCheckRequest();
+        long limit = barrier.getLimit();
+        assertEquals(AdaptiveConcurrencyRuleBarrier.DEFAULT_INITIAL_LIMIT, limit);
+        for (int i = 0; i < limit; i++) {
+            assertTrue(barrier.applyTps(request).isSuccess());
+        }
+        assertFalse(barrier.applyTps(request).isSuccess());
+        assertEquals(limit, barrier.getInFlight());
+        barrier.releaseTps(request, 1000L);
+        assertTrue(barrier.applyTps(request).isSuccess());
+    }
+    
+    @Test
+    void testMonitorNotDeny() {
+        AdaptiveConcurrencyRuleBarrier barrier = createBarrier(100, MonitorType.MONITOR.getType());
+        BarrierCheckRequest request = new BarrierCheckRequest();
+        for (int i = 0; i <= barrier.getLimit(); i++) {
+            assertTrue(barrier.applyTps(request).isSuccess());
+        }
+        assertEquals(barrier.getLimit() + 1, barrier.getInFlight());
+    }
+    
+    @Test
+    void testIncreaseWithoutQueueing() {
+        AdaptiveConcurrencyRuleBarrier barrier = createBarrier(100, MonitorType.INTERCEPT.getType());
+        runRounds(barrier, 50, 1000000L);
+        assertTrue(barrier.getLimit() > AdaptiveConcurrencyRuleBarrier.DEFAULT_INITIAL_LIMIT);
+        // no more than max count.
+        runRounds(barrier, 200, 1000000L);
+        assertEquals(100, barrier.getLimit());
+        assertEquals(0, barrier.getInFlight());
+    }
+    
+    @Test
+    void testDecreaseWithQueueing() {
+        AdaptiveConcurrencyRuleBarrier barrier = createBarrier(100, MonitorType.INTERCEPT.getType());
+        runRounds(barrier, 20, 1000000L);
+        long limit = barrier.getLimit();
+        // latency becomes much longer, which means requests are queueing.
+        runRounds(barrier, 5, 5000000L);
+        assertTrue(barrier.getLimit() < limit);
+    }
+    
+    @Test
+    void testNotIncreaseIfLimitNotUsed() {
+        AdaptiveConcurrencyRuleBarrier barrier = createBarrier(100, MonitorType.INTERCEPT.getType());
+        BarrierCheckRequest request = new BarrierCheckRequest();
+        for (int i = 0; i < 500; i++) {
+            assertTrue(barrier.applyTps(request).isSuccess());
+            barrier.releaseTps(request, 1000000L);
+        }
+        assertEquals(AdaptiveConcurrencyRuleBarrier.DEFAULT_INITIAL_LIMIT, barrier.getLimit());
+    }
+    
+    @Test
+    void testReleaseNotAcquired() {
+        AdaptiveConcurrencyRuleBarrier barrier = createBarrier(100, MonitorType.INTERCEPT.getType());
+        barrier.releaseTps(new BarrierCheckRequest(), 1000L);
+        assertEquals(0, barrier.getInFlight());
+    }
+}
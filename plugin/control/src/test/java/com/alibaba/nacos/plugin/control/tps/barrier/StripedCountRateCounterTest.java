@@ -0,0 +1,141 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedCountRateCounterTest {
+    
+    @Test
+    void testAddAndGetCount() {
+        StripedCountRateCounter rateCounter = new StripedCountRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        rateCounter.add(timestamp, 2);
+        assertEquals(5, rateCounter.add(timestamp, 3));
+        assertEquals(5, rateCounter.getCount(timestamp));
+        assertEquals(5, rateCounter.getCount(RateCounter.getTrimMillsOfSecond(timestamp) + 999));
+        assertEquals(0, rateCounter.getCount(timestamp + 1000));
+        assertEquals(0, rateCounter.getCount(timestamp - 1000));
+    }
+    
+    @Test
+    void testTryAdd() {
+        StripedCountRateCounter rateCounter = new StripedCountRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateCounter.tryAdd(timestamp, 1, 5));
+        }
+        assertFalse(rateCounter.tryAdd(timestamp, 1, 5));
+        assertEquals(1, rateCounter.getInterceptedCount(timestamp));
+        assertTrue(rateCounter.tryAdd(timestamp + 1000, 1, 5));
+        assertEquals(0, rateCounter.getInterceptedCount(timestamp + 1000));
+    }
+    
+    @Test
+    void testTryAddExactNearLimit() {
+        StripedCountRateCounter rateCounter = new StripedCountRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        // the count is summed for every add within the headroom of limit.
+        for (int i = 0; i < 100; i++) {
+            assertTrue(rateCounter.tryAdd(timestamp, 1, 100));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertFalse(rateCounter.tryAdd(timestamp, 1, 100));
+        }
+        assertEquals(110, rateCounter.getCount(timestamp));
+        assertEquals(10, rateCounter.getInterceptedCount(timestamp));
+        // the limit is raised in the same period.
+        assertTrue(rateCounter.tryAdd(timestamp, 1, 200));
+    }
+    
+    @Test
+    void testRollover() {
+        StripedCountRateCounter rateCounter = new StripedCountRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        rateCounter.add(timestamp, 1);
+        // same slot of 10 seconds later, old period is replaced.
+        rateCounter.add(timestamp + 10000, 2);
+        assertEquals(2, rateCounter.getCount(timestamp + 10000));
+        assertEquals(0, rateCounter.getCount(timestamp));
+        // old period can't override the newer one.
+        assertEquals(0, rateCounter.add(timestamp, 1));
+        assertTrue(rateCounter.tryAdd(timestamp, 1, 0));
+        assertEquals(2, rateCounter.getCount(timestamp + 10000));
+    }
+    
+    @Test
+    void testMinutesPeriod() {
+        StripedCountRateCounter rateCounter = new StripedCountRateCounter("test", TimeUnit.MINUTES);
+        long timestamp = RateCounter.getTrimMillsOfMinute(System.currentTimeMillis());
+        rateCounter.add(timestamp, 1);
+        rateCounter.add(timestamp + 59999, 1);
+        assertEquals(2, rateCounter.getCount(timestamp));
+        assertEquals(0, rateCounter.getCount(timestamp + 60000));
+    }
+    
+    @Test
+    void testConcurrentAddWithRollover() throws InterruptedException {
+        final int threadCount = 32;
+        final int addTimes = 10000;
+        final int periods = 20;
+        StripedCountRateCounter rateCounter = new StripedCountRateCounter("test", TimeUnit.SECONDS);
+        final long timestamp = RateCounter.getTrimMillsOfSecond(System.currentTimeMillis());
+        AtomicLong passed = new AtomicLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch finishLatch = new CountDownLatch(threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        startLatch.await();
+                        for (int j = 0; j < addTimes; j++) {
+                            // all threads roll over to the next period at the same time.
+                            long current = timestamp + (long) j * periods / addTimes * 1000;
+                            if (rateCounter.tryAdd(current, 1, Long.MAX_VALUE)) {
+                                passed.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        finishLatch.countDown();
+                    }
+                });
+            }
+            startLatch.countDown();
+            assertTrue(finishLatch.await(30, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals((long) threadCount * addTimes, passed.get());
+        // counts of the latest 10 periods are kept exactly.
+        for (int i = periods - 10; i < periods; i++) {
+            assertEquals((long) threadCount * addTimes / periods, rateCounter.getCount(timestamp + i * 1000L));
+        }
+    }
+}
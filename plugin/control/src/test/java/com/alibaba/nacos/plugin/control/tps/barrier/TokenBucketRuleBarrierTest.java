@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.plugin.control.tps.MonitorType;
+import com.alibaba.nacos.plugin.control.tps.TpsMetrics;
+import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketRuleBarrierTest {
+    
+    private TokenBucketRuleBarrier createBarrier(long maxCount, long burst, String monitorType) {
+        final TokenBucketRuleBarrier barrier = new TokenBucketRuleBarrier("test", "test", TimeUnit.SECONDS);
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(maxCount);
+        ruleDetail.setBurst(burst);
+        ruleDetail.setMonitorType(monitorType);
+        barrier.applyRuleDetail(ruleDetail);
+        return barrier;
+    }
+    
+    private BarrierCheckRequest request(long timestamp) {
+        BarrierCheckRequest request = new BarrierCheckRequest();
+        request.setTimestamp(timestamp);
+        return request;
+    }
+    
+    @Test
+    void testBurstAndRefill() {
+        TokenBucketRuleBarrier barrier = createBarrier(10, 20, MonitorType.INTERCEPT.getType());
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(barrier.applyTps(request(timestamp)).isSuccess());
+        }
+        assertFalse(barrier.applyTps(request(timestamp)).isSuccess());
+        // one token per 100ms.
+        assertFalse(barrier.applyTps(request(timestamp + 99)).isSuccess());
+        assertTrue(barrier.applyTps(request(timestamp + 100)).isSuccess());
+        assertFalse(barrier.applyTps(request(timestamp + 100)).isSuccess());
+        // fill up after 2 seconds, but no more than burst.
+        long later = timestamp + 10000;
+        for (int i = 0; i < 20; i++) {
+            assertTrue(barrier.applyTps(request(later)).isSuccess());
+        }
+        assertFalse(barrier.applyTps(request(later)).isSuccess());
+    }
+    
+    @Test
+    void testDefaultBurstIsMaxCount() {
+        TokenBucketRuleBarrier barrier = createBarrier(5, -1, MonitorType.INTERCEPT.getType());
+        assertEquals(5, barrier.getBurst());
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(barrier.applyTps(request(timestamp)).isSuccess());
+        }
+        assertFalse(barrier.applyTps(request(timestamp)).isSuccess());
+    }
+    
+    @Test
+    void testMonitorAndMetrics() {
+        TokenBucketRuleBarrier barrier = createBarrier(1, 1, MonitorType.MONITOR.getType());
+        long timestamp = System.currentTimeMillis();
+        assertTrue(barrier.applyTps(request(timestamp)).isSuccess());
+        assertTrue(barrier.applyTps(request(timestamp)).isSuccess());
+        TpsMetrics metrics = barrier.getMetrics(timestamp);
+        assertEquals(1, metrics.getCounter().getPassCount());
+        assertEquals(1, metrics.getCounter().getDeniedCount());
+    }
+    
+    @Test
+    void testClearLimitRule() {
+        TokenBucketRuleBarrier barrier = createBarrier(1, 1, MonitorType.INTERCEPT.getType());
+        long timestamp = System.currentTimeMillis();
+        assertTrue(barrier.applyTps(request(timestamp)).isSuccess());
+        assertFalse(barrier.applyTps(request(timestamp)).isSuccess());
+        barrier.clearLimitRule();
+        assertTrue(barrier.applyTps(request(timestamp)).isSuccess());
+    }
+}
@@ -34,6 +34,8 @@ public class FieldConstant {
     
     public static final String DATA_ID = "dataId";
     
+    public static final String DATA_IDS = "dataIds";
+    
     public static final String APP_NAME = "app_name";
     
     public static final String ENCRYPTED_DATA_KEY = "encrypted_data_key";
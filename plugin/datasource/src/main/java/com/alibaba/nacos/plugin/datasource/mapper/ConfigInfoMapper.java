@@ -429,8 +429,36 @@ public interface ConfigInfoMapper extends Mapper {
     MapperResult findAllConfigInfoFetchRows(MapperContext context);
     
     /**
-     * find ConfigInfo by ids. <br/>The default sql: <br/>SELECT ID,data_id,group_id,tenant_id,app_name,content,md5 FROM
-     * config_info WHERE id IN (...)
+     * Query config info with content by data ids in the same group and tenant. The default sql: SELECT
+     * id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key FROM config_info WHERE
+     * tenant_id = ? AND group_id = ? AND data_id IN (...)
+     *
+     * @param context the context of tenant, group and data ids.
+     * @return The sql of querying config info by data ids.
+     */
+    default MapperResult findConfigInfoByDataIds(MapperContext context) {
+        List<String> dataIds = (List<String>) context.getWhereParameter(FieldConstant.DATA_IDS);
+        StringBuilder sql = new StringBuilder(
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key "
+                        + "FROM config_info WHERE tenant_id = ? AND group_id = ? AND data_id IN (");
+        ArrayList<Object> paramList = new ArrayList<>();
+        paramList.add(context.getWhereParameter(FieldConstant.TENANT_ID));
+        paramList.add(context.getWhereParameter(FieldConstant.GROUP_ID));
+        for (int i = 0; i < dataIds.size(); i++) {
+            if (i != 0) {
+                sql.append(", ");
+            }
+            sql.append('?');
+            paramList.add(dataIds.get(i));
+        }
+        sql.append(") ");
+        return new MapperResult(sql.toString(), paramList);
+    }
+    
+    /**
+     * find ConfigInfo by ids. <br/>The default sql: <br/>SELECT
+     * ID,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key FROM config_info WHERE id
+     * IN (...)
      *
      * @param context the size of ids.
      * @return find ConfigInfo by ids.
@@ -438,7 +466,8 @@ public interface ConfigInfoMapper extends Mapper {
     default MapperResult findConfigInfosByIds(MapperContext context) {
         List<Long> ids = (List<Long>) context.getWhereParameter(FieldConstant.IDS);
         StringBuilder sql = new StringBuilder(
-                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5 FROM config_info WHERE ");
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key "
+                        + "FROM config_info WHERE ");
         sql.append("id IN (");
         ArrayList<Object> paramList = new ArrayList<>();
         
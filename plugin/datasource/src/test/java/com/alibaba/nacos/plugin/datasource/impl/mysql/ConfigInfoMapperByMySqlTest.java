@@ -28,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -285,11 +286,21 @@ class ConfigInfoMapperByMySqlTest {
     @Test
     void testFindConfigInfosByIds() {
         MapperResult mapperResult = configInfoMapperByMySql.findConfigInfosByIds(context);
-        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5 FROM config_info WHERE id IN (?, ?, ?, ?, ?) ",
-                mapperResult.getSql());
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key "
+                + "FROM config_info WHERE id IN (?, ?, ?, ?, ?) ", mapperResult.getSql());
         assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
     }
     
+    @Test
+    void testFindConfigInfoByDataIds() {
+        context.putWhereParameter(FieldConstant.GROUP_ID, "group");
+        context.putWhereParameter(FieldConstant.DATA_IDS, Arrays.asList("dataId1", "dataId2"));
+        MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoByDataIds(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_modified,type,encrypted_data_key "
+                + "FROM config_info WHERE tenant_id = ? AND group_id = ? AND data_id IN (?, ?) ", mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, "group", "dataId1", "dataId2"}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testRemoveConfigInfoByIdsAtomic() {
         MapperResult mapperResult = configInfoMapperByMySql.removeConfigInfoByIdsAtomic(context);